@@ -0,0 +1,177 @@
+package com.pinapp.messaging.benchmark;
+
+import com.pinapp.messaging.application.channel.ChannelRegistry;
+import com.pinapp.messaging.application.channel.NotificationChannel;
+import com.pinapp.messaging.domain.Notification;
+import com.pinapp.messaging.domain.Recipient;
+import com.pinapp.messaging.domain.email.EmailNotification;
+import com.pinapp.messaging.domain.push.PushNotification;
+import com.pinapp.messaging.domain.sms.SmsNotification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara el dispatch por cascada de instanceof (implementación original de
+ * SendNotificationService) contra la resolución por ChannelRegistry.
+ * Ejecutar: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ChannelDispatch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChannelDispatchBenchmark {
+
+    private static final int SIZE = 1024;
+
+    @Param({"3", "6"})
+    private int channelTypes;
+
+    private Notification[] notifications;
+    private ChannelRegistry registry;
+    private Object[] legacyChannels;
+
+    @Setup
+    public void setUp() {
+        ChannelRegistry.Builder builder = ChannelRegistry.builder()
+                .register(NotificationChannel.of(EmailNotification.class, null, null))
+                .register(NotificationChannel.of(SmsNotification.class, null, null))
+                .register(NotificationChannel.of(PushNotification.class, null, null));
+        if (channelTypes > 3) {
+            builder.register(NotificationChannel.of(WhatsAppNotification.class, null, null))
+                    .register(NotificationChannel.of(InAppNotification.class, null, null))
+                    .register(NotificationChannel.of(WebhookNotification.class, null, null));
+        }
+        registry = builder.build();
+        legacyChannels = new Object[]{"EMAIL", "SMS", "PUSH", "WHATSAPP", "INAPP", "WEBHOOK"};
+
+        Random random = new Random(42);
+        notifications = new Notification[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            notifications[i] = create(random.nextInt(channelTypes), i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void instanceofCascade(Blackhole blackhole) {
+        for (Notification notification : notifications) {
+            blackhole.consume(legacyResolve(notification));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void channelRegistry(Blackhole blackhole) {
+        for (Notification notification : notifications) {
+            blackhole.consume(registry.resolve(notification));
+        }
+    }
+
+    private Object legacyResolve(Notification notification) {
+        if (notification instanceof EmailNotification) {
+            return legacyChannels[0];
+        }
+        if (notification instanceof SmsNotification) {
+            return legacyChannels[1];
+        }
+        if (notification instanceof PushNotification) {
+            return legacyChannels[2];
+        }
+        if (notification instanceof WhatsAppNotification) {
+            return legacyChannels[3];
+        }
+        if (notification instanceof InAppNotification) {
+            return legacyChannels[4];
+        }
+        if (notification instanceof WebhookNotification) {
+            return legacyChannels[5];
+        }
+        throw new IllegalArgumentException("Unsupported notification type");
+    }
+
+    private static Notification create(int type, int index) {
+        String id = "n-" + index;
+        return switch (type) {
+            case 0 -> EmailNotification.builder().id(id)
+                    .recipient(Recipient.builder().email("user@example.com").build()).build();
+            case 1 -> SmsNotification.builder().id(id)
+                    .recipient(Recipient.builder().phoneNumber("+5491155551234").build()).build();
+            case 2 -> PushNotification.builder().id(id)
+                    .recipient(Recipient.builder().deviceToken("device-token-123").build()).build();
+            case 3 -> new WhatsAppNotification(id);
+            case 4 -> new InAppNotification(id);
+            default -> new WebhookNotification(id);
+        };
+    }
+
+    private record WhatsAppNotification(String id) implements Notification {
+        public String getId() {
+            return id;
+        }
+
+        public Recipient getRecipient() {
+            return null;
+        }
+
+        public String getBody() {
+            return "";
+        }
+
+        public Map<String, Object> getMetadata() {
+            return Map.of();
+        }
+    }
+
+    private record InAppNotification(String id) implements Notification {
+        public String getId() {
+            return id;
+        }
+
+        public Recipient getRecipient() {
+            return null;
+        }
+
+        public String getBody() {
+            return "";
+        }
+
+        public Map<String, Object> getMetadata() {
+            return Map.of();
+        }
+    }
+
+    private record WebhookNotification(String id) implements Notification {
+        public String getId() {
+            return id;
+        }
+
+        public Recipient getRecipient() {
+            return null;
+        }
+
+        public String getBody() {
+            return "";
+        }
+
+        public Map<String, Object> getMetadata() {
+            return Map.of();
+        }
+    }
+}
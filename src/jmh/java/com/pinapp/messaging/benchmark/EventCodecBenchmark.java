@@ -0,0 +1,88 @@
+package com.pinapp.messaging.benchmark;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import com.pinapp.messaging.application.codec.BinaryEventCodec;
+import com.pinapp.messaging.application.deadletter.DeliveryAttempt;
+import com.pinapp.messaging.application.event.EventType;
+import com.pinapp.messaging.application.event.NotificationEvent;
+import com.pinapp.messaging.infrastructure.pubsub.JsonEventCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización de un evento de estado a los bytes del mensaje Pub/Sub: JSON (Gson) contra el codec binario.
+ * "aggregated" agrega el historial de tres intentos del modo AGGREGATED.
+ * Ejecutar con -prof gc para ver también la basura por evento.
+ * Ejecutar: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=EventCodec
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+public class EventCodecBenchmark {
+
+    @Param({"single", "aggregated"})
+    private String shape;
+
+    private JsonEventCodec json;
+    private BinaryEventCodec binary;
+    private NotificationEvent event;
+
+    @Setup
+    public void setUp() {
+        json = new JsonEventCodec();
+        binary = new BinaryEventCodec();
+        Instant now = Instant.now();
+        NotificationEvent.NotificationEventBuilder builder = NotificationEvent.builder()
+                .eventType(EventType.SUCCESS)
+                .notificationId("0b7e5c1e-4a8f-4d8e-9f61-2f6f1c3b9a77")
+                .notificationType("SMS")
+                .attemptNumber(3)
+                .providerName("Twilio")
+                .providerMessageId("SM8f3c2b1a9e7d4c6b5a4f3e2d1c0b9a8f")
+                .timestamp(now);
+        if ("aggregated".equals(shape)) {
+            builder.attempts(List.of(
+                    attempt(1, now.minusMillis(900)),
+                    attempt(2, now.minusMillis(400)),
+                    DeliveryAttempt.builder().attemptNumber(3).providerName("Twilio").timestamp(now).build()));
+        }
+        event = builder.build();
+    }
+
+    @Benchmark
+    public ByteString json() {
+        return UnsafeByteOperations.unsafeWrap(json.encode(event));
+    }
+
+    @Benchmark
+    public ByteString binary() {
+        return UnsafeByteOperations.unsafeWrap(binary.encode(event));
+    }
+
+    private static DeliveryAttempt attempt(int number, Instant at) {
+        return DeliveryAttempt.builder()
+                .attemptNumber(number)
+                .providerName("Twilio")
+                .errorCode("HTTP_503")
+                .errorMessage("Service Unavailable")
+                .timestamp(at)
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.pinapp.messaging.benchmark;
+
+import com.pinapp.messaging.infrastructure.http.HttpTransport;
+import com.pinapp.messaging.infrastructure.http.HttpTransportConfig;
+import com.pinapp.messaging.infrastructure.http.StubHttpServer;
+import com.pinapp.messaging.infrastructure.http.TransportResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Requests por segundo del transporte HTTP compartido contra un servidor stub local,
+ * limitando los streams (conexiones en HTTP/1.1) por host. Requests por conexión = ops/s ÷ maxStreamsPerHost.
+ * Ejecutar: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=HttpTransport
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+@Threads(16)
+public class HttpTransportBenchmark {
+
+    @Param({"1", "4", "16"})
+    private int maxStreamsPerHost;
+
+    private StubHttpServer server;
+    private HttpTransport transport;
+    private URI endpoint;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = StubHttpServer.start().withoutRecording();
+        server.respond(request -> StubHttpServer.Reply.of(200, "{\"sid\":\"SM0123456789\"}"));
+        transport = new HttpTransport(HttpTransportConfig.builder().maxStreamsPerHost(maxStreamsPerHost).build());
+        endpoint = server.uri().resolve("/2010-04-01/Accounts/AC123/Messages.json");
+    }
+
+    @TearDown
+    public void tearDown() {
+        transport.close();
+        server.close();
+    }
+
+    @Benchmark
+    public TransportResponse post() {
+        return transport.postJson(endpoint, null, "{\"To\":\"+5491155551234\",\"Body\":\"Hola\"}").join();
+    }
+}
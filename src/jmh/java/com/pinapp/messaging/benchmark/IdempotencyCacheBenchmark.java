@@ -0,0 +1,85 @@
+package com.pinapp.messaging.benchmark;
+
+import com.pinapp.messaging.application.idempotency.IdempotencyCache;
+import com.pinapp.messaging.application.idempotency.IdempotencyPolicy;
+import com.pinapp.messaging.domain.NotificationResult;
+import com.pinapp.messaging.domain.NotificationStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lookup e inserción en IdempotencyCache con millones de ids cargados.
+ * Ejecutar: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=IdempotencyCache
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx3g")
+public class IdempotencyCacheBenchmark {
+
+    @Param({"10000000"})
+    private int entries;
+
+    private IdempotencyCache cache;
+    private ConcurrentHashMap<String, NotificationResult> map;
+    private String[] ids;
+    private NotificationResult result;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup
+    public void setUp() {
+        cache = new IdempotencyCache(IdempotencyPolicy.of(entries, Duration.ofHours(1)));
+        result = NotificationResult.builder()
+                .status(NotificationStatus.SUCCESS)
+                .providerName("Twilio")
+                .timestamp(Instant.now())
+                .build();
+        ids = new String[entries];
+        for (int i = 0; i < entries; i++) {
+            ids[i] = "notification-" + i;
+            cache.put(ids[i], result);
+        }
+        map = new ConcurrentHashMap<>();
+        for (int i = 0; i < entries; i++) {
+            map.put(ids[i], result);
+        }
+    }
+
+    @Benchmark
+    public NotificationResult hit() {
+        return cache.get(ids[ThreadLocalRandom.current().nextInt(entries)]);
+    }
+
+    @Benchmark
+    public NotificationResult concurrentHashMapHit() {
+        return map.get(ids[ThreadLocalRandom.current().nextInt(entries)]);
+    }
+
+    @Benchmark
+    public NotificationResult miss() {
+        return cache.get("unknown-" + ThreadLocalRandom.current().nextInt(entries));
+    }
+
+    @Benchmark
+    public void insertWithEviction() {
+        cache.put("new-" + sequence.incrementAndGet(), result);
+    }
+}
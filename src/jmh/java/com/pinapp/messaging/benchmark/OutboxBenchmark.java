@@ -0,0 +1,77 @@
+package com.pinapp.messaging.benchmark;
+
+import com.pinapp.messaging.application.codec.BinaryNotificationCodec;
+import com.pinapp.messaging.application.outbox.Outbox;
+import com.pinapp.messaging.application.outbox.OutboxPolicy;
+import com.pinapp.messaging.domain.Recipient;
+import com.pinapp.messaging.domain.sms.SmsNotification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Costo de pasar un envío por el outbox (append + marca de hecho) contra solo serializarlo.
+ * Ejecutar: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=Outbox
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+public class OutboxBenchmark {
+
+    private Path directory;
+    private Outbox outbox;
+    private BinaryNotificationCodec codec;
+    private SmsNotification notification;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("outbox-bench");
+        outbox = new Outbox(OutboxPolicy.of(directory));
+        codec = new BinaryNotificationCodec();
+        notification = SmsNotification.builder()
+                .id("0b7e5c1e-4a8f-4d8e-9f61-2f6f1c3b9a77")
+                .recipient(Recipient.builder().phoneNumber("+5491155551234").build())
+                .body("Tu código de verificación es 482913. Vence en 5 minutos.")
+                .metadata(Map.of("campaign", "otp", "tenant", "pinapp"))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        outbox.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public byte[] encodeOnly() {
+        return codec.encode(notification);
+    }
+
+    @Benchmark
+    public Outbox.Entry appendAndMarkDone() {
+        Outbox.Entry entry = outbox.append(notification);
+        outbox.markDone(entry);
+        return entry;
+    }
+}
@@ -1,28 +1,78 @@
 package com.pinapp.messaging;
 
+import com.pinapp.messaging.application.admission.AdmissionPolicy;
+import com.pinapp.messaging.application.batching.BatchPolicy;
+import com.pinapp.messaging.application.batching.BatchingSender;
+import com.pinapp.messaging.application.channel.ChannelRegistry;
+import com.pinapp.messaging.application.channel.NotificationChannel;
+import com.pinapp.messaging.application.deadletter.DeadLetterPolicy;
+import com.pinapp.messaging.application.deadletter.DeadLetterReplay;
+import com.pinapp.messaging.application.deadletter.DeadLetterStore;
+import com.pinapp.messaging.application.deadletter.ReplayReport;
+import com.pinapp.messaging.application.event.EventPolicy;
+import com.pinapp.messaging.application.event.EventType;
+import com.pinapp.messaging.application.exception.ConfigurationException;
+import com.pinapp.messaging.application.execution.ExecutorStrategy;
+import com.pinapp.messaging.application.idempotency.IdempotencyPolicy;
+import com.pinapp.messaging.application.lifecycle.ShutdownReport;
+import com.pinapp.messaging.application.outbox.OutboxPolicy;
 import com.pinapp.messaging.application.port.EventPublisher;
 import com.pinapp.messaging.application.port.NotificationSender;
+import com.pinapp.messaging.application.ratelimit.RateLimit;
+import com.pinapp.messaging.application.ratelimit.RateLimitedSender;
+import com.pinapp.messaging.application.ratelimit.TokenBucket;
+import com.pinapp.messaging.application.resilience.CircuitBreaker;
+import com.pinapp.messaging.application.resilience.CircuitBreakerConfig;
+import com.pinapp.messaging.application.resilience.CircuitBreakerListener;
+import com.pinapp.messaging.application.resilience.CircuitBreakerSender;
+import com.pinapp.messaging.application.retry.RetryBudgetPolicy;
 import com.pinapp.messaging.application.retry.RetryPolicy;
+import com.pinapp.messaging.application.routing.LoadBalancingStrategy;
+import com.pinapp.messaging.application.routing.RoutedSender;
+import com.pinapp.messaging.application.scheduling.LanePolicy;
+import com.pinapp.messaging.application.scheduling.LaneStats;
+import com.pinapp.messaging.application.scheduling.ScheduledNotification;
+import com.pinapp.messaging.application.scheduling.SchedulerPolicy;
 import com.pinapp.messaging.application.service.send.SendNotificationService;
 import com.pinapp.messaging.application.service.send.usecase.SendNotificationUseCase;
 import com.pinapp.messaging.application.validation.EmailValidator;
 import com.pinapp.messaging.application.validation.NotificationValidator;
 import com.pinapp.messaging.application.validation.PhoneValidator;
 import com.pinapp.messaging.application.validation.PushTokenValidator;
+import com.pinapp.messaging.domain.BulkNotificationResult;
 import com.pinapp.messaging.domain.Notification;
 import com.pinapp.messaging.domain.NotificationResult;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 import com.pinapp.messaging.domain.email.EmailNotification;
 import com.pinapp.messaging.domain.push.PushNotification;
 import com.pinapp.messaging.domain.sms.SmsNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-public class MessagingClient {
+public class MessagingClient implements AutoCloseable {
+
+    public static final Duration DEFAULT_SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final Logger log = LoggerFactory.getLogger(MessagingClient.class);
 
     private final SendNotificationUseCase sendNotificationUseCase;
+    private final Duration shutdownTimeout;
 
-    private MessagingClient(SendNotificationUseCase sendNotificationUseCase) {
+    private MessagingClient(SendNotificationUseCase sendNotificationUseCase, Duration shutdownTimeout) {
         this.sendNotificationUseCase = sendNotificationUseCase;
+        this.shutdownTimeout = shutdownTimeout;
     }
 
     public <T extends Notification> NotificationResult send(T notification) {
@@ -33,6 +83,58 @@ public class MessagingClient {
         return sendNotificationUseCase.sendAsync(notification);
     }
 
+    public <T extends Notification> ScheduledNotification sendAt(T notification, Instant scheduledAt) {
+        return sendNotificationUseCase.sendAt(notification, scheduledAt);
+    }
+
+    public <T extends Notification> ScheduledNotification sendAfter(T notification, Duration delay) {
+        return sendNotificationUseCase.sendAfter(notification, delay);
+    }
+
+    public BulkNotificationResult sendAll(Collection<? extends Notification> notifications) {
+        return sendNotificationUseCase.sendAll(notifications);
+    }
+
+    public CompletableFuture<BulkNotificationResult> sendAllAsync(Collection<? extends Notification> notifications) {
+        return sendNotificationUseCase.sendAllAsync(notifications);
+    }
+
+    public Flow.Publisher<NotificationResult> stream(Flow.Publisher<? extends Notification> notifications) {
+        return stream(notifications, SendNotificationService.DEFAULT_STREAM_MAX_IN_FLIGHT);
+    }
+
+    public Flow.Publisher<NotificationResult> stream(Flow.Publisher<? extends Notification> notifications, int maxInFlight) {
+        return sendNotificationUseCase.stream(notifications, maxInFlight);
+    }
+
+    public CompletableFuture<ReplayReport> replayDeadLetters(DeadLetterReplay replay) {
+        return sendNotificationUseCase.replayDeadLetters(replay);
+    }
+
+    public DeadLetterStore getDeadLetterStore() {
+        return sendNotificationUseCase instanceof SendNotificationService service
+                ? service.getDeadLetterStore()
+                : null;
+    }
+
+    public List<LaneStats> getLaneStats() {
+        return sendNotificationUseCase instanceof SendNotificationService service
+                ? service.getLaneStats()
+                : List.of();
+    }
+
+    public ShutdownReport shutdown(Duration timeout) {
+        return sendNotificationUseCase.shutdown(timeout);
+    }
+
+    @Override
+    public void close() {
+        ShutdownReport report = shutdown(shutdownTimeout);
+        if (!report.isClean()) {
+            log.warn("MessagingClient closed with {} abandoned notifications", report.getAbandonedNotificationIds().size());
+        }
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -42,9 +144,27 @@ public class MessagingClient {
         private NotificationSender<EmailNotification> emailSender;
         private NotificationSender<SmsNotification> smsSender;
         private NotificationSender<PushNotification> pushSender;
+        private final List<NotificationChannel<?>> customChannels = new ArrayList<>();
         private boolean validationEnabled = true;
         private RetryPolicy retryPolicy;
+        private final Map<Class<? extends Notification>, RetryPolicy> channelRetryPolicies = new HashMap<>();
         private EventPublisher eventPublisher;
+        private EventPolicy eventPolicy;
+        private int bulkParallelism = SendNotificationService.DEFAULT_BULK_PARALLELISM;
+        private AdmissionPolicy admissionPolicy;
+        private LanePolicy lanePolicy;
+        private BatchPolicy batchPolicy;
+        private SchedulerPolicy schedulerPolicy;
+        private OutboxPolicy outboxPolicy;
+        private DeadLetterPolicy deadLetterPolicy;
+        private Executor executor;
+        private boolean ownsExecutor;
+        private Duration shutdownTimeout = DEFAULT_SHUTDOWN_TIMEOUT;
+        private CircuitBreakerConfig circuitBreakerConfig;
+        private RateLimit defaultRateLimit;
+        private IdempotencyPolicy idempotencyPolicy;
+        private RetryBudgetPolicy retryBudgetPolicy;
+        private final Map<String, RateLimit> providerRateLimits = new HashMap<>();
 
         public Builder withEmailSender(NotificationSender<EmailNotification> sender) {
             this.emailSender = sender;
@@ -61,6 +181,29 @@ public class MessagingClient {
             return this;
         }
 
+        public Builder withEmailSenders(LoadBalancingStrategy strategy,
+                                        List<? extends NotificationSender<EmailNotification>> senders) {
+            this.emailSender = RoutedSender.of(strategy, senders);
+            return this;
+        }
+
+        public Builder withSmsSenders(LoadBalancingStrategy strategy,
+                                      List<? extends NotificationSender<SmsNotification>> senders) {
+            this.smsSender = RoutedSender.of(strategy, senders);
+            return this;
+        }
+
+        public Builder withPushSenders(LoadBalancingStrategy strategy,
+                                       List<? extends NotificationSender<PushNotification>> senders) {
+            this.pushSender = RoutedSender.of(strategy, senders);
+            return this;
+        }
+
+        public Builder withChannel(NotificationChannel<?> channel) {
+            this.customChannels.add(channel);
+            return this;
+        }
+
         public Builder withValidation(boolean enabled) {
             this.validationEnabled = enabled;
             return this;
@@ -71,11 +214,101 @@ public class MessagingClient {
             return this;
         }
 
+        public Builder withRetryPolicy(Class<? extends Notification> type, RetryPolicy retryPolicy) {
+            this.channelRetryPolicies.put(type, retryPolicy);
+            return this;
+        }
+
         public Builder withEventPublisher(EventPublisher eventPublisher) {
             this.eventPublisher = eventPublisher;
             return this;
         }
 
+        public Builder withEventPolicy(EventPolicy eventPolicy) {
+            this.eventPolicy = eventPolicy;
+            return this;
+        }
+
+        public Builder withBulkParallelism(int parallelism) {
+            if (parallelism <= 0) {
+                throw new ConfigurationException("Bulk parallelism must be greater than zero");
+            }
+            this.bulkParallelism = parallelism;
+            return this;
+        }
+
+        public Builder withAdmissionPolicy(AdmissionPolicy admissionPolicy) {
+            this.admissionPolicy = admissionPolicy;
+            return this;
+        }
+
+        public Builder withPriorityLanes(LanePolicy lanePolicy) {
+            this.lanePolicy = lanePolicy;
+            return this;
+        }
+
+        public Builder withBatching(BatchPolicy batchPolicy) {
+            this.batchPolicy = batchPolicy;
+            return this;
+        }
+
+        public Builder withOutbox(OutboxPolicy outboxPolicy) {
+            this.outboxPolicy = outboxPolicy;
+            return this;
+        }
+
+        public Builder withDeadLetters(DeadLetterPolicy deadLetterPolicy) {
+            this.deadLetterPolicy = deadLetterPolicy;
+            return this;
+        }
+
+        public Builder withScheduler(SchedulerPolicy schedulerPolicy) {
+            this.schedulerPolicy = schedulerPolicy;
+            return this;
+        }
+
+        public Builder withExecutor(Executor executor) {
+            this.executor = executor;
+            this.ownsExecutor = false;
+            return this;
+        }
+
+        public Builder withExecutorStrategy(ExecutorStrategy strategy, int parallelism) {
+            this.executor = strategy.create(parallelism);
+            this.ownsExecutor = true;
+            return this;
+        }
+
+        public Builder withShutdownTimeout(Duration shutdownTimeout) {
+            this.shutdownTimeout = shutdownTimeout;
+            return this;
+        }
+
+        public Builder withCircuitBreaker(CircuitBreakerConfig config) {
+            this.circuitBreakerConfig = config;
+            return this;
+        }
+
+        public Builder withRetryBudget(RetryBudgetPolicy retryBudgetPolicy) {
+            this.retryBudgetPolicy = retryBudgetPolicy;
+            return this;
+        }
+
+        public Builder withIdempotency(IdempotencyPolicy idempotencyPolicy) {
+            this.idempotencyPolicy = idempotencyPolicy;
+            return this;
+        }
+
+        public Builder withRateLimit(RateLimit rateLimit) {
+            this.defaultRateLimit = rateLimit;
+            return this;
+        }
+
+        public Builder withRateLimit(String providerName, RateLimit rateLimit) {
+            this.providerRateLimits.put(providerName, rateLimit);
+            return this;
+        }
+
         public MessagingClient build() {
             NotificationValidator<EmailNotification> emailValidator = null;
             NotificationValidator<SmsNotification> smsValidator = null;
@@ -87,19 +320,90 @@ public class MessagingClient {
                 pushValidator = new PushTokenValidator();
             }
 
-            SendNotificationService service = new SendNotificationService(
-                    emailSender,
-                    smsSender,
-                    pushSender,
-                    emailValidator,
-                    smsValidator,
-                    pushValidator,
-                    validationEnabled,
-                    retryPolicy,
-                    eventPublisher
-            );
-
-            return new MessagingClient(service);
+            Map<String, TokenBucket> buckets = new HashMap<>();
+            AtomicReference<SendNotificationService> events = new AtomicReference<>();
+            ChannelRegistry.Builder channels = ChannelRegistry.builder()
+                    .register(decorate(NotificationChannel.of(EmailNotification.class, emailSender, emailValidator), buckets, events))
+                    .register(decorate(NotificationChannel.of(SmsNotification.class, smsSender, smsValidator), buckets, events))
+                    .register(decorate(NotificationChannel.of(PushNotification.class, pushSender, pushValidator), buckets, events));
+            customChannels.forEach(channel -> channels.register(decorate(channel, buckets, events)));
+
+            SendNotificationService service = SendNotificationService.builder()
+                    .channels(channels.build())
+                    .validationEnabled(validationEnabled)
+                    .retryPolicy(retryPolicy)
+                    .eventPublisher(eventPublisher)
+                    .eventPolicy(eventPolicy)
+                    .bulkParallelism(bulkParallelism)
+                    .admissionPolicy(admissionPolicy)
+                    .executor(executor)
+                    .ownsExecutor(ownsExecutor)
+                    .idempotencyPolicy(idempotencyPolicy)
+                    .retryBudgetPolicy(retryBudgetPolicy)
+                    .lanePolicy(lanePolicy)
+                    .schedulerPolicy(schedulerPolicy)
+                    .outboxPolicy(outboxPolicy)
+                    .deadLetterPolicy(deadLetterPolicy)
+                    .build();
+            events.set(service);
+
+            return new MessagingClient(service, shutdownTimeout);
+        }
+
+        private <T extends Notification> NotificationChannel<T> decorate(
+                NotificationChannel<T> registered,
+                Map<String, TokenBucket> buckets,
+                AtomicReference<SendNotificationService> events
+        ) {
+            RetryPolicy channelRetryPolicy = channelRetryPolicies.get(registered.getType());
+            NotificationChannel<T> channel = channelRetryPolicy != null
+                    ? registered.withRetryPolicy(channelRetryPolicy)
+                    : registered;
+            NotificationSender<T> sender = channel.getSender();
+            if (sender == null || (batchPolicy == null && circuitBreakerConfig == null && defaultRateLimit == null
+                    && providerRateLimits.isEmpty())) {
+                return channel;
+            }
+            UnaryOperator<NotificationSender<T>> decorator = delegate -> {
+                NotificationSender<T> decorated = BatchingSender.decorate(delegate, batchPolicy);
+                if (circuitBreakerConfig != null) {
+                    decorated = new CircuitBreakerSender<>(decorated, new CircuitBreaker(
+                            delegate.getProviderName(), circuitBreakerConfig, circuitEvents(channel.getName(), events)));
+                }
+                RateLimit rateLimit = providerRateLimits.getOrDefault(delegate.getProviderName(), defaultRateLimit);
+                if (rateLimit != null) {
+                    String account = delegate.getAccountId() != null
+                            ? delegate.getAccountId()
+                            : Integer.toHexString(System.identityHashCode(delegate));
+                    TokenBucket bucket = buckets.computeIfAbsent(delegate.getProviderName() + "/" + account,
+                            key -> new TokenBucket(rateLimit));
+                    decorated = new RateLimitedSender<>(decorated, bucket, rateLimit);
+                }
+                return decorated;
+            };
+            return channel.withSender(sender instanceof RoutedSender<T> routed
+                    ? routed.mapSenders(decorator)
+                    : decorator.apply(sender));
+        }
+
+        private CircuitBreakerListener circuitEvents(
+                String channelName,
+                AtomicReference<SendNotificationService> events
+        ) {
+            if (eventPublisher == null) {
+                return null;
+            }
+            return (name, from, to, reason) -> {
+                SendNotificationService service = events.get();
+                if (service == null) {
+                    return;
+                }
+                service.publishCircuitEvent(switch (to) {
+                    case OPEN -> EventType.CIRCUIT_OPENED;
+                    case HALF_OPEN -> EventType.CIRCUIT_HALF_OPENED;
+                    case CLOSED -> EventType.CIRCUIT_CLOSED;
+                }, channelName, name, reason);
+            };
         }
     }
 }
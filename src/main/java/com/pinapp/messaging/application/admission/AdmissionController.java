@@ -0,0 +1,253 @@
+package com.pinapp.messaging.application.admission;
+
+import com.pinapp.messaging.application.exception.OverloadedException;
+import com.pinapp.messaging.application.scheduling.HashedWheelTimer;
+import com.pinapp.messaging.domain.NotificationPriority;
+import com.pinapp.messaging.domain.NotificationResult;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+public class AdmissionController {
+
+    private static final NotificationPriority[] PRIORITIES = NotificationPriority.values();
+
+    private final int maxInFlight;
+    private final int maxQueued;
+    private final RejectionPolicy rejectionPolicy;
+    private final long maxQueueWaitNanos;
+    private final HashedWheelTimer timer;
+    private final Executor handoff;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<Pending>[] queues;
+    private int inFlight;
+    private int queued;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public AdmissionController(AdmissionPolicy policy, HashedWheelTimer timer, Executor handoff) {
+        this.timer = timer;
+        this.handoff = handoff;
+        this.maxInFlight = policy.getMaxInFlight();
+        this.maxQueued = policy.getMaxQueued();
+        this.rejectionPolicy = policy.getRejectionPolicy();
+        this.maxQueueWaitNanos = policy.getMaxQueueWait() != null
+                ? policy.getMaxQueueWait().toNanos()
+                : Long.MAX_VALUE;
+        this.queues = new ArrayDeque[PRIORITIES.length];
+        for (int i = 0; i < queues.length; i++) {
+            queues[i] = new ArrayDeque<>();
+        }
+    }
+
+    public CompletableFuture<NotificationResult> submit(
+            NotificationPriority priority,
+            Supplier<CompletableFuture<NotificationResult>> task,
+            Supplier<NotificationResult> callerRunsTask
+    ) {
+        Pending evicted = null;
+        CompletableFuture<NotificationResult> promise = null;
+        boolean callerRuns = false;
+
+        lock.lock();
+        try {
+            if (inFlight < maxInFlight) {
+                inFlight++;
+            } else if (queued < maxQueued) {
+                promise = enqueue(priority, task);
+            } else if (rejectionPolicy == RejectionPolicy.SHED_LOWEST_PRIORITY
+                    && (evicted = pollLowerThan(priority)) != null) {
+                promise = enqueue(priority, task);
+            } else if (rejectionPolicy == RejectionPolicy.CALLER_RUNS) {
+                callerRuns = true;
+            } else {
+                rejected.increment();
+                return CompletableFuture.failedFuture(overloaded());
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (callerRuns) {
+            return runInCaller(callerRunsTask);
+        }
+        if (evicted != null) {
+            evicted.cancelExpiry();
+            shed.increment();
+            evicted.promise.completeExceptionally(
+                    new OverloadedException("Overloaded: shed in favour of higher priority notification"));
+        }
+        return promise != null ? promise : start(task);
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueued() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getShedCount() {
+        return shed.sum();
+    }
+
+    private CompletableFuture<NotificationResult> enqueue(
+            NotificationPriority priority,
+            Supplier<CompletableFuture<NotificationResult>> task
+    ) {
+        Pending pending = new Pending(priority, task, new CompletableFuture<>(), System.nanoTime());
+        if (maxQueueWaitNanos != Long.MAX_VALUE) {
+            pending.expiry = timer.schedule(() -> handoff.execute(() -> expire(pending)),
+                    maxQueueWaitNanos, TimeUnit.NANOSECONDS);
+        }
+        queues[priority.ordinal()].addLast(pending);
+        queued++;
+        return pending.promise;
+    }
+
+    private void expire(Pending pending) {
+        lock.lock();
+        try {
+            if (!queues[pending.priority.ordinal()].remove(pending)) {
+                return;
+            }
+            queued--;
+        } finally {
+            lock.unlock();
+        }
+        rejected.increment();
+        pending.promise.completeExceptionally(queueWaitExceeded());
+    }
+
+    private Pending pollLowerThan(NotificationPriority priority) {
+        for (int i = queues.length - 1; i > priority.ordinal(); i--) {
+            Pending pending = queues[i].pollLast();
+            if (pending != null) {
+                queued--;
+                return pending;
+            }
+        }
+        return null;
+    }
+
+    private CompletableFuture<NotificationResult> start(Supplier<CompletableFuture<NotificationResult>> task) {
+        CompletableFuture<NotificationResult> future;
+        try {
+            future = task.get();
+        } catch (Throwable t) {
+            future = CompletableFuture.failedFuture(t);
+        }
+        future.whenComplete((result, error) -> release());
+        return future;
+    }
+
+    private CompletableFuture<NotificationResult> runInCaller(Supplier<NotificationResult> callerRunsTask) {
+        try {
+            return CompletableFuture.completedFuture(callerRunsTask.get());
+        } catch (Throwable t) {
+            return CompletableFuture.failedFuture(t);
+        }
+    }
+
+    private void release() {
+        while (true) {
+            Pending next;
+            lock.lock();
+            try {
+                next = pollNext();
+                if (next == null) {
+                    inFlight--;
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            next.cancelExpiry();
+            if (System.nanoTime() - next.enqueuedAt > maxQueueWaitNanos) {
+                rejected.increment();
+                next.promise.completeExceptionally(queueWaitExceeded());
+                continue;
+            }
+
+            start(next.task).whenComplete((result, error) -> {
+                if (error != null) {
+                    next.promise.completeExceptionally(error);
+                } else {
+                    next.promise.complete(result);
+                }
+            });
+            return;
+        }
+    }
+
+    private Pending pollNext() {
+        for (ArrayDeque<Pending> queue : queues) {
+            Pending pending = queue.pollFirst();
+            if (pending != null) {
+                queued--;
+                return pending;
+            }
+        }
+        return null;
+    }
+
+    private static OverloadedException queueWaitExceeded() {
+        return new OverloadedException("Overloaded: notification exceeded the maximum queue wait");
+    }
+
+    private OverloadedException overloaded() {
+        return new OverloadedException(
+                "Overloaded: " + maxInFlight + " notifications in flight and " + maxQueued + " queued");
+    }
+
+    private static final class Pending {
+
+        private final NotificationPriority priority;
+        private final Supplier<CompletableFuture<NotificationResult>> task;
+        private final CompletableFuture<NotificationResult> promise;
+        private final long enqueuedAt;
+        private HashedWheelTimer.Timeout expiry;
+
+        private Pending(
+                NotificationPriority priority,
+                Supplier<CompletableFuture<NotificationResult>> task,
+                CompletableFuture<NotificationResult> promise,
+                long enqueuedAt
+        ) {
+            this.priority = priority;
+            this.task = task;
+            this.promise = promise;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        private void cancelExpiry() {
+            if (expiry != null) {
+                expiry.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.pinapp.messaging.application.admission;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Builder
+@Getter
+public class AdmissionPolicy {
+
+    @Builder.Default
+    private final int maxInFlight = Integer.MAX_VALUE;
+
+    @Builder.Default
+    private final int maxQueued = 0;
+
+    @Builder.Default
+    private final RejectionPolicy rejectionPolicy = RejectionPolicy.FAIL_FAST;
+
+    @Builder.Default
+    private final Duration maxQueueWait = Duration.ofSeconds(10);
+
+    public static AdmissionPolicy unbounded() {
+        return AdmissionPolicy.builder().build();
+    }
+
+    public static AdmissionPolicy of(int maxInFlight, int maxQueued, RejectionPolicy rejectionPolicy) {
+        return AdmissionPolicy.builder()
+                .maxInFlight(maxInFlight)
+                .maxQueued(maxQueued)
+                .rejectionPolicy(rejectionPolicy)
+                .build();
+    }
+}
@@ -0,0 +1,7 @@
+package com.pinapp.messaging.application.admission;
+
+public enum RejectionPolicy {
+    FAIL_FAST,
+    CALLER_RUNS,
+    SHED_LOWEST_PRIORITY
+}
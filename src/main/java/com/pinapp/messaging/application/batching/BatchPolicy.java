@@ -0,0 +1,25 @@
+package com.pinapp.messaging.application.batching;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Builder
+@Getter
+public class BatchPolicy {
+
+    @Builder.Default
+    private final int maxBatchSize = 0;
+
+    @Builder.Default
+    private final Duration linger = Duration.ofMillis(5);
+
+    public static BatchPolicy of(int maxBatchSize, Duration linger) {
+        return BatchPolicy.builder().maxBatchSize(maxBatchSize).linger(linger).build();
+    }
+
+    public static BatchPolicy linger(Duration linger) {
+        return BatchPolicy.builder().linger(linger).build();
+    }
+}
@@ -0,0 +1,208 @@
+package com.pinapp.messaging.application.batching;
+
+import com.pinapp.messaging.application.exception.ConfigurationException;
+import com.pinapp.messaging.application.exception.ProviderException;
+import com.pinapp.messaging.application.port.BatchNotificationSender;
+import com.pinapp.messaging.application.port.NotificationSender;
+import com.pinapp.messaging.domain.Notification;
+import com.pinapp.messaging.domain.NotificationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class BatchingSender<T extends Notification> implements NotificationSender<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchingSender.class);
+
+    private static final Executor HANDOFF = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("pinapp-batch-", 0).factory());
+
+    private final BatchNotificationSender<T> delegate;
+    private final int maxBatchSize;
+    private final long lingerNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batched = new LongAdder();
+
+    private Batch<T> open;
+
+    public BatchingSender(BatchNotificationSender<T> delegate, BatchPolicy policy) {
+        if (delegate.getMaxBatchSize() <= 0 || policy.getLinger() == null || policy.getLinger().isNegative()) {
+            throw new ConfigurationException("Batching needs a positive provider batch size and a non-negative linger");
+        }
+        this.delegate = delegate;
+        this.maxBatchSize = policy.getMaxBatchSize() > 0
+                ? Math.min(policy.getMaxBatchSize(), delegate.getMaxBatchSize())
+                : delegate.getMaxBatchSize();
+        this.lingerNanos = policy.getLinger().toNanos();
+    }
+
+    public static <T extends Notification> NotificationSender<T> decorate(NotificationSender<T> sender, BatchPolicy policy) {
+        return policy != null && sender instanceof BatchNotificationSender<T> batchSender && batchSender.getMaxBatchSize() > 1
+                ? new BatchingSender<>(batchSender, policy)
+                : sender;
+    }
+
+    @Override
+    public NotificationResult send(T notification) {
+        Slot<T> slot = enqueue(notification);
+        Batch<T> batch = slot.batch();
+
+        if (slot.full()) {
+            flush(batch);
+        } else if (slot.leader()) {
+            boolean interrupted = false;
+            try {
+                batch.results.get(lingerNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            } catch (ExecutionException | TimeoutException e) {
+                log.trace("Linger of batch led by {} ended: {}", notification.getId(), e.getClass().getSimpleName());
+            }
+            if (close(batch)) {
+                flush(batch);
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return await(batch, slot.index());
+    }
+
+    @Override
+    public CompletionStage<NotificationResult> sendAsync(T notification) {
+        Slot<T> slot = enqueue(notification);
+        Batch<T> batch = slot.batch();
+
+        if (slot.full()) {
+            HANDOFF.execute(() -> flush(batch));
+        } else if (slot.leader()) {
+            CompletableFuture.delayedExecutor(lingerNanos, TimeUnit.NANOSECONDS, HANDOFF).execute(() -> {
+                if (close(batch)) {
+                    flush(batch);
+                }
+            });
+        }
+        int index = slot.index();
+        return batch.results.thenApply(results -> results.get(index));
+    }
+
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    public long getBatchedCount() {
+        return batched.sum();
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public Class<T> getNotificationType() {
+        return delegate.getNotificationType();
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+
+    @Override
+    public String getAccountId() {
+        return delegate.getAccountId();
+    }
+
+    public BatchNotificationSender<T> getDelegate() {
+        return delegate;
+    }
+
+    private Slot<T> enqueue(T notification) {
+        lock.lock();
+        try {
+            boolean leader = open == null;
+            if (leader) {
+                open = new Batch<>(maxBatchSize);
+            }
+            Batch<T> batch = open;
+            int index = batch.items.size();
+            batch.items.add(notification);
+            boolean full = batch.items.size() == maxBatchSize;
+            if (full) {
+                open = null;
+            }
+            return new Slot<>(batch, index, leader, full);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean close(Batch<T> batch) {
+        lock.lock();
+        try {
+            if (open != batch) {
+                return false;
+            }
+            open = null;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flush(Batch<T> batch) {
+        List<T> items = batch.items;
+        try {
+            List<NotificationResult> results = delegate.sendBatch(items);
+            if (results == null || results.size() != items.size()) {
+                throw new ProviderException(getProviderName(), "Batch of " + items.size() + " notifications returned "
+                        + (results == null ? 0 : results.size()) + " results");
+            }
+            batches.increment();
+            batched.add(items.size());
+            batch.results.complete(results);
+        } catch (Throwable t) {
+            log.warn("[{}] Batch of {} notifications failed: {}", getProviderName(), items.size(), t.getMessage());
+            batch.results.completeExceptionally(t);
+        }
+    }
+
+    private NotificationResult await(Batch<T> batch, int index) {
+        try {
+            return batch.results.get().get(index);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProviderException(getProviderName(), "Interrupted while waiting for batch result", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException runtime
+                    ? runtime
+                    : new ProviderException(getProviderName(), cause.getMessage(), cause);
+        }
+    }
+
+    private record Slot<T>(Batch<T> batch, int index, boolean leader, boolean full) {
+    }
+
+    private static final class Batch<T> {
+
+        private final List<T> items;
+        private final CompletableFuture<List<NotificationResult>> results = new CompletableFuture<>();
+
+        Batch(int capacity) {
+            this.items = new ArrayList<>(Math.min(capacity, 64));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.pinapp.messaging.application.channel;
+
+import com.pinapp.messaging.application.codec.NotificationCodec;
+import com.pinapp.messaging.application.exception.ConfigurationException;
+import com.pinapp.messaging.application.exception.MessagingException;
+import com.pinapp.messaging.domain.Notification;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public class ChannelNotificationCodec implements NotificationCodec {
+
+    static final byte CHANNEL_CODEC = (byte) 0xF1;
+    static final byte SERIALIZED = (byte) 0xF2;
+
+    private final NotificationCodec base;
+    private final ChannelRegistry channels;
+
+    public ChannelNotificationCodec(NotificationCodec base, ChannelRegistry channels) {
+        this.base = base;
+        this.channels = channels;
+    }
+
+    @Override
+    public byte[] encode(Notification notification) {
+        NotificationChannel<?> channel = channels.resolve(notification);
+        if (channel.getCodec() != null) {
+            return frame(CHANNEL_CODEC, channel.getName(), channel.getCodec().encode(notification));
+        }
+        try {
+            return base.encode(notification);
+        } catch (ConfigurationException e) {
+            if (!(notification instanceof Serializable)) {
+                throw new ConfigurationException("No codec for notification type "
+                        + notification.getClass().getName() + ": register one with withCodec() on channel "
+                        + channel.getName() + " or make it Serializable");
+            }
+            return frame(SERIALIZED, channel.getName(), serialize(notification));
+        }
+    }
+
+    @Override
+    public Notification decode(byte[] bytes) {
+        if (bytes.length == 0 || (bytes[0] != CHANNEL_CODEC && bytes[0] != SERIALIZED)) {
+            return base.decode(bytes);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte kind = buffer.get();
+        byte[] name = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(name);
+        NotificationChannel<?> channel = channel(new String(name, StandardCharsets.UTF_8));
+        byte[] payload = Arrays.copyOfRange(bytes, buffer.position(), bytes.length);
+
+        Notification notification = kind == CHANNEL_CODEC
+                ? decodeWithChannel(channel, payload)
+                : deserialize(payload);
+        if (!channel.getType().isInstance(notification)) {
+            throw new MessagingException("Decoded " + notification.getClass().getName()
+                    + " does not belong to channel " + channel.getName());
+        }
+        return notification;
+    }
+
+    private NotificationChannel<?> channel(String name) {
+        for (NotificationChannel<?> channel : channels.getChannels()) {
+            if (channel.getName().equals(name)) {
+                return channel;
+            }
+        }
+        throw new MessagingException("No channel named " + name + " to decode the notification");
+    }
+
+    private static Notification decodeWithChannel(NotificationChannel<?> channel, byte[] payload) {
+        if (channel.getCodec() == null) {
+            throw new MessagingException("Channel " + channel.getName() + " no longer has a codec");
+        }
+        return channel.getCodec().decode(payload);
+    }
+
+    private static byte[] frame(byte kind, String channelName, byte[] payload) {
+        byte[] name = channelName.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(3 + name.length + payload.length)
+                .put(kind)
+                .putShort((short) name.length)
+                .put(name)
+                .put(payload)
+                .array();
+    }
+
+    private static byte[] serialize(Notification notification) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(notification);
+        } catch (IOException e) {
+            throw new MessagingException("Cannot serialize notification " + notification.getId()
+                    + ": " + e.getMessage(), e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Notification deserialize(byte[] payload) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(payload))) {
+            return (Notification) in.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            throw new MessagingException("Cannot deserialize notification: " + e.getMessage(), e);
+        }
+    }
+}
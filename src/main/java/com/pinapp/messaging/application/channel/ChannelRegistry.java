@@ -0,0 +1,150 @@
+package com.pinapp.messaging.application.channel;
+
+import com.pinapp.messaging.application.exception.ConfigurationException;
+import com.pinapp.messaging.domain.Notification;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ChannelRegistry {
+
+    private static final NotificationChannel<?> UNSUPPORTED = NotificationChannel.of(Notification.class, null, null);
+
+    private final Map<Class<?>, NotificationChannel<?>> channels;
+    private volatile DispatchTable table;
+
+    private ChannelRegistry(Map<Class<?>, NotificationChannel<?>> channels) {
+        this.channels = Collections.unmodifiableMap(new LinkedHashMap<>(channels));
+        DispatchTable initial = DispatchTable.withCapacity(channels.size() * 2);
+        for (Map.Entry<Class<?>, NotificationChannel<?>> entry : this.channels.entrySet()) {
+            initial = initial.with(entry.getKey(), entry.getValue());
+        }
+        this.table = initial;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public NotificationChannel<?> resolve(Notification notification) {
+        Class<?> type = notification.getClass();
+        NotificationChannel<?> channel = table.get(type);
+        if (channel == null) {
+            channel = resolveSlow(type);
+        }
+        if (channel == UNSUPPORTED) {
+            throw new ConfigurationException(
+                    "Unsupported notification type: " + type.getSimpleName()
+            );
+        }
+        return channel;
+    }
+
+    public Collection<NotificationChannel<?>> getChannels() {
+        return channels.values();
+    }
+
+    private synchronized NotificationChannel<?> resolveSlow(Class<?> type) {
+        NotificationChannel<?> channel = table.get(type);
+        if (channel != null) {
+            return channel;
+        }
+        channel = lookup(type);
+        table = table.with(type, channel != null ? channel : UNSUPPORTED);
+        return channel != null ? channel : UNSUPPORTED;
+    }
+
+    private NotificationChannel<?> lookup(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            NotificationChannel<?> channel = channels.get(current);
+            if (channel != null) {
+                return channel;
+            }
+        }
+        for (NotificationChannel<?> channel : channels.values()) {
+            if (channel.getType().isAssignableFrom(type)) {
+                return channel;
+            }
+        }
+        return null;
+    }
+
+    private static final class DispatchTable {
+
+        private final Class<?>[] keys;
+        private final NotificationChannel<?>[] values;
+        private final int mask;
+        private final int size;
+
+        private DispatchTable(int capacity, int size) {
+            this.keys = new Class<?>[capacity];
+            this.values = new NotificationChannel<?>[capacity];
+            this.mask = capacity - 1;
+            this.size = size;
+        }
+
+        static DispatchTable withCapacity(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(expected, 4) - 1) << 1;
+            return new DispatchTable(capacity, 0);
+        }
+
+        NotificationChannel<?> get(Class<?> type) {
+            int index = indexFor(type, mask);
+            while (true) {
+                Class<?> key = keys[index];
+                if (key == type) {
+                    return values[index];
+                }
+                if (key == null) {
+                    return null;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        DispatchTable with(Class<?> type, NotificationChannel<?> channel) {
+            int capacity = keys.length;
+            if ((size + 1) * 2 > capacity) {
+                capacity <<= 1;
+            }
+            DispatchTable copy = new DispatchTable(capacity, size + 1);
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != null) {
+                    copy.put(keys[i], values[i]);
+                }
+            }
+            copy.put(type, channel);
+            return copy;
+        }
+
+        private void put(Class<?> type, NotificationChannel<?> channel) {
+            int index = indexFor(type, mask);
+            while (keys[index] != null && keys[index] != type) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = type;
+            values[index] = channel;
+        }
+
+        private static int indexFor(Class<?> type, int mask) {
+            int hash = System.identityHashCode(type);
+            return (hash ^ (hash >>> 16)) & mask;
+        }
+    }
+
+    public static class Builder {
+
+        private final Map<Class<?>, NotificationChannel<?>> channels = new LinkedHashMap<>();
+
+        public Builder register(NotificationChannel<?> channel) {
+            channels.put(channel.getType(), channel);
+            return this;
+        }
+
+        public ChannelRegistry build() {
+            return new ChannelRegistry(channels);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.pinapp.messaging.application.channel;
+
+import com.pinapp.messaging.application.codec.NotificationCodec;
+import com.pinapp.messaging.application.port.NotificationSender;
+import com.pinapp.messaging.application.retry.RetryPolicy;
+import com.pinapp.messaging.application.validation.NotificationValidator;
+import com.pinapp.messaging.domain.Notification;
+import lombok.Getter;
+
+import java.util.concurrent.Executor;
+
+@Getter
+public class NotificationChannel<T extends Notification> {
+
+    private final Class<T> type;
+    private final String name;
+    private final NotificationSender<T> sender;
+    private final NotificationValidator<T> validator;
+    private final RetryPolicy retryPolicy;
+    private final Executor executor;
+    private final NotificationCodec codec;
+
+    private NotificationChannel(
+            Class<T> type,
+            String name,
+            NotificationSender<T> sender,
+            NotificationValidator<T> validator,
+            RetryPolicy retryPolicy,
+            Executor executor,
+            NotificationCodec codec
+    ) {
+        this.type = type;
+        this.name = name;
+        this.sender = sender;
+        this.validator = validator;
+        this.retryPolicy = retryPolicy;
+        this.executor = executor;
+        this.codec = codec;
+    }
+
+    public static <T extends Notification> NotificationChannel<T> of(
+            Class<T> type,
+            NotificationSender<T> sender,
+            NotificationValidator<T> validator
+    ) {
+        String name = type.getSimpleName().replace("Notification", "").toUpperCase();
+        return of(type, name, sender, validator);
+    }
+
+    public static <T extends Notification> NotificationChannel<T> of(
+            Class<T> type,
+            String name,
+            NotificationSender<T> sender,
+            NotificationValidator<T> validator
+    ) {
+        return new NotificationChannel<>(type, name, sender, validator, null, null, null);
+    }
+
+    public NotificationChannel<T> withRetryPolicy(RetryPolicy retryPolicy) {
+        return new NotificationChannel<>(type, name, sender, validator, retryPolicy, executor, codec);
+    }
+
+    public NotificationChannel<T> withExecutor(Executor executor) {
+        return new NotificationChannel<>(type, name, sender, validator, retryPolicy, executor, codec);
+    }
+
+    public NotificationChannel<T> withSender(NotificationSender<T> sender) {
+        return new NotificationChannel<>(type, name, sender, validator, retryPolicy, executor, codec);
+    }
+
+    public NotificationChannel<T> withValidator(NotificationValidator<T> validator) {
+        return new NotificationChannel<>(type, name, sender, validator, retryPolicy, executor, codec);
+    }
+
+    public NotificationChannel<T> withCodec(NotificationCodec codec) {
+        return new NotificationChannel<>(type, name, sender, validator, retryPolicy, executor, codec);
+    }
+
+    public T cast(Notification notification) {
+        return type.cast(notification);
+    }
+}
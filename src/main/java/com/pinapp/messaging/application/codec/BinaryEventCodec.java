@@ -0,0 +1,322 @@
+package com.pinapp.messaging.application.codec;
+
+import com.pinapp.messaging.application.deadletter.DeliveryAttempt;
+import com.pinapp.messaging.application.event.EventType;
+import com.pinapp.messaging.application.event.NotificationEvent;
+import com.pinapp.messaging.application.exception.MessagingException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class BinaryEventCodec implements EventCodec {
+
+    public static final String CONTENT_TYPE = "application/x-pinapp-event";
+    public static final int SCHEMA_VERSION = 2;
+
+    private static final int NAMED_ERRORS_VERSION = 1;
+
+    private static final EventType[] EVENT_TYPES = EventType.values();
+    private static final int MAX_CACHED_NAMES = 1024;
+    private static final int STRING_TABLE_SIZE = 16;
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+    private static final int POOLED_BUFFERS = 32;
+
+    private final ConcurrentHashMap<String, byte[]> names = new ConcurrentHashMap<>();
+    private final ArrayBlockingQueue<Output> buffers = new ArrayBlockingQueue<>(POOLED_BUFFERS);
+
+    @Override
+    public String getContentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public int getSchemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    public byte[] encode(NotificationEvent event) {
+        Output out = buffers.poll();
+        if (out == null) {
+            out = new Output(256);
+        }
+        out.reset();
+        out.writeByte(SCHEMA_VERSION);
+        out.writeVarint(event.getEventType().ordinal());
+        long micros = toMicros(event.getTimestamp());
+        out.writeVarint(micros);
+        out.writeVarint(event.getAttemptNumber());
+        writeString(out, event.getNotificationId());
+        writeName(out, event.getNotificationType());
+        writeName(out, event.getProviderName());
+        writeString(out, event.getProviderMessageId());
+        writeString(out, event.getErrorMessage());
+
+        List<DeliveryAttempt> attempts = event.getAttempts();
+        out.writeVarint(attempts != null ? attempts.size() + 1 : 0);
+        if (attempts != null) {
+            for (DeliveryAttempt attempt : attempts) {
+                out.writeVarint(attempt.getAttemptNumber());
+                out.writeVarint(zigzag(toMicros(attempt.getTimestamp()) - micros));
+                writeName(out, attempt.getProviderName());
+                writeName(out, attempt.getErrorCode());
+                writeString(out, attempt.getErrorMessage());
+            }
+        }
+        byte[] encoded = out.toByteArray();
+        if (out.capacity() <= MAX_RETAINED_BUFFER) {
+            buffers.offer(out);
+        }
+        return encoded;
+    }
+
+    @Override
+    public NotificationEvent decode(byte[] bytes) {
+        Input in = new Input(bytes);
+        try {
+            int version = in.readUnsignedByte();
+            if (version != SCHEMA_VERSION && version != NAMED_ERRORS_VERSION) {
+                throw new MessagingException("Unsupported event schema version " + version);
+            }
+            boolean namedErrors = version == NAMED_ERRORS_VERSION;
+            int type = (int) in.readVarint();
+            if (type >= EVENT_TYPES.length) {
+                throw new MessagingException("Unknown encoded event type " + type);
+            }
+            long micros = in.readVarint();
+            NotificationEvent.NotificationEventBuilder event = NotificationEvent.builder()
+                    .eventType(EVENT_TYPES[type])
+                    .timestamp(fromMicros(micros))
+                    .attemptNumber((int) in.readVarint())
+                    .notificationId(in.readString())
+                    .notificationType(in.readName())
+                    .providerName(in.readName())
+                    .providerMessageId(in.readString())
+                    .errorMessage(namedErrors ? in.readName() : in.readString());
+
+            int count = (int) in.readVarint() - 1;
+            if (count >= 0) {
+                List<DeliveryAttempt> attempts = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    attempts.add(DeliveryAttempt.builder()
+                            .attemptNumber((int) in.readVarint())
+                            .timestamp(fromMicros(micros + unzigzag(in.readVarint())))
+                            .providerName(in.readName())
+                            .errorCode(in.readName())
+                            .errorMessage(namedErrors ? in.readName() : in.readString())
+                            .build());
+                }
+                event.attempts(attempts);
+            }
+            return event.build();
+        } catch (IndexOutOfBoundsException e) {
+            throw new MessagingException("Cannot decode event: truncated payload", e);
+        }
+    }
+
+    private static void writeString(Output out, String value) {
+        if (value == null) {
+            out.writeVarint(0);
+            return;
+        }
+        out.writeVarint(utf8Length(value) + 1);
+        out.writeUtf8(value);
+    }
+
+    private void writeName(Output out, String value) {
+        if (value == null) {
+            out.writeVarint(0);
+            return;
+        }
+        int index = out.indexOf(value);
+        if (index >= 0) {
+            out.writeVarint((long) index << 1 | 1);
+            return;
+        }
+        out.remember(value);
+        byte[] bytes = names.get(value);
+        if (bytes == null) {
+            bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (names.size() < MAX_CACHED_NAMES) {
+                names.putIfAbsent(value, bytes);
+            }
+        }
+        out.writeVarint((long) (bytes.length + 1) << 1);
+        out.write(bytes);
+    }
+
+    private static int utf8Length(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                return value.getBytes(StandardCharsets.UTF_8).length;
+            }
+        }
+        return value.length();
+    }
+
+    private static long toMicros(Instant instant) {
+        return instant == null ? 0 : instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000;
+    }
+
+    private static Instant fromMicros(long micros) {
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000), Math.floorMod(micros, 1_000_000) * 1_000L);
+    }
+
+    private static long zigzag(long value) {
+        return value << 1 ^ value >> 63;
+    }
+
+    private static long unzigzag(long value) {
+        return value >>> 1 ^ -(value & 1);
+    }
+
+    private static final class Output {
+
+        private byte[] buffer;
+        private int size;
+        private final String[] table = new String[STRING_TABLE_SIZE];
+        private int tableSize;
+
+        Output(int capacity) {
+            this.buffer = new byte[capacity];
+        }
+
+        void reset() {
+            size = 0;
+            Arrays.fill(table, 0, tableSize, null);
+            tableSize = 0;
+        }
+
+        int capacity() {
+            return buffer.length;
+        }
+
+        int indexOf(String value) {
+            for (int i = 0; i < tableSize; i++) {
+                if (table[i].equals(value)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        void remember(String value) {
+            if (tableSize < table.length) {
+                table[tableSize++] = value;
+            }
+        }
+
+        void writeByte(int value) {
+            ensure(1);
+            buffer[size++] = (byte) value;
+        }
+
+        void writeVarint(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[size++] = (byte) (value & 0x7F | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        void writeUtf8(String value) {
+            int length = value.length();
+            ensure(length);
+            int start = size;
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c >= 0x80) {
+                    size = start;
+                    write(value.getBytes(StandardCharsets.UTF_8));
+                    return;
+                }
+                buffer[size++] = (byte) c;
+            }
+        }
+
+        void write(byte[] bytes) {
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+            }
+        }
+    }
+
+    private static final class Input {
+
+        private final byte[] buffer;
+        private final List<String> table = new ArrayList<>(8);
+        private int position;
+
+        Input(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        int readUnsignedByte() {
+            if (position >= buffer.length) {
+                throw new IndexOutOfBoundsException(position);
+            }
+            return buffer[position++] & 0xff;
+        }
+
+        long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readUnsignedByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new MessagingException("Malformed varint at offset " + position);
+        }
+
+        String readString() {
+            long header = readVarint();
+            return header == 0 ? null : readUtf8(header - 1);
+        }
+
+        String readName() {
+            long header = readVarint();
+            if (header == 0) {
+                return null;
+            }
+            if ((header & 1) == 1) {
+                int index = (int) (header >>> 1);
+                if (index >= table.size()) {
+                    throw new MessagingException("Unknown string table reference " + index);
+                }
+                return table.get(index);
+            }
+            String value = readUtf8((header >>> 1) - 1);
+            if (table.size() < STRING_TABLE_SIZE) {
+                table.add(value);
+            }
+            return value;
+        }
+
+        private String readUtf8(long length) {
+            if (length < 0 || length > buffer.length - position) {
+                throw new IndexOutOfBoundsException(position + (int) Math.min(length, Integer.MAX_VALUE));
+            }
+            String value = new String(buffer, position, (int) length, StandardCharsets.UTF_8);
+            position += (int) length;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package com.pinapp.messaging.application.codec;
+
+import com.pinapp.messaging.application.exception.ConfigurationException;
+import com.pinapp.messaging.application.exception.MessagingException;
+import com.pinapp.messaging.domain.Notification;
+import com.pinapp.messaging.domain.NotificationPriority;
+import com.pinapp.messaging.domain.Recipient;
+import com.pinapp.messaging.domain.email.EmailNotification;
+import com.pinapp.messaging.domain.push.PushNotification;
+import com.pinapp.messaging.domain.sms.SmsNotification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class BinaryNotificationCodec implements NotificationCodec {
+
+    private static final int VERSION = 1;
+
+    private static final byte EMAIL = 1;
+    private static final byte SMS = 2;
+    private static final byte PUSH = 3;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte LONG = 2;
+    private static final byte INTEGER = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte BOOLEAN = 5;
+    private static final byte INSTANT = 6;
+
+    @Override
+    public byte[] encode(Notification notification) {
+        Output out = new Output(256);
+        out.writeByte(VERSION);
+        switch (notification) {
+            case EmailNotification email -> {
+                writeCommon(out, EMAIL, email);
+                writeString(out, email.getSubject());
+                writeString(out, email.getHtmlBody());
+                writeList(out, email.getCc());
+                writeList(out, email.getBcc());
+                writeString(out, email.getFromEmail());
+                writeString(out, email.getFromName());
+            }
+            case SmsNotification sms -> {
+                writeCommon(out, SMS, sms);
+                writeString(out, sms.getFromNumber());
+            }
+            case PushNotification push -> {
+                writeCommon(out, PUSH, push);
+                writeString(out, push.getTitle());
+                writeMap(out, push.getData());
+            }
+            default -> throw new ConfigurationException(
+                    "No codec for notification type " + notification.getClass().getName());
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public Notification decode(byte[] bytes) {
+        Input in = new Input(bytes);
+        try {
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new MessagingException("Unsupported notification encoding version " + version);
+            }
+            byte type = in.readByte();
+            String id = readString(in);
+            Recipient recipient = Recipient.builder()
+                    .email(readString(in))
+                    .phoneNumber(readString(in))
+                    .deviceToken(readString(in))
+                    .name(readString(in))
+                    .build();
+            String body = readString(in);
+            Instant deadline = in.readBoolean() ? Instant.ofEpochSecond(in.readLong(), in.readInt()) : null;
+            NotificationPriority priority = NotificationPriority.values()[in.readUnsignedByte()];
+            Map<String, Object> metadata = readMap(in);
+
+            return switch (type) {
+                case EMAIL -> EmailNotification.builder()
+                        .id(id).recipient(recipient).body(body).deadline(deadline).priority(priority)
+                        .metadata(metadata)
+                        .subject(readString(in))
+                        .htmlBody(readString(in))
+                        .cc(readList(in))
+                        .bcc(readList(in))
+                        .fromEmail(readString(in))
+                        .fromName(readString(in))
+                        .build();
+                case SMS -> SmsNotification.builder()
+                        .id(id).recipient(recipient).body(body).deadline(deadline).priority(priority)
+                        .metadata(metadata)
+                        .fromNumber(readString(in))
+                        .build();
+                case PUSH -> PushNotification.builder()
+                        .id(id).recipient(recipient).body(body).deadline(deadline).priority(priority)
+                        .metadata(metadata)
+                        .title(readString(in))
+                        .data(readMap(in))
+                        .build();
+                default -> throw new MessagingException("Unknown encoded notification type " + type);
+            };
+        } catch (IndexOutOfBoundsException e) {
+            throw new MessagingException("Cannot decode notification: truncated payload", e);
+        }
+    }
+
+    private static void writeCommon(Output out, byte type, Notification notification) {
+        out.writeByte(type);
+        writeString(out, notification.getId());
+        Recipient recipient = notification.getRecipient() != null
+                ? notification.getRecipient()
+                : Recipient.builder().build();
+        writeString(out, recipient.getEmail());
+        writeString(out, recipient.getPhoneNumber());
+        writeString(out, recipient.getDeviceToken());
+        writeString(out, recipient.getName());
+        writeString(out, notification.getBody());
+        Instant deadline = notification.getDeadline();
+        out.writeBoolean(deadline != null);
+        if (deadline != null) {
+            out.writeLong(deadline.getEpochSecond());
+            out.writeInt(deadline.getNano());
+        }
+        out.writeByte(notification.getPriority().ordinal());
+        writeMap(out, notification.getMetadata());
+    }
+
+    private static void writeString(Output out, String value) {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(Input in) {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        return in.readString(length);
+    }
+
+    private static void writeList(Output out, List<String> values) {
+        out.writeInt(values != null ? values.size() : -1);
+        if (values != null) {
+            for (String value : values) {
+                writeString(out, value);
+            }
+        }
+    }
+
+    private static List<String> readList(Input in) {
+        int size = in.readInt();
+        if (size < 0) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+
+    private static void writeMap(Output out, Map<String, Object> map) {
+        out.writeInt(map != null ? map.size() : 0);
+        if (map == null) {
+            return;
+        }
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            writeString(out, entry.getKey());
+            writeValue(out, entry.getValue());
+        }
+    }
+
+    private static Map<String, Object> readMap(Input in) {
+        int size = in.readInt();
+        if (size == 0) {
+            return Map.of();
+        }
+        Map<String, Object> map = new LinkedHashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            map.put(readString(in), readValue(in));
+        }
+        return map;
+    }
+
+    private static void writeValue(Output out, Object value) {
+        switch (value) {
+            case null -> out.writeByte(NULL);
+            case String text -> {
+                out.writeByte(STRING);
+                writeString(out, text);
+            }
+            case Long number -> {
+                out.writeByte(LONG);
+                out.writeLong(number);
+            }
+            case Integer number -> {
+                out.writeByte(INTEGER);
+                out.writeInt(number);
+            }
+            case Double number -> {
+                out.writeByte(DOUBLE);
+                out.writeDouble(number);
+            }
+            case Boolean flag -> {
+                out.writeByte(BOOLEAN);
+                out.writeBoolean(flag);
+            }
+            case Instant instant -> {
+                out.writeByte(INSTANT);
+                out.writeLong(instant.getEpochSecond());
+                out.writeInt(instant.getNano());
+            }
+            default -> {
+                out.writeByte(STRING);
+                writeString(out, value.toString());
+            }
+        }
+    }
+
+    private static Object readValue(Input in) {
+        byte tag = in.readByte();
+        return switch (tag) {
+            case NULL -> null;
+            case STRING -> readString(in);
+            case LONG -> in.readLong();
+            case INTEGER -> in.readInt();
+            case DOUBLE -> in.readDouble();
+            case BOOLEAN -> in.readBoolean();
+            case INSTANT -> Instant.ofEpochSecond(in.readLong(), in.readInt());
+            default -> throw new MessagingException("Unknown encoded value tag " + tag);
+        };
+    }
+
+    private static final class Output {
+
+        private byte[] buffer;
+        private int size;
+
+        Output(int capacity) {
+            this.buffer = new byte[capacity];
+        }
+
+        void writeByte(int value) {
+            ensure(1);
+            buffer[size++] = (byte) value;
+        }
+
+        void writeBoolean(boolean value) {
+            writeByte(value ? 1 : 0);
+        }
+
+        void writeInt(int value) {
+            ensure(4);
+            buffer[size++] = (byte) (value >>> 24);
+            buffer[size++] = (byte) (value >>> 16);
+            buffer[size++] = (byte) (value >>> 8);
+            buffer[size++] = (byte) value;
+        }
+
+        void writeLong(long value) {
+            writeInt((int) (value >>> 32));
+            writeInt((int) value);
+        }
+
+        void writeDouble(double value) {
+            writeLong(Double.doubleToLongBits(value));
+        }
+
+        void write(byte[] bytes) {
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+            }
+        }
+    }
+
+    private static final class Input {
+
+        private final byte[] buffer;
+        private int position;
+
+        Input(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        int readUnsignedByte() {
+            if (position >= buffer.length) {
+                throw new IndexOutOfBoundsException(position);
+            }
+            return buffer[position++] & 0xff;
+        }
+
+        byte readByte() {
+            return (byte) readUnsignedByte();
+        }
+
+        boolean readBoolean() {
+            return readUnsignedByte() != 0;
+        }
+
+        int readInt() {
+            return readUnsignedByte() << 24 | readUnsignedByte() << 16 | readUnsignedByte() << 8 | readUnsignedByte();
+        }
+
+        long readLong() {
+            return (long) readInt() << 32 | readInt() & 0xffffffffL;
+        }
+
+        double readDouble() {
+            return Double.longBitsToDouble(readLong());
+        }
+
+        String readString(int length) {
+            if (length > buffer.length - position) {
+                throw new IndexOutOfBoundsException(position + length);
+            }
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
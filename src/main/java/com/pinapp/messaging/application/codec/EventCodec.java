@@ -0,0 +1,14 @@
+package com.pinapp.messaging.application.codec;
+
+import com.pinapp.messaging.application.event.NotificationEvent;
+
+public interface EventCodec {
+
+    String getContentType();
+
+    int getSchemaVersion();
+
+    byte[] encode(NotificationEvent event);
+
+    NotificationEvent decode(byte[] bytes);
+}
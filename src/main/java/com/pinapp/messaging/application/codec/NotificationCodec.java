@@ -0,0 +1,10 @@
+package com.pinapp.messaging.application.codec;
+
+import com.pinapp.messaging.domain.Notification;
+
+public interface NotificationCodec {
+
+    byte[] encode(Notification notification);
+
+    Notification decode(byte[] bytes);
+}
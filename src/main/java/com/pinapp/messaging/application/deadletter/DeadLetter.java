@@ -0,0 +1,25 @@
+package com.pinapp.messaging.application.deadletter;
+
+import com.pinapp.messaging.domain.Notification;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+import java.time.Instant;
+import java.util.List;
+
+@Builder(toBuilder = true)
+@Getter
+public class DeadLetter {
+
+    private final long sequence;
+    private final Notification notification;
+    private final String channel;
+    private final String providerName;
+    private final String errorCode;
+    private final String errorMessage;
+    private final Instant failedAt;
+
+    @Singular
+    private final List<DeliveryAttempt> attempts;
+}
@@ -0,0 +1,39 @@
+package com.pinapp.messaging.application.deadletter;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Builder
+@Getter
+public class DeadLetterFilter {
+
+    private final String providerName;
+    private final String channel;
+    private final Instant from;
+    private final Instant to;
+    private final String error;
+
+    public static DeadLetterFilter all() {
+        return DeadLetterFilter.builder().build();
+    }
+
+    public boolean matches(DeadLetter letter) {
+        if (providerName != null && !providerName.equalsIgnoreCase(letter.getProviderName())) {
+            return false;
+        }
+        if (channel != null && !channel.equalsIgnoreCase(letter.getChannel())) {
+            return false;
+        }
+        if (from != null && letter.getFailedAt().isBefore(from)) {
+            return false;
+        }
+        if (to != null && !letter.getFailedAt().isBefore(to)) {
+            return false;
+        }
+        return error == null
+                || error.equals(letter.getErrorCode())
+                || letter.getErrorMessage() != null && letter.getErrorMessage().contains(error);
+    }
+}
@@ -0,0 +1,25 @@
+package com.pinapp.messaging.application.deadletter;
+
+import com.pinapp.messaging.application.codec.BinaryNotificationCodec;
+import com.pinapp.messaging.application.codec.NotificationCodec;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+@Builder
+@Getter
+public class DeadLetterPolicy {
+
+    private final Path directory;
+
+    @Builder.Default
+    private final long segmentSize = 16 * 1024 * 1024;
+
+    @Builder.Default
+    private final NotificationCodec codec = new BinaryNotificationCodec();
+
+    public static DeadLetterPolicy of(Path directory) {
+        return DeadLetterPolicy.builder().directory(directory).build();
+    }
+}
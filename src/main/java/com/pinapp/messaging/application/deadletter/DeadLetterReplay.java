@@ -0,0 +1,22 @@
+package com.pinapp.messaging.application.deadletter;
+
+import com.pinapp.messaging.application.ratelimit.RateLimit;
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+public class DeadLetterReplay {
+
+    @Builder.Default
+    private final DeadLetterFilter filter = DeadLetterFilter.all();
+
+    private final RateLimit rateLimit;
+
+    @Builder.Default
+    private final int concurrency = 16;
+
+    public static DeadLetterReplay of(DeadLetterFilter filter, RateLimit rateLimit, int concurrency) {
+        return DeadLetterReplay.builder().filter(filter).rateLimit(rateLimit).concurrency(concurrency).build();
+    }
+}
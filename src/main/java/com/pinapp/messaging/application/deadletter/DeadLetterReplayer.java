@@ -0,0 +1,105 @@
+package com.pinapp.messaging.application.deadletter;
+
+import com.pinapp.messaging.application.exception.ClientClosedException;
+import com.pinapp.messaging.application.exception.ConfigurationException;
+import com.pinapp.messaging.application.ratelimit.TokenBucket;
+import com.pinapp.messaging.domain.Notification;
+import com.pinapp.messaging.domain.NotificationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+public class DeadLetterReplayer {
+
+    private static final Logger log = LoggerFactory.getLogger(DeadLetterReplayer.class);
+
+    private final DeadLetterStore store;
+    private final Function<Notification, CompletableFuture<NotificationResult>> dispatcher;
+
+    public DeadLetterReplayer(
+            DeadLetterStore store,
+            Function<Notification, CompletableFuture<NotificationResult>> dispatcher
+    ) {
+        this.store = store;
+        this.dispatcher = dispatcher;
+    }
+
+    public CompletableFuture<ReplayReport> replay(DeadLetterReplay replay) {
+        if (replay.getConcurrency() <= 0) {
+            throw new ConfigurationException("Dead letter replay concurrency must be greater than zero");
+        }
+        TokenBucket bucket = replay.getRateLimit() != null ? new TokenBucket(replay.getRateLimit()) : null;
+        CompletableFuture<ReplayReport> report = new CompletableFuture<>();
+        Thread.ofPlatform().name("pinapp-deadletter-replay").daemon()
+                .start(() -> run(replay, bucket, report));
+        return report;
+    }
+
+    private void run(DeadLetterReplay replay, TokenBucket bucket, CompletableFuture<ReplayReport> report) {
+        int concurrency = replay.getConcurrency();
+        Semaphore permits = new Semaphore(concurrency);
+        AtomicBoolean stopped = new AtomicBoolean();
+        LongAdder succeeded = new LongAdder();
+        LongAdder failed = new LongAdder();
+
+        try {
+            long matched = store.scan(replay.getFilter(), letter -> {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    stopped.set(true);
+                    return false;
+                }
+                if (bucket != null) {
+                    long wait = bucket.reserve(Long.MAX_VALUE);
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                }
+
+                CompletableFuture<NotificationResult> sent;
+                try {
+                    sent = dispatcher.apply(letter.getNotification());
+                } catch (Throwable t) {
+                    sent = CompletableFuture.failedFuture(t);
+                }
+                sent.whenComplete((result, error) -> {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause()
+                            : error;
+                    if (cause instanceof ClientClosedException) {
+                        stopped.set(true);
+                    } else {
+                        store.markReplayed(letter.getSequence());
+                        if (result != null && result.isSuccess()) {
+                            succeeded.increment();
+                        } else {
+                            failed.increment();
+                        }
+                    }
+                    permits.release();
+                });
+                return !stopped.get() && !report.isDone();
+            });
+
+            permits.acquireUninterruptibly(concurrency);
+            log.info("Dead letter replay finished: {} matched, {} sent, {} failed again",
+                    matched, succeeded.sum(), failed.sum());
+            report.complete(ReplayReport.builder()
+                    .matched(matched)
+                    .succeeded(succeeded.sum())
+                    .failed(failed.sum())
+                    .build());
+        } catch (Throwable t) {
+            report.completeExceptionally(t);
+        }
+    }
+}
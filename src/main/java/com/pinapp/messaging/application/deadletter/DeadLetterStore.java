@@ -0,0 +1,436 @@
+package com.pinapp.messaging.application.deadletter;
+
+import com.pinapp.messaging.application.codec.NotificationCodec;
+import com.pinapp.messaging.application.exception.ConfigurationException;
+import com.pinapp.messaging.application.exception.MessagingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+public class DeadLetterStore implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(DeadLetterStore.class);
+
+    private static final String SEGMENT_PREFIX = "deadletter-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private static final int RECORD_HEADER = 4 + 4 + 1 + 8;
+    private static final byte LETTER = 1;
+    private static final byte REPLAYED = 2;
+
+    private final Path directory;
+    private final long segmentSize;
+    private final NotificationCodec codec;
+
+    private final List<Segment> segments = new ArrayList<>();
+    private final CRC32C crc = new CRC32C();
+    private Segment active;
+    private FileChannel writer;
+    private long nextSequence = 1;
+    private long nextSegmentIndex;
+    private long live;
+    private boolean closed;
+
+    public DeadLetterStore(DeadLetterPolicy policy) {
+        this(policy, policy.getCodec());
+    }
+
+    public DeadLetterStore(DeadLetterPolicy policy, NotificationCodec codec) {
+        if (policy.getDirectory() == null || policy.getSegmentSize() <= RECORD_HEADER) {
+            throw new ConfigurationException("Dead letter store needs a directory and a segment size above "
+                    + RECORD_HEADER);
+        }
+        this.directory = policy.getDirectory();
+        this.segmentSize = policy.getSegmentSize();
+        this.codec = codec;
+
+        try {
+            Files.createDirectories(directory);
+            recover();
+            openSegment();
+        } catch (IOException e) {
+            throw new ConfigurationException("Cannot open dead letter store in " + directory + ": " + e.getMessage());
+        }
+        releaseReplayedSegments();
+    }
+
+    public synchronized long add(DeadLetter letter) {
+        if (closed) {
+            throw new MessagingException("Dead letter store is closed");
+        }
+        byte[] body = encode(letter);
+        long sequence = nextSequence;
+        try {
+            write(LETTER, sequence, body);
+        } catch (IOException e) {
+            throw new MessagingException("Cannot write dead letter for " + letter.getNotification().getId()
+                    + ": " + e.getMessage(), e);
+        }
+        nextSequence++;
+        if (active.firstSequence == 0) {
+            active.firstSequence = sequence;
+        }
+        active.letters++;
+        live++;
+        return sequence;
+    }
+
+    public synchronized void markReplayed(long sequence) {
+        if (closed) {
+            return;
+        }
+        Segment segment = segmentOf(sequence);
+        if (segment == null || !segment.replay(sequence)) {
+            return;
+        }
+        live--;
+        try {
+            write(REPLAYED, sequence, new byte[0]);
+        } catch (IOException e) {
+            log.error("Cannot mark dead letter {} as replayed: {}", sequence, e.getMessage());
+        }
+        releaseReplayedSegments();
+    }
+
+    public synchronized long size() {
+        return live;
+    }
+
+    public long scan(DeadLetterFilter filter, Predicate<DeadLetter> visitor) {
+        List<Segment> snapshot;
+        List<Long> limits = new ArrayList<>();
+        long lastSequence;
+        synchronized (this) {
+            snapshot = List.copyOf(segments);
+            snapshot.forEach(segment -> limits.add(segment.size));
+            lastSequence = nextSequence - 1;
+        }
+
+        long visited = 0;
+        for (int i = 0; i < snapshot.size(); i++) {
+            Segment segment = snapshot.get(i);
+            ByteBuffer buffer;
+            try {
+                buffer = map(segment.file, limits.get(i));
+            } catch (NoSuchFileException e) {
+                continue;
+            } catch (IOException e) {
+                throw new MessagingException("Cannot read dead letter segment " + segment.file + ": " + e.getMessage(), e);
+            }
+            Cursor cursor = new Cursor(buffer, segment.file);
+            while (cursor.next()) {
+                if (cursor.type != LETTER || cursor.sequence > lastSequence || isReplayed(segment, cursor.sequence)) {
+                    continue;
+                }
+                DeadLetter header = decodeHeader(cursor.sequence, cursor.body);
+                if (!filter.matches(header)) {
+                    continue;
+                }
+                DeadLetter letter;
+                try {
+                    letter = header.toBuilder().notification(codec.decode(readBytes(cursor.body))).build();
+                } catch (MessagingException e) {
+                    log.error("Skipping unreadable dead letter {}: {}", cursor.sequence, e.getMessage());
+                    continue;
+                }
+                visited++;
+                if (!visitor.test(letter)) {
+                    return visited;
+                }
+            }
+        }
+        return visited;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            writer.force(false);
+            writer.close();
+        } catch (IOException e) {
+            log.warn("Cannot close dead letter segment {}: {}", active.file, e.getMessage());
+        }
+    }
+
+    private synchronized boolean isReplayed(Segment segment, long sequence) {
+        return segment.replayed.get((int) (sequence - segment.firstSequence));
+    }
+
+    private void write(byte type, long sequence, byte[] body) throws IOException {
+        if (active.size + RECORD_HEADER + body.length > segmentSize && active.size > 0) {
+            writer.force(false);
+            writer.close();
+            openSegment();
+        }
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER + body.length);
+        record.putInt(0, body.length);
+        record.put(8, type);
+        record.putLong(9, sequence);
+        record.put(RECORD_HEADER, body);
+        crc.reset();
+        crc.update(record.slice(8, 9 + body.length));
+        record.putInt(4, (int) crc.getValue());
+        while (record.hasRemaining()) {
+            writer.write(record);
+        }
+        active.size += record.capacity();
+    }
+
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing
+                    .filter(file -> file.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+
+        for (Path file : files) {
+            Segment segment = new Segment(file);
+            segments.add(segment);
+            nextSegmentIndex = Math.max(nextSegmentIndex, segmentIndex(file) + 1);
+
+            Cursor cursor = new Cursor(map(file, Files.size(file)), file);
+            while (cursor.next()) {
+                nextSequence = Math.max(nextSequence, cursor.sequence + 1);
+                if (cursor.type == LETTER) {
+                    if (segment.firstSequence == 0) {
+                        segment.firstSequence = cursor.sequence;
+                    }
+                    segment.letters++;
+                    live++;
+                } else {
+                    Segment owner = segmentOf(cursor.sequence);
+                    if (owner != null && owner.replay(cursor.sequence)) {
+                        live--;
+                    }
+                }
+            }
+            segment.size = cursor.position;
+        }
+        if (live > 0) {
+            log.info("Dead letter store in {} holds {} notifications", directory, live);
+        }
+    }
+
+    private void openSegment() throws IOException {
+        Path file = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, nextSegmentIndex++, SEGMENT_SUFFIX));
+        writer = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        active = new Segment(file);
+        segments.add(active);
+    }
+
+    private Segment segmentOf(long sequence) {
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            Segment segment = segments.get(i);
+            if (segment.letters > 0 && sequence >= segment.firstSequence) {
+                return sequence < segment.firstSequence + segment.letters ? segment : null;
+            }
+        }
+        return null;
+    }
+
+    private void releaseReplayedSegments() {
+        while (segments.size() > 1 && segments.get(0) != active && segments.get(0).isDrained()) {
+            Segment done = segments.remove(0);
+            try {
+                Files.deleteIfExists(done.file);
+            } catch (IOException e) {
+                log.warn("Cannot delete dead letter segment {}: {}", done.file, e.getMessage());
+            }
+        }
+    }
+
+    private byte[] encode(DeadLetter letter) {
+        byte[] payload = codec.encode(letter.getNotification());
+        long failedAt = letter.getFailedAt().toEpochMilli();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length + 128);
+        writeVarLong(out, failedAt);
+        writeString(out, letter.getChannel());
+        writeString(out, letter.getProviderName());
+        writeString(out, letter.getErrorCode());
+        writeString(out, letter.getErrorMessage());
+        writeVarLong(out, letter.getAttempts().size());
+        for (DeliveryAttempt attempt : letter.getAttempts()) {
+            writeVarLong(out, attempt.getAttemptNumber());
+            writeString(out, attempt.getProviderName());
+            writeString(out, attempt.getErrorCode());
+            writeString(out, attempt.getErrorMessage());
+            writeVarLong(out, Math.max(0, failedAt - attempt.getTimestamp().toEpochMilli()));
+        }
+        writeVarLong(out, payload.length);
+        out.writeBytes(payload);
+        return out.toByteArray();
+    }
+
+    private static DeadLetter decodeHeader(long sequence, ByteBuffer body) {
+        long failedAt = readVarLong(body);
+        DeadLetter.DeadLetterBuilder letter = DeadLetter.builder()
+                .sequence(sequence)
+                .failedAt(Instant.ofEpochMilli(failedAt))
+                .channel(readString(body))
+                .providerName(readString(body))
+                .errorCode(readString(body))
+                .errorMessage(readString(body));
+        long attempts = readVarLong(body);
+        for (long i = 0; i < attempts; i++) {
+            letter.attempt(DeliveryAttempt.builder()
+                    .attemptNumber((int) readVarLong(body))
+                    .providerName(readString(body))
+                    .errorCode(readString(body))
+                    .errorMessage(readString(body))
+                    .timestamp(Instant.ofEpochMilli(failedAt - readVarLong(body)))
+                    .build());
+        }
+        return letter.build();
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new MessagingException("Malformed varint in dead letter record");
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        if (value == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length + 1L);
+        out.writeBytes(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = (int) readVarLong(in) - 1;
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(ByteBuffer in) {
+        try {
+            byte[] bytes = new byte[(int) readVarLong(in)];
+            in.get(bytes);
+            return bytes;
+        } catch (BufferUnderflowException e) {
+            throw new MessagingException("Dead letter record is truncated");
+        }
+    }
+
+    private static MappedByteBuffer map(Path file, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, channel.size()));
+        }
+    }
+
+    private static long segmentIndex(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static final class Segment {
+
+        private final Path file;
+        private final BitSet replayed = new BitSet();
+        private long firstSequence;
+        private int letters;
+        private long size;
+
+        Segment(Path file) {
+            this.file = file;
+        }
+
+        boolean replay(long sequence) {
+            int index = (int) (sequence - firstSequence);
+            if (replayed.get(index)) {
+                return false;
+            }
+            replayed.set(index);
+            return true;
+        }
+
+        boolean isDrained() {
+            return replayed.cardinality() == letters;
+        }
+    }
+
+    private static final class Cursor {
+
+        private final ByteBuffer buffer;
+        private final Path file;
+        private final CRC32C check = new CRC32C();
+        private int position;
+        private byte type;
+        private long sequence;
+        private ByteBuffer body;
+
+        Cursor(ByteBuffer buffer, Path file) {
+            this.buffer = buffer;
+            this.file = file;
+        }
+
+        boolean next() {
+            if (position + RECORD_HEADER > buffer.limit()) {
+                return false;
+            }
+            int length = buffer.getInt(position);
+            if (length < 0 || position + RECORD_HEADER + length > buffer.limit()) {
+                log.warn("Dead letter segment {} ends with a partial record at offset {}", file, position);
+                return false;
+            }
+            check.reset();
+            check.update(buffer.slice(position + 8, 9 + length));
+            if ((int) check.getValue() != buffer.getInt(position + 4)) {
+                log.warn("Dead letter segment {} has a torn record at offset {}, ignoring the rest", file, position);
+                return false;
+            }
+            type = buffer.get(position + 8);
+            sequence = buffer.getLong(position + 9);
+            body = buffer.slice(position + RECORD_HEADER, length);
+            position += RECORD_HEADER + length;
+            return true;
+        }
+    }
+}
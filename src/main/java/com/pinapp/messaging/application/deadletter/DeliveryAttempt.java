@@ -0,0 +1,17 @@
+package com.pinapp.messaging.application.deadletter;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Builder
+@Getter
+public class DeliveryAttempt {
+
+    private final int attemptNumber;
+    private final String providerName;
+    private final String errorCode;
+    private final String errorMessage;
+    private final Instant timestamp;
+}
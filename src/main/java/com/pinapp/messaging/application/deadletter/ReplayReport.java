@@ -0,0 +1,13 @@
+package com.pinapp.messaging.application.deadletter;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+public class ReplayReport {
+
+    private final long matched;
+    private final long succeeded;
+    private final long failed;
+}
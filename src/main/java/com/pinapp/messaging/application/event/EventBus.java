@@ -0,0 +1,256 @@
+package com.pinapp.messaging.application.event;
+
+import com.pinapp.messaging.application.exception.ConfigurationException;
+import com.pinapp.messaging.application.port.EventPublisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+public class EventBus implements EventPublisher, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(EventBus.class);
+
+    public static final int DEFAULT_CONSUMERS = 2;
+    public static final int DEFAULT_BACKLOG = 8192;
+
+    private static final int DRAIN_BATCH = 64;
+    private static final long BLOCK_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final List<Sink> sinks;
+    private final List<Consumer> consumers;
+    private volatile boolean closed;
+
+    private EventBus(int consumerCount, List<SinkSpec> specs) {
+        if (specs.isEmpty()) {
+            throw new ConfigurationException("Event bus needs at least one sink");
+        }
+        if (consumerCount <= 0) {
+            throw new ConfigurationException("Event bus consumers must be greater than zero");
+        }
+        this.sinks = specs.stream()
+                .map(spec -> new Sink(spec.name(), spec.publisher(), spec.backlog(), spec.overflowPolicy()))
+                .toList();
+        int threads = Math.min(consumerCount, this.sinks.size());
+        List<Consumer> created = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            created.add(new Consumer());
+        }
+        for (int i = 0; i < this.sinks.size(); i++) {
+            Sink sink = this.sinks.get(i);
+            sink.consumer = created.get(i % threads);
+            sink.consumer.sinks.add(sink);
+        }
+        this.consumers = List.copyOf(created);
+        for (int i = 0; i < threads; i++) {
+            Consumer consumer = consumers.get(i);
+            consumer.thread = Thread.ofPlatform().name("pinapp-event-bus-" + i).daemon().start(consumer::run);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public void publish(NotificationEvent event) {
+        for (Sink sink : sinks) {
+            sink.enqueue(event);
+        }
+    }
+
+    public List<EventSinkStats> getStats() {
+        return sinks.stream().map(Sink::stats).toList();
+    }
+
+    @Override
+    public void close() {
+        close(Duration.ofSeconds(5));
+    }
+
+    public void close(Duration timeout) {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        long deadline = System.nanoTime() + timeout.toNanos();
+        for (Consumer consumer : consumers) {
+            LockSupport.unpark(consumer.thread);
+        }
+        for (Consumer consumer : consumers) {
+            try {
+                long remaining = deadline - System.nanoTime();
+                if (remaining > 0) {
+                    consumer.thread.join(Duration.ofNanos(remaining));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (consumer.thread.isAlive()) {
+                consumer.thread.interrupt();
+            }
+        }
+        int abandoned = sinks.stream().mapToInt(sink -> sink.ring.size()).sum();
+        if (abandoned > 0) {
+            log.warn("Event bus closed with {} undelivered events", abandoned);
+        }
+    }
+
+    private final class Sink {
+
+        private final String name;
+        private final EventPublisher publisher;
+        private final OverflowPolicy overflowPolicy;
+        private final EventRing ring;
+        private final LongAdder delivered = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private Consumer consumer;
+
+        Sink(String name, EventPublisher publisher, int backlog, OverflowPolicy overflowPolicy) {
+            this.name = name;
+            this.publisher = publisher;
+            this.overflowPolicy = overflowPolicy;
+            this.ring = new EventRing(backlog);
+        }
+
+        void enqueue(NotificationEvent event) {
+            if (closed) {
+                dropped.increment();
+                return;
+            }
+            while (!ring.offer(event)) {
+                if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+                    if (ring.poll() != null) {
+                        dropped.increment();
+                    }
+                } else if (overflowPolicy == OverflowPolicy.DROP_NON_TERMINAL
+                        && !event.getEventType().isTerminal() && !event.getEventType().isFailure()) {
+                    dropped.increment();
+                    return;
+                } else if (closed) {
+                    dropped.increment();
+                    return;
+                } else {
+                    consumer.wake();
+                    LockSupport.parkNanos(BLOCK_BACKOFF_NANOS);
+                }
+            }
+            consumer.wake();
+        }
+
+        int drain() {
+            int count = 0;
+            NotificationEvent event;
+            while (count < DRAIN_BATCH && (event = ring.poll()) != null) {
+                count++;
+                try {
+                    publisher.publish(event);
+                    delivered.increment();
+                } catch (Exception e) {
+                    failed.increment();
+                    log.warn("Event sink {} failed on {}: {}", name, event.getEventType(), e.getMessage());
+                }
+            }
+            return count;
+        }
+
+        EventSinkStats stats() {
+            return EventSinkStats.builder()
+                    .name(name)
+                    .overflowPolicy(overflowPolicy)
+                    .capacity(ring.capacity())
+                    .backlog(ring.size())
+                    .delivered(delivered.sum())
+                    .dropped(dropped.sum())
+                    .failed(failed.sum())
+                    .build();
+        }
+    }
+
+    private final class Consumer {
+
+        private final List<Sink> sinks = new ArrayList<>();
+        private volatile boolean parked;
+        private Thread thread;
+
+        void wake() {
+            if (parked) {
+                parked = false;
+                LockSupport.unpark(thread);
+            }
+        }
+
+        void run() {
+            while (!Thread.currentThread().isInterrupted()) {
+                int drained = 0;
+                for (Sink sink : sinks) {
+                    drained += sink.drain();
+                }
+                if (drained > 0) {
+                    continue;
+                }
+                if (closed) {
+                    return;
+                }
+                parked = true;
+                if (isIdle() && !closed) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                parked = false;
+            }
+        }
+
+        private boolean isIdle() {
+            for (Sink sink : sinks) {
+                if (!sink.ring.isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private record SinkSpec(String name, EventPublisher publisher, int backlog, OverflowPolicy overflowPolicy) {
+    }
+
+    public static class Builder {
+
+        private final List<SinkSpec> sinks = new ArrayList<>();
+        private int consumers = DEFAULT_CONSUMERS;
+
+        private Builder() {
+        }
+
+        public Builder consumers(int consumers) {
+            this.consumers = consumers;
+            return this;
+        }
+
+        public Builder add(EventPublisher publisher) {
+            return add(publisher, DEFAULT_BACKLOG, OverflowPolicy.DROP_OLDEST);
+        }
+
+        public Builder add(EventPublisher publisher, int backlog, OverflowPolicy overflowPolicy) {
+            return add(publisher.getClass().getSimpleName(), publisher, backlog, overflowPolicy);
+        }
+
+        public Builder add(String name, EventPublisher publisher, int backlog, OverflowPolicy overflowPolicy) {
+            if (backlog <= 0 || overflowPolicy == null) {
+                throw new ConfigurationException("Event sink " + name + " needs a positive backlog and an overflow policy");
+            }
+            sinks.add(new SinkSpec(name, publisher, backlog, overflowPolicy));
+            return this;
+        }
+
+        public EventBus build() {
+            return new EventBus(consumers, sinks);
+        }
+    }
+}
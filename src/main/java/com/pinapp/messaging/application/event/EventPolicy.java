@@ -0,0 +1,53 @@
+package com.pinapp.messaging.application.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+public class EventPolicy {
+
+    @Builder.Default
+    private final EventVerbosity verbosity = EventVerbosity.ALL;
+
+    @Builder.Default
+    private final double nonTerminalSampleRate = 1.0;
+
+    public static EventPolicy all() {
+        return EventPolicy.builder().build();
+    }
+
+    public static EventPolicy of(EventVerbosity verbosity) {
+        return EventPolicy.builder().verbosity(verbosity).build();
+    }
+
+    public static EventPolicy sampled(double nonTerminalSampleRate) {
+        return EventPolicy.builder().nonTerminalSampleRate(nonTerminalSampleRate).build();
+    }
+
+    public boolean accepts(EventType eventType, String notificationId) {
+        if (eventType.isCircuit()) {
+            return true;
+        }
+        return switch (verbosity) {
+            case ALL -> eventType.isTerminal() || eventType.isFailure() || isSampled(notificationId);
+            case TERMINAL, AGGREGATED -> eventType.isTerminal() || eventType.isFailure();
+            case FAILURES -> eventType.isFailure();
+        };
+    }
+
+    public boolean isAggregated() {
+        return verbosity == EventVerbosity.AGGREGATED;
+    }
+
+    private boolean isSampled(String notificationId) {
+        if (nonTerminalSampleRate >= 1.0) {
+            return true;
+        }
+        if (nonTerminalSampleRate <= 0.0 || notificationId == null) {
+            return false;
+        }
+        int mixed = notificationId.hashCode() * 0x9E3779B9;
+        return (mixed >>> 8) < nonTerminalSampleRate * (1 << 24);
+    }
+}
@@ -0,0 +1,17 @@
+package com.pinapp.messaging.application.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+public class EventSinkStats {
+
+    private final String name;
+    private final OverflowPolicy overflowPolicy;
+    private final int capacity;
+    private final int backlog;
+    private final long delivered;
+    private final long dropped;
+    private final long failed;
+}
@@ -4,5 +4,22 @@ public enum EventType {
     SENDING,
     SUCCESS,
     FAILED,
-    RETRYING
+    RETRYING,
+    RETRY_BUDGET_EXHAUSTED,
+    EXPIRED,
+    CIRCUIT_OPENED,
+    CIRCUIT_HALF_OPENED,
+    CIRCUIT_CLOSED;
+
+    public boolean isTerminal() {
+        return this == SUCCESS || this == FAILED || this == EXPIRED;
+    }
+
+    public boolean isFailure() {
+        return this == FAILED || this == EXPIRED || this == RETRY_BUDGET_EXHAUSTED;
+    }
+
+    public boolean isCircuit() {
+        return this == CIRCUIT_OPENED || this == CIRCUIT_HALF_OPENED || this == CIRCUIT_CLOSED;
+    }
 }
@@ -0,0 +1,8 @@
+package com.pinapp.messaging.application.event;
+
+public enum EventVerbosity {
+    ALL,
+    TERMINAL,
+    FAILURES,
+    AGGREGATED
+}
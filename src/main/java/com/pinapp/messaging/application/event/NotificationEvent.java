@@ -1,9 +1,11 @@
 package com.pinapp.messaging.application.event;
 
+import com.pinapp.messaging.application.deadletter.DeliveryAttempt;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.Instant;
+import java.util.List;
 
 @Builder
 @Getter
@@ -16,6 +18,7 @@ public class NotificationEvent {
     private final String errorMessage;
     private final String providerName;
     private final String providerMessageId;
+    private final List<DeliveryAttempt> attempts;
 
     @Builder.Default
     private final Instant timestamp = Instant.now();
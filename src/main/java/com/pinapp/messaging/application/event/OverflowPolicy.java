@@ -0,0 +1,7 @@
+package com.pinapp.messaging.application.event;
+
+public enum OverflowPolicy {
+    BLOCK,
+    DROP_OLDEST,
+    DROP_NON_TERMINAL
+}
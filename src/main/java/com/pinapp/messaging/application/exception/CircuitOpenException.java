@@ -0,0 +1,8 @@
+package com.pinapp.messaging.application.exception;
+
+public class CircuitOpenException extends ProviderException {
+
+    public CircuitOpenException(String providerName) {
+        super(providerName, "Circuit breaker open for provider " + providerName);
+    }
+}
@@ -0,0 +1,8 @@
+package com.pinapp.messaging.application.exception;
+
+public class ClientClosedException extends MessagingException {
+
+    public ClientClosedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.pinapp.messaging.application.exception;
+
+public class OverloadedException extends MessagingException {
+
+    public OverloadedException(String message) {
+        super(message);
+    }
+}
@@ -3,18 +3,31 @@ package com.pinapp.messaging.application.exception;
 public class ProviderException extends MessagingException {
 
     private final String providerName;
+    private final String errorCode;
 
     public ProviderException(String providerName, String message) {
         super(message);
         this.providerName = providerName;
+        this.errorCode = null;
     }
 
     public ProviderException(String providerName, String message, Throwable cause) {
         super(message, cause);
         this.providerName = providerName;
+        this.errorCode = null;
+    }
+
+    public ProviderException(String providerName, String errorCode, String message, Throwable cause) {
+        super(message, cause);
+        this.providerName = providerName;
+        this.errorCode = errorCode;
     }
 
     public String getProviderName() {
         return providerName;
     }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
 }
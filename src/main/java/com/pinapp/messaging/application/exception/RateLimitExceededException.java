@@ -0,0 +1,8 @@
+package com.pinapp.messaging.application.exception;
+
+public class RateLimitExceededException extends ProviderException {
+
+    public RateLimitExceededException(String providerName, String message) {
+        super(providerName, message);
+    }
+}
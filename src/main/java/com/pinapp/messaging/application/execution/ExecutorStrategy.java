@@ -0,0 +1,21 @@
+package com.pinapp.messaging.application.execution;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+public enum ExecutorStrategy {
+    VIRTUAL_THREADS,
+    FIXED_PLATFORM_POOL,
+    FORK_JOIN;
+
+    public ExecutorService create(int parallelism) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return switch (this) {
+            case VIRTUAL_THREADS -> Executors.newVirtualThreadPerTaskExecutor();
+            case FIXED_PLATFORM_POOL -> Executors.newFixedThreadPool(
+                    threads, Thread.ofPlatform().name("pinapp-send-", 0).daemon().factory());
+            case FORK_JOIN -> new ForkJoinPool(threads);
+        };
+    }
+}
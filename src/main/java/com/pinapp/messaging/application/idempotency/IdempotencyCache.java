@@ -0,0 +1,233 @@
+package com.pinapp.messaging.application.idempotency;
+
+import com.pinapp.messaging.application.exception.ConfigurationException;
+import com.pinapp.messaging.domain.NotificationResult;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class IdempotencyCache implements AutoCloseable {
+
+    private static final int MAX_SEGMENTS = 64;
+
+    private final Segment[] segments;
+    private final int segmentShift;
+    private final long ttlMillis;
+    private final IdempotencyJournal journal;
+    private final ConcurrentHashMap<String, CompletableFuture<NotificationResult>> inProgress = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+
+    public IdempotencyCache(IdempotencyPolicy policy) {
+        if (policy.getMaxEntries() <= 0 || policy.getTtl() == null || policy.getTtl().isNegative()) {
+            throw new ConfigurationException("Idempotency maxEntries must be positive and ttl non-negative");
+        }
+        int segmentCount = Math.min(MAX_SEGMENTS, Integer.highestOneBit(Math.max(1, policy.getMaxEntries() / 1024)));
+        int perSegment = (policy.getMaxEntries() + segmentCount - 1) / segmentCount;
+
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+        this.segmentShift = 64 - Integer.numberOfTrailingZeros(segmentCount);
+        this.ttlMillis = policy.getTtl().toMillis();
+
+        if (policy.getPersistencePath() != null) {
+            try {
+                this.journal = new IdempotencyJournal(policy.getPersistencePath(), policy.getMaxEntries());
+            } catch (IOException e) {
+                throw new ConfigurationException("Cannot open idempotency journal " + policy.getPersistencePath()
+                        + ": " + e.getMessage());
+            }
+            long now = System.currentTimeMillis();
+            journal.replay(now, (id, result, expiresAt) -> {
+                long hash = hash(id);
+                segmentFor(hash).put(id, hash, result, expiresAt, now);
+            });
+        } else {
+            this.journal = null;
+        }
+    }
+
+    public NotificationResult get(String id) {
+        long hash = hash(id);
+        NotificationResult result = segmentFor(hash).get(id, hash, System.currentTimeMillis());
+        if (result != null) {
+            hits.increment();
+        }
+        return result;
+    }
+
+    public void put(String id, NotificationResult result) {
+        long hash = hash(id);
+        long now = System.currentTimeMillis();
+        long expiresAt = now + ttlMillis;
+        segmentFor(hash).put(id, hash, result, expiresAt, now);
+        if (journal != null) {
+            journal.append(id, result, expiresAt);
+        }
+    }
+
+    public CompletableFuture<NotificationResult> claim(String id, CompletableFuture<NotificationResult> promise) {
+        CompletableFuture<NotificationResult> existing = inProgress.putIfAbsent(id, promise);
+        if (existing != null) {
+            hits.increment();
+        }
+        return existing;
+    }
+
+    public void release(String id, CompletableFuture<NotificationResult> promise) {
+        inProgress.remove(id, promise);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public long getDuplicateCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public void close() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    private Segment segmentFor(long hash) {
+        return segments.length == 1 ? segments[0] : segments[(int) (spread((int) hash) >>> segmentShift)];
+    }
+
+    private static long hash(String id) {
+        return id.hashCode();
+    }
+
+    private static long spread(int hash) {
+        long h = hash * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 29);
+    }
+
+    private static final class Segment {
+
+        private final long[] index;
+        private final int indexMask;
+        private final long[] expiries;
+        private final NotificationResult[] results;
+        private final String[] ids;
+        private int head;
+        private int size;
+
+        Segment(int capacity) {
+            this.expiries = new long[capacity];
+            this.results = new NotificationResult[capacity];
+            this.ids = new String[capacity];
+            int indexSize = Integer.highestOneBit(Math.max(2, capacity * 2 - 1)) << 1;
+            this.index = new long[indexSize];
+            this.indexMask = indexSize - 1;
+        }
+
+        synchronized NotificationResult get(String id, long hash, long now) {
+            int slot = find(id, (int) hash);
+            if (slot < 0) {
+                return null;
+            }
+            int position = position(index[slot]);
+            return expiries[position] > now ? results[position] : null;
+        }
+
+        synchronized void put(String id, long hash, NotificationResult result, long expiresAt, long now) {
+            int existing = find(id, (int) hash);
+            if (existing >= 0) {
+                int position = position(index[existing]);
+                results[position] = result;
+                expiries[position] = expiresAt;
+                return;
+            }
+            while (size > 0 && expiries[head] <= now) {
+                removeHead();
+            }
+            if (size == ids.length) {
+                removeHead();
+            }
+
+            int position = (head + size) % ids.length;
+            expiries[position] = expiresAt;
+            results[position] = result;
+            ids[position] = id;
+
+            int slot = home((int) hash);
+            while (index[slot] != 0) {
+                slot = (slot + 1) & indexMask;
+            }
+            index[slot] = entry((int) hash, position);
+            size++;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        private int find(String id, int hash) {
+            int slot = home(hash);
+            long entry;
+            while ((entry = index[slot]) != 0) {
+                if ((int) (entry >>> 32) == hash && id.equals(ids[position(entry)])) {
+                    return slot;
+                }
+                slot = (slot + 1) & indexMask;
+            }
+            return -1;
+        }
+
+        private void removeHead() {
+            long target = entry(ids[head].hashCode(), head);
+            int slot = home(ids[head].hashCode());
+            while (index[slot] != target) {
+                slot = (slot + 1) & indexMask;
+            }
+            deleteSlot(slot);
+            results[head] = null;
+            ids[head] = null;
+            head = (head + 1) % ids.length;
+            size--;
+        }
+
+        private void deleteSlot(int slot) {
+            int hole = slot;
+            int next = slot;
+            while (true) {
+                next = (next + 1) & indexMask;
+                if (index[next] == 0) {
+                    break;
+                }
+                int desired = home((int) (index[next] >>> 32));
+                boolean movable = hole <= next
+                        ? desired <= hole || desired > next
+                        : desired <= hole && desired > next;
+                if (movable) {
+                    index[hole] = index[next];
+                    hole = next;
+                }
+            }
+            index[hole] = 0;
+        }
+
+        private int home(int hash) {
+            return (int) spread(hash) & indexMask;
+        }
+
+        private static long entry(int hash, int position) {
+            return ((long) hash << 32) | (position + 1L);
+        }
+
+        private static int position(long entry) {
+            return (int) entry - 1;
+        }
+    }
+}
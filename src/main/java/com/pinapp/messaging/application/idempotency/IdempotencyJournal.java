@@ -0,0 +1,160 @@
+package com.pinapp.messaging.application.idempotency;
+
+import com.pinapp.messaging.domain.NotificationResult;
+import com.pinapp.messaging.domain.NotificationStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+
+class IdempotencyJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyJournal.class);
+
+    private static final int MAGIC = 0x50494431;
+    private static final int HEADER_SIZE = 64;
+    private static final int SLOT_SIZE = 256;
+    private static final int SLOTS_PER_REGION = 1 << 20;
+
+    private static final int MAX_ID = 96;
+    private static final int MAX_PROVIDER_NAME = 32;
+    private static final int MAX_PROVIDER_MESSAGE_ID = 104;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final MappedByteBuffer[] regions;
+    private final long slots;
+    private long nextSlot;
+
+    IdempotencyJournal(Path path, long slots) throws IOException {
+        this.slots = slots;
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        boolean fresh = channel.size() == 0;
+
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        int regionCount = (int) ((slots + SLOTS_PER_REGION - 1) / SLOTS_PER_REGION);
+        this.regions = new MappedByteBuffer[regionCount];
+        for (int i = 0; i < regionCount; i++) {
+            long regionSlots = Math.min(SLOTS_PER_REGION, slots - (long) i * SLOTS_PER_REGION);
+            long offset = HEADER_SIZE + (long) i * SLOTS_PER_REGION * SLOT_SIZE;
+            regions[i] = channel.map(FileChannel.MapMode.READ_WRITE, offset, regionSlots * SLOT_SIZE);
+        }
+
+        if (fresh || header.getInt(0) != MAGIC || header.getLong(8) != slots) {
+            if (!fresh) {
+                log.warn("Idempotency journal {} has a different layout, starting empty", path);
+                for (MappedByteBuffer region : regions) {
+                    for (int position = 0; position < region.capacity(); position += SLOT_SIZE) {
+                        region.putLong(position, 0);
+                    }
+                }
+            }
+            header.putInt(0, MAGIC);
+            header.putLong(8, slots);
+            header.putLong(16, 0);
+        }
+        this.nextSlot = header.getLong(16);
+    }
+
+    void replay(long now, Entries consumer) {
+        for (long i = 0; i < slots; i++) {
+            long slot = (nextSlot + i) % slots;
+            MappedByteBuffer region = regions[(int) (slot / SLOTS_PER_REGION)];
+            int position = (int) (slot % SLOTS_PER_REGION) * SLOT_SIZE;
+
+            long expiresAt = region.getLong(position);
+            if (expiresAt <= now) {
+                continue;
+            }
+            NotificationStatus status = NotificationStatus.values()[region.get(position + 8)];
+            long timestamp = region.getLong(position + 9);
+            int cursor = position + 17;
+            String id = readString(region, cursor);
+            cursor += 1 + (region.get(cursor) & 0xff);
+            String providerName = readString(region, cursor);
+            cursor += 1 + (region.get(cursor) & 0xff);
+            String providerMessageId = readString(region, cursor);
+            if (id == null) {
+                continue;
+            }
+
+            consumer.accept(id, NotificationResult.builder()
+                    .notificationId(id)
+                    .status(status)
+                    .providerName(providerName)
+                    .providerMessageId(providerMessageId)
+                    .timestamp(Instant.ofEpochMilli(timestamp))
+                    .build(), expiresAt);
+        }
+    }
+
+    synchronized void append(String id, NotificationResult result, long expiresAt) {
+        byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+        byte[] providerName = bytes(result.getProviderName());
+        byte[] providerMessageId = bytes(result.getProviderMessageId());
+        if (idBytes.length > MAX_ID || providerName.length > MAX_PROVIDER_NAME
+                || providerMessageId.length > MAX_PROVIDER_MESSAGE_ID) {
+            log.debug("Notification {} too large for the idempotency journal, kept in memory only", id);
+            return;
+        }
+
+        long slot = nextSlot;
+        MappedByteBuffer region = regions[(int) (slot / SLOTS_PER_REGION)];
+        int position = (int) (slot % SLOTS_PER_REGION) * SLOT_SIZE;
+
+        region.putLong(position, 0);
+        region.put(position + 8, (byte) result.getStatus().ordinal());
+        region.putLong(position + 9, result.getTimestamp() != null ? result.getTimestamp().toEpochMilli() : 0);
+        int cursor = position + 17;
+        cursor = writeString(region, cursor, idBytes);
+        cursor = writeString(region, cursor, providerName);
+        writeString(region, cursor, providerMessageId);
+        region.putLong(position, expiresAt);
+
+        nextSlot = (slot + 1) % slots;
+        header.putLong(16, nextSlot);
+    }
+
+    synchronized void close() {
+        try {
+            header.force();
+            for (MappedByteBuffer region : regions) {
+                region.force();
+            }
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close idempotency journal: {}", e.getMessage());
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+    }
+
+    private static int writeString(MappedByteBuffer region, int cursor, byte[] value) {
+        region.put(cursor, (byte) value.length);
+        region.put(cursor + 1, value);
+        return cursor + 1 + value.length;
+    }
+
+    private static String readString(MappedByteBuffer region, int cursor) {
+        int length = region.get(cursor) & 0xff;
+        if (length == 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        region.get(cursor + 1, value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    interface Entries {
+        void accept(String id, NotificationResult result, long expiresAt);
+    }
+}
@@ -0,0 +1,27 @@
+package com.pinapp.messaging.application.idempotency;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Builder
+@Getter
+public class IdempotencyPolicy {
+
+    @Builder.Default
+    private final int maxEntries = 1_000_000;
+
+    @Builder.Default
+    private final Duration ttl = Duration.ofHours(24);
+
+    private final Path persistencePath;
+
+    public static IdempotencyPolicy of(int maxEntries, Duration ttl) {
+        return IdempotencyPolicy.builder()
+                .maxEntries(maxEntries)
+                .ttl(ttl)
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.pinapp.messaging.application.lifecycle;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@Getter
+public class ShutdownReport {
+
+    private final int drained;
+    private final List<String> abandonedNotificationIds;
+
+    public static ShutdownReport empty() {
+        return ShutdownReport.builder()
+                .drained(0)
+                .abandonedNotificationIds(List.of())
+                .build();
+    }
+
+    public boolean isClean() {
+        return abandonedNotificationIds.isEmpty();
+    }
+}
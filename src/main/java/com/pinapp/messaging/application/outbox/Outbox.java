@@ -0,0 +1,358 @@
+package com.pinapp.messaging.application.outbox;
+
+import com.pinapp.messaging.application.codec.NotificationCodec;
+import com.pinapp.messaging.application.exception.ConfigurationException;
+import com.pinapp.messaging.application.exception.MessagingException;
+import com.pinapp.messaging.domain.Notification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+public class Outbox implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(Outbox.class);
+
+    private static final String SEGMENT_PREFIX = "outbox-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private static final int RECORD_HEADER = 4 + 4 + 1 + 8;
+    private static final byte ENTRY = 1;
+    private static final byte DONE = 2;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long flushIntervalNanos;
+    private final NotificationCodec codec;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Thread flusher;
+    private volatile boolean closed;
+
+    private Segment active;
+    private long nextSequence = 1;
+    private long nextSegmentIndex;
+    private Map<Entry, Notification> recovered = Map.of();
+
+    public Outbox(OutboxPolicy policy) {
+        this(policy, policy.getCodec());
+    }
+
+    public Outbox(OutboxPolicy policy, NotificationCodec codec) {
+        if (policy.getDirectory() == null || policy.getSegmentSize() <= RECORD_HEADER) {
+            throw new ConfigurationException("Outbox needs a directory and a segment size above " + RECORD_HEADER);
+        }
+        this.directory = policy.getDirectory();
+        this.segmentSize = policy.getSegmentSize();
+        this.flushIntervalNanos = policy.getFlushInterval().toNanos();
+        this.codec = codec;
+
+        try {
+            Files.createDirectories(directory);
+            recover();
+            this.active = openSegment();
+        } catch (IOException e) {
+            throw new ConfigurationException("Cannot open outbox in " + directory + ": " + e.getMessage());
+        }
+        releaseDoneSegments();
+
+        this.flusher = Thread.ofPlatform().name("pinapp-outbox-flusher").daemon().start(this::flushLoop);
+    }
+
+    public Entry append(Notification notification) {
+        byte[] payload = codec.encode(notification);
+        if (RECORD_HEADER + payload.length > segmentSize) {
+            throw new MessagingException("Notification " + notification.getId() + " does not fit in an outbox segment");
+        }
+        lock.lock();
+        try {
+            if (active.position + RECORD_HEADER + payload.length > segmentSize) {
+                roll();
+            }
+            Entry entry = new Entry(active, nextSequence++);
+            active.write(ENTRY, entry.sequence, payload);
+            active.live.incrementAndGet();
+            pending.incrementAndGet();
+            return entry;
+        } catch (IOException e) {
+            throw new MessagingException("Cannot roll outbox segment: " + e.getMessage(), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void markDone(Entry entry) {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            if (active.position + RECORD_HEADER > segmentSize) {
+                roll();
+            }
+            active.write(DONE, entry.sequence, new byte[0]);
+            pending.decrementAndGet();
+            if (entry.segment.live.decrementAndGet() == 0) {
+                releaseDoneSegments();
+            }
+        } catch (IOException e) {
+            log.error("Cannot mark outbox entry {} as done: {}", entry.sequence, e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void replay(BiConsumer<Entry, Notification> consumer) {
+        Map<Entry, Notification> entries;
+        lock.lock();
+        try {
+            entries = recovered;
+            recovered = Map.of();
+        } finally {
+            lock.unlock();
+        }
+        if (!entries.isEmpty()) {
+            log.info("Replaying {} notifications from the outbox in {}", entries.size(), directory);
+        }
+        entries.forEach(consumer);
+    }
+
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    public int getSegmentCount() {
+        lock.lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (Segment segment : segments) {
+                segment.flush();
+                segment.close();
+            }
+        } finally {
+            lock.unlock();
+        }
+        LockSupport.unpark(flusher);
+    }
+
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing
+                    .filter(file -> file.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+
+        Map<Long, Entry> live = new LinkedHashMap<>();
+        Map<Long, byte[]> payloads = new HashMap<>();
+        for (Path file : files) {
+            Segment segment = new Segment(file, segmentSize);
+            segments.addLast(segment);
+            nextSegmentIndex = Math.max(nextSegmentIndex, segmentIndex(file) + 1);
+            segment.scan((type, sequence, payload) -> {
+                nextSequence = Math.max(nextSequence, sequence + 1);
+                if (type == ENTRY) {
+                    live.put(sequence, new Entry(segment, sequence));
+                    payloads.put(sequence, payload);
+                } else {
+                    live.remove(sequence);
+                    payloads.remove(sequence);
+                }
+            });
+        }
+
+        Map<Entry, Notification> entries = new LinkedHashMap<>();
+        for (Entry entry : live.values()) {
+            try {
+                entries.put(entry, codec.decode(payloads.get(entry.sequence)));
+                entry.segment.live.incrementAndGet();
+            } catch (MessagingException e) {
+                log.error("Dropping unreadable outbox entry {}: {}", entry.sequence, e.getMessage());
+            }
+        }
+        pending.set(entries.size());
+        recovered = entries;
+    }
+
+    private void roll() throws IOException {
+        active.flush();
+        active = openSegment();
+    }
+
+    private Segment openSegment() throws IOException {
+        Path file = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, nextSegmentIndex++, SEGMENT_SUFFIX));
+        Segment segment = new Segment(file, segmentSize);
+        segments.addLast(segment);
+        return segment;
+    }
+
+    private void releaseDoneSegments() {
+        while (segments.size() > 1 && segments.peekFirst() != active && segments.peekFirst().live.get() == 0) {
+            Segment done = segments.pollFirst();
+            done.close();
+            try {
+                Files.deleteIfExists(done.file);
+            } catch (IOException e) {
+                log.warn("Cannot delete outbox segment {}: {}", done.file, e.getMessage());
+            }
+        }
+    }
+
+    private void flushLoop() {
+        while (!closed) {
+            LockSupport.parkNanos(flushIntervalNanos);
+            Segment[] dirty;
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                dirty = segments.stream().filter(Segment::isDirty).toArray(Segment[]::new);
+            } finally {
+                lock.unlock();
+            }
+            for (Segment segment : dirty) {
+                segment.flush();
+            }
+        }
+    }
+
+    private static long segmentIndex(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    public static final class Entry {
+
+        private final Segment segment;
+        private final long sequence;
+
+        private Entry(Segment segment, long sequence) {
+            this.segment = segment;
+            this.sequence = sequence;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+    }
+
+    private static final class Segment {
+
+        private final Path file;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final AtomicInteger live = new AtomicInteger();
+        private final CRC32C crc = new CRC32C();
+        private int position;
+        private volatile int written;
+        private int flushed;
+
+        Segment(Path file, int size) throws IOException {
+            this.file = file;
+            this.channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+
+        void write(byte type, long sequence, byte[] payload) {
+            int start = position;
+            buffer.put(start + 8, type);
+            buffer.putLong(start + 9, sequence);
+            buffer.put(start + RECORD_HEADER, payload);
+            crc.reset();
+            crc.update(buffer.slice(start + 8, 9 + payload.length));
+            buffer.putInt(start + 4, (int) crc.getValue());
+            buffer.putInt(start, payload.length + 1);
+            position = start + RECORD_HEADER + payload.length;
+            written = position;
+        }
+
+        void scan(RecordConsumer consumer) {
+            int cursor = 0;
+            CRC32C check = new CRC32C();
+            while (cursor + RECORD_HEADER <= buffer.capacity()) {
+                int length = buffer.getInt(cursor) - 1;
+                if (length < 0 || cursor + RECORD_HEADER + length > buffer.capacity()) {
+                    break;
+                }
+                check.reset();
+                check.update(buffer.slice(cursor + 8, 9 + length));
+                if ((int) check.getValue() != buffer.getInt(cursor + 4)) {
+                    log.warn("Outbox segment {} has a torn record at offset {}, ignoring the rest", file, cursor);
+                    break;
+                }
+                byte type = buffer.get(cursor + 8);
+                long sequence = buffer.getLong(cursor + 9);
+                byte[] payload = new byte[length];
+                buffer.get(cursor + RECORD_HEADER, payload);
+                consumer.accept(type, sequence, payload);
+                cursor += RECORD_HEADER + length;
+            }
+            position = buffer.capacity();
+            written = position;
+            flushed = position;
+        }
+
+        boolean isDirty() {
+            return written > flushed;
+        }
+
+        void flush() {
+            int upTo = written;
+            synchronized (this) {
+                if (upTo > flushed) {
+                    buffer.force(flushed, upTo - flushed);
+                    flushed = upTo;
+                }
+            }
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Cannot close outbox segment {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    private interface RecordConsumer {
+        void accept(byte type, long sequence, byte[] payload);
+    }
+}
@@ -0,0 +1,29 @@
+package com.pinapp.messaging.application.outbox;
+
+import com.pinapp.messaging.application.codec.BinaryNotificationCodec;
+import com.pinapp.messaging.application.codec.NotificationCodec;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Builder
+@Getter
+public class OutboxPolicy {
+
+    private final Path directory;
+
+    @Builder.Default
+    private final int segmentSize = 64 * 1024 * 1024;
+
+    @Builder.Default
+    private final Duration flushInterval = Duration.ofMillis(5);
+
+    @Builder.Default
+    private final NotificationCodec codec = new BinaryNotificationCodec();
+
+    public static OutboxPolicy of(Path directory) {
+        return OutboxPolicy.builder().directory(directory).build();
+    }
+}
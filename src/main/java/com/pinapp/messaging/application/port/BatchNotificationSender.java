@@ -0,0 +1,13 @@
+package com.pinapp.messaging.application.port;
+
+import com.pinapp.messaging.domain.Notification;
+import com.pinapp.messaging.domain.NotificationResult;
+
+import java.util.List;
+
+public interface BatchNotificationSender<T extends Notification> extends NotificationSender<T> {
+
+    List<NotificationResult> sendBatch(List<T> notifications);
+
+    int getMaxBatchSize();
+}
@@ -3,11 +3,26 @@ package com.pinapp.messaging.application.port;
 import com.pinapp.messaging.domain.Notification;
 import com.pinapp.messaging.domain.NotificationResult;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 public interface NotificationSender<T extends Notification> {
 
     NotificationResult send(T notification);
 
+    default CompletionStage<NotificationResult> sendAsync(T notification) {
+        try {
+            return CompletableFuture.completedFuture(send(notification));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     Class<T> getNotificationType();
 
     String getProviderName();
+
+    default String getAccountId() {
+        return null;
+    }
 }
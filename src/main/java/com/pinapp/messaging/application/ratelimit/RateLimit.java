@@ -0,0 +1,27 @@
+package com.pinapp.messaging.application.ratelimit;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Builder
+@Getter
+public class RateLimit {
+
+    private final double permitsPerSecond;
+
+    @Builder.Default
+    private final int burst = 1;
+
+    @Builder.Default
+    private final Duration maxWait = Duration.ofSeconds(5);
+
+    public static RateLimit of(double permitsPerSecond) {
+        return RateLimit.builder().permitsPerSecond(permitsPerSecond).build();
+    }
+
+    public static RateLimit of(double permitsPerSecond, int burst) {
+        return RateLimit.builder().permitsPerSecond(permitsPerSecond).burst(burst).build();
+    }
+}
@@ -0,0 +1,259 @@
+package com.pinapp.messaging.application.ratelimit;
+
+import com.pinapp.messaging.application.exception.CircuitOpenException;
+import com.pinapp.messaging.application.exception.ProviderException;
+import com.pinapp.messaging.application.exception.RateLimitExceededException;
+import com.pinapp.messaging.application.port.NotificationSender;
+import com.pinapp.messaging.domain.Notification;
+import com.pinapp.messaging.domain.NotificationResult;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+public class RateLimitedSender<T extends Notification> implements NotificationSender<T> {
+
+    private static final Executor HANDOFF = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("pinapp-rate-limit-", 0).factory());
+
+    private final NotificationSender<T> delegate;
+    private final TokenBucket bucket;
+    private final long maxWaitNanos;
+
+    public RateLimitedSender(NotificationSender<T> delegate, TokenBucket bucket, RateLimit rateLimit) {
+        this.delegate = delegate;
+        this.bucket = bucket;
+        this.maxWaitNanos = rateLimit.getMaxWait().toNanos();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T extends Notification> RateLimitedSender<T> find(NotificationSender<T> sender) {
+        return sender instanceof RateLimitedSender<?> limited ? (RateLimitedSender<T>) limited : null;
+    }
+
+    public static <T extends Notification> NotificationSender<T> withReservation(
+            NotificationSender<T> sender,
+            Reservation reservation
+    ) {
+        if (sender instanceof RateLimitedSender<T> limited) {
+            return limited.bind(reservation);
+        }
+        return sender;
+    }
+
+    @Override
+    public NotificationResult send(T notification) {
+        return send(notification, reserveOrThrow());
+    }
+
+    @Override
+    public CompletionStage<NotificationResult> sendAsync(T notification) {
+        Reservation reservation = reservePermit();
+        if (reservation == null) {
+            return CompletableFuture.failedFuture(exceeded());
+        }
+        return sendAsync(notification, reservation);
+    }
+
+    public NotificationResult send(T notification, Reservation reservation) {
+        reservation.await();
+        if (!reservation.use()) {
+            throw new CancellationException("Rate limit reservation of " + getProviderName() + " was cancelled");
+        }
+        try {
+            return delegate.send(notification);
+        } catch (CircuitOpenException e) {
+            reservation.refund();
+            throw e;
+        }
+    }
+
+    public CompletionStage<NotificationResult> sendAsync(T notification, Reservation reservation) {
+        long wait = reservation.remainingNanos();
+        if (wait == 0) {
+            if (!reservation.use()) {
+                return CompletableFuture.failedFuture(new CancellationException(
+                        "Rate limit reservation of " + getProviderName() + " was cancelled"));
+            }
+            return call(notification, reservation);
+        }
+
+        CompletableFuture<NotificationResult> promise = new CompletableFuture<>();
+        promise.whenComplete((result, error) -> reservation.cancel());
+        CompletableFuture.delayedExecutor(wait, TimeUnit.NANOSECONDS, HANDOFF).execute(() -> {
+            if (promise.isDone() || !reservation.use()) {
+                return;
+            }
+            try {
+                CompletionStage<NotificationResult> stage = call(notification, reservation);
+                stage.whenComplete((result, error) -> {
+                    if (error != null) {
+                        promise.completeExceptionally(error);
+                    } else {
+                        promise.complete(result);
+                    }
+                });
+                promise.whenComplete((result, error) -> {
+                    if (promise.isCancelled() && stage instanceof Future<?> future) {
+                        future.cancel(true);
+                    }
+                });
+            } catch (RuntimeException e) {
+                promise.completeExceptionally(e);
+            }
+        });
+        return promise;
+    }
+
+    public Reservation reservePermit() {
+        return reserve(maxWaitNanos);
+    }
+
+    public Reservation tryReservePermit() {
+        return reserve(0);
+    }
+
+    @Override
+    public Class<T> getNotificationType() {
+        return delegate.getNotificationType();
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+
+    @Override
+    public String getAccountId() {
+        return delegate.getAccountId();
+    }
+
+    public NotificationSender<T> getDelegate() {
+        return delegate;
+    }
+
+    private Reservation reserve(long maxWait) {
+        long arrival = bucket.claim(maxWait);
+        return arrival == TokenBucket.NO_PERMIT ? null : new Reservation(bucket, arrival, getProviderName());
+    }
+
+    private Reservation reserveOrThrow() {
+        Reservation reservation = reservePermit();
+        if (reservation == null) {
+            throw exceeded();
+        }
+        return reservation;
+    }
+
+    private CompletionStage<NotificationResult> call(T notification, Reservation reservation) {
+        CompletionStage<NotificationResult> stage;
+        try {
+            stage = delegate.sendAsync(notification);
+        } catch (CircuitOpenException e) {
+            reservation.refund();
+            throw e;
+        }
+        stage.whenComplete((result, error) -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause()
+                    : error;
+            if (cause instanceof CircuitOpenException) {
+                reservation.refund();
+            }
+        });
+        return stage;
+    }
+
+    private RateLimitExceededException exceeded() {
+        return new RateLimitExceededException(getProviderName(),
+                "Rate limit of " + getProviderName() + " exceeded: no permit within " + maxWaitNanos / 1_000_000 + "ms");
+    }
+
+    private NotificationSender<T> bind(Reservation reservation) {
+        RateLimitedSender<T> limited = this;
+        return new NotificationSender<>() {
+            @Override
+            public NotificationResult send(T notification) {
+                return limited.send(notification, reservation);
+            }
+
+            @Override
+            public CompletionStage<NotificationResult> sendAsync(T notification) {
+                return limited.sendAsync(notification, reservation);
+            }
+
+            @Override
+            public Class<T> getNotificationType() {
+                return limited.getNotificationType();
+            }
+
+            @Override
+            public String getProviderName() {
+                return limited.getProviderName();
+            }
+
+            @Override
+            public String getAccountId() {
+                return limited.getAccountId();
+            }
+        };
+    }
+
+    public static final class Reservation {
+
+        private static final int PENDING = 0;
+        private static final int USED = 1;
+        private static final int CANCELLED = 2;
+
+        private final TokenBucket bucket;
+        private final long arrival;
+        private final String providerName;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        private Reservation(TokenBucket bucket, long arrival, String providerName) {
+            this.bucket = bucket;
+            this.arrival = arrival;
+            this.providerName = providerName;
+        }
+
+        public long remainingNanos() {
+            return Math.max(0, bucket.readyAt(arrival) - System.nanoTime());
+        }
+
+        public void cancel() {
+            if (state.compareAndSet(PENDING, CANCELLED)) {
+                bucket.release(arrival);
+            }
+        }
+
+        private void refund() {
+            if (state.compareAndSet(USED, CANCELLED)) {
+                bucket.release(arrival);
+            }
+        }
+
+        private boolean use() {
+            return state.compareAndSet(PENDING, USED);
+        }
+
+        private void await() {
+            long remaining = remainingNanos();
+            while (remaining > 0) {
+                LockSupport.parkNanos(this, remaining);
+                if (Thread.currentThread().isInterrupted()) {
+                    cancel();
+                    throw new ProviderException(providerName,
+                            "Interrupted while waiting for a rate limit permit of " + providerName);
+                }
+                remaining = remainingNanos();
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.pinapp.messaging.application.ratelimit;
+
+import com.pinapp.messaging.application.exception.ConfigurationException;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TokenBucket {
+
+    static final long NO_PERMIT = Long.MIN_VALUE;
+
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(RateLimit rateLimit) {
+        if (rateLimit.getPermitsPerSecond() <= 0 || rateLimit.getBurst() <= 0) {
+            throw new ConfigurationException("Rate limit permits per second and burst must be greater than zero");
+        }
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / rateLimit.getPermitsPerSecond()));
+        this.burstToleranceNanos = intervalNanos * (rateLimit.getBurst() - 1);
+        this.theoreticalArrival = new AtomicLong(System.nanoTime());
+    }
+
+    public long reserve(long maxWaitNanos) {
+        long arrival = claim(maxWaitNanos);
+        return arrival == NO_PERMIT ? -1 : Math.max(0, readyAt(arrival) - System.nanoTime());
+    }
+
+    public boolean tryAcquire() {
+        return reserve(0) == 0;
+    }
+
+    long claim(long maxWaitNanos) {
+        long now = System.nanoTime();
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long base = arrival - now > 0 ? arrival : now;
+            long wait = Math.max(0, base - burstToleranceNanos - now);
+            if (wait > maxWaitNanos) {
+                return NO_PERMIT;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, base + intervalNanos)) {
+                return base + intervalNanos;
+            }
+        }
+    }
+
+    long readyAt(long arrival) {
+        return arrival - intervalNanos - burstToleranceNanos;
+    }
+
+    void release(long arrival) {
+        theoreticalArrival.compareAndSet(arrival, arrival - intervalNanos);
+    }
+}
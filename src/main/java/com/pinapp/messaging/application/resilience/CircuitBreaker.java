@@ -0,0 +1,178 @@
+package com.pinapp.messaging.application.resilience;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    private final String name;
+    private final CircuitBreakerConfig config;
+    private final CircuitBreakerListener listener;
+    private final long slowCallNanos;
+    private final long waitInOpenNanos;
+
+    private final byte[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int failedCount;
+    private int slowCount;
+
+    private volatile CircuitState state = CircuitState.CLOSED;
+    private long openedAt;
+    private final AtomicInteger halfOpenPermits = new AtomicInteger();
+    private int halfOpenRecorded;
+    private int halfOpenFailed;
+
+    public CircuitBreaker(String name, CircuitBreakerConfig config, CircuitBreakerListener listener) {
+        this.name = name;
+        this.config = config;
+        this.listener = listener;
+        this.slowCallNanos = config.getSlowCallDuration().toNanos();
+        this.waitInOpenNanos = config.getWaitDurationInOpenState().toNanos();
+        this.window = new byte[config.getSlidingWindowSize()];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CircuitState getState() {
+        return state;
+    }
+
+    public boolean tryAcquirePermission() {
+        CircuitState current = state;
+        if (current == CircuitState.CLOSED) {
+            return true;
+        }
+        if (current == CircuitState.OPEN) {
+            Transition changed = null;
+            synchronized (this) {
+                if (state == CircuitState.OPEN && System.nanoTime() - openedAt >= waitInOpenNanos) {
+                    changed = transition(CircuitState.HALF_OPEN, "wait duration elapsed, probing");
+                } else if (state == CircuitState.OPEN) {
+                    return false;
+                }
+            }
+            notifyListener(changed);
+        }
+        if (state == CircuitState.HALF_OPEN) {
+            return halfOpenPermits.getAndUpdate(p -> p > 0 ? p - 1 : 0) > 0;
+        }
+        return state == CircuitState.CLOSED;
+    }
+
+    public void releasePermission() {
+        if (state == CircuitState.HALF_OPEN) {
+            halfOpenPermits.incrementAndGet();
+        }
+    }
+
+    public void onResult(boolean success, long durationNanos) {
+        boolean failed = !success;
+        boolean slow = durationNanos >= slowCallNanos;
+
+        Transition changed = null;
+        synchronized (this) {
+            if (state == CircuitState.HALF_OPEN) {
+                changed = recordProbe(failed || slow);
+            } else if (state == CircuitState.CLOSED) {
+                changed = recordClosed(failed, slow);
+            }
+        }
+        notifyListener(changed);
+    }
+
+    private Transition recordClosed(boolean failed, boolean slow) {
+        if (windowCount == window.length) {
+            byte evicted = window[windowIndex];
+            failedCount -= evicted & FAILED;
+            slowCount -= (evicted & SLOW) >> 1;
+        } else {
+            windowCount++;
+        }
+        byte outcome = (byte) ((failed ? FAILED : 0) | (slow ? SLOW : 0));
+        window[windowIndex] = outcome;
+        failedCount += failed ? 1 : 0;
+        slowCount += slow ? 1 : 0;
+        windowIndex = (windowIndex + 1) % window.length;
+
+        if (windowCount < config.getMinimumCalls()) {
+            return null;
+        }
+        double failureRate = failedCount * 100.0 / windowCount;
+        double slowRate = slowCount * 100.0 / windowCount;
+        if (failureRate >= config.getFailureRateThreshold()) {
+            return open(String.format(Locale.ROOT, "failure rate %.1f%% over %d calls", failureRate, windowCount));
+        }
+        if (slowRate >= config.getSlowCallRateThreshold()) {
+            return open(String.format(Locale.ROOT, "slow call rate %.1f%% over %d calls", slowRate, windowCount));
+        }
+        return null;
+    }
+
+    private Transition recordProbe(boolean failed) {
+        halfOpenRecorded++;
+        if (failed) {
+            halfOpenFailed++;
+        }
+        int permitted = config.getPermittedCallsInHalfOpenState();
+        if (halfOpenRecorded < permitted) {
+            return null;
+        }
+        double failureRate = halfOpenFailed * 100.0 / halfOpenRecorded;
+        if (failureRate >= config.getFailureRateThreshold()) {
+            return open(String.format(Locale.ROOT, "%d of %d probes failed", halfOpenFailed, halfOpenRecorded));
+        }
+        resetWindow();
+        return transition(CircuitState.CLOSED, String.format(Locale.ROOT,
+                "%d of %d probes succeeded", halfOpenRecorded - halfOpenFailed, halfOpenRecorded));
+    }
+
+    private Transition open(String reason) {
+        openedAt = System.nanoTime();
+        resetWindow();
+        return transition(CircuitState.OPEN, reason);
+    }
+
+    private void resetWindow() {
+        windowIndex = 0;
+        windowCount = 0;
+        failedCount = 0;
+        slowCount = 0;
+    }
+
+    private Transition transition(CircuitState to, String reason) {
+        CircuitState from = state;
+        if (to == CircuitState.HALF_OPEN) {
+            halfOpenRecorded = 0;
+            halfOpenFailed = 0;
+            halfOpenPermits.set(config.getPermittedCallsInHalfOpenState());
+        }
+        state = to;
+        log.warn("Circuit breaker {} {} -> {}: {}", name, from, to, reason);
+        return new Transition(from, to, reason);
+    }
+
+    private void notifyListener(Transition transition) {
+        if (transition == null || listener == null) {
+            return;
+        }
+        try {
+            listener.onStateTransition(name, transition.from(), transition.to(), transition.reason());
+        } catch (Exception e) {
+            log.error("Circuit breaker listener failed: {}", e.getMessage());
+        }
+    }
+
+    private record Transition(CircuitState from, CircuitState to, String reason) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.pinapp.messaging.application.resilience;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Builder
+@Getter
+public class CircuitBreakerConfig {
+
+    @Builder.Default
+    private final int slidingWindowSize = 100;
+
+    @Builder.Default
+    private final int minimumCalls = 20;
+
+    @Builder.Default
+    private final double failureRateThreshold = 50.0;
+
+    @Builder.Default
+    private final double slowCallRateThreshold = 80.0;
+
+    @Builder.Default
+    private final Duration slowCallDuration = Duration.ofSeconds(5);
+
+    @Builder.Default
+    private final Duration waitDurationInOpenState = Duration.ofSeconds(30);
+
+    @Builder.Default
+    private final int permittedCallsInHalfOpenState = 3;
+
+    public static CircuitBreakerConfig defaults() {
+        return CircuitBreakerConfig.builder().build();
+    }
+}
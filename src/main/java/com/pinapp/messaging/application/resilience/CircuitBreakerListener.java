@@ -0,0 +1,6 @@
+package com.pinapp.messaging.application.resilience;
+
+public interface CircuitBreakerListener {
+
+    void onStateTransition(String name, CircuitState from, CircuitState to, String reason);
+}
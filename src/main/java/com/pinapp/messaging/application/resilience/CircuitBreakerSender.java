@@ -0,0 +1,92 @@
+package com.pinapp.messaging.application.resilience;
+
+import com.pinapp.messaging.application.exception.CircuitOpenException;
+import com.pinapp.messaging.application.exception.RateLimitExceededException;
+import com.pinapp.messaging.application.port.NotificationSender;
+import com.pinapp.messaging.domain.Notification;
+import com.pinapp.messaging.domain.NotificationResult;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+public class CircuitBreakerSender<T extends Notification> implements NotificationSender<T> {
+
+    private final NotificationSender<T> delegate;
+    private final CircuitBreaker circuitBreaker;
+
+    public CircuitBreakerSender(NotificationSender<T> delegate, CircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public NotificationResult send(T notification) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new CircuitOpenException(delegate.getProviderName());
+        }
+        long start = System.nanoTime();
+        try {
+            NotificationResult result = delegate.send(notification);
+            circuitBreaker.onResult(result != null && result.isSuccess(), System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException | Error e) {
+            record(e, start);
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletionStage<NotificationResult> sendAsync(T notification) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(new CircuitOpenException(delegate.getProviderName()));
+        }
+        long start = System.nanoTime();
+        CompletionStage<NotificationResult> stage;
+        try {
+            stage = delegate.sendAsync(notification);
+        } catch (RuntimeException e) {
+            record(e, start);
+            throw e;
+        }
+        return stage.whenComplete((result, error) -> {
+            if (error != null) {
+                record(error, start);
+            } else {
+                circuitBreaker.onResult(result != null && result.isSuccess(), System.nanoTime() - start);
+            }
+        });
+    }
+
+    @Override
+    public Class<T> getNotificationType() {
+        return delegate.getNotificationType();
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+
+    @Override
+    public String getAccountId() {
+        return delegate.getAccountId();
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public NotificationSender<T> getDelegate() {
+        return delegate;
+    }
+
+    private void record(Throwable error, long start) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof RateLimitExceededException) {
+            circuitBreaker.releasePermission();
+        } else {
+            circuitBreaker.onResult(false, System.nanoTime() - start);
+        }
+    }
+}
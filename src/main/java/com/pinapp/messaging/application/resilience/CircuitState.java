@@ -0,0 +1,7 @@
+package com.pinapp.messaging.application.resilience;
+
+public enum CircuitState {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+}
@@ -0,0 +1,63 @@
+package com.pinapp.messaging.application.retry;
+
+import com.pinapp.messaging.application.exception.ConfigurationException;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class RetryBudget {
+
+    private static final int BUCKETS = 10;
+
+    private final double retryRatio;
+    private final long minRetriesPerWindow;
+    private final long bucketNanos;
+
+    private final AtomicLongArray epochs = new AtomicLongArray(BUCKETS);
+    private final AtomicLongArray requests = new AtomicLongArray(BUCKETS);
+    private final AtomicLongArray retries = new AtomicLongArray(BUCKETS);
+
+    public RetryBudget(RetryBudgetPolicy policy) {
+        if (policy.getRetryRatio() < 0 || policy.getMinRetriesPerSecond() < 0
+                || policy.getWindow().isZero() || policy.getWindow().isNegative()) {
+            throw new ConfigurationException("Retry budget ratio and minimum must be non-negative and window positive");
+        }
+        this.retryRatio = policy.getRetryRatio();
+        this.minRetriesPerWindow = (long) Math.ceil(policy.getMinRetriesPerSecond() * policy.getWindow().toNanos() / 1e9);
+        this.bucketNanos = Math.max(1, policy.getWindow().toNanos() / BUCKETS);
+    }
+
+    public void recordRequest() {
+        requests.incrementAndGet(bucket(System.nanoTime()));
+    }
+
+    public boolean tryAcquireRetry() {
+        long now = System.nanoTime();
+        int current = bucket(now);
+        long epoch = now / bucketNanos;
+
+        long totalRequests = 0;
+        long totalRetries = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            if (epoch - epochs.get(i) < BUCKETS) {
+                totalRequests += requests.get(i);
+                totalRetries += retries.get(i);
+            }
+        }
+        if (totalRetries >= minRetriesPerWindow + (long) (totalRequests * retryRatio)) {
+            return false;
+        }
+        retries.incrementAndGet(current);
+        return true;
+    }
+
+    private int bucket(long now) {
+        long epoch = now / bucketNanos;
+        int index = (int) Math.floorMod(epoch, BUCKETS);
+        long seen = epochs.get(index);
+        if (seen != epoch && epochs.compareAndSet(index, seen, epoch)) {
+            requests.set(index, 0);
+            retries.set(index, 0);
+        }
+        return index;
+    }
+}
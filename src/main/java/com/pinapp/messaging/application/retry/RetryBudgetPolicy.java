@@ -0,0 +1,27 @@
+package com.pinapp.messaging.application.retry;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Builder
+@Getter
+public class RetryBudgetPolicy {
+
+    @Builder.Default
+    private final double retryRatio = 0.1;
+
+    @Builder.Default
+    private final int minRetriesPerSecond = 10;
+
+    @Builder.Default
+    private final Duration window = Duration.ofSeconds(10);
+
+    @Builder.Default
+    private final boolean perProvider = false;
+
+    public static RetryBudgetPolicy of(double retryRatio) {
+        return RetryBudgetPolicy.builder().retryRatio(retryRatio).build();
+    }
+}
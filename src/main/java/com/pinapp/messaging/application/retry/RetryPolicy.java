@@ -1,9 +1,18 @@
 package com.pinapp.messaging.application.retry;
 
+import com.pinapp.messaging.application.exception.ConfigurationException;
+import com.pinapp.messaging.application.exception.ProviderException;
+import com.pinapp.messaging.application.exception.ValidationException;
+import com.pinapp.messaging.domain.NotificationResult;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.Singular;
 
-@Builder
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+@Builder(toBuilder = true)
 @Getter
 public class RetryPolicy {
 
@@ -16,6 +25,48 @@ public class RetryPolicy {
     @Builder.Default
     private final double backoffMultiplier = 1.0;
 
+    @Builder.Default
+    private final long maxDelayMillis = Long.MAX_VALUE;
+
+    @Builder.Default
+    private final double jitter = 0.0;
+
+    @Singular
+    private final Set<Class<? extends Throwable>> retryOnExceptions;
+
+    @Singular
+    private final Set<Class<? extends Throwable>> abortOnExceptions;
+
+    @Singular
+    private final Set<String> abortOnErrorCodes;
+
+    private final Predicate<NotificationResult> retryOnResult;
+
+    RetryPolicy(
+            int maxAttempts,
+            long delayMillis,
+            double backoffMultiplier,
+            long maxDelayMillis,
+            double jitter,
+            Set<Class<? extends Throwable>> retryOnExceptions,
+            Set<Class<? extends Throwable>> abortOnExceptions,
+            Set<String> abortOnErrorCodes,
+            Predicate<NotificationResult> retryOnResult
+    ) {
+        if (!(jitter >= 0 && jitter <= 1)) {
+            throw new ConfigurationException("Retry jitter must be between 0 and 1, got " + jitter);
+        }
+        this.maxAttempts = maxAttempts;
+        this.delayMillis = delayMillis;
+        this.backoffMultiplier = backoffMultiplier;
+        this.maxDelayMillis = maxDelayMillis;
+        this.jitter = jitter;
+        this.retryOnExceptions = retryOnExceptions;
+        this.abortOnExceptions = abortOnExceptions;
+        this.abortOnErrorCodes = abortOnErrorCodes;
+        this.retryOnResult = retryOnResult;
+    }
+
     public static RetryPolicy none() {
         return RetryPolicy.builder().maxAttempts(1).build();
     }
@@ -36,9 +87,47 @@ public class RetryPolicy {
     }
 
     public long getDelayForAttempt(int attempt) {
-        if (attempt <= 1) {
-            return delayMillis;
+        double delay = attempt <= 1 ? delayMillis : delayMillis * Math.pow(backoffMultiplier, attempt - 1);
+        delay = Math.min(delay, maxDelayMillis);
+        if (jitter > 0) {
+            delay = delay * (1 - jitter + ThreadLocalRandom.current().nextDouble() * 2 * jitter);
+        }
+        return (long) Math.min(Math.max(delay, 0), maxDelayMillis);
+    }
+
+    public boolean isRetryable(Throwable error) {
+        if (error instanceof ValidationException || error instanceof ConfigurationException) {
+            return false;
+        }
+        if (error instanceof ProviderException provider
+                && provider.getErrorCode() != null
+                && abortOnErrorCodes.contains(provider.getErrorCode())) {
+            return false;
+        }
+        if (matches(abortOnExceptions, error)) {
+            return false;
+        }
+        return retryOnExceptions.isEmpty() || matches(retryOnExceptions, error);
+    }
+
+    public boolean isRetryable(NotificationResult result) {
+        if (result.getErrorCode() != null && abortOnErrorCodes.contains(result.getErrorCode())) {
+            return false;
+        }
+        return retryOnResult == null || retryOnResult.test(result);
+    }
+
+    private static boolean matches(Set<Class<? extends Throwable>> types, Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            for (Class<? extends Throwable> type : types) {
+                if (type.isInstance(current)) {
+                    return true;
+                }
+            }
+            if (current.getCause() == current) {
+                break;
+            }
         }
-        return (long) (delayMillis * Math.pow(backoffMultiplier, attempt - 1));
+        return false;
     }
 }
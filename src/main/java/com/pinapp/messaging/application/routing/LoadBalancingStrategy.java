@@ -0,0 +1,7 @@
+package com.pinapp.messaging.application.routing;
+
+public enum LoadBalancingStrategy {
+    WEIGHTED_ROUND_ROBIN,
+    LEAST_OUTSTANDING,
+    EWMA_POWER_OF_TWO
+}
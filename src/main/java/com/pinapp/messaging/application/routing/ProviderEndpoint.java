@@ -0,0 +1,135 @@
+package com.pinapp.messaging.application.routing;
+
+import com.pinapp.messaging.application.exception.ProviderException;
+import com.pinapp.messaging.application.port.NotificationSender;
+import com.pinapp.messaging.application.ratelimit.RateLimitedSender;
+import com.pinapp.messaging.domain.Notification;
+import com.pinapp.messaging.domain.NotificationResult;
+import lombok.Getter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ProviderEndpoint<T extends Notification> {
+
+    private static final double DECAY_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final long FAILURE_PENALTY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    @Getter
+    private final NotificationSender<T> sender;
+    @Getter
+    private final int weight;
+
+    @Getter
+    private final RateLimitedSender<T> rateLimiter;
+
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private double ewmaNanos;
+    private long lastUpdate = System.nanoTime();
+
+    public ProviderEndpoint(NotificationSender<T> sender, int weight) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Weight must be greater than zero");
+        }
+        this.sender = sender;
+        this.weight = weight;
+        this.rateLimiter = RateLimitedSender.find(sender);
+    }
+
+    public NotificationResult send(T notification) {
+        return send(notification, null);
+    }
+
+    public NotificationResult send(T notification, RateLimitedSender.Reservation permit) {
+        outstanding.incrementAndGet();
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            NotificationResult result = target(permit).send(notification);
+            success = result != null && result.isSuccess();
+            return result;
+        } finally {
+            complete(start, success);
+            release(permit);
+        }
+    }
+
+    public CompletionStage<NotificationResult> sendAsync(T notification) {
+        return sendAsync(notification, null);
+    }
+
+    public CompletionStage<NotificationResult> sendAsync(T notification, RateLimitedSender.Reservation permit) {
+        outstanding.incrementAndGet();
+        long start = System.nanoTime();
+        CompletionStage<NotificationResult> stage;
+        try {
+            stage = target(permit).sendAsync(notification);
+        } catch (RuntimeException e) {
+            complete(start, false);
+            release(permit);
+            throw e;
+        }
+        if (stage == null) {
+            stage = CompletableFuture.failedFuture(
+                    new ProviderException(getProviderName(), "Provider returned no result"));
+        }
+        return stage.whenComplete((result, error) -> {
+            complete(start, error == null && result != null && result.isSuccess());
+            release(permit);
+        });
+    }
+
+    public String getProviderName() {
+        return sender.getProviderName();
+    }
+
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    public synchronized double getLatencyEwmaMillis() {
+        return decayed(System.nanoTime()) / 1_000_000.0;
+    }
+
+    double cost() {
+        double latency;
+        synchronized (this) {
+            latency = decayed(System.nanoTime());
+        }
+        return (latency + 1) * (outstanding.get() + 1);
+    }
+
+    private void complete(long start, boolean success) {
+        long elapsed = System.nanoTime() - start;
+        record(success ? elapsed : Math.max(elapsed, FAILURE_PENALTY_NANOS));
+        outstanding.decrementAndGet();
+    }
+
+    private synchronized void record(long sampleNanos) {
+        long now = System.nanoTime();
+        double current = decayed(now);
+        if (sampleNanos > current) {
+            ewmaNanos = sampleNanos;
+        } else {
+            double weightOfHistory = Math.exp(-(now - lastUpdate) / DECAY_NANOS);
+            ewmaNanos = current * weightOfHistory + sampleNanos * (1 - weightOfHistory);
+        }
+        lastUpdate = now;
+    }
+
+    private double decayed(long now) {
+        return ewmaNanos * Math.exp(-(now - lastUpdate) / DECAY_NANOS);
+    }
+
+    private NotificationSender<T> target(RateLimitedSender.Reservation permit) {
+        return permit != null ? RateLimitedSender.withReservation(sender, permit) : sender;
+    }
+
+    private static void release(RateLimitedSender.Reservation permit) {
+        if (permit != null) {
+            permit.cancel();
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.pinapp.messaging.application.routing;
+
+import com.pinapp.messaging.application.exception.CircuitOpenException;
+import com.pinapp.messaging.application.exception.ConfigurationException;
+import com.pinapp.messaging.application.exception.ProviderException;
+import com.pinapp.messaging.application.port.NotificationSender;
+import com.pinapp.messaging.application.ratelimit.RateLimitedSender;
+import com.pinapp.messaging.domain.Notification;
+import com.pinapp.messaging.domain.NotificationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+public class RoutedSender<T extends Notification> implements NotificationSender<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(RoutedSender.class);
+
+    private final Class<T> notificationType;
+    private final LoadBalancingStrategy strategy;
+    private final List<ProviderEndpoint<T>> endpoints;
+    private final int[] schedule;
+    private final String providerName;
+    private final AtomicLong cursor = new AtomicLong();
+
+    private RoutedSender(Class<T> notificationType, LoadBalancingStrategy strategy, List<ProviderEndpoint<T>> endpoints) {
+        if (endpoints.isEmpty()) {
+            throw new ConfigurationException("At least one " + notificationType.getSimpleName() + " sender is required");
+        }
+        this.notificationType = notificationType;
+        this.strategy = strategy;
+        this.endpoints = List.copyOf(endpoints);
+        this.schedule = smoothWeightedSchedule(this.endpoints);
+        this.providerName = this.endpoints.stream()
+                .map(ProviderEndpoint::getProviderName)
+                .collect(Collectors.joining(",", "Routed[", "]"));
+    }
+
+    public static <T extends Notification> Builder<T> builder(Class<T> notificationType) {
+        return new Builder<>(notificationType);
+    }
+
+    public static <T extends Notification> RoutedSender<T> of(
+            LoadBalancingStrategy strategy,
+            List<? extends NotificationSender<T>> senders
+    ) {
+        if (senders.isEmpty()) {
+            throw new ConfigurationException("At least one sender is required");
+        }
+        Builder<T> builder = builder(senders.get(0).getNotificationType()).strategy(strategy);
+        senders.forEach(builder::add);
+        return builder.build();
+    }
+
+    @Override
+    public NotificationResult send(T notification) {
+        int first = select();
+        NotificationResult lastResult = null;
+        RuntimeException lastException = null;
+        CircuitOpenException circuitOpen = null;
+
+        for (int i = 0; i < endpoints.size(); i++) {
+            ProviderEndpoint<T> endpoint = endpoints.get((first + i) % endpoints.size());
+            RateLimitedSender.Reservation permit = null;
+            if (i + 1 < endpoints.size() && endpoint.getRateLimiter() != null) {
+                permit = endpoint.getRateLimiter().tryReservePermit();
+                if (permit == null) {
+                    continue;
+                }
+            }
+            try {
+                NotificationResult result = endpoint.send(notification, permit);
+                if (result == null) {
+                    throw noResult(endpoint);
+                }
+                if (result.isSuccess()) {
+                    return result;
+                }
+                lastResult = result;
+                lastException = null;
+            } catch (CircuitOpenException e) {
+                circuitOpen = e;
+                continue;
+            } catch (RuntimeException e) {
+                lastException = e;
+            }
+            if (i + 1 < endpoints.size()) {
+                log.warn("Provider {} failed, failing over: {}", endpoint.getProviderName(),
+                        lastException != null ? lastException.getMessage() : lastResult.getErrorMessage());
+            }
+        }
+
+        return outcome(lastResult, lastException, circuitOpen);
+    }
+
+    @Override
+    public CompletionStage<NotificationResult> sendAsync(T notification) {
+        CompletableFuture<NotificationResult> promise = new CompletableFuture<>();
+        sendAsync(notification, select(), 0, new Failover(), promise);
+        return promise;
+    }
+
+    private void sendAsync(T notification, int first, int from, Failover failover,
+                           CompletableFuture<NotificationResult> promise) {
+        for (int i = from; i < endpoints.size(); i++) {
+            ProviderEndpoint<T> endpoint = endpoints.get((first + i) % endpoints.size());
+            RateLimitedSender.Reservation permit = null;
+            if (i + 1 < endpoints.size() && endpoint.getRateLimiter() != null) {
+                permit = endpoint.getRateLimiter().tryReservePermit();
+                if (permit == null) {
+                    continue;
+                }
+            }
+            CompletionStage<NotificationResult> stage;
+            try {
+                stage = endpoint.sendAsync(notification, permit);
+            } catch (CircuitOpenException e) {
+                failover.circuitOpen = e;
+                continue;
+            } catch (RuntimeException e) {
+                stage = CompletableFuture.failedFuture(e);
+            }
+            if (stage == null) {
+                stage = CompletableFuture.failedFuture(noResult(endpoint));
+            }
+
+            int next = i + 1;
+            stage.whenComplete((result, error) -> {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error;
+                if (cause == null && result == null) {
+                    cause = noResult(endpoint);
+                }
+                if (cause instanceof CircuitOpenException open) {
+                    failover.circuitOpen = open;
+                } else if (cause != null) {
+                    failover.lastResult = null;
+                    failover.lastException = cause instanceof RuntimeException runtime
+                            ? runtime
+                            : new ProviderException(providerName, cause.getMessage(), cause);
+                } else if (result.isSuccess()) {
+                    promise.complete(result);
+                    return;
+                } else {
+                    failover.lastResult = result;
+                    failover.lastException = null;
+                }
+                if (!(cause instanceof CircuitOpenException) && next < endpoints.size()) {
+                    log.warn("Provider {} failed, failing over: {}", endpoint.getProviderName(),
+                            failover.lastException != null
+                                    ? failover.lastException.getMessage()
+                                    : failover.lastResult.getErrorMessage());
+                }
+                sendAsync(notification, first, next, failover, promise);
+            });
+            return;
+        }
+
+        try {
+            promise.complete(outcome(failover.lastResult, failover.lastException, failover.circuitOpen));
+        } catch (RuntimeException e) {
+            promise.completeExceptionally(e);
+        }
+    }
+
+    private static ProviderException noResult(ProviderEndpoint<?> endpoint) {
+        return new ProviderException(endpoint.getProviderName(), "Provider returned no result");
+    }
+
+    private NotificationResult outcome(
+            NotificationResult lastResult,
+            RuntimeException lastException,
+            CircuitOpenException circuitOpen
+    ) {
+        if (lastResult == null && lastException == null) {
+            throw circuitOpen;
+        }
+        if (lastException != null) {
+            throw lastException instanceof ProviderException
+                    ? lastException
+                    : new ProviderException(providerName, lastException.getMessage(), lastException);
+        }
+        return lastResult;
+    }
+
+    @Override
+    public Class<T> getNotificationType() {
+        return notificationType;
+    }
+
+    @Override
+    public String getProviderName() {
+        return providerName;
+    }
+
+    public LoadBalancingStrategy getStrategy() {
+        return strategy;
+    }
+
+    public List<ProviderEndpoint<T>> getEndpoints() {
+        return endpoints;
+    }
+
+    public RoutedSender<T> mapSenders(UnaryOperator<NotificationSender<T>> decorator) {
+        Builder<T> builder = builder(notificationType).strategy(strategy);
+        endpoints.forEach(endpoint -> builder.add(decorator.apply(endpoint.getSender()), endpoint.getWeight()));
+        return builder.build();
+    }
+
+    private int select() {
+        int size = endpoints.size();
+        if (size == 1) {
+            return 0;
+        }
+        return switch (strategy) {
+            case WEIGHTED_ROUND_ROBIN -> schedule[(int) (cursor.getAndIncrement() % schedule.length)];
+            case LEAST_OUTSTANDING -> leastOutstanding();
+            case EWMA_POWER_OF_TWO -> powerOfTwoChoices();
+        };
+    }
+
+    private int leastOutstanding() {
+        int size = endpoints.size();
+        int start = (int) (cursor.getAndIncrement() % size);
+        int best = start;
+        int bestOutstanding = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            int index = (start + i) % size;
+            int outstanding = endpoints.get(index).getOutstanding();
+            if (outstanding < bestOutstanding) {
+                best = index;
+                bestOutstanding = outstanding;
+            }
+        }
+        return best;
+    }
+
+    private int powerOfTwoChoices() {
+        int size = endpoints.size();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int a = random.nextInt(size);
+        int b = random.nextInt(size - 1);
+        if (b >= a) {
+            b++;
+        }
+        return endpoints.get(a).cost() <= endpoints.get(b).cost() ? a : b;
+    }
+
+    private static int[] smoothWeightedSchedule(List<? extends ProviderEndpoint<?>> endpoints) {
+        int total = endpoints.stream().mapToInt(ProviderEndpoint::getWeight).sum();
+        int[] current = new int[endpoints.size()];
+        int[] schedule = new int[total];
+        for (int slot = 0; slot < total; slot++) {
+            int best = 0;
+            for (int i = 0; i < endpoints.size(); i++) {
+                current[i] += endpoints.get(i).getWeight();
+                if (current[i] > current[best]) {
+                    best = i;
+                }
+            }
+            current[best] -= total;
+            schedule[slot] = best;
+        }
+        return schedule;
+    }
+
+    private static final class Failover {
+
+        private NotificationResult lastResult;
+        private RuntimeException lastException;
+        private CircuitOpenException circuitOpen;
+    }
+
+    public static class Builder<T extends Notification> {
+
+        private final Class<T> notificationType;
+        private final List<ProviderEndpoint<T>> endpoints = new ArrayList<>();
+        private LoadBalancingStrategy strategy = LoadBalancingStrategy.WEIGHTED_ROUND_ROBIN;
+
+        private Builder(Class<T> notificationType) {
+            this.notificationType = notificationType;
+        }
+
+        public Builder<T> strategy(LoadBalancingStrategy strategy) {
+            this.strategy = strategy;
+            return this;
+        }
+
+        public Builder<T> add(NotificationSender<T> sender) {
+            return add(sender, 1);
+        }
+
+        public Builder<T> add(NotificationSender<T> sender, int weight) {
+            endpoints.add(new ProviderEndpoint<>(sender, weight));
+            return this;
+        }
+
+        public RoutedSender<T> build() {
+            return new RoutedSender<>(notificationType, strategy, endpoints);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.pinapp.messaging.application.scheduling;
+
+import com.pinapp.messaging.domain.NotificationPriority;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+import java.util.Map;
+
+@Builder
+@Getter
+public class LanePolicy {
+
+    private static final Map<NotificationPriority, Integer> DEFAULT_WEIGHTS = Map.of(
+            NotificationPriority.HIGH, 8,
+            NotificationPriority.NORMAL, 4,
+            NotificationPriority.LOW, 1);
+
+    @Builder.Default
+    private final int maxConcurrency = 64;
+
+    @Singular
+    private final Map<NotificationPriority, Integer> weights;
+
+    public static LanePolicy of(int maxConcurrency) {
+        return LanePolicy.builder().maxConcurrency(maxConcurrency).build();
+    }
+
+    public int getWeight(NotificationPriority priority) {
+        Integer weight = weights.get(priority);
+        return weight != null ? weight : DEFAULT_WEIGHTS.getOrDefault(priority, 1);
+    }
+}
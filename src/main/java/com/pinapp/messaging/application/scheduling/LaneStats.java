@@ -0,0 +1,19 @@
+package com.pinapp.messaging.application.scheduling;
+
+import com.pinapp.messaging.domain.NotificationPriority;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Builder
+@Getter
+public class LaneStats {
+
+    private final NotificationPriority priority;
+    private final int queueDepth;
+    private final long dispatched;
+    private final Duration averageWait;
+    private final Duration p99Wait;
+    private final Duration maxWait;
+}
@@ -0,0 +1,151 @@
+package com.pinapp.messaging.application.scheduling;
+
+import com.pinapp.messaging.application.codec.NotificationCodec;
+import com.pinapp.messaging.application.exception.ClientClosedException;
+import com.pinapp.messaging.application.exception.ConfigurationException;
+import com.pinapp.messaging.domain.Notification;
+import com.pinapp.messaging.domain.NotificationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+public class NotificationScheduler implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationScheduler.class);
+
+    private final TimingWheel<ScheduledNotification> wheel;
+    private final Function<Notification, CompletableFuture<NotificationResult>> dispatcher;
+    private final NotificationCodec codec;
+    private final ScheduleJournal journal;
+    private final ExecutorService handoff =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("pinapp-scheduler-dispatch-", 0).factory());
+
+    public NotificationScheduler(
+            SchedulerPolicy policy,
+            Function<Notification, CompletableFuture<NotificationResult>> dispatcher
+    ) {
+        this(policy, policy.getCodec(), dispatcher);
+    }
+
+    public NotificationScheduler(
+            SchedulerPolicy policy,
+            NotificationCodec codec,
+            Function<Notification, CompletableFuture<NotificationResult>> dispatcher
+    ) {
+        this.wheel = new TimingWheel<>("pinapp-scheduler", policy.getTick(), policy.getWheelSize(), this::handOff);
+        this.dispatcher = dispatcher;
+        this.codec = codec;
+
+        if (policy.getPersistencePath() == null) {
+            this.journal = null;
+            return;
+        }
+        try {
+            this.journal = new ScheduleJournal(policy.getPersistencePath());
+        } catch (IOException e) {
+            throw new ConfigurationException("Cannot open schedule journal " + policy.getPersistencePath()
+                    + ": " + e.getMessage());
+        }
+        Map<Long, ScheduleJournal.Entry> recovered = journal.takeRecovered();
+        for (Map.Entry<Long, ScheduleJournal.Entry> entry : recovered.entrySet()) {
+            Notification notification = codec.decode(entry.getValue().payload());
+            Instant scheduledAt = Instant.ofEpochMilli(entry.getValue().dueAtMillis());
+            enqueue(new ScheduledNotification(this, notification, scheduledAt, entry.getKey()));
+        }
+        if (!recovered.isEmpty()) {
+            log.info("Recovered {} scheduled notifications from {}", recovered.size(), policy.getPersistencePath());
+        }
+    }
+
+    public ScheduledNotification schedule(Notification notification, Instant scheduledAt) {
+        long sequence = journal != null
+                ? journal.append(scheduledAt.toEpochMilli(), codec.encode(notification))
+                : 0;
+        return enqueue(new ScheduledNotification(this, notification, scheduledAt, sequence));
+    }
+
+    public int getPendingCount() {
+        return wheel.size();
+    }
+
+    public List<String> shutdown() {
+        List<ScheduledNotification> unsent = wheel.stop();
+        handoff.shutdown();
+        for (ScheduledNotification scheduled : unsent) {
+            scheduled.getResult().completeExceptionally(new ClientClosedException(journal != null
+                    ? "Client shut down; notification kept in the schedule journal"
+                    : "Scheduled send abandoned: client shut down before it was due"));
+        }
+        if (journal != null) {
+            return List.of();
+        }
+        return unsent.stream()
+                .map(scheduled -> String.valueOf(scheduled.getNotification().getId()))
+                .toList();
+    }
+
+    @Override
+    public void close() {
+        shutdown();
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    boolean cancel(ScheduledNotification scheduled) {
+        if (!scheduled.getTimeout().cancel()) {
+            return false;
+        }
+        if (journal != null) {
+            journal.markDone(scheduled.getSequence());
+        }
+        scheduled.getResult().cancel(false);
+        return true;
+    }
+
+    private ScheduledNotification enqueue(ScheduledNotification scheduled) {
+        scheduled.setTimeout(wheel.schedule(scheduled, scheduled.getScheduledAt()));
+        return scheduled;
+    }
+
+    private void handOff(ScheduledNotification scheduled) {
+        try {
+            handoff.execute(() -> dispatch(scheduled));
+        } catch (RejectedExecutionException e) {
+            scheduled.getResult().completeExceptionally(
+                    new ClientClosedException("Scheduled send abandoned: client shut down before it was due"));
+        }
+    }
+
+    private void dispatch(ScheduledNotification scheduled) {
+        CompletableFuture<NotificationResult> sent;
+        try {
+            sent = dispatcher.apply(scheduled.getNotification());
+        } catch (Throwable t) {
+            sent = CompletableFuture.failedFuture(t);
+        }
+        sent.whenComplete((result, error) -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause()
+                    : error;
+            if (journal != null && !(cause instanceof ClientClosedException)) {
+                journal.markDone(scheduled.getSequence());
+            }
+            if (cause != null) {
+                scheduled.getResult().completeExceptionally(cause);
+            } else {
+                scheduled.getResult().complete(result);
+            }
+        });
+    }
+}
@@ -0,0 +1,238 @@
+package com.pinapp.messaging.application.scheduling;
+
+import com.pinapp.messaging.application.exception.ConfigurationException;
+import com.pinapp.messaging.domain.NotificationPriority;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class PriorityLaneScheduler {
+
+    private static final NotificationPriority[] LANES = NotificationPriority.values();
+    private static final int TOP_LANE = 0;
+    private static final CompletionStage<Void> DONE = CompletableFuture.completedFuture(null);
+
+    private final int maxConcurrency;
+    private final int[] weights;
+    private final int[] credits;
+    private final ArrayDeque<Task>[] queues;
+    private final LaneMetrics[] metrics;
+    private final ReentrantLock lock = new ReentrantLock();
+    private int running;
+
+    @SuppressWarnings("unchecked")
+    public PriorityLaneScheduler(LanePolicy policy) {
+        if (policy.getMaxConcurrency() <= 0) {
+            throw new ConfigurationException("Lane maxConcurrency must be greater than zero");
+        }
+        this.maxConcurrency = policy.getMaxConcurrency();
+        this.weights = new int[LANES.length];
+        this.credits = new int[LANES.length];
+        this.queues = new ArrayDeque[LANES.length];
+        this.metrics = new LaneMetrics[LANES.length];
+        for (NotificationPriority lane : LANES) {
+            int weight = policy.getWeight(lane);
+            if (weight <= 0) {
+                throw new ConfigurationException("Lane weight for " + lane + " must be greater than zero");
+            }
+            weights[lane.ordinal()] = weight;
+            queues[lane.ordinal()] = new ArrayDeque<>();
+            metrics[lane.ordinal()] = new LaneMetrics();
+        }
+    }
+
+    public void execute(
+            NotificationPriority priority,
+            Executor target,
+            Runnable task,
+            Consumer<RejectedExecutionException> onRejected
+    ) {
+        executeAsync(priority, target, () -> {
+            task.run();
+            return DONE;
+        }, onRejected);
+    }
+
+    public void executeAsync(
+            NotificationPriority priority,
+            Executor target,
+            Supplier<? extends CompletionStage<?>> task,
+            Consumer<RejectedExecutionException> onRejected
+    ) {
+        int lane = priority != null ? priority.ordinal() : NotificationPriority.NORMAL.ordinal();
+        lock.lock();
+        try {
+            queues[lane].addLast(new Task(lane, target, task, onRejected, System.nanoTime()));
+        } finally {
+            lock.unlock();
+        }
+        drain();
+    }
+
+    public List<LaneStats> getStats() {
+        List<LaneStats> stats = new ArrayList<>(LANES.length);
+        lock.lock();
+        try {
+            for (NotificationPriority lane : LANES) {
+                stats.add(metrics[lane.ordinal()].snapshot(lane, queues[lane.ordinal()].size()));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return stats;
+    }
+
+    public LaneStats getStats(NotificationPriority priority) {
+        lock.lock();
+        try {
+            return metrics[priority.ordinal()].snapshot(priority, queues[priority.ordinal()].size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getRunning() {
+        lock.lock();
+        try {
+            return running;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            Task next;
+            lock.lock();
+            try {
+                if (running >= maxConcurrency || (next = pollNext()) == null) {
+                    return;
+                }
+                running++;
+                metrics[next.lane].record(System.nanoTime() - next.enqueuedAt);
+            } finally {
+                lock.unlock();
+            }
+            dispatch(next);
+        }
+    }
+
+    private void dispatch(Task next) {
+        try {
+            next.target.execute(() -> {
+                CompletionStage<?> stage;
+                try {
+                    stage = next.task.get();
+                } catch (RuntimeException | Error e) {
+                    release();
+                    throw e;
+                }
+                if (stage == null) {
+                    release();
+                } else {
+                    stage.whenComplete((result, error) -> release());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            lock.lock();
+            try {
+                running--;
+            } finally {
+                lock.unlock();
+            }
+            next.onRejected.accept(e);
+        }
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            running--;
+        } finally {
+            lock.unlock();
+        }
+        drain();
+    }
+
+    private Task pollNext() {
+        if (!queues[TOP_LANE].isEmpty()) {
+            return queues[TOP_LANE].pollFirst();
+        }
+
+        int best = -1;
+        int totalWeight = 0;
+        for (int lane = TOP_LANE + 1; lane < queues.length; lane++) {
+            if (queues[lane].isEmpty()) {
+                credits[lane] = 0;
+                continue;
+            }
+            credits[lane] += weights[lane];
+            totalWeight += weights[lane];
+            if (best < 0 || credits[lane] > credits[best]) {
+                best = lane;
+            }
+        }
+        if (best < 0) {
+            return null;
+        }
+        credits[best] -= totalWeight;
+        return queues[best].pollFirst();
+    }
+
+    private record Task(
+            int lane,
+            Executor target,
+            Supplier<? extends CompletionStage<?>> task,
+            Consumer<RejectedExecutionException> onRejected,
+            long enqueuedAt
+    ) {
+    }
+
+    private static final class LaneMetrics {
+
+        private final long[] waitHistogram = new long[64];
+        private long dispatched;
+        private long totalWaitNanos;
+        private long maxWaitNanos;
+
+        void record(long waitNanos) {
+            waitHistogram[(64 - Long.numberOfLeadingZeros(Math.max(waitNanos, 0))) & 63]++;
+            dispatched++;
+            totalWaitNanos += waitNanos;
+            maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+        }
+
+        LaneStats snapshot(NotificationPriority priority, int queueDepth) {
+            return LaneStats.builder()
+                    .priority(priority)
+                    .queueDepth(queueDepth)
+                    .dispatched(dispatched)
+                    .averageWait(Duration.ofNanos(dispatched > 0 ? totalWaitNanos / dispatched : 0))
+                    .p99Wait(Duration.ofNanos(percentile(0.99)))
+                    .maxWait(Duration.ofNanos(maxWaitNanos))
+                    .build();
+        }
+
+        private long percentile(double quantile) {
+            long target = (long) Math.ceil(dispatched * quantile);
+            long seen = 0;
+            for (int bucket = 0; bucket < waitHistogram.length; bucket++) {
+                seen += waitHistogram[bucket];
+                if (seen >= target && seen > 0) {
+                    long upperBound = bucket == 0 ? 0 : (1L << bucket) - 1;
+                    return Math.min(upperBound, maxWaitNanos);
+                }
+            }
+            return 0;
+        }
+    }
+}
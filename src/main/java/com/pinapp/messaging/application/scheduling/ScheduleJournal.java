@@ -0,0 +1,131 @@
+package com.pinapp.messaging.application.scheduling;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+class ScheduleJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduleJournal.class);
+
+    private static final byte SCHEDULED = 1;
+    private static final byte DONE = 2;
+
+    private final Path path;
+    private Map<Long, Entry> recovered;
+    private FileChannel channel;
+    private long nextSequence;
+    private long doneRecords;
+
+    ScheduleJournal(Path path) throws IOException {
+        this.path = path;
+        this.recovered = read(path);
+        this.nextSequence = recovered.keySet().stream().mapToLong(Long::longValue).max().orElse(0) + 1;
+        rewrite(recovered);
+    }
+
+    Map<Long, Entry> takeRecovered() {
+        Map<Long, Entry> entries = recovered;
+        recovered = Map.of();
+        return entries;
+    }
+
+    synchronized long append(long dueAtMillis, byte[] payload) {
+        long sequence = nextSequence++;
+        ByteBuffer record = ByteBuffer.allocate(1 + 8 + 8 + 4 + payload.length);
+        record.put(SCHEDULED).putLong(sequence).putLong(dueAtMillis).putInt(payload.length).put(payload).flip();
+        write(record);
+        return sequence;
+    }
+
+    synchronized void markDone(long sequence) {
+        ByteBuffer record = ByteBuffer.allocate(1 + 8);
+        record.put(DONE).putLong(sequence).flip();
+        write(record);
+        doneRecords++;
+    }
+
+    synchronized void close() {
+        try {
+            if (doneRecords > 0) {
+                channel.close();
+                rewrite(read(path));
+            }
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close schedule journal {}: {}", path, e.getMessage());
+        }
+    }
+
+    private void write(ByteBuffer record) {
+        try {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+        } catch (IOException e) {
+            log.error("Failed to write schedule journal {}: {}", path, e.getMessage());
+        }
+    }
+
+    private void rewrite(Map<Long, Entry> live) throws IOException {
+        Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+        try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (Map.Entry<Long, Entry> entry : live.entrySet()) {
+                byte[] payload = entry.getValue().payload();
+                ByteBuffer record = ByteBuffer.allocate(1 + 8 + 8 + 4 + payload.length);
+                record.put(SCHEDULED).putLong(entry.getKey()).putLong(entry.getValue().dueAtMillis())
+                        .putInt(payload.length).put(payload).flip();
+                while (record.hasRemaining()) {
+                    out.write(record);
+                }
+            }
+            out.force(true);
+        }
+        Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        this.channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.doneRecords = 0;
+    }
+
+    private static Map<Long, Entry> read(Path path) throws IOException {
+        Map<Long, Entry> live = new LinkedHashMap<>();
+        if (!Files.exists(path)) {
+            return live;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            while (true) {
+                byte type = in.readByte();
+                long sequence = in.readLong();
+                if (type == SCHEDULED) {
+                    long dueAtMillis = in.readLong();
+                    byte[] payload = new byte[in.readInt()];
+                    in.readFully(payload);
+                    live.put(sequence, new Entry(dueAtMillis, payload));
+                } else if (type == DONE) {
+                    live.remove(sequence);
+                } else {
+                    log.warn("Schedule journal {} has an unknown record type {}, ignoring the rest", path, type);
+                    break;
+                }
+            }
+        } catch (EOFException e) {
+            log.debug("Schedule journal {} read up to its end", path);
+        }
+        return live;
+    }
+
+    record Entry(long dueAtMillis, byte[] payload) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.pinapp.messaging.application.scheduling;
+
+import com.pinapp.messaging.domain.Notification;
+import com.pinapp.messaging.domain.NotificationResult;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+public class ScheduledNotification {
+
+    private final NotificationScheduler scheduler;
+    private final Notification notification;
+    private final Instant scheduledAt;
+    private final long sequence;
+    private final CompletableFuture<NotificationResult> result = new CompletableFuture<>();
+    private TimingWheel.Timeout<ScheduledNotification> timeout;
+
+    ScheduledNotification(NotificationScheduler scheduler, Notification notification, Instant scheduledAt, long sequence) {
+        this.scheduler = scheduler;
+        this.notification = notification;
+        this.scheduledAt = scheduledAt;
+        this.sequence = sequence;
+    }
+
+    public Notification getNotification() {
+        return notification;
+    }
+
+    public Instant getScheduledAt() {
+        return scheduledAt;
+    }
+
+    public CompletableFuture<NotificationResult> getResult() {
+        return result;
+    }
+
+    public boolean cancel() {
+        return scheduler.cancel(this);
+    }
+
+    public boolean isCancelled() {
+        return timeout.isCancelled();
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    TimingWheel.Timeout<ScheduledNotification> getTimeout() {
+        return timeout;
+    }
+
+    void setTimeout(TimingWheel.Timeout<ScheduledNotification> timeout) {
+        this.timeout = timeout;
+    }
+}
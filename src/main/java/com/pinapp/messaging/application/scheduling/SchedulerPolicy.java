@@ -0,0 +1,33 @@
+package com.pinapp.messaging.application.scheduling;
+
+import com.pinapp.messaging.application.codec.BinaryNotificationCodec;
+import com.pinapp.messaging.application.codec.NotificationCodec;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Builder
+@Getter
+public class SchedulerPolicy {
+
+    @Builder.Default
+    private final Duration tick = Duration.ofMillis(100);
+
+    @Builder.Default
+    private final int wheelSize = 256;
+
+    private final Path persistencePath;
+
+    @Builder.Default
+    private final NotificationCodec codec = new BinaryNotificationCodec();
+
+    public static SchedulerPolicy inMemory() {
+        return SchedulerPolicy.builder().build();
+    }
+
+    public static SchedulerPolicy durable(Path persistencePath) {
+        return SchedulerPolicy.builder().persistencePath(persistencePath).build();
+    }
+}
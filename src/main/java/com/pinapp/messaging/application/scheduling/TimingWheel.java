@@ -0,0 +1,287 @@
+package com.pinapp.messaging.application.scheduling;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+public class TimingWheel<T> implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(TimingWheel.class);
+
+    private static final int LEVELS = 4;
+
+    private static final int STATE_INIT = 0;
+    private static final int STATE_STARTED = 1;
+    private static final int STATE_STOPPED = 2;
+
+    private final long tickMillis;
+    private final int bits;
+    private final int mask;
+    private final Timeout<T>[][] slots;
+    private final Consumer<T> onExpire;
+    private final Queue<Timeout<T>> pending = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout<T>> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+    private final Thread worker;
+
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(String name, Duration tick, int wheelSize, Consumer<T> onExpire) {
+        if (tick.toMillis() <= 0 || wheelSize < 2 || wheelSize > 1 << 15 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("tick must be at least 1ms and wheelSize a power of two up to 32768");
+        }
+        this.tickMillis = tick.toMillis();
+        this.bits = Integer.numberOfTrailingZeros(wheelSize);
+        this.mask = wheelSize - 1;
+        this.slots = new Timeout[LEVELS][wheelSize];
+        this.onExpire = onExpire;
+        this.currentTick = System.currentTimeMillis() / tickMillis;
+        this.worker = Thread.ofPlatform().name(name).daemon().unstarted(this::run);
+    }
+
+    public Timeout<T> schedule(T item, Instant dueAt) {
+        start();
+        long dueMillis = dueAt.toEpochMilli();
+        Timeout<T> timeout = new Timeout<>(this, item, (dueMillis + tickMillis - 1) / tickMillis);
+        size.incrementAndGet();
+        pending.add(timeout);
+        return timeout;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public List<T> stop() {
+        if (state.getAndSet(STATE_STOPPED) == STATE_STARTED) {
+            LockSupport.unpark(worker);
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        List<T> unexpired = new ArrayList<>(size.get());
+        for (Timeout<T>[] level : slots) {
+            for (Timeout<T> head : level) {
+                for (Timeout<T> timeout = head; timeout != null; timeout = timeout.next) {
+                    if (timeout.state == Timeout.PENDING) {
+                        unexpired.add(timeout.item);
+                    }
+                }
+            }
+        }
+        for (Timeout<T> timeout : pending) {
+            if (timeout.state == Timeout.PENDING) {
+                unexpired.add(timeout.item);
+            }
+        }
+        return unexpired;
+    }
+
+    @Override
+    public void close() {
+        stop();
+    }
+
+    private void start() {
+        if (state.get() == STATE_INIT && state.compareAndSet(STATE_INIT, STATE_STARTED)) {
+            worker.start();
+        }
+        if (state.get() == STATE_STOPPED) {
+            throw new IllegalStateException("Timing wheel has been stopped");
+        }
+    }
+
+    private void run() {
+        while (state.get() == STATE_STARTED) {
+            long now = System.currentTimeMillis();
+            long target = now / tickMillis;
+            if (currentTick >= target) {
+                transferPending();
+                removeCancelled();
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos((target + 1) * tickMillis - now));
+                continue;
+            }
+            while (currentTick < target && state.get() == STATE_STARTED) {
+                currentTick++;
+                cascade();
+                transferPending();
+                removeCancelled();
+                expire(slots[0], (int) (currentTick & mask));
+            }
+        }
+    }
+
+    private void cascade() {
+        if ((currentTick & mask) != 0) {
+            return;
+        }
+        for (int level = 1; level < LEVELS; level++) {
+            int index = (int) ((currentTick >>> (bits * level)) & mask);
+            Timeout<T> timeout = slots[level][index];
+            slots[level][index] = null;
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                timeout.next = null;
+                timeout.prev = null;
+                timeout.level = -1;
+                if (timeout.state == Timeout.PENDING) {
+                    place(timeout);
+                }
+                timeout = next;
+            }
+            if (index != 0) {
+                return;
+            }
+        }
+    }
+
+    private void transferPending() {
+        Timeout<T> timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.state == Timeout.PENDING) {
+                place(timeout);
+            }
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout<T> timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            unlink(timeout);
+        }
+    }
+
+    private void place(Timeout<T> timeout) {
+        long delta = timeout.dueTick - currentTick;
+        if (delta <= 0) {
+            fire(timeout);
+            return;
+        }
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (bits * (level + 1))) {
+            level++;
+        }
+        long dueTick = Math.min(timeout.dueTick, currentTick + (1L << (bits * LEVELS)) - 1);
+        int index = (int) ((dueTick >>> (bits * level)) & mask);
+
+        Timeout<T> head = slots[level][index];
+        timeout.next = head;
+        timeout.prev = null;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        slots[level][index] = timeout;
+        timeout.level = level;
+        timeout.index = index;
+    }
+
+    private void unlink(Timeout<T> timeout) {
+        if (timeout.level < 0) {
+            return;
+        }
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            slots[timeout.level][timeout.index] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.next = null;
+        timeout.prev = null;
+        timeout.level = -1;
+    }
+
+    private void expire(Timeout<T>[] level, int index) {
+        Timeout<T> timeout = level[index];
+        level[index] = null;
+        while (timeout != null) {
+            Timeout<T> next = timeout.next;
+            timeout.next = null;
+            timeout.prev = null;
+            timeout.level = -1;
+            fire(timeout);
+            timeout = next;
+        }
+    }
+
+    private void fire(Timeout<T> timeout) {
+        if (!Timeout.STATE.compareAndSet(timeout, Timeout.PENDING, Timeout.EXPIRED)) {
+            return;
+        }
+        size.decrementAndGet();
+        try {
+            onExpire.accept(timeout.item);
+        } catch (Throwable t) {
+            log.warn("Timing wheel task failed: {}", t.getMessage());
+        }
+    }
+
+    public static final class Timeout<T> {
+
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final TimingWheel<T> wheel;
+        private final T item;
+        private final long dueTick;
+        private volatile int state = PENDING;
+
+        private Timeout<T> next;
+        private Timeout<T> prev;
+        private int level = -1;
+        private int index;
+
+        private Timeout(TimingWheel<T> wheel, T item, long dueTick) {
+            this.wheel = wheel;
+            this.item = item;
+            this.dueTick = dueTick;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        public Instant getDueAt() {
+            return Instant.ofEpochMilli(dueTick * wheel.tickMillis);
+        }
+
+        public boolean cancel() {
+            if (!STATE.compareAndSet(this, PENDING, CANCELLED)) {
+                return false;
+            }
+            wheel.size.decrementAndGet();
+            wheel.cancelled.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+    }
+}
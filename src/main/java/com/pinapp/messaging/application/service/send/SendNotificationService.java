@@ -1,45 +1,118 @@
 package com.pinapp.messaging.application.service.send;
 
+import com.pinapp.messaging.application.admission.AdmissionController;
+import com.pinapp.messaging.application.admission.AdmissionPolicy;
+import com.pinapp.messaging.application.channel.ChannelNotificationCodec;
+import com.pinapp.messaging.application.channel.ChannelRegistry;
+import com.pinapp.messaging.application.channel.NotificationChannel;
+import com.pinapp.messaging.application.deadletter.DeadLetter;
+import com.pinapp.messaging.application.deadletter.DeadLetterPolicy;
+import com.pinapp.messaging.application.deadletter.DeadLetterReplay;
+import com.pinapp.messaging.application.deadletter.DeadLetterReplayer;
+import com.pinapp.messaging.application.deadletter.DeadLetterStore;
+import com.pinapp.messaging.application.deadletter.DeliveryAttempt;
+import com.pinapp.messaging.application.deadletter.ReplayReport;
+import com.pinapp.messaging.application.event.EventBus;
+import com.pinapp.messaging.application.event.EventPolicy;
 import com.pinapp.messaging.application.event.EventType;
 import com.pinapp.messaging.application.event.NotificationEvent;
+import com.pinapp.messaging.application.exception.CircuitOpenException;
+import com.pinapp.messaging.application.exception.ClientClosedException;
 import com.pinapp.messaging.application.exception.ConfigurationException;
+import com.pinapp.messaging.application.exception.MessagingException;
+import com.pinapp.messaging.application.exception.ProviderException;
+import com.pinapp.messaging.application.idempotency.IdempotencyCache;
+import com.pinapp.messaging.application.idempotency.IdempotencyPolicy;
+import com.pinapp.messaging.application.lifecycle.ShutdownReport;
+import com.pinapp.messaging.application.outbox.Outbox;
+import com.pinapp.messaging.application.outbox.OutboxPolicy;
 import com.pinapp.messaging.application.port.EventPublisher;
 import com.pinapp.messaging.application.port.NotificationSender;
+import com.pinapp.messaging.application.ratelimit.RateLimitedSender;
+import com.pinapp.messaging.application.retry.RetryBudget;
+import com.pinapp.messaging.application.retry.RetryBudgetPolicy;
 import com.pinapp.messaging.application.retry.RetryPolicy;
+import com.pinapp.messaging.application.scheduling.HashedWheelTimer;
+import com.pinapp.messaging.application.scheduling.LanePolicy;
+import com.pinapp.messaging.application.scheduling.LaneStats;
+import com.pinapp.messaging.application.scheduling.NotificationScheduler;
+import com.pinapp.messaging.application.scheduling.PriorityLaneScheduler;
+import com.pinapp.messaging.application.scheduling.ScheduledNotification;
+import com.pinapp.messaging.application.scheduling.SchedulerPolicy;
 import com.pinapp.messaging.application.service.send.usecase.SendNotificationUseCase;
+import com.pinapp.messaging.application.stream.NotificationStream;
 import com.pinapp.messaging.application.validation.NotificationValidator;
+import com.pinapp.messaging.domain.BulkNotificationResult;
 import com.pinapp.messaging.domain.Notification;
 import com.pinapp.messaging.domain.NotificationResult;
 import com.pinapp.messaging.domain.NotificationStatus;
 import com.pinapp.messaging.domain.email.EmailNotification;
 import com.pinapp.messaging.domain.push.PushNotification;
 import com.pinapp.messaging.domain.sms.SmsNotification;
+import lombok.Builder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 public class SendNotificationService implements SendNotificationUseCase {
 
-    private static final ExecutorService VIRTUAL_EXECUTOR =
-            Executors.newVirtualThreadPerTaskExecutor();
+    public static final int DEFAULT_BULK_PARALLELISM = Runtime.getRuntime().availableProcessors();
+    public static final int DEFAULT_STREAM_MAX_IN_FLIGHT = 256;
 
     private static final Logger log = LoggerFactory.getLogger(SendNotificationService.class);
 
-    private final NotificationSender<EmailNotification> emailSender;
-    private final NotificationSender<SmsNotification> smsSender;
-    private final NotificationSender<PushNotification> pushSender;
-
-    private final NotificationValidator<EmailNotification> emailValidator;
-    private final NotificationValidator<SmsNotification> smsValidator;
-    private final NotificationValidator<PushNotification> pushValidator;
+    private final ChannelRegistry channels;
 
     private final boolean validationEnabled;
     private final RetryPolicy retryPolicy;
     private final EventPublisher eventPublisher;
+    private final EventPolicy eventPolicy;
+    private final int bulkParallelism;
+    private final AdmissionController admissionController;
+    private final IdempotencyCache idempotency;
+    private final RetryBudgetPolicy retryBudgetPolicy;
+    private final RetryBudget retryBudget;
+    private final Map<String, RetryBudget> providerRetryBudgets = new ConcurrentHashMap<>();
+    private final Executor executor;
+    private final boolean ownsExecutor;
+    private final PriorityLaneScheduler lanes;
+    private final NotificationScheduler scheduler;
+    private final Outbox outbox;
+    private final DeadLetterStore deadLetters;
+    private final DeadLetterReplayer deadLetterReplayer;
+
+    private final HashedWheelTimer timer =
+            new HashedWheelTimer("pinapp-retry-timer", 10, TimeUnit.MILLISECONDS, 512);
+    private final ExecutorService timerHandoff =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("pinapp-timer-", 0).factory());
+
+    private final Map<CompletableFuture<?>, Supplier<List<String>>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicBoolean closed = new AtomicBoolean();
 
     public SendNotificationService(
             NotificationSender<EmailNotification> emailSender,
@@ -52,94 +125,849 @@ public class SendNotificationService implements SendNotificationUseCase {
             RetryPolicy retryPolicy,
             EventPublisher eventPublisher
     ) {
-        this.emailSender = emailSender;
-        this.smsSender = smsSender;
-        this.pushSender = pushSender;
-        this.emailValidator = emailValidator;
-        this.smsValidator = smsValidator;
-        this.pushValidator = pushValidator;
+        this(ChannelRegistry.builder()
+                        .register(NotificationChannel.of(EmailNotification.class, emailSender, emailValidator))
+                        .register(NotificationChannel.of(SmsNotification.class, smsSender, smsValidator))
+                        .register(NotificationChannel.of(PushNotification.class, pushSender, pushValidator))
+                        .build(),
+                validationEnabled, retryPolicy, eventPublisher, null,
+                DEFAULT_BULK_PARALLELISM, null, null, false, null, null, null, null, null, null);
+    }
+
+    @Builder
+    private SendNotificationService(
+            ChannelRegistry channels,
+            boolean validationEnabled,
+            RetryPolicy retryPolicy,
+            EventPublisher eventPublisher,
+            EventPolicy eventPolicy,
+            int bulkParallelism,
+            AdmissionPolicy admissionPolicy,
+            Executor executor,
+            boolean ownsExecutor,
+            IdempotencyPolicy idempotencyPolicy,
+            RetryBudgetPolicy retryBudgetPolicy,
+            LanePolicy lanePolicy,
+            SchedulerPolicy schedulerPolicy,
+            OutboxPolicy outboxPolicy,
+            DeadLetterPolicy deadLetterPolicy
+    ) {
+        this.channels = channels != null ? channels : ChannelRegistry.builder().build();
         this.validationEnabled = validationEnabled;
         this.retryPolicy = retryPolicy != null ? retryPolicy : RetryPolicy.none();
         this.eventPublisher = eventPublisher;
+        this.eventPolicy = eventPolicy != null ? eventPolicy : EventPolicy.all();
+        if (this.eventPolicy.getVerbosity() == null
+                || !(this.eventPolicy.getNonTerminalSampleRate() >= 0 && this.eventPolicy.getNonTerminalSampleRate() <= 1)) {
+            throw new ConfigurationException("Event policy needs a verbosity and a sample rate between 0 and 1");
+        }
+        this.bulkParallelism = bulkParallelism > 0 ? bulkParallelism : DEFAULT_BULK_PARALLELISM;
+        this.admissionController = admissionPolicy != null
+                ? new AdmissionController(admissionPolicy, timer, this::handOff)
+                : null;
+        this.executor = executor != null ? executor : Executors.newVirtualThreadPerTaskExecutor();
+        this.ownsExecutor = executor == null || ownsExecutor;
+        this.idempotency = idempotencyPolicy != null ? new IdempotencyCache(idempotencyPolicy) : null;
+        this.retryBudgetPolicy = retryBudgetPolicy;
+        this.retryBudget = retryBudgetPolicy != null ? new RetryBudget(retryBudgetPolicy) : null;
+        this.lanes = lanePolicy != null ? new PriorityLaneScheduler(lanePolicy) : null;
+        this.deadLetters = deadLetterPolicy != null
+                ? new DeadLetterStore(deadLetterPolicy,
+                        new ChannelNotificationCodec(deadLetterPolicy.getCodec(), this.channels))
+                : null;
+        this.deadLetterReplayer = deadLetters != null ? new DeadLetterReplayer(deadLetters, this::sendAsync) : null;
+        this.outbox = outboxPolicy != null
+                ? new Outbox(outboxPolicy, new ChannelNotificationCodec(outboxPolicy.getCodec(), this.channels))
+                : null;
+        SchedulerPolicy schedule = schedulerPolicy != null ? schedulerPolicy : SchedulerPolicy.inMemory();
+        this.scheduler = new NotificationScheduler(schedule,
+                new ChannelNotificationCodec(schedule.getCodec(), this.channels), this::sendAsync);
+        if (outbox != null) {
+            outbox.replay(this::resend);
+        }
     }
 
     @Override
     public <T extends Notification> NotificationResult send(T notification) {
-        if (notification instanceof EmailNotification email) {
-            return sendWithRetry(email, emailSender, emailValidator, "EMAIL");
+        ensureOpen();
+        return sendOnce(channels.resolve(notification), notification);
+    }
+
+    @Override
+    public <T extends Notification> CompletableFuture<NotificationResult> sendAsync(T notification) {
+        NotificationChannel<?> channel;
+        try {
+            ensureOpen();
+            channel = channels.resolve(notification);
+        } catch (MessagingException e) {
+            return CompletableFuture.failedFuture(e);
         }
-        if (notification instanceof SmsNotification sms) {
-            return sendWithRetry(sms, smsSender, smsValidator, "SMS");
+        return sendAsync(channel, notification);
+    }
+
+    private CompletableFuture<NotificationResult> sendAsync(NotificationChannel<?> channel, Notification notification) {
+        if (outbox == null) {
+            return dispatch(channel, notification);
         }
-        if (notification instanceof PushNotification push) {
-            return sendWithRetry(push, pushSender, pushValidator, "PUSH");
+
+        Outbox.Entry entry;
+        try {
+            entry = outbox.append(notification);
+        } catch (MessagingException e) {
+            return CompletableFuture.failedFuture(e);
         }
-        throw new ConfigurationException(
-                "Unsupported notification type: " + notification.getClass().getSimpleName()
-        );
+        return completeInOutbox(entry, dispatch(channel, notification));
     }
 
-    @Override
-    public <T extends Notification> CompletableFuture<NotificationResult> sendAsync(T notification) {
-        return CompletableFuture.supplyAsync(() -> send(notification), VIRTUAL_EXECUTOR);
+    private void resend(Outbox.Entry entry, Notification notification) {
+        CompletableFuture<NotificationResult> future;
+        try {
+            future = dispatch(channels.resolve(notification), notification);
+        } catch (MessagingException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        completeInOutbox(entry, future).whenComplete((result, error) -> {
+            if (error != null) {
+                log.warn("Outbox replay of {} failed: {}", notification.getId(), error.getMessage());
+            }
+        });
     }
 
-    private <T extends Notification> NotificationResult sendWithRetry(
-            T notification,
-            NotificationSender<T> sender,
-            NotificationValidator<T> validator,
-            String typeName
+    private CompletableFuture<NotificationResult> completeInOutbox(
+            Outbox.Entry entry,
+            CompletableFuture<NotificationResult> future
     ) {
-        if (sender == null) {
-            throw new ConfigurationException("No " + typeName.toLowerCase() + " sender configured");
+        return future.whenComplete((result, error) -> {
+            if (!(unwrap(error) instanceof ClientClosedException)) {
+                outbox.markDone(entry);
+            }
+        });
+    }
+
+    private CompletableFuture<NotificationResult> dispatch(NotificationChannel<?> channel, Notification notification) {
+        if (idempotency == null || notification.getId() == null) {
+            return track(admit(channel, notification), () -> List.of(String.valueOf(notification.getId())));
         }
 
-        if (validationEnabled && validator != null) {
-            validator.validate(notification);
+        String id = notification.getId();
+        CompletableFuture<NotificationResult> promise = new CompletableFuture<>();
+        CompletableFuture<NotificationResult> existing = idempotency.claim(id, promise);
+        if (existing != null) {
+            return existing.copy();
+        }
+        NotificationResult cached = idempotency.get(id);
+        if (cached != null) {
+            idempotency.release(id, promise);
+            promise.complete(cached);
+            return promise;
         }
 
-        publishEvent(EventType.SENDING, notification, typeName, 1, null, null, null);
+        admit(channel, notification).whenComplete((result, error) -> {
+            if (result != null && result.isSuccess()) {
+                idempotency.put(id, result);
+            }
+            idempotency.release(id, promise);
+            if (error != null) {
+                promise.completeExceptionally(error);
+            } else {
+                promise.complete(result);
+            }
+        });
+        return track(promise, () -> List.of(id));
+    }
 
-        NotificationResult result = null;
-        Exception lastException = null;
+    @Override
+    public <T extends Notification> ScheduledNotification sendAt(T notification, Instant scheduledAt) {
+        ensureOpen();
+        NotificationChannel<?> channel = channels.resolve(notification);
+        validate(channel, notification);
+        return scheduler.schedule(notification, scheduledAt);
+    }
+
+    @Override
+    public <T extends Notification> ScheduledNotification sendAfter(T notification, Duration delay) {
+        return sendAt(notification, Instant.now().plus(delay));
+    }
+
+    @Override
+    public CompletableFuture<ReplayReport> replayDeadLetters(DeadLetterReplay replay) {
+        try {
+            ensureOpen();
+            if (deadLetterReplayer == null) {
+                throw new ConfigurationException("Dead letters are not enabled; configure a DeadLetterPolicy");
+            }
+            return deadLetterReplayer.replay(replay);
+        } catch (MessagingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    public DeadLetterStore getDeadLetterStore() {
+        return deadLetters;
+    }
+
+    public Outbox getOutbox() {
+        return outbox;
+    }
+
+    public NotificationScheduler getScheduler() {
+        return scheduler;
+    }
+
+    public AdmissionController getAdmissionController() {
+        return admissionController;
+    }
+
+    public List<LaneStats> getLaneStats() {
+        return lanes != null ? lanes.getStats() : List.of();
+    }
+
+    public IdempotencyCache getIdempotencyCache() {
+        return idempotency;
+    }
+
+    @Override
+    public BulkNotificationResult sendAll(Collection<? extends Notification> notifications) {
+        ensureOpen();
+        try {
+            return sendAllAsync(notifications).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<BulkNotificationResult> sendAllAsync(Collection<? extends Notification> notifications) {
+        try {
+            ensureOpen();
+        } catch (ClientClosedException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        List<BulkItem> items = groupByChannel(notifications);
+        if (items.isEmpty()) {
+            return CompletableFuture.completedFuture(BulkNotificationResult.of(List.of()));
+        }
+
+        BulkRun run = new BulkRun(items);
+        int window = Math.min(bulkParallelism, items.size());
+        for (int i = 0; i < window; i++) {
+            pumpBulk(run);
+        }
+        return track(run.future, () -> items.subList(Math.min(run.cursor.get(), items.size()), items.size()).stream()
+                .filter(item -> item.notification() != null)
+                .map(item -> String.valueOf(item.notification().getId()))
+                .toList());
+    }
+
+    @Override
+    public ShutdownReport shutdown(Duration timeout) {
+        if (!closed.compareAndSet(false, true)) {
+            return ShutdownReport.empty();
+        }
+
+        List<String> abandoned = new ArrayList<>(scheduler.shutdown());
+        List<CompletableFuture<?>> pending = new ArrayList<>(inFlight.keySet());
+        log.info("Shutting down: draining {} in-flight sends (timeout {})", pending.size(), timeout);
+
+        try {
+            CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.debug("Drain finished with pending or failed sends: {}", e.getMessage());
+        }
 
-        for (int attempt = 1; attempt <= retryPolicy.getMaxAttempts(); attempt++) {
+        int abandonedFutures = 0;
+        for (Map.Entry<CompletableFuture<?>, Supplier<List<String>>> entry : inFlight.entrySet()) {
+            if (entry.getKey().isDone()) {
+                continue;
+            }
+            abandonedFutures++;
+            abandoned.addAll(entry.getValue().get());
+            entry.getKey().completeExceptionally(
+                    new ClientClosedException("Send abandoned: client shut down before it completed"));
+        }
+
+        timer.stop();
+        timerHandoff.shutdown();
+        if (ownsExecutor && executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+        if (idempotency != null) {
+            idempotency.close();
+        }
+        scheduler.close();
+        if (outbox != null) {
+            outbox.close();
+        }
+        if (deadLetters != null) {
+            deadLetters.close();
+        }
+        if (eventPublisher instanceof EventBus eventBus) {
+            eventBus.close(timeout);
+        }
+
+        if (!abandoned.isEmpty()) {
+            log.warn("Shutdown abandoned {} notifications: {}", abandoned.size(), abandoned);
+        }
+
+        return ShutdownReport.builder()
+                .drained(Math.max(0, pending.size() - abandonedFutures))
+                .abandonedNotificationIds(List.copyOf(abandoned))
+                .build();
+    }
+
+    private void ensureOpen() {
+        if (closed.get()) {
+            throw new ClientClosedException("MessagingClient is closed");
+        }
+    }
+
+    private <R> CompletableFuture<R> track(CompletableFuture<R> future, Supplier<List<String>> pendingIds) {
+        inFlight.put(future, pendingIds);
+        future.whenComplete((result, error) -> inFlight.remove(future));
+        return future;
+    }
+
+    private List<BulkItem> groupByChannel(Collection<? extends Notification> notifications) {
+        Map<Class<?>, List<Integer>> groups = new LinkedHashMap<>();
+        List<Notification> indexed = new ArrayList<>(notifications);
+
+        for (int i = 0; i < indexed.size(); i++) {
+            Notification notification = indexed.get(i);
+            Class<?> key = notification != null ? notification.getClass() : Void.class;
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+        }
+
+        List<BulkItem> items = new ArrayList<>(indexed.size());
+        for (List<Integer> group : groups.values()) {
+            Notification first = indexed.get(group.get(0));
+            NotificationChannel<?> channel = null;
+            String error;
             try {
-                log.info("Sending {} via {} (attempt {}/{})",
-                        typeName, sender.getProviderName(), attempt, retryPolicy.getMaxAttempts());
+                if (first == null) {
+                    error = "Notification cannot be null";
+                } else {
+                    channel = channels.resolve(first);
+                    error = null;
+                }
+            } catch (ConfigurationException e) {
+                error = e.getMessage();
+            }
+            for (int index : group) {
+                items.add(new BulkItem(index, indexed.get(index), channel, error));
+            }
+        }
+        return items;
+    }
+
+    private void pumpBulk(BulkRun run) {
+        int next;
+        while ((next = run.cursor.getAndIncrement()) < run.items.size()) {
+            BulkItem item = run.items.get(next);
+            CompletableFuture<NotificationResult> sent = sendBulkItem(item);
+            if (!sent.isDone()) {
+                sent.whenComplete((result, error) -> {
+                    run.record(item, result, error);
+                    pumpBulk(run);
+                });
+                return;
+            }
+            sent.whenComplete((result, error) -> run.record(item, result, error));
+        }
+    }
+
+    @Override
+    public Flow.Publisher<NotificationResult> stream(Flow.Publisher<? extends Notification> notifications, int maxInFlight) {
+        return new NotificationStream(notifications, this::sendAsync, maxInFlight);
+    }
+
+    private CompletableFuture<NotificationResult> sendBulkItem(BulkItem item) {
+        if (item.channel() == null) {
+            return CompletableFuture.completedFuture(failedResult(item.notification(), item.error()));
+        }
+        try {
+            return sendAsync(item.channel(), item.notification());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 
-                result = sender.send(notification);
+    private CompletableFuture<NotificationResult> admit(NotificationChannel<?> channel, Notification notification) {
+        if (admissionController == null) {
+            return sendWithRetryAsync(channel, notification);
+        }
+        return admissionController.submit(
+                notification.getPriority(),
+                () -> sendWithRetryAsync(channel, notification),
+                () -> sendWithRetry(channel, notification));
+    }
 
+    private NotificationResult sendOnce(NotificationChannel<?> channel, Notification notification) {
+        if (idempotency == null || notification.getId() == null) {
+            return sendWithRetry(channel, notification);
+        }
+
+        String id = notification.getId();
+        CompletableFuture<NotificationResult> promise = new CompletableFuture<>();
+        CompletableFuture<NotificationResult> existing = idempotency.claim(id, promise);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            NotificationResult result = idempotency.get(id);
+            if (result == null) {
+                result = sendWithRetry(channel, notification);
                 if (result.isSuccess()) {
-                    publishEvent(EventType.SUCCESS, notification, typeName, attempt,
-                            null, result.getProviderName(), result.getProviderMessageId());
-                    return result;
+                    idempotency.put(id, result);
                 }
+            }
+            promise.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            promise.completeExceptionally(e);
+            throw e;
+        } finally {
+            idempotency.release(id, promise);
+        }
+    }
+
+    private <T extends Notification> NotificationResult sendWithRetry(
+            NotificationChannel<T> channel,
+            Notification notification
+    ) {
+        Delivery<T> delivery = beginDelivery(channel, notification);
+
+        for (int attempt = 1; ; attempt++) {
+            if (delivery.isExpired()) {
+                return finishExpired(delivery, attempt - 1);
+            }
+            if (tryAttempt(delivery, attempt)) {
+                return delivery.result;
+            }
+            if (delivery.isExpired()) {
+                return finishExpired(delivery, attempt);
+            }
+            long delayMillis = delivery.retryPolicy.getDelayForAttempt(attempt);
+            if (!shouldRetry(delivery, attempt, TimeUnit.MILLISECONDS.toNanos(delayMillis))) {
+                return finishFailed(delivery, attempt);
+            }
+            publishRetrying(delivery, attempt);
+            sleep(delayMillis);
+        }
+    }
+
+    private <T extends Notification> CompletableFuture<NotificationResult> sendWithRetryAsync(
+            NotificationChannel<T> channel,
+            Notification notification
+    ) {
+        CompletableFuture<NotificationResult> promise = new CompletableFuture<>();
+        RateLimitedSender.Reservation permit = isExpired(notification)
+                ? null
+                : reservePermit(channel.getSender(), promise);
+        Runnable firstAttempt = () -> execute(channel, notification, promise,
+                () -> attemptAsync(beginDelivery(channel, notification), 1, permit, promise));
+
+        long permitDelay = permit != null ? permit.remainingNanos() : 0;
+        if (permitDelay > 0) {
+            schedule(firstAttempt, permitDelay);
+        } else {
+            firstAttempt.run();
+        }
+        return promise;
+    }
+
+    private <T extends Notification> CompletionStage<?> attemptAsync(
+            Delivery<T> delivery,
+            int attempt,
+            RateLimitedSender.Reservation permit,
+            CompletableFuture<NotificationResult> promise
+    ) {
+        if (promise.isDone()) {
+            return promise;
+        }
+        if (delivery.isExpired()) {
+            promise.complete(finishExpired(delivery, attempt - 1));
+            return promise;
+        }
+        logAttempt(delivery, attempt);
+        return callProviderAsync(delivery, permit).whenComplete((result, error) -> {
+            try {
+                if (recordOutcome(delivery, attempt, result, error)) {
+                    promise.complete(delivery.result);
+                    return;
+                }
+                if (delivery.isExpired()) {
+                    promise.complete(finishExpired(delivery, attempt));
+                    return;
+                }
+                long retryDelay = TimeUnit.MILLISECONDS.toNanos(delivery.retryPolicy.getDelayForAttempt(attempt));
+                if (!shouldRetry(delivery, attempt, retryDelay)) {
+                    promise.complete(finishFailed(delivery, attempt));
+                    return;
+                }
+                publishRetrying(delivery, attempt);
+                RateLimitedSender.Reservation nextPermit = reservePermit(delivery.sender, promise);
+                schedule(
+                        () -> execute(delivery.channel, delivery.notification, promise,
+                                () -> attemptAsync(delivery, attempt + 1, nextPermit, promise)),
+                        Math.max(retryDelay, nextPermit != null ? nextPermit.remainingNanos() : 0)
+                );
+            } catch (Throwable t) {
+                promise.completeExceptionally(t);
+            }
+        });
+    }
+
+    private <T extends Notification> CompletableFuture<NotificationResult> callProviderAsync(
+            Delivery<T> delivery,
+            RateLimitedSender.Reservation permit
+    ) {
+        CompletableFuture<NotificationResult> call = new CompletableFuture<>();
+        AtomicReference<CompletionStage<NotificationResult>> inFlight = new AtomicReference<>();
+        ProviderCall blocking = null;
+        HashedWheelTimer.Timeout watchdog = null;
+        if (delivery.deadlineNanos != Long.MAX_VALUE) {
+            ProviderCall providerCall = new ProviderCall(Thread.currentThread());
+            watchdog = onTimer(() -> {
+                providerCall.interrupt();
+                handOff(() -> {
+                    cancel(inFlight.get());
+                    call.completeExceptionally(new TimeoutException(
+                            "Deadline exceeded waiting for " + delivery.sender.getProviderName()));
+                });
+            }, delivery.remainingNanos());
+            blocking = providerCall;
+        }
 
-                lastException = new RuntimeException(result.getErrorMessage());
+        NotificationSender<T> sender = permit != null
+                ? RateLimitedSender.withReservation(delivery.sender, permit)
+                : delivery.sender;
+        CompletionStage<NotificationResult> stage;
+        try {
+            stage = sender.sendAsync(delivery.notification);
+        } catch (Exception e) {
+            stage = CompletableFuture.failedFuture(e);
+        } finally {
+            if (blocking != null) {
+                blocking.finish();
+            }
+        }
+        if (stage == null) {
+            stage = CompletableFuture.failedFuture(new ProviderException(delivery.sender.getProviderName(),
+                    "Provider returned no result"));
+        }
 
-            } catch (Exception e) {
-                lastException = e;
-                log.warn("Attempt {}/{} failed: {}", attempt, retryPolicy.getMaxAttempts(), e.getMessage());
+        HashedWheelTimer.Timeout deadline = watchdog;
+        inFlight.set(stage);
+        if (call.isDone()) {
+            cancel(stage);
+        }
+        stage.whenComplete((result, error) -> {
+            if (deadline != null) {
+                deadline.cancel();
+            }
+            if (permit != null) {
+                permit.cancel();
             }
+            if (error != null) {
+                call.completeExceptionally(unwrap(error));
+            } else {
+                call.complete(result);
+            }
+        });
+        return call;
+    }
+
+    private HashedWheelTimer.Timeout schedule(Runnable task, long delayNanos) {
+        return onTimer(() -> handOff(task), delayNanos);
+    }
+
+    private HashedWheelTimer.Timeout onTimer(Runnable task, long delayNanos) {
+        try {
+            return timer.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (IllegalStateException e) {
+            throw new ClientClosedException("MessagingClient is closed");
+        }
+    }
+
+    private void handOff(Runnable task) {
+        try {
+            timerHandoff.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+    }
+
+    private static void cancel(CompletionStage<?> stage) {
+        if (stage instanceof Future<?> future && !future.isDone()) {
+            future.cancel(true);
+        }
+    }
+
+    private static boolean isExpired(Notification notification) {
+        Instant deadline = notification.getDeadline();
+        return deadline != null && !deadline.isAfter(Instant.now());
+    }
+
+    private static RateLimitedSender.Reservation reservePermit(
+            NotificationSender<?> sender,
+            CompletableFuture<?> promise
+    ) {
+        RateLimitedSender<?> limited = RateLimitedSender.find(sender);
+        RateLimitedSender.Reservation permit = limited != null ? limited.reservePermit() : null;
+        if (permit != null) {
+            promise.whenComplete((result, error) -> permit.cancel());
+        }
+        return permit;
+    }
+
+    private Executor executorFor(NotificationChannel<?> channel) {
+        return channel.getExecutor() != null ? channel.getExecutor() : executor;
+    }
+
+    private void execute(
+            NotificationChannel<?> channel,
+            Notification notification,
+            CompletableFuture<?> promise,
+            Supplier<CompletionStage<?>> task
+    ) {
+        Supplier<CompletionStage<?>> guarded = () -> {
+            try {
+                return task.get();
+            } catch (Throwable t) {
+                promise.completeExceptionally(t);
+                return promise;
+            }
+        };
+        if (lanes != null) {
+            lanes.executeAsync(notification.getPriority(), executorFor(channel), guarded,
+                    e -> rejected(promise, e));
+            return;
+        }
+        try {
+            executorFor(channel).execute(guarded::get);
+        } catch (RejectedExecutionException e) {
+            rejected(promise, e);
+        }
+    }
+
+    private static void rejected(CompletableFuture<?> promise, RejectedExecutionException e) {
+        promise.completeExceptionally(new ClientClosedException("Executor rejected the send: " + e.getMessage()));
+    }
+
+    private <T extends Notification> T validate(NotificationChannel<T> channel, Notification notification) {
+        T typed = channel.cast(notification);
+        if (validationEnabled && channel.getValidator() != null) {
+            channel.getValidator().validate(typed);
+        }
+        return typed;
+    }
+
+    private <T extends Notification> Delivery<T> beginDelivery(NotificationChannel<T> channel, Notification notification) {
+        if (channel.getSender() == null) {
+            throw new ConfigurationException("No " + channel.getName().toLowerCase() + " sender configured");
+        }
+
+        T typed = validate(channel, notification);
 
-            if (attempt < retryPolicy.getMaxAttempts()) {
-                publishEvent(EventType.RETRYING, notification, typeName, attempt + 1,
-                        lastException.getMessage(), null, null);
-                sleep(retryPolicy.getDelayForAttempt(attempt));
+        RetryPolicy policy = channel.getRetryPolicy() != null ? channel.getRetryPolicy() : retryPolicy;
+        Delivery<T> delivery = new Delivery<>(typed, channel, policy);
+        if (deadLetters != null || (eventPublisher != null && eventPolicy.isAggregated())) {
+            delivery.attempts = new ArrayList<>(policy.getMaxAttempts());
+        }
+        if (delivery.isExpired()) {
+            return delivery;
+        }
+
+        publishEvent(EventType.SENDING, typed, channel.getName(), 1, null, null, null, null);
+        delivery.retryBudget = retryBudgetFor(delivery.sender);
+        if (delivery.retryBudget != null) {
+            delivery.retryBudget.recordRequest();
+        }
+        return delivery;
+    }
+
+    private <T extends Notification> boolean tryAttempt(Delivery<T> delivery, int attempt) {
+        logAttempt(delivery, attempt);
+        NotificationResult result = null;
+        Exception error = null;
+        try {
+            result = delivery.deadlineNanos == Long.MAX_VALUE
+                    ? delivery.sender.send(delivery.notification)
+                    : sendBeforeDeadline(delivery);
+        } catch (Exception e) {
+            error = e;
+        }
+        return recordOutcome(delivery, attempt, result, error);
+    }
+
+    private void logAttempt(Delivery<?> delivery, int attempt) {
+        log.info("Sending {} via {} (attempt {}/{})",
+                delivery.typeName, delivery.sender.getProviderName(), attempt, delivery.retryPolicy.getMaxAttempts());
+    }
+
+    private boolean recordOutcome(Delivery<?> delivery, int attempt, NotificationResult result, Throwable error) {
+        if (error == null && result == null) {
+            error = new ProviderException(delivery.sender.getProviderName(), "Provider returned no result");
+        }
+        if (error == null) {
+            delivery.result = result;
+            if (result.isSuccess()) {
+                if (eventPolicy.isAggregated()) {
+                    recordAttempt(delivery, attempt, result);
+                }
+                publishEvent(EventType.SUCCESS, delivery.notification, delivery.typeName, attempt,
+                        null, result.getProviderName(), result.getProviderMessageId(), timeline(delivery));
+                return true;
             }
+            delivery.lastException = new RuntimeException(result.getErrorMessage());
+            delivery.retryable = delivery.retryPolicy.isRetryable(result);
+            recordAttempt(delivery, attempt, result);
+            return false;
         }
 
-        String errorMessage = lastException != null ? lastException.getMessage() : "Unknown error";
-        publishEvent(EventType.FAILED, notification, typeName, retryPolicy.getMaxAttempts(),
-                errorMessage, null, null);
+        Throwable cause = unwrap(error);
+        if (cause instanceof Error fatal) {
+            throw fatal;
+        }
+        Exception e = (Exception) cause;
+        delivery.lastException = e;
+        if (e instanceof CircuitOpenException) {
+            delivery.retryable = false;
+            recordAttempt(delivery, attempt, null);
+            log.warn("Attempt {}/{} rejected: {}", attempt, delivery.retryPolicy.getMaxAttempts(), e.getMessage());
+        } else {
+            delivery.retryable = delivery.retryPolicy.isRetryable(e);
+            recordAttempt(delivery, attempt, null);
+            log.warn("Attempt {}/{} failed: {}", attempt, delivery.retryPolicy.getMaxAttempts(), e.getMessage());
+        }
+        return false;
+    }
 
-        if (result != null) {
-            return result;
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private <T extends Notification> NotificationResult sendBeforeDeadline(Delivery<T> delivery) {
+        ProviderCall call = new ProviderCall(Thread.currentThread());
+        HashedWheelTimer.Timeout watchdog = onTimer(call::interrupt, delivery.remainingNanos());
+        try {
+            return delivery.sender.send(delivery.notification);
+        } finally {
+            watchdog.cancel();
+            call.finish();
+        }
+    }
+
+    private boolean shouldRetry(Delivery<?> delivery, int attempt, long delayNanos) {
+        if (!delivery.retryable || attempt >= delivery.retryPolicy.getMaxAttempts()) {
+            return false;
+        }
+        if (delayNanos >= delivery.remainingNanos()) {
+            log.warn("Not retrying {}: next attempt would start after its deadline", delivery.notification.getId());
+            return false;
+        }
+        if (delivery.retryBudget != null && !delivery.retryBudget.tryAcquireRetry()) {
+            log.warn("Retry budget exhausted, not retrying {} after attempt {}", delivery.notification.getId(), attempt);
+            publishEvent(EventType.RETRY_BUDGET_EXHAUSTED, delivery.notification, delivery.typeName, attempt + 1,
+                    delivery.lastException.getMessage(), delivery.sender.getProviderName(), null, null);
+            return false;
+        }
+        return true;
+    }
+
+    private RetryBudget retryBudgetFor(NotificationSender<?> sender) {
+        if (retryBudgetPolicy == null) {
+            return null;
+        }
+        if (!retryBudgetPolicy.isPerProvider()) {
+            return retryBudget;
+        }
+        return providerRetryBudgets.computeIfAbsent(sender.getProviderName(), name -> new RetryBudget(retryBudgetPolicy));
+    }
+
+    private void publishRetrying(Delivery<?> delivery, int attempt) {
+        publishEvent(EventType.RETRYING, delivery.notification, delivery.typeName, attempt + 1,
+                delivery.lastException.getMessage(), null, null, null);
+    }
+
+    private NotificationResult finishFailed(Delivery<?> delivery, int attempts) {
+        String errorMessage = delivery.lastException != null ? delivery.lastException.getMessage() : "Unknown error";
+        publishEvent(EventType.FAILED, delivery.notification, delivery.typeName, attempts,
+                errorMessage, null, null, timeline(delivery));
+        deadLetter(delivery, errorMessage);
+
+        if (delivery.result != null) {
+            return delivery.result;
+        }
+
+        return failedResult(delivery.notification, errorMessage);
+    }
+
+    private void recordAttempt(Delivery<?> delivery, int attempt, NotificationResult result) {
+        if (delivery.attempts == null) {
+            return;
         }
+        delivery.attempts.add(DeliveryAttempt.builder()
+                .attemptNumber(attempt)
+                .providerName(result != null && result.getProviderName() != null
+                        ? result.getProviderName()
+                        : delivery.sender.getProviderName())
+                .errorCode(result != null ? result.getErrorCode() : null)
+                .errorMessage(result != null && result.isSuccess() ? null : delivery.lastException.getMessage())
+                .timestamp(Instant.now())
+                .build());
+    }
+
+    private List<DeliveryAttempt> timeline(Delivery<?> delivery) {
+        return eventPolicy.isAggregated() && delivery.attempts != null ? List.copyOf(delivery.attempts) : null;
+    }
+
+    private void deadLetter(Delivery<?> delivery, String errorMessage) {
+        if (deadLetters == null) {
+            return;
+        }
+        DeliveryAttempt last = delivery.attempts.isEmpty() ? null : delivery.attempts.get(delivery.attempts.size() - 1);
+        try {
+            deadLetters.add(DeadLetter.builder()
+                    .notification(delivery.notification)
+                    .channel(delivery.typeName)
+                    .providerName(last != null ? last.getProviderName() : delivery.sender.getProviderName())
+                    .errorCode(last != null ? last.getErrorCode() : null)
+                    .errorMessage(errorMessage)
+                    .failedAt(Instant.now())
+                    .attempts(delivery.attempts)
+                    .build());
+        } catch (MessagingException e) {
+            log.error("Cannot dead-letter {}: {}", delivery.notification.getId(), e.getMessage());
+        }
+    }
+
+    private NotificationResult finishExpired(Delivery<?> delivery, int attempts) {
+        String errorMessage = attempts == 0
+                ? "Deadline exceeded before sending"
+                : "Deadline exceeded after " + attempts + " attempts";
+        log.warn("Dropping {}: {}", delivery.notification.getId(), errorMessage);
+        publishEvent(EventType.EXPIRED, delivery.notification, delivery.typeName, attempts,
+                errorMessage, null, null, timeline(delivery));
 
         return NotificationResult.builder()
-                .notificationId(notification.getId())
+                .notificationId(delivery.notification.getId())
+                .status(NotificationStatus.EXPIRED)
+                .errorMessage(errorMessage)
+                .timestamp(Instant.now())
+                .build();
+    }
+
+    private NotificationResult failedResult(Notification notification, String errorMessage) {
+        return NotificationResult.builder()
+                .notificationId(notification != null ? notification.getId() : null)
                 .status(NotificationStatus.FAILED)
                 .errorMessage(errorMessage)
                 .timestamp(Instant.now())
@@ -153,13 +981,14 @@ public class SendNotificationService implements SendNotificationUseCase {
             int attemptNumber,
             String errorMessage,
             String providerName,
-            String providerMessageId
+            String providerMessageId,
+            List<DeliveryAttempt> attempts
     ) {
-        if (eventPublisher == null) {
+        if (eventPublisher == null || !eventPolicy.accepts(eventType, notification.getId())) {
             return;
         }
 
-        NotificationEvent event = NotificationEvent.builder()
+        publish(NotificationEvent.builder()
                 .eventType(eventType)
                 .notificationId(notification.getId())
                 .notificationType(notificationType)
@@ -167,8 +996,24 @@ public class SendNotificationService implements SendNotificationUseCase {
                 .errorMessage(errorMessage)
                 .providerName(providerName)
                 .providerMessageId(providerMessageId)
-                .build();
+                .attempts(attempts)
+                .build());
+    }
+
+    public void publishCircuitEvent(EventType eventType, String channelName, String providerName, String reason) {
+        if (eventPublisher == null || !eventPolicy.accepts(eventType, null)) {
+            return;
+        }
+
+        publish(NotificationEvent.builder()
+                .eventType(eventType)
+                .notificationType(channelName)
+                .providerName(providerName)
+                .errorMessage(reason)
+                .build());
+    }
 
+    private void publish(NotificationEvent event) {
         try {
             eventPublisher.publish(event);
         } catch (Exception e) {
@@ -183,4 +1028,107 @@ public class SendNotificationService implements SendNotificationUseCase {
             Thread.currentThread().interrupt();
         }
     }
+
+    private record BulkItem(int index, Notification notification, NotificationChannel<?> channel, String error) {
+    }
+
+    private final class BulkRun {
+
+        private final List<BulkItem> items;
+        private final NotificationResult[] results;
+        private final AtomicInteger cursor = new AtomicInteger();
+        private final AtomicInteger remaining;
+        private final CompletableFuture<BulkNotificationResult> future = new CompletableFuture<>();
+
+        private BulkRun(List<BulkItem> items) {
+            this.items = items;
+            this.results = new NotificationResult[items.size()];
+            this.remaining = new AtomicInteger(items.size());
+        }
+
+        private void record(BulkItem item, NotificationResult result, Throwable error) {
+            if (error != null) {
+                Throwable cause = unwrap(error);
+                log.warn("Bulk item {} failed: {}", item.index(), cause.getMessage());
+                result = failedResult(item.notification(), cause.getMessage());
+            }
+            results[item.index()] = result;
+            if (remaining.decrementAndGet() == 0) {
+                future.complete(BulkNotificationResult.of(Arrays.asList(results)));
+            }
+        }
+    }
+
+    private static final class Delivery<T extends Notification> {
+
+        private final T notification;
+        private final NotificationChannel<T> channel;
+        private final NotificationSender<T> sender;
+        private final String typeName;
+        private final RetryPolicy retryPolicy;
+        private final long deadlineNanos;
+
+        private NotificationResult result;
+        private Exception lastException;
+        private boolean retryable = true;
+        private RetryBudget retryBudget;
+        private List<DeliveryAttempt> attempts;
+
+        private Delivery(T notification, NotificationChannel<T> channel, RetryPolicy retryPolicy) {
+            this.notification = notification;
+            this.channel = channel;
+            this.sender = channel.getSender();
+            this.typeName = channel.getName();
+            this.retryPolicy = retryPolicy;
+            this.deadlineNanos = toNanoTime(notification.getDeadline());
+        }
+
+        private long remainingNanos() {
+            return deadlineNanos == Long.MAX_VALUE ? Long.MAX_VALUE : deadlineNanos - System.nanoTime();
+        }
+
+        private boolean isExpired() {
+            return remainingNanos() <= 0;
+        }
+
+        private static long toNanoTime(Instant deadline) {
+            if (deadline == null) {
+                return Long.MAX_VALUE;
+            }
+            long remaining = Duration.between(Instant.now(), deadline).toNanos();
+            return System.nanoTime() + Math.min(remaining, Long.MAX_VALUE / 4);
+        }
+    }
+
+    private static final class ProviderCall {
+
+        private static final int RUNNING = 0;
+        private static final int FINISHED = 1;
+        private static final int INTERRUPTING = 2;
+        private static final int INTERRUPTED = 3;
+
+        private final Thread thread;
+        private final AtomicInteger state = new AtomicInteger(RUNNING);
+
+        private ProviderCall(Thread thread) {
+            this.thread = thread;
+        }
+
+        private void interrupt() {
+            if (state.compareAndSet(RUNNING, INTERRUPTING)) {
+                thread.interrupt();
+                state.set(INTERRUPTED);
+            }
+        }
+
+        private void finish() {
+            if (state.compareAndSet(RUNNING, FINISHED)) {
+                return;
+            }
+            while (state.get() != INTERRUPTED) {
+                Thread.onSpinWait();
+            }
+            Thread.interrupted();
+        }
+    }
 }
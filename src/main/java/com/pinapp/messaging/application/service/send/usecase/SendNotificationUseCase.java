@@ -1,13 +1,36 @@
 package com.pinapp.messaging.application.service.send.usecase;
 
+import com.pinapp.messaging.application.deadletter.DeadLetterReplay;
+import com.pinapp.messaging.application.deadletter.ReplayReport;
+import com.pinapp.messaging.application.lifecycle.ShutdownReport;
+import com.pinapp.messaging.application.scheduling.ScheduledNotification;
+import com.pinapp.messaging.domain.BulkNotificationResult;
 import com.pinapp.messaging.domain.Notification;
 import com.pinapp.messaging.domain.NotificationResult;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 
 public interface SendNotificationUseCase {
 
     <T extends Notification> NotificationResult send(T notification);
 
     <T extends Notification> CompletableFuture<NotificationResult> sendAsync(T notification);
+
+    <T extends Notification> ScheduledNotification sendAt(T notification, Instant scheduledAt);
+
+    <T extends Notification> ScheduledNotification sendAfter(T notification, Duration delay);
+
+    BulkNotificationResult sendAll(Collection<? extends Notification> notifications);
+
+    CompletableFuture<BulkNotificationResult> sendAllAsync(Collection<? extends Notification> notifications);
+
+    Flow.Publisher<NotificationResult> stream(Flow.Publisher<? extends Notification> notifications, int maxInFlight);
+
+    CompletableFuture<ReplayReport> replayDeadLetters(DeadLetterReplay replay);
+
+    ShutdownReport shutdown(Duration timeout);
 }
@@ -0,0 +1,215 @@
+package com.pinapp.messaging.application.stream;
+
+import com.pinapp.messaging.application.exception.ClientClosedException;
+import com.pinapp.messaging.application.exception.ConfigurationException;
+import com.pinapp.messaging.domain.Notification;
+import com.pinapp.messaging.domain.NotificationResult;
+import com.pinapp.messaging.domain.NotificationStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+public class NotificationStream implements Flow.Publisher<NotificationResult> {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationStream.class);
+    private static final String NO_RESULT = "No result returned for the notification";
+
+    private final Flow.Publisher<? extends Notification> notifications;
+    private final Function<Notification, CompletableFuture<NotificationResult>> dispatcher;
+    private final int maxInFlight;
+
+    public NotificationStream(
+            Flow.Publisher<? extends Notification> notifications,
+            Function<Notification, CompletableFuture<NotificationResult>> dispatcher,
+            int maxInFlight
+    ) {
+        if (maxInFlight <= 0) {
+            throw new ConfigurationException("Stream max in-flight must be greater than zero");
+        }
+        this.notifications = Objects.requireNonNull(notifications, "notifications");
+        this.dispatcher = dispatcher;
+        this.maxInFlight = maxInFlight;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super NotificationResult> subscriber) {
+        notifications.subscribe(new Relay(Objects.requireNonNull(subscriber, "subscriber")));
+    }
+
+    private final class Relay implements Flow.Subscriber<Notification>, Flow.Subscription {
+
+        private final Flow.Subscriber<? super NotificationResult> downstream;
+        private final Queue<NotificationResult> ready = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger outstanding = new AtomicInteger();
+
+        private volatile Flow.Subscription upstream;
+        private volatile boolean upstreamDone;
+        private volatile Throwable error;
+        private volatile Throwable fatal;
+        private volatile boolean cancelled;
+        private boolean terminated;
+
+        Relay(Flow.Subscriber<? super NotificationResult> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            if (upstream != null) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(Notification notification) {
+            requested.decrementAndGet();
+            outstanding.incrementAndGet();
+            if (cancelled || fatal != null) {
+                return;
+            }
+            CompletableFuture<NotificationResult> sent;
+            try {
+                sent = dispatcher.apply(notification);
+            } catch (RuntimeException e) {
+                sent = CompletableFuture.failedFuture(e);
+            }
+            if (sent == null) {
+                sent = CompletableFuture.completedFuture(null);
+            }
+            sent.whenComplete((result, failure) -> {
+                Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                        ? failure.getCause()
+                        : failure;
+                if (cause instanceof ClientClosedException) {
+                    fail(cause);
+                    return;
+                }
+                if (result != null) {
+                    ready.offer(result);
+                } else {
+                    ready.offer(failed(notification, cause != null ? cause.getMessage() : NO_RESULT));
+                }
+                drain();
+            });
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            upstreamDone = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            upstreamDone = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("Stream demand must be positive, got " + n));
+                return;
+            }
+            demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            Flow.Subscription subscription = upstream;
+            if (subscription != null) {
+                subscription.cancel();
+            }
+            drain();
+        }
+
+        private void fail(Throwable cause) {
+            if (fatal == null) {
+                fatal = cause;
+            }
+            upstream.cancel();
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (cancelled) {
+                    ready.clear();
+                } else if (!terminated) {
+                    emit();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            if (fatal != null) {
+                terminated = true;
+                ready.clear();
+                downstream.onError(fatal);
+                return;
+            }
+            while (demand.get() > 0) {
+                NotificationResult result = ready.poll();
+                if (result == null) {
+                    break;
+                }
+                outstanding.decrementAndGet();
+                if (demand.get() != Long.MAX_VALUE) {
+                    demand.decrementAndGet();
+                }
+                downstream.onNext(result);
+                if (cancelled) {
+                    return;
+                }
+            }
+            if (upstreamDone && outstanding.get() == 0) {
+                terminated = true;
+                if (error != null) {
+                    downstream.onError(error);
+                } else {
+                    downstream.onComplete();
+                }
+                return;
+            }
+            long credit = Math.min(demand.get(), maxInFlight) - outstanding.get() - requested.get();
+            if (credit > 0 && !upstreamDone) {
+                requested.addAndGet(credit);
+                upstream.request(credit);
+            }
+        }
+    }
+
+    private static NotificationResult failed(Notification notification, String errorMessage) {
+        log.warn("Streamed notification {} failed: {}", notification.getId(), errorMessage);
+        return NotificationResult.builder()
+                .notificationId(notification.getId())
+                .status(NotificationStatus.FAILED)
+                .errorMessage(errorMessage)
+                .timestamp(Instant.now())
+                .build();
+    }
+}
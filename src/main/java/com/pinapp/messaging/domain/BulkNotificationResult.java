@@ -0,0 +1,43 @@
+package com.pinapp.messaging.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@Getter
+public class BulkNotificationResult {
+
+    private final List<NotificationResult> results;
+    private final int successCount;
+    private final int failureCount;
+
+    public static BulkNotificationResult of(List<NotificationResult> results) {
+        int success = 0;
+        for (NotificationResult result : results) {
+            if (result.isSuccess()) {
+                success++;
+            }
+        }
+        return BulkNotificationResult.builder()
+                .results(List.copyOf(results))
+                .successCount(success)
+                .failureCount(results.size() - success)
+                .build();
+    }
+
+    public int getTotal() {
+        return results.size();
+    }
+
+    public boolean isAllSuccess() {
+        return failureCount == 0;
+    }
+
+    public List<NotificationResult> getFailures() {
+        return results.stream()
+                .filter(result -> !result.isSuccess())
+                .toList();
+    }
+}
@@ -1,9 +1,13 @@
 package com.pinapp.messaging.domain;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.Map;
 
 public interface Notification {
 
+    String DEADLINE_METADATA_KEY = "deadline";
+
     String getId();
 
     Recipient getRecipient();
@@ -11,4 +15,26 @@ public interface Notification {
     String getBody();
 
     Map<String, Object> getMetadata();
+
+    default NotificationPriority getPriority() {
+        return NotificationPriority.fromMetadata(getMetadata());
+    }
+
+    default Instant getDeadline() {
+        Object value = getMetadata() != null ? getMetadata().get(DEADLINE_METADATA_KEY) : null;
+        if (value instanceof Instant instant) {
+            return instant;
+        }
+        if (value instanceof Number epochMillis) {
+            return Instant.ofEpochMilli(epochMillis.longValue());
+        }
+        if (value instanceof String text) {
+            try {
+                return Instant.parse(text.trim());
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+        }
+        return null;
+    }
 }
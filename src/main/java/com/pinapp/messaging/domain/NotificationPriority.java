@@ -0,0 +1,30 @@
+package com.pinapp.messaging.domain;
+
+import java.util.Map;
+
+public enum NotificationPriority {
+    CRITICAL,
+    HIGH,
+    NORMAL,
+    LOW;
+
+    public static final String METADATA_KEY = "priority";
+
+    public static NotificationPriority fromMetadata(Map<String, Object> metadata) {
+        if (metadata == null) {
+            return NORMAL;
+        }
+        Object value = metadata.get(METADATA_KEY);
+        if (value instanceof NotificationPriority priority) {
+            return priority;
+        }
+        if (value instanceof String name) {
+            try {
+                return valueOf(name.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return NORMAL;
+            }
+        }
+        return NORMAL;
+    }
+}
@@ -14,6 +14,7 @@ public class NotificationResult {
     private final String providerMessageId;
     private final String providerName;
     private final String errorMessage;
+    private final String errorCode;
     private final Instant timestamp;
 
     public boolean isSuccess() {
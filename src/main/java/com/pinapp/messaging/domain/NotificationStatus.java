@@ -3,5 +3,6 @@ package com.pinapp.messaging.domain;
 public enum NotificationStatus {
     SUCCESS,
     FAILED,
-    PENDING
+    PENDING,
+    EXPIRED
 }
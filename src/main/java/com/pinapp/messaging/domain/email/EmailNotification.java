@@ -1,10 +1,12 @@
 package com.pinapp.messaging.domain.email;
 
 import com.pinapp.messaging.domain.Notification;
+import com.pinapp.messaging.domain.NotificationPriority;
 import com.pinapp.messaging.domain.Recipient;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 
@@ -21,7 +23,19 @@ public class EmailNotification implements Notification {
     private final List<String> bcc;
     private final String fromEmail;
     private final String fromName;
+    private final Instant deadline;
+    private final NotificationPriority priority;
 
     @Builder.Default
     private final Map<String, Object> metadata = Map.of();
+
+    @Override
+    public Instant getDeadline() {
+        return deadline != null ? deadline : Notification.super.getDeadline();
+    }
+
+    @Override
+    public NotificationPriority getPriority() {
+        return priority != null ? priority : Notification.super.getPriority();
+    }
 }
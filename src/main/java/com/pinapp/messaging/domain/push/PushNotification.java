@@ -1,10 +1,12 @@
 package com.pinapp.messaging.domain.push;
 
 import com.pinapp.messaging.domain.Notification;
+import com.pinapp.messaging.domain.NotificationPriority;
 import com.pinapp.messaging.domain.Recipient;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.Instant;
 import java.util.Map;
 
 @Builder
@@ -15,10 +17,22 @@ public class PushNotification implements Notification {
     private final Recipient recipient;
     private final String title;
     private final String body;
+    private final Instant deadline;
+    private final NotificationPriority priority;
 
     @Builder.Default
     private final Map<String, Object> data = Map.of();
 
     @Builder.Default
     private final Map<String, Object> metadata = Map.of();
+
+    @Override
+    public Instant getDeadline() {
+        return deadline != null ? deadline : Notification.super.getDeadline();
+    }
+
+    @Override
+    public NotificationPriority getPriority() {
+        return priority != null ? priority : Notification.super.getPriority();
+    }
 }
@@ -1,10 +1,12 @@
 package com.pinapp.messaging.domain.sms;
 
 import com.pinapp.messaging.domain.Notification;
+import com.pinapp.messaging.domain.NotificationPriority;
 import com.pinapp.messaging.domain.Recipient;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.Instant;
 import java.util.Map;
 
 @Builder
@@ -15,7 +17,19 @@ public class SmsNotification implements Notification {
     private final Recipient recipient;
     private final String body;
     private final String fromNumber;
+    private final Instant deadline;
+    private final NotificationPriority priority;
 
     @Builder.Default
     private final Map<String, Object> metadata = Map.of();
+
+    @Override
+    public Instant getDeadline() {
+        return deadline != null ? deadline : Notification.super.getDeadline();
+    }
+
+    @Override
+    public NotificationPriority getPriority() {
+        return priority != null ? priority : Notification.super.getPriority();
+    }
 }
@@ -15,4 +15,24 @@ public class ProviderCredentials {
     private final String fromEmail;
     private final String projectId;
     private final String serviceAccountKey;
+    private final String domain;
+    private final String baseUrl;
+
+    public String baseUrlOr(String defaultBaseUrl) {
+        String url = baseUrl != null ? baseUrl : defaultBaseUrl;
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    public String getAccountKey() {
+        if (accountSid != null) {
+            return accountSid;
+        }
+        if (projectId != null) {
+            return projectId;
+        }
+        if (apiKey != null) {
+            return "key-" + Integer.toHexString(apiKey.hashCode());
+        }
+        return null;
+    }
 }
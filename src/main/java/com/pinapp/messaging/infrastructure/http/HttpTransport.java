@@ -0,0 +1,283 @@
+package com.pinapp.messaging.infrastructure.http;
+
+import com.pinapp.messaging.application.exception.ConfigurationException;
+import com.pinapp.messaging.application.exception.ProviderException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPInputStream;
+
+public class HttpTransport implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(HttpTransport.class);
+
+    private final HttpClient client;
+    private final Duration requestTimeout;
+    private final int maxStreamsPerHost;
+    private final boolean gzip;
+    private final boolean shared;
+    private final ConcurrentHashMap<String, HostStreams> hosts = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+
+    public HttpTransport(HttpTransportConfig config) {
+        this(config, false);
+    }
+
+    private HttpTransport(HttpTransportConfig config, boolean shared) {
+        if (config.getMaxStreamsPerHost() <= 0) {
+            throw new ConfigurationException("HTTP transport needs at least one stream per host");
+        }
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(config.getVersion())
+                .connectTimeout(config.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER);
+        if (config.getExecutor() != null) {
+            builder.executor(config.getExecutor());
+        }
+        this.client = builder.build();
+        this.requestTimeout = config.getRequestTimeout();
+        this.maxStreamsPerHost = config.getMaxStreamsPerHost();
+        this.gzip = config.isGzip();
+        this.shared = shared;
+    }
+
+    public static HttpTransport shared() {
+        return Shared.INSTANCE;
+    }
+
+    public CompletableFuture<TransportResponse> postJson(URI uri, String authorization, String json) {
+        return post(uri, "application/json", authorization, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public CompletableFuture<TransportResponse> postForm(URI uri, String authorization, Map<String, String> fields) {
+        StringBuilder form = new StringBuilder();
+        fields.forEach((name, value) -> {
+            if (value == null) {
+                return;
+            }
+            if (!form.isEmpty()) {
+                form.append('&');
+            }
+            form.append(URLEncoder.encode(name, StandardCharsets.UTF_8))
+                    .append('=')
+                    .append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+        });
+        return post(uri, "application/x-www-form-urlencoded", authorization,
+                form.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public CompletableFuture<TransportResponse> post(URI uri, String contentType, String authorization, byte[] body) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+        if (authorization != null) {
+            request.header("Authorization", authorization);
+        }
+        return send(request.build());
+    }
+
+    public CompletableFuture<TransportResponse> send(HttpRequest request) {
+        if (gzip && request.headers().firstValue("Accept-Encoding").isEmpty()) {
+            request = HttpRequest.newBuilder(request, (name, value) -> true)
+                    .header("Accept-Encoding", "gzip")
+                    .build();
+        }
+        HttpRequest outgoing = request;
+        HostStreams streams = hosts.computeIfAbsent(authority(outgoing.uri()), host -> new HostStreams(maxStreamsPerHost));
+        CompletableFuture<TransportResponse> response = new CompletableFuture<>();
+        streams.acquire(response, () -> {
+            if (response.isDone()) {
+                streams.release();
+                return;
+            }
+            requests.increment();
+            CompletableFuture<HttpResponse<byte[]>> call;
+            try {
+                call = client.sendAsync(outgoing, HttpResponse.BodyHandlers.ofByteArray());
+            } catch (RuntimeException e) {
+                call = CompletableFuture.failedFuture(e);
+            }
+            CompletableFuture<HttpResponse<byte[]>> exchange = call;
+            response.whenComplete((result, error) -> {
+                if (error instanceof CancellationException) {
+                    exchange.cancel(true);
+                }
+            });
+            exchange.whenComplete((raw, error) -> {
+                streams.release();
+                if (error != null) {
+                    response.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause()
+                            : error);
+                    return;
+                }
+                try {
+                    response.complete(decode(raw));
+                } catch (RuntimeException e) {
+                    response.completeExceptionally(e);
+                }
+            });
+        });
+        return response;
+    }
+
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    public int getMaxStreamsPerHost() {
+        return maxStreamsPerHost;
+    }
+
+    @Override
+    public void close() {
+        if (!shared) {
+            client.close();
+        }
+    }
+
+    public static <T> T await(CompletionStage<T> stage, String providerName) {
+        CompletableFuture<T> future = stage.toCompletableFuture();
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ProviderException(providerName, "Interrupted while waiting for the provider response", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException runtime
+                    ? runtime
+                    : new ProviderException(providerName, cause.getMessage(), cause);
+        }
+    }
+
+    public static String basic(String user, String password) {
+        return "Basic " + Base64.getEncoder()
+                .encodeToString((user + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String bearer(String token) {
+        return "Bearer " + token;
+    }
+
+    private static TransportResponse decode(HttpResponse<byte[]> raw) {
+        byte[] body = raw.body();
+        boolean gzipped = raw.headers().firstValue("Content-Encoding")
+                .filter(encoding -> encoding.equalsIgnoreCase("gzip"))
+                .isPresent();
+        if (gzipped && body.length > 0) {
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                body = in.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot decompress response from " + raw.uri(), e);
+            }
+        }
+        log.debug("{} {} -> {} ({} bytes)", raw.request().method(), raw.uri(), raw.statusCode(), body.length);
+        return new TransportResponse(raw.statusCode(), raw.headers(), new String(body, StandardCharsets.UTF_8));
+    }
+
+    private static String authority(URI uri) {
+        return uri.getScheme() + "://" + uri.getAuthority();
+    }
+
+    private static final class Shared {
+        private static final HttpTransport INSTANCE = new HttpTransport(HttpTransportConfig.defaults(), true);
+    }
+
+    private static final class HostStreams {
+
+        private final int maxStreams;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ArrayDeque<Waiter> waiting = new ArrayDeque<>();
+        private int active;
+        private int releases;
+        private boolean draining;
+
+        HostStreams(int maxStreams) {
+            this.maxStreams = maxStreams;
+        }
+
+        void acquire(CompletableFuture<?> owner, Runnable start) {
+            lock.lock();
+            try {
+                if (active == maxStreams) {
+                    waiting.addLast(new Waiter(owner, start));
+                    return;
+                }
+                active++;
+            } finally {
+                lock.unlock();
+            }
+            start.run();
+        }
+
+        void release() {
+            lock.lock();
+            try {
+                releases++;
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            } finally {
+                lock.unlock();
+            }
+            while (true) {
+                Waiter next;
+                lock.lock();
+                try {
+                    if (releases == 0) {
+                        draining = false;
+                        return;
+                    }
+                    releases--;
+                    next = nextLive();
+                    if (next == null) {
+                        active--;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                if (next != null) {
+                    next.start().run();
+                }
+            }
+        }
+
+        private Waiter nextLive() {
+            Waiter next;
+            while ((next = waiting.pollFirst()) != null) {
+                if (!next.owner().isDone()) {
+                    return next;
+                }
+            }
+            return null;
+        }
+
+        private record Waiter(CompletableFuture<?> owner, Runnable start) {
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.pinapp.messaging.infrastructure.http;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+@Builder
+@Getter
+public class HttpTransportConfig {
+
+    @Builder.Default
+    private final HttpClient.Version version = HttpClient.Version.HTTP_2;
+
+    @Builder.Default
+    private final Duration connectTimeout = Duration.ofSeconds(10);
+
+    @Builder.Default
+    private final Duration requestTimeout = Duration.ofSeconds(30);
+
+    @Builder.Default
+    private final int maxStreamsPerHost = 100;
+
+    @Builder.Default
+    private final boolean gzip = true;
+
+    private final Executor executor;
+
+    public static HttpTransportConfig defaults() {
+        return HttpTransportConfig.builder().build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.pinapp.messaging.infrastructure.http;
+
+import com.pinapp.messaging.application.exception.ProviderException;
+
+import java.net.http.HttpHeaders;
+
+public final class TransportResponse {
+
+    private static final int MAX_ERROR_BODY = 200;
+
+    private final int status;
+    private final HttpHeaders headers;
+    private final String body;
+
+    TransportResponse(int status, HttpHeaders headers, String body) {
+        this.status = status;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public String header(String name) {
+        return headers.firstValue(name).orElse(null);
+    }
+
+    public String field(String name) {
+        return Json.field(body, name);
+    }
+
+    public boolean isSuccess() {
+        return status >= 200 && status < 300;
+    }
+
+    public String getErrorCode() {
+        return "HTTP_" + status;
+    }
+
+    public ProviderException failure(String providerName) {
+        String detail = body.length() > MAX_ERROR_BODY ? body.substring(0, MAX_ERROR_BODY) + "..." : body;
+        return new ProviderException(providerName, getErrorCode(),
+                "HTTP " + status + (detail.isBlank() ? "" : ": " + detail), null);
+    }
+}
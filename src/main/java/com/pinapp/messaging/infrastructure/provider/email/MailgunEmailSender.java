@@ -1,29 +1,56 @@
 package com.pinapp.messaging.infrastructure.provider.email;
 
-import com.pinapp.messaging.application.port.NotificationSender;
+import com.pinapp.messaging.application.port.BatchNotificationSender;
 import com.pinapp.messaging.domain.NotificationResult;
 import com.pinapp.messaging.domain.NotificationStatus;
 import com.pinapp.messaging.domain.email.EmailNotification;
+import com.pinapp.messaging.application.exception.ProviderException;
 import com.pinapp.messaging.infrastructure.config.ProviderCredentials;
+import com.pinapp.messaging.infrastructure.http.HttpTransport;
+import com.pinapp.messaging.infrastructure.http.Json;
+import com.pinapp.messaging.infrastructure.http.TransportResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.URI;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
-public class MailgunEmailSender implements NotificationSender<EmailNotification> {
+public class MailgunEmailSender implements BatchNotificationSender<EmailNotification> {
 
     private static final Logger log = LoggerFactory.getLogger(MailgunEmailSender.class);
     private static final String PROVIDER_NAME = "Mailgun";
+    private static final int MAX_RECIPIENTS = 1000;
+    private static final String DEFAULT_BASE_URL = "https://api.mailgun.net";
 
     private final ProviderCredentials credentials;
+    private final HttpTransport transport;
 
     public MailgunEmailSender(ProviderCredentials credentials) {
+        this(credentials, null);
+    }
+
+    public MailgunEmailSender(ProviderCredentials credentials, HttpTransport transport) {
         this.credentials = credentials;
+        this.transport = transport;
     }
 
     @Override
     public NotificationResult send(EmailNotification notification) {
+        if (transport != null) {
+            return HttpTransport.await(sendAsync(notification), PROVIDER_NAME);
+        }
         log.info("[{}] Sending email to: {} | Subject: {}",
                 PROVIDER_NAME,
                 notification.getRecipient().getEmail(),
@@ -35,13 +62,59 @@ public class MailgunEmailSender implements NotificationSender<EmailNotification>
         log.info("[{}] Email sent successfully. Provider ID: {}",
                 PROVIDER_NAME, providerMessageId);
 
-        return NotificationResult.builder()
-                .notificationId(notification.getId())
-                .status(NotificationStatus.SUCCESS)
-                .providerMessageId(providerMessageId)
-                .providerName(PROVIDER_NAME)
-                .timestamp(Instant.now())
-                .build();
+        return success(notification, providerMessageId);
+    }
+
+    @Override
+    public CompletionStage<NotificationResult> sendAsync(EmailNotification notification) {
+        if (transport == null) {
+            return BatchNotificationSender.super.sendAsync(notification);
+        }
+        log.info("[{}] Sending email to: {} | Subject: {}",
+                PROVIDER_NAME,
+                notification.getRecipient().getEmail(),
+                notification.getSubject()
+        );
+        return post(List.of(notification)).thenApply(response -> {
+            if (!response.isSuccess()) {
+                throw response.failure(PROVIDER_NAME);
+            }
+            String providerMessageId = response.field("id");
+            log.info("[{}] Email sent successfully. Provider ID: {}", PROVIDER_NAME, providerMessageId);
+            return success(notification, providerMessageId);
+        });
+    }
+
+    @Override
+    public List<NotificationResult> sendBatch(List<EmailNotification> notifications) {
+        NotificationResult[] results = new NotificationResult[notifications.size()];
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        for (List<Integer> message : groupByContent(notifications)) {
+            EmailNotification first = notifications.get(message.get(0));
+            log.info("[{}] Sending batch email to {} recipients with recipient-variables | Subject: {}",
+                    PROVIDER_NAME, message.size(), first.getSubject());
+            if (transport != null) {
+                List<EmailNotification> emails = message.stream().map(notifications::get).toList();
+                pending.add(post(emails).handle((response, error) -> {
+                    fill(results, notifications, message, response, error);
+                    return null;
+                }));
+                continue;
+            }
+
+            String providerMessageId = "mg-" + UUID.randomUUID();
+            for (int index : message) {
+                results[index] = success(notifications.get(index), providerMessageId);
+            }
+            log.info("[{}] Batch sent successfully. Provider ID: {}", PROVIDER_NAME, providerMessageId);
+        }
+        HttpTransport.await(CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)), PROVIDER_NAME);
+        return Arrays.asList(results);
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return MAX_RECIPIENTS;
     }
 
     @Override
@@ -53,4 +126,113 @@ public class MailgunEmailSender implements NotificationSender<EmailNotification>
     public String getProviderName() {
         return PROVIDER_NAME;
     }
+
+    @Override
+    public String getAccountId() {
+        return credentials.getAccountKey();
+    }
+
+    private List<List<Integer>> groupByContent(List<EmailNotification> notifications) {
+        Map<List<Object>, Group> groups = new HashMap<>();
+        List<List<Integer>> messages = new ArrayList<>();
+        for (int i = 0; i < notifications.size(); i++) {
+            EmailNotification email = notifications.get(i);
+            if (hasCopies(email)) {
+                messages.add(List.of(i));
+                continue;
+            }
+            List<Object> content = Arrays.asList(email.getSubject(), email.getBody(), email.getHtmlBody(),
+                    email.getFromEmail(), email.getFromName());
+            String to = email.getRecipient().getEmail();
+            Group group = groups.get(content);
+            if (group == null || group.indexes().size() == MAX_RECIPIENTS || group.recipients().contains(to)) {
+                group = new Group(new ArrayList<>(), new HashSet<>());
+                groups.put(content, group);
+                messages.add(group.indexes());
+            }
+            group.indexes().add(i);
+            group.recipients().add(to);
+        }
+        return messages;
+    }
+
+    private static boolean hasCopies(EmailNotification email) {
+        return (email.getCc() != null && !email.getCc().isEmpty())
+                || (email.getBcc() != null && !email.getBcc().isEmpty());
+    }
+
+    private CompletableFuture<TransportResponse> post(List<EmailNotification> emails) {
+        EmailNotification first = emails.get(0);
+        String fromEmail = first.getFromEmail() != null ? first.getFromEmail() : credentials.getFromEmail();
+        String domain = credentials.getDomain() != null
+                ? credentials.getDomain()
+                : fromEmail.substring(fromEmail.indexOf('@') + 1);
+
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("from", first.getFromName() != null ? first.getFromName() + " <" + fromEmail + ">" : fromEmail);
+        form.put("to", String.join(",", emails.stream().map(email -> email.getRecipient().getEmail()).toList()));
+        if (emails.size() == 1) {
+            form.put("cc", first.getCc() == null || first.getCc().isEmpty() ? null : String.join(",", first.getCc()));
+            form.put("bcc", first.getBcc() == null || first.getBcc().isEmpty() ? null : String.join(",", first.getBcc()));
+        }
+        form.put("subject", first.getSubject());
+        form.put("text", first.getBody());
+        form.put("html", first.getHtmlBody());
+        if (emails.size() > 1) {
+            StringBuilder variables = new StringBuilder("{");
+            for (int i = 0; i < emails.size(); i++) {
+                EmailNotification email = emails.get(i);
+                variables.append(i == 0 ? "" : ",").append(Json.string(email.getRecipient().getEmail()))
+                        .append(":{\"notification_id\":").append(Json.string(email.getId())).append('}');
+            }
+            form.put("recipient-variables", variables.append('}').toString());
+        }
+        return transport.postForm(URI.create(credentials.baseUrlOr(DEFAULT_BASE_URL) + "/v3/" + domain + "/messages"),
+                HttpTransport.basic("api", credentials.getApiKey()), form);
+    }
+
+    private void fill(NotificationResult[] results, List<EmailNotification> notifications, List<Integer> message,
+                      TransportResponse response, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause == null && !response.isSuccess()) {
+            cause = response.failure(PROVIDER_NAME);
+        }
+        if (cause != null) {
+            log.warn("[{}] Batch email to {} recipients failed: {}", PROVIDER_NAME, message.size(), cause.getMessage());
+            String errorCode = cause instanceof ProviderException provider ? provider.getErrorCode() : null;
+            for (int index : message) {
+                results[index] = failed(notifications.get(index), errorCode, cause.getMessage());
+            }
+            return;
+        }
+        String providerMessageId = response.field("id");
+        for (int index : message) {
+            results[index] = success(notifications.get(index), providerMessageId);
+        }
+        log.info("[{}] Batch sent successfully. Provider ID: {}", PROVIDER_NAME, providerMessageId);
+    }
+
+    private NotificationResult failed(EmailNotification notification, String errorCode, String errorMessage) {
+        return NotificationResult.builder()
+                .notificationId(notification.getId())
+                .status(NotificationStatus.FAILED)
+                .errorCode(errorCode)
+                .errorMessage(errorMessage)
+                .providerName(PROVIDER_NAME)
+                .timestamp(Instant.now())
+                .build();
+    }
+
+    private NotificationResult success(EmailNotification notification, String providerMessageId) {
+        return NotificationResult.builder()
+                .notificationId(notification.getId())
+                .status(NotificationStatus.SUCCESS)
+                .providerMessageId(providerMessageId)
+                .providerName(PROVIDER_NAME)
+                .timestamp(Instant.now())
+                .build();
+    }
+
+    private record Group(List<Integer> indexes, Set<String> recipients) {
+    }
 }
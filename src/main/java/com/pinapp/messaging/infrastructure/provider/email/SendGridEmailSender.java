@@ -1,29 +1,53 @@
 package com.pinapp.messaging.infrastructure.provider.email;
 
-import com.pinapp.messaging.application.port.NotificationSender;
+import com.pinapp.messaging.application.port.BatchNotificationSender;
 import com.pinapp.messaging.domain.NotificationResult;
 import com.pinapp.messaging.domain.NotificationStatus;
 import com.pinapp.messaging.domain.email.EmailNotification;
+import com.pinapp.messaging.application.exception.ProviderException;
 import com.pinapp.messaging.infrastructure.config.ProviderCredentials;
+import com.pinapp.messaging.infrastructure.http.HttpTransport;
+import com.pinapp.messaging.infrastructure.http.Json;
+import com.pinapp.messaging.infrastructure.http.TransportResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.URI;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
-public class SendGridEmailSender implements NotificationSender<EmailNotification> {
+public class SendGridEmailSender implements BatchNotificationSender<EmailNotification> {
 
     private static final Logger log = LoggerFactory.getLogger(SendGridEmailSender.class);
     private static final String PROVIDER_NAME = "SendGrid";
+    private static final int MAX_PERSONALIZATIONS = 1000;
+    private static final String DEFAULT_BASE_URL = "https://api.sendgrid.com";
 
     private final ProviderCredentials credentials;
+    private final HttpTransport transport;
 
     public SendGridEmailSender(ProviderCredentials credentials) {
+        this(credentials, null);
+    }
+
+    public SendGridEmailSender(ProviderCredentials credentials, HttpTransport transport) {
         this.credentials = credentials;
+        this.transport = transport;
     }
 
     @Override
     public NotificationResult send(EmailNotification notification) {
+        if (transport != null) {
+            return HttpTransport.await(sendAsync(notification), PROVIDER_NAME);
+        }
         log.info("[{}] Sending email to: {} | Subject: {}",
                 PROVIDER_NAME,
                 notification.getRecipient().getEmail(),
@@ -35,13 +59,60 @@ public class SendGridEmailSender implements NotificationSender<EmailNotification
         log.info("[{}] Email sent successfully. Provider ID: {}",
                 PROVIDER_NAME, providerMessageId);
 
-        return NotificationResult.builder()
-                .notificationId(notification.getId())
-                .status(NotificationStatus.SUCCESS)
-                .providerMessageId(providerMessageId)
-                .providerName(PROVIDER_NAME)
-                .timestamp(Instant.now())
-                .build();
+        return success(notification, providerMessageId);
+    }
+
+    @Override
+    public CompletionStage<NotificationResult> sendAsync(EmailNotification notification) {
+        if (transport == null) {
+            return BatchNotificationSender.super.sendAsync(notification);
+        }
+        log.info("[{}] Sending email to: {} | Subject: {}",
+                PROVIDER_NAME,
+                notification.getRecipient().getEmail(),
+                notification.getSubject()
+        );
+        return post(List.of(notification)).thenApply(response -> {
+            if (!response.isSuccess()) {
+                throw response.failure(PROVIDER_NAME);
+            }
+            String providerMessageId = response.header("X-Message-Id");
+            log.info("[{}] Email sent successfully. Provider ID: {}", PROVIDER_NAME, providerMessageId);
+            return success(notification, providerMessageId);
+        });
+    }
+
+    @Override
+    public List<NotificationResult> sendBatch(List<EmailNotification> notifications) {
+        NotificationResult[] results = new NotificationResult[notifications.size()];
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        for (List<Integer> request : groupByContent(notifications)) {
+            EmailNotification first = notifications.get(request.get(0));
+            log.info("[{}] Sending email to {} personalizations | Subject: {}",
+                    PROVIDER_NAME, request.size(), first.getSubject());
+            if (transport != null) {
+                List<EmailNotification> emails = request.stream().map(notifications::get).toList();
+                pending.add(post(emails).handle((response, error) -> {
+                    fill(results, notifications, request, response, error);
+                    return null;
+                }));
+                continue;
+            }
+
+            String requestId = "sg-" + UUID.randomUUID();
+            for (int personalization = 0; personalization < request.size(); personalization++) {
+                int index = request.get(personalization);
+                results[index] = success(notifications.get(index), requestId + "." + personalization);
+            }
+            log.info("[{}] Batch sent successfully. Provider ID: {}", PROVIDER_NAME, requestId);
+        }
+        HttpTransport.await(CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)), PROVIDER_NAME);
+        return Arrays.asList(results);
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return MAX_PERSONALIZATIONS;
     }
 
     @Override
@@ -53,4 +124,113 @@ public class SendGridEmailSender implements NotificationSender<EmailNotification
     public String getProviderName() {
         return PROVIDER_NAME;
     }
+
+    @Override
+    public String getAccountId() {
+        return credentials.getAccountKey();
+    }
+
+    private List<List<Integer>> groupByContent(List<EmailNotification> notifications) {
+        Map<List<Object>, List<Integer>> groups = new HashMap<>();
+        List<List<Integer>> requests = new ArrayList<>();
+        for (int i = 0; i < notifications.size(); i++) {
+            EmailNotification email = notifications.get(i);
+            List<Object> content = Arrays.asList(email.getSubject(), email.getBody(), email.getHtmlBody(),
+                    email.getFromEmail(), email.getFromName());
+            List<Integer> group = groups.get(content);
+            if (group == null || group.size() == MAX_PERSONALIZATIONS) {
+                group = new ArrayList<>();
+                groups.put(content, group);
+                requests.add(group);
+            }
+            group.add(i);
+        }
+        return requests;
+    }
+
+    private CompletableFuture<TransportResponse> post(List<EmailNotification> emails) {
+        return transport.postJson(URI.create(credentials.baseUrlOr(DEFAULT_BASE_URL) + "/v3/mail/send"),
+                HttpTransport.bearer(credentials.getApiKey()), toJson(emails));
+    }
+
+    private String toJson(List<EmailNotification> emails) {
+        EmailNotification first = emails.get(0);
+        StringBuilder json = new StringBuilder("{\"personalizations\":[");
+        for (int i = 0; i < emails.size(); i++) {
+            EmailNotification email = emails.get(i);
+            json.append(i == 0 ? "" : ",").append('{');
+            appendAddresses(json, "to", List.of(email.getRecipient().getEmail()));
+            appendAddresses(json, "cc", email.getCc());
+            appendAddresses(json, "bcc", email.getBcc());
+            json.append("\"custom_args\":{\"notification_id\":").append(Json.string(email.getId())).append("}}");
+        }
+        String fromEmail = first.getFromEmail() != null ? first.getFromEmail() : credentials.getFromEmail();
+        json.append("],\"from\":{\"email\":").append(Json.string(fromEmail));
+        if (first.getFromName() != null) {
+            json.append(",\"name\":").append(Json.string(first.getFromName()));
+        }
+        json.append("},\"subject\":").append(Json.string(first.getSubject())).append(",\"content\":[");
+        if (first.getBody() != null) {
+            json.append("{\"type\":\"text/plain\",\"value\":").append(Json.string(first.getBody())).append('}');
+        }
+        if (first.getHtmlBody() != null) {
+            json.append(first.getBody() != null ? "," : "")
+                    .append("{\"type\":\"text/html\",\"value\":").append(Json.string(first.getHtmlBody())).append('}');
+        }
+        return json.append("]}").toString();
+    }
+
+    private static void appendAddresses(StringBuilder json, String field, List<String> addresses) {
+        if (addresses == null || addresses.isEmpty()) {
+            return;
+        }
+        json.append('"').append(field).append("\":[");
+        for (int i = 0; i < addresses.size(); i++) {
+            json.append(i == 0 ? "" : ",").append("{\"email\":").append(Json.string(addresses.get(i))).append('}');
+        }
+        json.append("],");
+    }
+
+    private void fill(NotificationResult[] results, List<EmailNotification> notifications, List<Integer> request,
+                      TransportResponse response, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause == null && !response.isSuccess()) {
+            cause = response.failure(PROVIDER_NAME);
+        }
+        if (cause != null) {
+            log.warn("[{}] Batch of {} personalizations failed: {}", PROVIDER_NAME, request.size(), cause.getMessage());
+            String errorCode = cause instanceof ProviderException provider ? provider.getErrorCode() : null;
+            for (int index : request) {
+                results[index] = failed(notifications.get(index), errorCode, cause.getMessage());
+            }
+            return;
+        }
+        String requestId = response.header("X-Message-Id");
+        for (int personalization = 0; personalization < request.size(); personalization++) {
+            int index = request.get(personalization);
+            results[index] = success(notifications.get(index), requestId + "." + personalization);
+        }
+        log.info("[{}] Batch sent successfully. Provider ID: {}", PROVIDER_NAME, requestId);
+    }
+
+    private NotificationResult failed(EmailNotification notification, String errorCode, String errorMessage) {
+        return NotificationResult.builder()
+                .notificationId(notification.getId())
+                .status(NotificationStatus.FAILED)
+                .errorCode(errorCode)
+                .errorMessage(errorMessage)
+                .providerName(PROVIDER_NAME)
+                .timestamp(Instant.now())
+                .build();
+    }
+
+    private NotificationResult success(EmailNotification notification, String providerMessageId) {
+        return NotificationResult.builder()
+                .notificationId(notification.getId())
+                .status(NotificationStatus.SUCCESS)
+                .providerMessageId(providerMessageId)
+                .providerName(PROVIDER_NAME)
+                .timestamp(Instant.now())
+                .build();
+    }
 }
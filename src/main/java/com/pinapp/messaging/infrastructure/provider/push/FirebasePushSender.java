@@ -1,29 +1,53 @@
 package com.pinapp.messaging.infrastructure.provider.push;
 
-import com.pinapp.messaging.application.port.NotificationSender;
+import com.pinapp.messaging.application.port.BatchNotificationSender;
 import com.pinapp.messaging.domain.NotificationResult;
 import com.pinapp.messaging.domain.NotificationStatus;
 import com.pinapp.messaging.domain.push.PushNotification;
+import com.pinapp.messaging.application.exception.ProviderException;
 import com.pinapp.messaging.infrastructure.config.ProviderCredentials;
+import com.pinapp.messaging.infrastructure.http.HttpTransport;
+import com.pinapp.messaging.infrastructure.http.Json;
+import com.pinapp.messaging.infrastructure.http.TransportResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.URI;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
-public class FirebasePushSender implements NotificationSender<PushNotification> {
+public class FirebasePushSender implements BatchNotificationSender<PushNotification> {
 
     private static final Logger log = LoggerFactory.getLogger(FirebasePushSender.class);
     private static final String PROVIDER_NAME = "Firebase";
+    private static final int MAX_MULTICAST_TOKENS = 500;
+    private static final String DEFAULT_BASE_URL = "https://fcm.googleapis.com";
 
     private final ProviderCredentials credentials;
+    private final HttpTransport transport;
 
     public FirebasePushSender(ProviderCredentials credentials) {
+        this(credentials, null);
+    }
+
+    public FirebasePushSender(ProviderCredentials credentials, HttpTransport transport) {
         this.credentials = credentials;
+        this.transport = transport;
     }
 
     @Override
     public NotificationResult send(PushNotification notification) {
+        if (transport != null) {
+            return HttpTransport.await(sendAsync(notification), PROVIDER_NAME);
+        }
         log.info("[{}] Sending push to device: {} | Title: {}",
                 PROVIDER_NAME,
                 notification.getRecipient().getDeviceToken(),
@@ -36,13 +60,52 @@ public class FirebasePushSender implements NotificationSender<PushNotification>
         log.info("[{}] Push sent successfully. Message ID: {}",
                 PROVIDER_NAME, providerMessageId);
 
-        return NotificationResult.builder()
-                .notificationId(notification.getId())
-                .status(NotificationStatus.SUCCESS)
-                .providerMessageId(providerMessageId)
-                .providerName(PROVIDER_NAME)
-                .timestamp(Instant.now())
-                .build();
+        return success(notification, providerMessageId);
+    }
+
+    @Override
+    public CompletionStage<NotificationResult> sendAsync(PushNotification notification) {
+        if (transport == null) {
+            return BatchNotificationSender.super.sendAsync(notification);
+        }
+        log.info("[{}] Sending push to device: {} | Title: {}",
+                PROVIDER_NAME,
+                notification.getRecipient().getDeviceToken(),
+                notification.getTitle()
+        );
+        return post(notification).thenApply(response -> {
+            if (!response.isSuccess()) {
+                throw response.failure(PROVIDER_NAME);
+            }
+            String providerMessageId = response.field("name");
+            log.info("[{}] Push sent successfully. Message ID: {}", PROVIDER_NAME, providerMessageId);
+            return success(notification, providerMessageId);
+        });
+    }
+
+    @Override
+    public List<NotificationResult> sendBatch(List<PushNotification> notifications) {
+        if (transport != null) {
+            return sendOverTransport(notifications);
+        }
+        NotificationResult[] results = new NotificationResult[notifications.size()];
+        for (List<Integer> multicast : groupByContent(notifications)) {
+            PushNotification first = notifications.get(multicast.get(0));
+            log.info("[{}] Sending multicast push to {} devices | Title: {}",
+                    PROVIDER_NAME, multicast.size(), first.getTitle());
+
+            for (int index : multicast) {
+                results[index] = success(notifications.get(index),
+                        "projects/" + credentials.getProjectId() + "/messages/" + UUID.randomUUID());
+            }
+            log.info("[{}] Multicast sent: {} successes, 0 failures", PROVIDER_NAME, multicast.size());
+        }
+        return Arrays.asList(results);
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return MAX_MULTICAST_TOKENS;
     }
 
     @Override
@@ -54,4 +117,95 @@ public class FirebasePushSender implements NotificationSender<PushNotification>
     public String getProviderName() {
         return PROVIDER_NAME;
     }
+
+    @Override
+    public String getAccountId() {
+        return credentials.getAccountKey();
+    }
+
+    private List<List<Integer>> groupByContent(List<PushNotification> notifications) {
+        Map<List<Object>, List<Integer>> groups = new HashMap<>();
+        List<List<Integer>> multicasts = new ArrayList<>();
+        for (int i = 0; i < notifications.size(); i++) {
+            PushNotification push = notifications.get(i);
+            List<Object> content = Arrays.asList(push.getTitle(), push.getBody(), push.getData());
+            List<Integer> group = groups.get(content);
+            if (group == null || group.size() == MAX_MULTICAST_TOKENS) {
+                group = new ArrayList<>();
+                groups.put(content, group);
+                multicasts.add(group);
+            }
+            group.add(i);
+        }
+        return multicasts;
+    }
+
+    private List<NotificationResult> sendOverTransport(List<PushNotification> notifications) {
+        log.info("[{}] Sending {} pushes multiplexed over the shared connection", PROVIDER_NAME, notifications.size());
+        NotificationResult[] results = new NotificationResult[notifications.size()];
+        CompletableFuture<?>[] pending = new CompletableFuture<?>[notifications.size()];
+        for (int i = 0; i < notifications.size(); i++) {
+            int index = i;
+            PushNotification notification = notifications.get(index);
+            pending[index] = post(notification).handle((response, error) -> {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error;
+                if (cause == null && !response.isSuccess()) {
+                    cause = response.failure(PROVIDER_NAME);
+                }
+                results[index] = cause == null
+                        ? success(notification, response.field("name"))
+                        : failed(notification, cause instanceof ProviderException provider ? provider.getErrorCode() : null,
+                                cause.getMessage());
+                return null;
+            });
+        }
+        HttpTransport.await(CompletableFuture.allOf(pending), PROVIDER_NAME);
+        long failures = Arrays.stream(results).filter(result -> !result.isSuccess()).count();
+        log.info("[{}] Multicast sent: {} successes, {} failures", PROVIDER_NAME, results.length - failures, failures);
+        return Arrays.asList(results);
+    }
+
+    private CompletableFuture<TransportResponse> post(PushNotification notification) {
+        StringBuilder json = new StringBuilder("{\"message\":{\"token\":")
+                .append(Json.string(notification.getRecipient().getDeviceToken()))
+                .append(",\"notification\":{\"title\":").append(Json.string(notification.getTitle()))
+                .append(",\"body\":").append(Json.string(notification.getBody())).append('}');
+        if (notification.getData() != null && !notification.getData().isEmpty()) {
+            json.append(",\"data\":{");
+            String separator = "";
+            for (Map.Entry<String, Object> entry : notification.getData().entrySet()) {
+                json.append(separator).append(Json.string(entry.getKey())).append(':')
+                        .append(Json.string(String.valueOf(entry.getValue())));
+                separator = ",";
+            }
+            json.append('}');
+        }
+        json.append("}}");
+        URI uri = URI.create(credentials.baseUrlOr(DEFAULT_BASE_URL)
+                + "/v1/projects/" + credentials.getProjectId() + "/messages:send");
+        return transport.postJson(uri, HttpTransport.bearer(credentials.getAuthToken()), json.toString());
+    }
+
+    private NotificationResult failed(PushNotification notification, String errorCode, String errorMessage) {
+        return NotificationResult.builder()
+                .notificationId(notification.getId())
+                .status(NotificationStatus.FAILED)
+                .errorCode(errorCode)
+                .errorMessage(errorMessage)
+                .providerName(PROVIDER_NAME)
+                .timestamp(Instant.now())
+                .build();
+    }
+
+    private NotificationResult success(PushNotification notification, String providerMessageId) {
+        return NotificationResult.builder()
+                .notificationId(notification.getId())
+                .status(NotificationStatus.SUCCESS)
+                .providerMessageId(providerMessageId)
+                .providerName(PROVIDER_NAME)
+                .timestamp(Instant.now())
+                .build();
+    }
 }
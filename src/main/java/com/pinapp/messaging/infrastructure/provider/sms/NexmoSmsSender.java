@@ -5,34 +5,42 @@ import com.pinapp.messaging.domain.NotificationResult;
 import com.pinapp.messaging.domain.NotificationStatus;
 import com.pinapp.messaging.domain.sms.SmsNotification;
 import com.pinapp.messaging.infrastructure.config.ProviderCredentials;
+import com.pinapp.messaging.infrastructure.http.HttpTransport;
+import com.pinapp.messaging.infrastructure.http.TransportResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.URI;
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletionStage;
 
 public class NexmoSmsSender implements NotificationSender<SmsNotification> {
 
     private static final Logger log = LoggerFactory.getLogger(NexmoSmsSender.class);
     private static final String PROVIDER_NAME = "Nexmo";
+    private static final String DEFAULT_BASE_URL = "https://rest.nexmo.com";
 
     private final ProviderCredentials credentials;
+    private final HttpTransport transport;
 
     public NexmoSmsSender(ProviderCredentials credentials) {
+        this(credentials, null);
+    }
+
+    public NexmoSmsSender(ProviderCredentials credentials, HttpTransport transport) {
         this.credentials = credentials;
+        this.transport = transport;
     }
 
     @Override
     public NotificationResult send(SmsNotification notification) {
-        String bodyPreview = notification.getBody().substring(
-                0, Math.min(50, notification.getBody().length())
-        ) + "...";
-
-        log.info("[{}] Sending SMS to: {} | Body: {}",
-                PROVIDER_NAME,
-                notification.getRecipient().getPhoneNumber(),
-                bodyPreview
-        );
+        if (transport != null) {
+            return HttpTransport.await(sendAsync(notification), PROVIDER_NAME);
+        }
+        logSending(notification);
 
         String providerMessageId = "nexmo-" + UUID.randomUUID();
 
@@ -47,6 +55,23 @@ public class NexmoSmsSender implements NotificationSender<SmsNotification> {
                 .build();
     }
 
+    @Override
+    public CompletionStage<NotificationResult> sendAsync(SmsNotification notification) {
+        if (transport == null) {
+            return NotificationSender.super.sendAsync(notification);
+        }
+        logSending(notification);
+
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("api_key", credentials.getApiKey());
+        form.put("api_secret", credentials.getApiSecret());
+        form.put("from", credentials.getFromNumber());
+        form.put("to", notification.getRecipient().getPhoneNumber());
+        form.put("text", notification.getBody());
+        return transport.postForm(URI.create(credentials.baseUrlOr(DEFAULT_BASE_URL) + "/sms/json"), null, form)
+                .thenApply(response -> toResult(notification, response));
+    }
+
     @Override
     public Class<SmsNotification> getNotificationType() {
         return SmsNotification.class;
@@ -56,4 +81,46 @@ public class NexmoSmsSender implements NotificationSender<SmsNotification> {
     public String getProviderName() {
         return PROVIDER_NAME;
     }
+
+    @Override
+    public String getAccountId() {
+        return credentials.getAccountKey();
+    }
+
+    private void logSending(SmsNotification notification) {
+        String bodyPreview = notification.getBody().substring(
+                0, Math.min(50, notification.getBody().length())
+        ) + "...";
+
+        log.info("[{}] Sending SMS to: {} | Body: {}",
+                PROVIDER_NAME,
+                notification.getRecipient().getPhoneNumber(),
+                bodyPreview
+        );
+    }
+
+    private NotificationResult toResult(SmsNotification notification, TransportResponse response) {
+        if (!response.isSuccess()) {
+            throw response.failure(PROVIDER_NAME);
+        }
+        String status = response.field("status");
+        NotificationResult.NotificationResultBuilder result = NotificationResult.builder()
+                .notificationId(notification.getId())
+                .providerName(PROVIDER_NAME)
+                .timestamp(Instant.now());
+        if (!"0".equals(status)) {
+            log.warn("[{}] SMS rejected with status {}: {}", PROVIDER_NAME, status, response.field("error-text"));
+            return result
+                    .status(NotificationStatus.FAILED)
+                    .errorCode(status)
+                    .errorMessage(response.field("error-text"))
+                    .build();
+        }
+        String providerMessageId = response.field("message-id");
+        log.info("[{}] SMS sent successfully. Message ID: {}", PROVIDER_NAME, providerMessageId);
+        return result
+                .status(NotificationStatus.SUCCESS)
+                .providerMessageId(providerMessageId)
+                .build();
+    }
 }
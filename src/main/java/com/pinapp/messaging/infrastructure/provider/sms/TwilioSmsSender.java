@@ -5,25 +5,83 @@ import com.pinapp.messaging.domain.NotificationResult;
 import com.pinapp.messaging.domain.NotificationStatus;
 import com.pinapp.messaging.domain.sms.SmsNotification;
 import com.pinapp.messaging.infrastructure.config.ProviderCredentials;
+import com.pinapp.messaging.infrastructure.http.HttpTransport;
+import com.pinapp.messaging.infrastructure.http.TransportResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.URI;
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletionStage;
 
 public class TwilioSmsSender implements NotificationSender<SmsNotification> {
 
     private static final Logger log = LoggerFactory.getLogger(TwilioSmsSender.class);
     private static final String PROVIDER_NAME = "Twilio";
+    private static final String DEFAULT_BASE_URL = "https://api.twilio.com";
 
     private final ProviderCredentials credentials;
+    private final HttpTransport transport;
 
     public TwilioSmsSender(ProviderCredentials credentials) {
+        this(credentials, null);
+    }
+
+    public TwilioSmsSender(ProviderCredentials credentials, HttpTransport transport) {
         this.credentials = credentials;
+        this.transport = transport;
     }
 
     @Override
     public NotificationResult send(SmsNotification notification) {
+        if (transport != null) {
+            return HttpTransport.await(sendAsync(notification), PROVIDER_NAME);
+        }
+        logSending(notification);
+
+        String providerMessageId = "SM" + UUID.randomUUID().toString().replace("-", "").substring(0, 32);
+
+        log.info("[{}] SMS sent successfully. SID: {}", PROVIDER_NAME, providerMessageId);
+
+        return success(notification, providerMessageId);
+    }
+
+    @Override
+    public CompletionStage<NotificationResult> sendAsync(SmsNotification notification) {
+        if (transport == null) {
+            return NotificationSender.super.sendAsync(notification);
+        }
+        logSending(notification);
+
+        URI uri = URI.create(credentials.baseUrlOr(DEFAULT_BASE_URL)
+                + "/2010-04-01/Accounts/" + credentials.getAccountSid() + "/Messages.json");
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("To", notification.getRecipient().getPhoneNumber());
+        form.put("From", credentials.getFromNumber());
+        form.put("Body", notification.getBody());
+        return transport.postForm(uri, HttpTransport.basic(credentials.getAccountSid(), credentials.getAuthToken()), form)
+                .thenApply(response -> toResult(notification, response));
+    }
+
+    @Override
+    public Class<SmsNotification> getNotificationType() {
+        return SmsNotification.class;
+    }
+
+    @Override
+    public String getProviderName() {
+        return PROVIDER_NAME;
+    }
+
+    @Override
+    public String getAccountId() {
+        return credentials.getAccountKey();
+    }
+
+    private void logSending(SmsNotification notification) {
         String bodyPreview = notification.getBody().substring(
                 0, Math.min(50, notification.getBody().length())
         ) + "...";
@@ -33,11 +91,18 @@ public class TwilioSmsSender implements NotificationSender<SmsNotification> {
                 notification.getRecipient().getPhoneNumber(),
                 bodyPreview
         );
+    }
 
-        String providerMessageId = "SM" + UUID.randomUUID().toString().replace("-", "").substring(0, 32);
-
+    private NotificationResult toResult(SmsNotification notification, TransportResponse response) {
+        if (!response.isSuccess()) {
+            throw response.failure(PROVIDER_NAME);
+        }
+        String providerMessageId = response.field("sid");
         log.info("[{}] SMS sent successfully. SID: {}", PROVIDER_NAME, providerMessageId);
+        return success(notification, providerMessageId);
+    }
 
+    private NotificationResult success(SmsNotification notification, String providerMessageId) {
         return NotificationResult.builder()
                 .notificationId(notification.getId())
                 .status(NotificationStatus.SUCCESS)
@@ -46,14 +111,4 @@ public class TwilioSmsSender implements NotificationSender<SmsNotification> {
                 .timestamp(Instant.now())
                 .build();
     }
-
-    @Override
-    public Class<SmsNotification> getNotificationType() {
-        return SmsNotification.class;
-    }
-
-    @Override
-    public String getProviderName() {
-        return PROVIDER_NAME;
-    }
 }
@@ -0,0 +1,51 @@
+package com.pinapp.messaging.infrastructure.pubsub;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSerializer;
+import com.pinapp.messaging.application.codec.EventCodec;
+import com.pinapp.messaging.application.event.NotificationEvent;
+import com.pinapp.messaging.application.exception.MessagingException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+public class JsonEventCodec implements EventCodec {
+
+    public static final String CONTENT_TYPE = "application/json";
+    public static final int SCHEMA_VERSION = 1;
+
+    private final Gson gson = new GsonBuilder()
+            .registerTypeAdapter(Instant.class, (JsonSerializer<Instant>) (instant, type, context) ->
+                    new JsonPrimitive(instant.toString()))
+            .registerTypeAdapter(Instant.class, (JsonDeserializer<Instant>) (json, type, context) ->
+                    Instant.parse(json.getAsString()))
+            .create();
+
+    @Override
+    public String getContentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public int getSchemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    public byte[] encode(NotificationEvent event) {
+        return gson.toJson(event).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public NotificationEvent decode(byte[] bytes) {
+        try {
+            return gson.fromJson(new String(bytes, StandardCharsets.UTF_8), NotificationEvent.class);
+        } catch (JsonParseException e) {
+            throw new MessagingException("Cannot decode event: " + e.getMessage(), e);
+        }
+    }
+}
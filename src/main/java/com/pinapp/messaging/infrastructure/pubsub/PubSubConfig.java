@@ -1,8 +1,11 @@
 package com.pinapp.messaging.infrastructure.pubsub;
 
+import com.pinapp.messaging.application.codec.EventCodec;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.Duration;
+
 @Builder
 @Getter
 public class PubSubConfig {
@@ -11,6 +14,48 @@ public class PubSubConfig {
     private final String statusTopic;
     private final String requestSubscription;
 
+    @Builder.Default
+    private final long batchElementCount = 100;
+
+    @Builder.Default
+    private final long batchRequestBytes = 1024 * 1024;
+
+    @Builder.Default
+    private final Duration batchDelay = Duration.ofMillis(10);
+
+    @Builder.Default
+    private final long maxOutstandingEvents = 10_000;
+
+    @Builder.Default
+    private final long maxOutstandingBytes = 64L * 1024 * 1024;
+
+    @Builder.Default
+    private final boolean compression = false;
+
+    @Builder.Default
+    private final long compressionBytesThreshold = 240;
+
+    @Builder.Default
+    private final EventCodec eventCodec = new JsonEventCodec();
+
+    @Builder.Default
+    private final int parallelPullCount = 1;
+
+    @Builder.Default
+    private final int subscriberThreads = 4;
+
+    @Builder.Default
+    private final boolean subscriberVirtualThreads = true;
+
+    @Builder.Default
+    private final long maxOutstandingMessages = 1_000;
+
+    @Builder.Default
+    private final long maxOutstandingMessageBytes = 100L * 1024 * 1024;
+
+    @Builder.Default
+    private final Duration maxAckExtensionPeriod = Duration.ofMinutes(60);
+
     public static PubSubConfig of(String projectId, String statusTopic, String requestSubscription) {
         return PubSubConfig.builder()
                 .projectId(projectId)
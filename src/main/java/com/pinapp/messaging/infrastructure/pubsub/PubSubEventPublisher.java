@@ -1,36 +1,84 @@
 package com.pinapp.messaging.infrastructure.pubsub;
 
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.gax.batching.BatchingSettings;
+import com.google.api.gax.batching.FlowControlSettings;
+import com.google.api.gax.batching.FlowController;
 import com.google.cloud.pubsub.v1.Publisher;
-import com.google.gson.Gson;
-import com.google.protobuf.ByteString;
+import com.google.cloud.pubsub.v1.PublisherInterface;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.protobuf.UnsafeByteOperations;
 import com.google.pubsub.v1.PubsubMessage;
 import com.google.pubsub.v1.TopicName;
+import com.pinapp.messaging.application.codec.EventCodec;
 import com.pinapp.messaging.application.event.NotificationEvent;
+import com.pinapp.messaging.application.exception.ConfigurationException;
 import com.pinapp.messaging.application.port.EventPublisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
 
 public class PubSubEventPublisher implements EventPublisher {
 
     private static final Logger log = LoggerFactory.getLogger(PubSubEventPublisher.class);
 
     private final PubSubConfig config;
-    private final Gson gson;
-    private Publisher publisher;
+    private final EventCodec codec;
+    private final String schemaVersion;
+    private final PublisherInterface publisher;
+    private final BiConsumer<NotificationEvent, Throwable> onFailure;
+    private final Semaphore outstanding;
+    private final LongAdder published = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
 
     public PubSubEventPublisher(PubSubConfig config) {
+        this(config, (event, error) -> { });
+    }
+
+    public PubSubEventPublisher(PubSubConfig config, BiConsumer<NotificationEvent, Throwable> onFailure) {
+        this(config, initPublisher(config), onFailure);
+    }
+
+    PubSubEventPublisher(PubSubConfig config, PublisherInterface publisher, BiConsumer<NotificationEvent, Throwable> onFailure) {
+        if (config.getMaxOutstandingEvents() <= 0 || config.getMaxOutstandingEvents() > Integer.MAX_VALUE) {
+            throw new ConfigurationException("PubSub max outstanding events must be between 1 and " + Integer.MAX_VALUE);
+        }
         this.config = config;
-        this.gson = new Gson();
-        initPublisher();
+        this.codec = config.getEventCodec() != null ? config.getEventCodec() : new JsonEventCodec();
+        this.schemaVersion = Integer.toString(codec.getSchemaVersion());
+        this.publisher = publisher;
+        this.onFailure = onFailure;
+        this.outstanding = new Semaphore((int) config.getMaxOutstandingEvents());
     }
 
-    private void initPublisher() {
+    private static Publisher initPublisher(PubSubConfig config) {
         try {
             TopicName topicName = TopicName.of(config.getProjectId(), config.getStatusTopic());
-            this.publisher = Publisher.newBuilder(topicName).build();
-            log.info("PubSub publisher initialized for topic: {}", config.getStatusTopic());
+            Publisher publisher = Publisher.newBuilder(topicName)
+                    .setBatchingSettings(BatchingSettings.newBuilder()
+                            .setElementCountThreshold(config.getBatchElementCount())
+                            .setRequestByteThreshold(config.getBatchRequestBytes())
+                            .setDelayThreshold(org.threeten.bp.Duration.ofNanos(config.getBatchDelay().toNanos()))
+                            .setFlowControlSettings(FlowControlSettings.newBuilder()
+                                    .setMaxOutstandingElementCount(config.getMaxOutstandingEvents())
+                                    .setMaxOutstandingRequestBytes(config.getMaxOutstandingBytes())
+                                    .setLimitExceededBehavior(FlowController.LimitExceededBehavior.ThrowException)
+                                    .build())
+                            .build())
+                    .setEnableCompression(config.isCompression())
+                    .setCompressionBytesThreshold(config.getCompressionBytesThreshold())
+                    .build();
+            log.info("PubSub publisher initialized for topic: {} (batch {} events / {} bytes / {} ms)",
+                    config.getStatusTopic(), config.getBatchElementCount(), config.getBatchRequestBytes(),
+                    config.getBatchDelay().toMillis());
+            return publisher;
         } catch (Exception e) {
             log.error("Failed to initialize PubSub publisher", e);
             throw new RuntimeException("Failed to initialize PubSub publisher", e);
@@ -39,31 +87,96 @@ public class PubSubEventPublisher implements EventPublisher {
 
     @Override
     public void publish(NotificationEvent event) {
-        try {
-            String json = gson.toJson(event);
-            PubsubMessage message = PubsubMessage.newBuilder()
-                    .setData(ByteString.copyFromUtf8(json))
-                    .putAttributes("eventType", event.getEventType().name())
-                    .putAttributes("notificationId", event.getNotificationId())
-                    .putAttributes("notificationType", event.getNotificationType())
-                    .build();
+        if (!outstanding.tryAcquire()) {
+            dropped.increment();
+            log.debug("Dropped event {} for notification {}: {} events outstanding",
+                    event.getEventType(), event.getNotificationId(), config.getMaxOutstandingEvents());
+            return;
+        }
 
-            publisher.publish(message).get();
-            log.debug("Published event: {} for notification: {}",
-                    event.getEventType(), event.getNotificationId());
-        } catch (Exception e) {
-            log.error("Failed to publish event: {}", event, e);
+        ApiFuture<String> future;
+        try {
+            future = publisher.publish(toMessage(event));
+        } catch (RuntimeException e) {
+            outstanding.release();
+            failed(event, e);
+            return;
         }
+        ApiFutures.addCallback(future, new ApiFutureCallback<>() {
+            @Override
+            public void onSuccess(String messageId) {
+                outstanding.release();
+                published.increment();
+                log.debug("Published event: {} for notification: {}",
+                        event.getEventType(), event.getNotificationId());
+            }
+
+            @Override
+            public void onFailure(Throwable error) {
+                outstanding.release();
+                failed(event, error);
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getOutstandingCount() {
+        return config.getMaxOutstandingEvents() - outstanding.availablePermits();
     }
 
     public void shutdown() {
-        if (publisher != null) {
+        if (publisher instanceof Publisher pubSub) {
             try {
-                publisher.shutdown();
-                publisher.awaitTermination(30, TimeUnit.SECONDS);
+                pubSub.shutdown();
+                pubSub.awaitTermination(30, TimeUnit.SECONDS);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
             }
         }
+        log.info("PubSub publisher stopped: {} published, {} failed, {} dropped",
+                getPublishedCount(), getFailedCount(), getDroppedCount());
+    }
+
+    private PubsubMessage toMessage(NotificationEvent event) {
+        PubsubMessage.Builder message = PubsubMessage.newBuilder()
+                .setData(UnsafeByteOperations.unsafeWrap(codec.encode(event)))
+                .putAttributes("contentType", codec.getContentType())
+                .putAttributes("schemaVersion", schemaVersion)
+                .putAttributes("eventType", event.getEventType().name());
+        if (event.getNotificationId() != null) {
+            message.putAttributes("notificationId", event.getNotificationId());
+        }
+        if (event.getNotificationType() != null) {
+            message.putAttributes("notificationType", event.getNotificationType());
+        }
+        return message.build();
+    }
+
+    private void failed(NotificationEvent event, Throwable error) {
+        if (error instanceof FlowController.FlowControlException) {
+            dropped.increment();
+            log.debug("Dropped event {} for notification {}: {}",
+                    event.getEventType(), event.getNotificationId(), error.getMessage());
+            return;
+        }
+        failed.increment();
+        log.error("Failed to publish event {} for notification {}: {}",
+                event.getEventType(), event.getNotificationId(), error.getMessage());
+        try {
+            onFailure.accept(event, error);
+        } catch (RuntimeException e) {
+            log.warn("Event failure callback threw: {}", e.getMessage());
+        }
     }
 }
@@ -1,5 +1,8 @@
 package com.pinapp.messaging.infrastructure.pubsub;
 
+import com.google.api.gax.batching.FlowControlSettings;
+import com.google.api.gax.batching.FlowController;
+import com.google.api.gax.core.InstantiatingExecutorProvider;
 import com.google.cloud.pubsub.v1.AckReplyConsumer;
 import com.google.cloud.pubsub.v1.MessageReceiver;
 import com.google.cloud.pubsub.v1.Subscriber;
@@ -7,14 +10,19 @@ import com.google.gson.Gson;
 import com.google.pubsub.v1.ProjectSubscriptionName;
 import com.google.pubsub.v1.PubsubMessage;
 import com.pinapp.messaging.MessagingClient;
+import com.pinapp.messaging.application.exception.ConfigurationException;
 import com.pinapp.messaging.application.port.MessageSubscriber;
 import com.pinapp.messaging.domain.Notification;
 import com.pinapp.messaging.domain.NotificationResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class PubSubMessageSubscriber implements MessageSubscriber {
 
@@ -23,10 +31,16 @@ public class PubSubMessageSubscriber implements MessageSubscriber {
     private final PubSubConfig config;
     private final MessagingClient client;
     private final Gson gson;
+    private final AtomicInteger inFlight = new AtomicInteger();
     private Subscriber subscriber;
     private volatile boolean running = false;
 
     public PubSubMessageSubscriber(PubSubConfig config, MessagingClient client) {
+        if (config.getParallelPullCount() <= 0 || config.getSubscriberThreads() <= 0
+                || config.getMaxOutstandingMessages() <= 0 || config.getMaxOutstandingMessageBytes() <= 0) {
+            throw new ConfigurationException(
+                    "PubSub subscriber needs positive parallel pulls, threads and outstanding message limits");
+        }
         this.config = config;
         this.client = client;
         this.gson = new Gson();
@@ -46,34 +60,65 @@ public class PubSubMessageSubscriber implements MessageSubscriber {
 
         MessageReceiver receiver = this::handleMessage;
 
-        subscriber = Subscriber.newBuilder(subscriptionName, receiver).build();
+        ThreadFactory threads = config.isSubscriberVirtualThreads()
+                ? Thread.ofVirtual().name("pinapp-pubsub-subscriber-", 0).factory()
+                : Thread.ofPlatform().name("pinapp-pubsub-subscriber-", 0).daemon().factory();
+        subscriber = Subscriber.newBuilder(subscriptionName, receiver)
+                .setParallelPullCount(config.getParallelPullCount())
+                .setExecutorProvider(InstantiatingExecutorProvider.newBuilder()
+                        .setExecutorThreadCount(config.getSubscriberThreads())
+                        .setThreadFactory(threads)
+                        .build())
+                .setFlowControlSettings(FlowControlSettings.newBuilder()
+                        .setMaxOutstandingElementCount(config.getMaxOutstandingMessages())
+                        .setMaxOutstandingRequestBytes(config.getMaxOutstandingMessageBytes())
+                        .setLimitExceededBehavior(FlowController.LimitExceededBehavior.Block)
+                        .build())
+                .setMaxAckExtensionPeriod(org.threeten.bp.Duration.ofNanos(config.getMaxAckExtensionPeriod().toNanos()))
+                .build();
         subscriber.startAsync().awaitRunning();
         running = true;
 
-        log.info("PubSub subscriber started for subscription: {}", config.getRequestSubscription());
+        log.info("PubSub subscriber started for subscription: {} ({} pulls, {} outstanding messages, ack extension {})",
+                config.getRequestSubscription(), config.getParallelPullCount(), config.getMaxOutstandingMessages(),
+                config.getMaxAckExtensionPeriod());
     }
 
-    private void handleMessage(PubsubMessage message, AckReplyConsumer consumer) {
+    void handleMessage(PubsubMessage message, AckReplyConsumer consumer) {
+        Notification notification;
+        CompletableFuture<NotificationResult> sent;
         try {
             String json = message.getData().toStringUtf8();
             log.debug("Received message: {}", json);
 
             NotificationRequest request = gson.fromJson(json, NotificationRequest.class);
-            Notification notification = request.toNotification();
-
-            NotificationResult result = client.send(notification);
+            notification = request.toNotification();
+            sent = client.sendAsync(notification);
+        } catch (Exception e) {
+            log.error("Error processing message", e);
+            consumer.nack();
+            return;
+        }
 
-            if (result.isSuccess()) {
+        inFlight.incrementAndGet();
+        sent.whenComplete((result, error) -> {
+            inFlight.decrementAndGet();
+            if (error == null && result.isSuccess()) {
                 consumer.ack();
                 log.info("Message processed successfully: {}", notification.getId());
             } else {
                 consumer.nack();
-                log.warn("Message processing failed: {} - {}", notification.getId(), result.getErrorMessage());
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error;
+                log.warn("Message processing failed: {} - {}", notification.getId(),
+                        cause != null ? cause.getMessage() : result.getErrorMessage());
             }
-        } catch (Exception e) {
-            log.error("Error processing message", e);
-            consumer.nack();
-        }
+        });
+    }
+
+    public int getInFlightCount() {
+        return inFlight.get();
     }
 
     @Override
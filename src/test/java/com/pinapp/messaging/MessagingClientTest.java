@@ -1,8 +1,37 @@
 package com.pinapp.messaging;
 
+import com.pinapp.messaging.application.batching.BatchPolicy;
+import com.pinapp.messaging.application.channel.NotificationChannel;
+import com.pinapp.messaging.application.codec.NotificationCodec;
+import com.pinapp.messaging.application.deadletter.DeadLetter;
+import com.pinapp.messaging.application.deadletter.DeadLetterFilter;
+import com.pinapp.messaging.application.deadletter.DeadLetterPolicy;
+import com.pinapp.messaging.application.deadletter.DeadLetterReplay;
+import com.pinapp.messaging.application.deadletter.ReplayReport;
+import com.pinapp.messaging.application.event.EventType;
+import com.pinapp.messaging.application.event.NotificationEvent;
+import com.pinapp.messaging.application.exception.ClientClosedException;
 import com.pinapp.messaging.application.exception.ConfigurationException;
 import com.pinapp.messaging.application.exception.ValidationException;
+import com.pinapp.messaging.application.execution.ExecutorStrategy;
+import com.pinapp.messaging.application.idempotency.IdempotencyPolicy;
+import com.pinapp.messaging.application.lifecycle.ShutdownReport;
+import com.pinapp.messaging.application.outbox.OutboxPolicy;
+import com.pinapp.messaging.application.port.BatchNotificationSender;
+import com.pinapp.messaging.application.port.NotificationSender;
+import com.pinapp.messaging.application.ratelimit.RateLimit;
+import com.pinapp.messaging.application.resilience.CircuitBreakerConfig;
+import com.pinapp.messaging.application.retry.RetryPolicy;
+import com.pinapp.messaging.application.routing.LoadBalancingStrategy;
+import com.pinapp.messaging.application.scheduling.LanePolicy;
+import com.pinapp.messaging.application.scheduling.LaneStats;
+import com.pinapp.messaging.application.scheduling.ScheduledNotification;
+import com.pinapp.messaging.application.scheduling.SchedulerPolicy;
+import com.pinapp.messaging.domain.BulkNotificationResult;
+import com.pinapp.messaging.domain.Notification;
+import com.pinapp.messaging.domain.NotificationPriority;
 import com.pinapp.messaging.domain.NotificationResult;
+import com.pinapp.messaging.domain.NotificationStatus;
 import com.pinapp.messaging.domain.Recipient;
 import com.pinapp.messaging.domain.email.EmailNotification;
 import com.pinapp.messaging.domain.push.PushNotification;
@@ -12,12 +41,24 @@ import com.pinapp.messaging.infrastructure.provider.email.SendGridEmailSender;
 import com.pinapp.messaging.infrastructure.provider.push.FirebasePushSender;
 import com.pinapp.messaging.infrastructure.provider.sms.TwilioSmsSender;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -268,4 +309,807 @@ class MessagingClientTest {
 
         assertThat(results).containsExactly("SendGrid");
     }
+
+    @Test
+    void shouldSendAllGroupedByChannelPreservingOrder() {
+        MessagingClient client = MessagingClient.builder()
+                .withEmailSender(new SendGridEmailSender(
+                        ProviderCredentials.builder().apiKey("test").build()
+                ))
+                .withSmsSender(new TwilioSmsSender(
+                        ProviderCredentials.builder()
+                                .accountSid("test-sid")
+                                .authToken("test-token")
+                                .build()
+                ))
+                .withBulkParallelism(4)
+                .build();
+
+        List<Notification> notifications = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            if (i % 2 == 0) {
+                notifications.add(EmailNotification.builder()
+                        .id("email-" + i)
+                        .recipient(Recipient.builder().email("test" + i + "@example.com").build())
+                        .subject("Test " + i)
+                        .body("Body " + i)
+                        .build());
+            } else {
+                notifications.add(SmsNotification.builder()
+                        .id("sms-" + i)
+                        .recipient(Recipient.builder().phoneNumber("+5491155551234").build())
+                        .body("Test SMS " + i)
+                        .build());
+            }
+        }
+
+        BulkNotificationResult result = client.sendAll(notifications);
+
+        assertThat(result.getTotal()).isEqualTo(20);
+        assertThat(result.isAllSuccess()).isTrue();
+        assertThat(result.getResults())
+                .extracting(NotificationResult::getNotificationId)
+                .containsExactlyElementsOf(notifications.stream().map(Notification::getId).toList());
+    }
+
+    @Test
+    void shouldStreamNotificationsWithBackpressure() throws Exception {
+        MessagingClient client = MessagingClient.builder()
+                .withSmsSender(new TwilioSmsSender(ProviderCredentials.builder().accountSid("test-sid").build()))
+                .build();
+        List<NotificationResult> results = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+
+        try (SubmissionPublisher<Notification> source = new SubmissionPublisher<>(Runnable::run, 16)) {
+            client.stream(source, 8).subscribe(new Flow.Subscriber<>() {
+                private Flow.Subscription subscription;
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    this.subscription = subscription;
+                    subscription.request(10);
+                }
+
+                @Override
+                public void onNext(NotificationResult result) {
+                    results.add(result);
+                    if (results.size() % 10 == 0) {
+                        subscription.request(10);
+                    }
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    completed.countDown();
+                }
+
+                @Override
+                public void onComplete() {
+                    completed.countDown();
+                }
+            });
+
+            CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 500; i++) {
+                    source.submit(SmsNotification.builder()
+                            .id("sms-" + i)
+                            .recipient(Recipient.builder().phoneNumber(i == 7 ? "" : "+5491155551234").build())
+                            .body("Stream " + i)
+                            .build());
+                }
+                source.close();
+            });
+
+            assertThat(completed.await(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(results).hasSize(500);
+        assertThat(results).filteredOn(result -> !result.isSuccess())
+                .extracting(NotificationResult::getNotificationId)
+                .containsExactly("sms-7");
+        client.close();
+    }
+
+    @Test
+    void shouldReportBulkFailuresWithoutAbortingTheBatch() {
+        MessagingClient client = MessagingClient.builder()
+                .withEmailSender(new SendGridEmailSender(
+                        ProviderCredentials.builder().apiKey("test").build()
+                ))
+                .build();
+
+        EmailNotification valid = EmailNotification.builder()
+                .id(UUID.randomUUID().toString())
+                .recipient(Recipient.builder().email("test@example.com").build())
+                .subject("Test")
+                .body("Body")
+                .build();
+
+        EmailNotification invalid = EmailNotification.builder()
+                .id(UUID.randomUUID().toString())
+                .recipient(Recipient.builder().email("invalid").build())
+                .subject("Test")
+                .body("Body")
+                .build();
+
+        SmsNotification unconfigured = SmsNotification.builder()
+                .id(UUID.randomUUID().toString())
+                .recipient(Recipient.builder().phoneNumber("+5491155551234").build())
+                .body("Test SMS")
+                .build();
+
+        BulkNotificationResult result = client.sendAllAsync(List.of(valid, invalid, unconfigured)).join();
+
+        assertThat(result.getSuccessCount()).isEqualTo(1);
+        assertThat(result.getFailureCount()).isEqualTo(2);
+        assertThat(result.getFailures())
+                .extracting(NotificationResult::getErrorMessage)
+                .containsExactly("Invalid email address", "No sms sender configured");
+    }
+
+    @Test
+    void shouldRejectSendsAfterClose() {
+        MessagingClient client = MessagingClient.builder()
+                .withEmailSender(new SendGridEmailSender(
+                        ProviderCredentials.builder().apiKey("test").build()
+                ))
+                .withExecutorStrategy(ExecutorStrategy.FIXED_PLATFORM_POOL, 2)
+                .build();
+
+        client.close();
+
+        EmailNotification email = EmailNotification.builder()
+                .id(UUID.randomUUID().toString())
+                .recipient(Recipient.builder().email("test@example.com").build())
+                .subject("Test")
+                .body("Body")
+                .build();
+
+        assertThatThrownBy(() -> client.send(email)).isInstanceOf(ClientClosedException.class);
+        assertThatThrownBy(() -> client.sendAll(List.of(email))).isInstanceOf(ClientClosedException.class);
+        assertThat(client.sendAsync(email)).isCompletedExceptionally();
+    }
+
+    @Test
+    void shouldDrainInFlightSendsAndReportAbandonedOnShutdown() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        NotificationSender<EmailNotification> blockingSender = new NotificationSender<>() {
+            @Override
+            public NotificationResult send(EmailNotification notification) {
+                if (notification.getId().startsWith("stuck")) {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return new SendGridEmailSender(ProviderCredentials.builder().apiKey("test").build())
+                        .send(notification);
+            }
+
+            @Override
+            public Class<EmailNotification> getNotificationType() {
+                return EmailNotification.class;
+            }
+
+            @Override
+            public String getProviderName() {
+                return "Blocking";
+            }
+        };
+
+        MessagingClient client = MessagingClient.builder()
+                .withEmailSender(blockingSender)
+                .build();
+
+        CompletableFuture<NotificationResult> fast = client.sendAsync(EmailNotification.builder()
+                .id("fast-1")
+                .recipient(Recipient.builder().email("test@example.com").build())
+                .subject("Test")
+                .body("Body")
+                .build());
+        CompletableFuture<NotificationResult> stuck = client.sendAsync(EmailNotification.builder()
+                .id("stuck-1")
+                .recipient(Recipient.builder().email("test@example.com").build())
+                .subject("Test")
+                .body("Body")
+                .build());
+        fast.join();
+
+        ShutdownReport report = client.shutdown(Duration.ofMillis(100));
+        release.countDown();
+
+        assertThat(report.isClean()).isFalse();
+        assertThat(report.getAbandonedNotificationIds()).containsExactly("stuck-1");
+        assertThat(stuck).isCompletedExceptionally();
+    }
+
+    @Test
+    void shouldFailFastAndPublishEventWhenCircuitOpens() {
+        AtomicInteger calls = new AtomicInteger();
+        NotificationSender<EmailNotification> failingSender = new NotificationSender<>() {
+            @Override
+            public NotificationResult send(EmailNotification notification) {
+                calls.incrementAndGet();
+                throw new IllegalStateException("503 Service Unavailable");
+            }
+
+            @Override
+            public Class<EmailNotification> getNotificationType() {
+                return EmailNotification.class;
+            }
+
+            @Override
+            public String getProviderName() {
+                return "Flaky";
+            }
+        };
+        List<NotificationEvent> events = new CopyOnWriteArrayList<>();
+
+        MessagingClient client = MessagingClient.builder()
+                .withEmailSender(failingSender)
+                .withRetryPolicy(RetryPolicy.of(3, 0))
+                .withEventPublisher(events::add)
+                .withCircuitBreaker(CircuitBreakerConfig.builder()
+                        .slidingWindowSize(4)
+                        .minimumCalls(4)
+                        .waitDurationInOpenState(Duration.ofMinutes(1))
+                        .build())
+                .build();
+
+        for (int i = 0; i < 4; i++) {
+            client.send(EmailNotification.builder()
+                    .id("email-" + i)
+                    .recipient(Recipient.builder().email("test@example.com").build())
+                    .subject("Test")
+                    .body("Body")
+                    .build());
+        }
+
+        assertThat(calls.get()).isEqualTo(4);
+        assertThat(events)
+                .filteredOn(event -> event.getEventType() == EventType.CIRCUIT_OPENED)
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getProviderName()).isEqualTo("Flaky");
+                    assertThat(event.getNotificationType()).isEqualTo("EMAIL");
+                });
+        assertThat(events)
+                .filteredOn(event -> event.getEventType() == EventType.FAILED)
+                .extracting(NotificationEvent::getAttemptNumber)
+                .containsExactly(3, 2, 1, 1);
+    }
+
+    @Test
+    void shouldShareRateLimitAcrossSendersOfTheSameAccount() {
+        ProviderCredentials account = ProviderCredentials.builder().accountSid("AC123").build();
+        MessagingClient client = MessagingClient.builder()
+                .withSmsSenders(LoadBalancingStrategy.WEIGHTED_ROUND_ROBIN,
+                        List.of(new TwilioSmsSender(account), new TwilioSmsSender(account)))
+                .withRateLimit("Twilio", RateLimit.of(20))
+                .build();
+
+        long start = System.nanoTime();
+        List<CompletableFuture<NotificationResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            futures.add(client.sendAsync(SmsNotification.builder()
+                    .id(UUID.randomUUID().toString())
+                    .recipient(Recipient.builder().phoneNumber("+5491155551234").build())
+                    .body("Test SMS")
+                    .build()));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        assertThat(futures).allSatisfy(future -> assertThat(future.join().isSuccess()).isTrue());
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(240));
+    }
+
+    @Test
+    void shouldNotTripCircuitBreakerWhileOurOwnRateLimitThrottles() {
+        List<NotificationEvent> events = new CopyOnWriteArrayList<>();
+        MessagingClient client = MessagingClient.builder()
+                .withSmsSender(new TwilioSmsSender(ProviderCredentials.builder().accountSid("AC123").build()))
+                .withRetryPolicy(RetryPolicy.of(1, 0))
+                .withEventPublisher(events::add)
+                .withRateLimit("Twilio", RateLimit.builder()
+                        .permitsPerSecond(20)
+                        .maxWait(Duration.ofMillis(300))
+                        .build())
+                .withCircuitBreaker(CircuitBreakerConfig.builder()
+                        .slidingWindowSize(4)
+                        .minimumCalls(4)
+                        .slowCallDuration(Duration.ofMillis(20))
+                        .waitDurationInOpenState(Duration.ofMinutes(1))
+                        .build())
+                .build();
+
+        List<CompletableFuture<NotificationResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            futures.add(client.sendAsync(SmsNotification.builder()
+                    .id("sms-" + i)
+                    .recipient(Recipient.builder().phoneNumber("+5491155551234").build())
+                    .body("Test SMS")
+                    .build()));
+        }
+        List<NotificationResult> results = futures.stream().map(CompletableFuture::join).toList();
+
+        assertThat(results).anySatisfy(result -> assertThat(result.getErrorMessage()).contains("Rate limit"));
+        assertThat(results).filteredOn(NotificationResult::isSuccess).hasSizeGreaterThanOrEqualTo(5);
+        assertThat(events).noneMatch(event -> event.getEventType() == EventType.CIRCUIT_OPENED);
+    }
+
+    @Test
+    void shouldReturnCachedResultForDuplicateNotificationId() {
+        AtomicInteger calls = new AtomicInteger();
+        NotificationSender<SmsNotification> countingSender = new NotificationSender<>() {
+            private final TwilioSmsSender twilio = new TwilioSmsSender(ProviderCredentials.builder().build());
+
+            @Override
+            public NotificationResult send(SmsNotification notification) {
+                calls.incrementAndGet();
+                return twilio.send(notification);
+            }
+
+            @Override
+            public Class<SmsNotification> getNotificationType() {
+                return SmsNotification.class;
+            }
+
+            @Override
+            public String getProviderName() {
+                return "Twilio";
+            }
+        };
+
+        MessagingClient client = MessagingClient.builder()
+                .withSmsSender(countingSender)
+                .withIdempotency(IdempotencyPolicy.of(1_000, Duration.ofMinutes(5)))
+                .build();
+
+        SmsNotification otp = SmsNotification.builder()
+                .id("otp-42")
+                .recipient(Recipient.builder().phoneNumber("+5491155551234").build())
+                .body("Tu código es 1234")
+                .build();
+
+        NotificationResult first = client.send(otp);
+        NotificationResult redelivered = client.sendAsync(otp).join();
+        BulkNotificationResult bulk = client.sendAll(List.of(otp, otp));
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(redelivered.getProviderMessageId()).isEqualTo(first.getProviderMessageId());
+        assertThat(bulk.getResults())
+                .extracting(NotificationResult::getProviderMessageId)
+                .containsOnly(first.getProviderMessageId());
+    }
+
+    @Test
+    void shouldDispatchCriticalNotificationsAheadOfQueuedCampaign() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> sent = new CopyOnWriteArrayList<>();
+        NotificationSender<SmsNotification> slowSender = new NotificationSender<>() {
+            private final TwilioSmsSender twilio = new TwilioSmsSender(ProviderCredentials.builder().build());
+
+            @Override
+            public NotificationResult send(SmsNotification notification) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                sent.add(notification.getId());
+                return twilio.send(notification);
+            }
+
+            @Override
+            public Class<SmsNotification> getNotificationType() {
+                return SmsNotification.class;
+            }
+
+            @Override
+            public String getProviderName() {
+                return "Twilio";
+            }
+        };
+
+        MessagingClient client = MessagingClient.builder()
+                .withSmsSender(slowSender)
+                .withPriorityLanes(LanePolicy.of(1))
+                .build();
+
+        List<CompletableFuture<NotificationResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(client.sendAsync(sms("campaign-" + i, NotificationPriority.LOW)));
+        }
+        futures.add(client.sendAsync(sms("otp", NotificationPriority.CRITICAL)));
+        release.countDown();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        assertThat(sent).hasSize(6);
+        assertThat(sent.indexOf("otp")).isEqualTo(1);
+        assertThat(client.getLaneStats())
+                .filteredOn(stats -> stats.getPriority() == NotificationPriority.LOW)
+                .extracting(LaneStats::getDispatched)
+                .containsExactly(5L);
+    }
+
+    @Test
+    void shouldSendScheduledNotificationOnlyWhenDue() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        NotificationSender<SmsNotification> countingSender = new NotificationSender<>() {
+            private final TwilioSmsSender twilio = new TwilioSmsSender(ProviderCredentials.builder().build());
+
+            @Override
+            public NotificationResult send(SmsNotification notification) {
+                calls.incrementAndGet();
+                return twilio.send(notification);
+            }
+
+            @Override
+            public Class<SmsNotification> getNotificationType() {
+                return SmsNotification.class;
+            }
+
+            @Override
+            public String getProviderName() {
+                return "Twilio";
+            }
+        };
+
+        MessagingClient client = MessagingClient.builder()
+                .withSmsSender(countingSender)
+                .withScheduler(SchedulerPolicy.builder().tick(Duration.ofMillis(10)).build())
+                .build();
+
+        ScheduledNotification reminder = client.sendAfter(sms("reminder", null), Duration.ofMillis(100));
+        ScheduledNotification cancelled = client.sendAt(sms("cancelled", null), Instant.now().plusMillis(100));
+
+        assertThat(cancelled.cancel()).isTrue();
+        assertThat(calls.get()).isZero();
+        assertThat(reminder.getResult().get(2, TimeUnit.SECONDS).isSuccess()).isTrue();
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(cancelled.getResult()).isCancelled();
+    }
+
+    @Test
+    void shouldValidateScheduledNotificationUpFront() {
+        MessagingClient client = MessagingClient.builder()
+                .withSmsSender(new TwilioSmsSender(ProviderCredentials.builder().build()))
+                .build();
+        SmsNotification invalid = SmsNotification.builder()
+                .recipient(Recipient.builder().phoneNumber("not-a-phone").build())
+                .body("Hola")
+                .build();
+
+        assertThatThrownBy(() -> client.sendAfter(invalid, Duration.ofMinutes(30)))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void shouldReplayUndeliveredOutboxEntriesOnNextStart(@TempDir Path outboxDir) throws Exception {
+        CountDownLatch hang = new CountDownLatch(1);
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        MessagingClient crashed = MessagingClient.builder()
+                .withSmsSender(recordingSmsSender(delivered, hang))
+                .withOutbox(OutboxPolicy.of(outboxDir))
+                .build();
+        crashed.sendAsync(sms("stuck", null));
+
+        CountDownLatch replayed = new CountDownLatch(1);
+        List<String> afterRestart = new CopyOnWriteArrayList<>();
+        try (MessagingClient restarted = MessagingClient.builder()
+                .withSmsSender(recordingSmsSender(afterRestart, new CountDownLatch(0)))
+                .withOutbox(OutboxPolicy.of(outboxDir))
+                .withEventPublisher(event -> {
+                    if (event.getEventType() == EventType.SUCCESS) {
+                        replayed.countDown();
+                    }
+                })
+                .build()) {
+            assertThat(replayed.await(2, TimeUnit.SECONDS)).isTrue();
+            assertThat(afterRestart).containsExactly("stuck");
+        } finally {
+            hang.countDown();
+        }
+    }
+
+    @Test
+    void shouldJournalBulkSendsInTheOutbox(@TempDir Path outboxDir) throws Exception {
+        CountDownLatch hang = new CountDownLatch(1);
+        MessagingClient crashed = MessagingClient.builder()
+                .withSmsSender(recordingSmsSender(new CopyOnWriteArrayList<>(), hang))
+                .withOutbox(OutboxPolicy.of(outboxDir))
+                .withBulkParallelism(2)
+                .build();
+        crashed.sendAllAsync(List.of(sms("bulk-1", null), sms("bulk-2", null)));
+
+        CountDownLatch replayed = new CountDownLatch(2);
+        List<String> afterRestart = new CopyOnWriteArrayList<>();
+        try (MessagingClient restarted = MessagingClient.builder()
+                .withSmsSender(recordingSmsSender(afterRestart, new CountDownLatch(0)))
+                .withOutbox(OutboxPolicy.of(outboxDir))
+                .withEventPublisher(event -> {
+                    if (event.getEventType() == EventType.SUCCESS) {
+                        replayed.countDown();
+                    }
+                })
+                .build()) {
+            assertThat(replayed.await(2, TimeUnit.SECONDS)).isTrue();
+            assertThat(afterRestart).containsExactlyInAnyOrder("bulk-1", "bulk-2");
+        } finally {
+            hang.countDown();
+        }
+    }
+
+    @Test
+    void shouldDeadLetterFailedSendsAndReplayThemLater(@TempDir Path deadLetterDir) throws Exception {
+        AtomicBoolean providerDown = new AtomicBoolean(true);
+        NotificationSender<SmsNotification> flaky = new NotificationSender<>() {
+            @Override
+            public NotificationResult send(SmsNotification notification) {
+                return NotificationResult.builder()
+                        .notificationId(notification.getId())
+                        .status(providerDown.get() ? NotificationStatus.FAILED : NotificationStatus.SUCCESS)
+                        .providerName(getProviderName())
+                        .errorCode(providerDown.get() ? "503" : null)
+                        .errorMessage(providerDown.get() ? "Service unavailable" : null)
+                        .timestamp(Instant.now())
+                        .build();
+            }
+
+            @Override
+            public Class<SmsNotification> getNotificationType() {
+                return SmsNotification.class;
+            }
+
+            @Override
+            public String getProviderName() {
+                return "Twilio";
+            }
+        };
+
+        try (MessagingClient client = MessagingClient.builder()
+                .withSmsSender(flaky)
+                .withRetryPolicy(RetryPolicy.of(2, 0))
+                .withDeadLetters(DeadLetterPolicy.of(deadLetterDir))
+                .build()) {
+            assertThat(client.send(sms("outage-1", null)).getStatus()).isEqualTo(NotificationStatus.FAILED);
+            assertThat(client.sendAsync(sms("outage-2", null)).get(2, TimeUnit.SECONDS).getStatus())
+                    .isEqualTo(NotificationStatus.FAILED);
+
+            List<DeadLetter> letters = new ArrayList<>();
+            client.getDeadLetterStore()
+                    .scan(DeadLetterFilter.all(), letters::add);
+            assertThat(letters).extracting(letter -> letter.getNotification().getId())
+                    .containsExactly("outage-1", "outage-2");
+            assertThat(letters.get(0).getErrorCode()).isEqualTo("503");
+            assertThat(letters.get(0).getAttempts()).hasSize(2);
+
+            providerDown.set(false);
+            ReplayReport report = client.replayDeadLetters(DeadLetterReplay.of(
+                            DeadLetterFilter.builder().providerName("Twilio").build(), RateLimit.of(100), 4))
+                    .get(5, TimeUnit.SECONDS);
+
+            assertThat(report.getSucceeded()).isEqualTo(2);
+            assertThat(client.getDeadLetterStore().size()).isZero();
+        }
+    }
+
+    @Test
+    void shouldCoalesceConcurrentSendsIntoProviderBatches() {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        BatchNotificationSender<PushNotification> multicast = new BatchNotificationSender<>() {
+            @Override
+            public List<NotificationResult> sendBatch(List<PushNotification> notifications) {
+                batchSizes.add(notifications.size());
+                return notifications.stream().map(this::send).toList();
+            }
+
+            @Override
+            public int getMaxBatchSize() {
+                return 500;
+            }
+
+            @Override
+            public NotificationResult send(PushNotification notification) {
+                return NotificationResult.builder()
+                        .notificationId(notification.getId())
+                        .status(NotificationStatus.SUCCESS)
+                        .providerName(getProviderName())
+                        .timestamp(Instant.now())
+                        .build();
+            }
+
+            @Override
+            public Class<PushNotification> getNotificationType() {
+                return PushNotification.class;
+            }
+
+            @Override
+            public String getProviderName() {
+                return "Multicast";
+            }
+        };
+
+        try (MessagingClient client = MessagingClient.builder()
+                .withPushSender(multicast)
+                .withBatching(BatchPolicy.of(5, Duration.ofSeconds(5)))
+                .build()) {
+            List<CompletableFuture<NotificationResult>> futures = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                futures.add(client.sendAsync(PushNotification.builder()
+                        .id("push-" + i)
+                        .recipient(Recipient.builder().deviceToken("device-token-" + i).build())
+                        .title("Oferta")
+                        .body("Solo por hoy")
+                        .build()));
+            }
+
+            assertThat(futures).allSatisfy(future -> assertThat(future.join().isSuccess()).isTrue());
+            assertThat(batchSizes).containsExactly(5, 5);
+        }
+    }
+
+    @Test
+    void shouldSendCustomNotificationTypeRegisteredAsChannel() {
+        NotificationSender<WebhookNotification> webhookSender = new NotificationSender<>() {
+            @Override
+            public NotificationResult send(WebhookNotification notification) {
+                return NotificationResult.builder()
+                        .notificationId(notification.getId())
+                        .status(NotificationStatus.SUCCESS)
+                        .providerName(getProviderName())
+                        .timestamp(Instant.now())
+                        .build();
+            }
+
+            @Override
+            public Class<WebhookNotification> getNotificationType() {
+                return WebhookNotification.class;
+            }
+
+            @Override
+            public String getProviderName() {
+                return "Webhook";
+            }
+        };
+
+        MessagingClient client = MessagingClient.builder()
+                .withChannel(NotificationChannel.of(WebhookNotification.class, webhookSender, null))
+                .build();
+
+        NotificationResult result = client.send(new WebhookNotification("hook-1"));
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getProviderName()).isEqualTo("Webhook");
+    }
+
+    @Test
+    void shouldReplayCustomChannelNotificationsFromTheOutbox(@TempDir Path outboxDir) throws Exception {
+        NotificationCodec webhookCodec = new NotificationCodec() {
+            @Override
+            public byte[] encode(Notification notification) {
+                return notification.getId().getBytes(StandardCharsets.UTF_8);
+            }
+
+            @Override
+            public Notification decode(byte[] bytes) {
+                return new WebhookNotification(new String(bytes, StandardCharsets.UTF_8));
+            }
+        };
+        CountDownLatch hang = new CountDownLatch(1);
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        MessagingClient crashed = MessagingClient.builder()
+                .withChannel(NotificationChannel.of(WebhookNotification.class, webhookSender(delivered, hang), null)
+                        .withCodec(webhookCodec))
+                .withOutbox(OutboxPolicy.of(outboxDir))
+                .build();
+        CompletableFuture<NotificationResult> stuck = crashed.sendAsync(new WebhookNotification("hook-1"));
+
+        List<String> afterRestart = new CopyOnWriteArrayList<>();
+        try (MessagingClient restarted = MessagingClient.builder()
+                .withChannel(NotificationChannel.of(WebhookNotification.class,
+                                webhookSender(afterRestart, new CountDownLatch(0)), null)
+                        .withCodec(webhookCodec))
+                .withOutbox(OutboxPolicy.of(outboxDir))
+                .build()) {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+            while (afterRestart.isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertThat(stuck).isNotCompletedExceptionally();
+            assertThat(afterRestart).containsExactly("hook-1");
+        } finally {
+            hang.countDown();
+        }
+    }
+
+    private NotificationSender<WebhookNotification> webhookSender(List<String> delivered, CountDownLatch hang) {
+        return new NotificationSender<>() {
+            @Override
+            public NotificationResult send(WebhookNotification notification) {
+                try {
+                    hang.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                delivered.add(notification.getId());
+                return NotificationResult.builder()
+                        .notificationId(notification.getId())
+                        .status(NotificationStatus.SUCCESS)
+                        .providerName(getProviderName())
+                        .timestamp(Instant.now())
+                        .build();
+            }
+
+            @Override
+            public Class<WebhookNotification> getNotificationType() {
+                return WebhookNotification.class;
+            }
+
+            @Override
+            public String getProviderName() {
+                return "Webhook";
+            }
+        };
+    }
+
+    private SmsNotification sms(String id, NotificationPriority priority) {
+        return SmsNotification.builder()
+                .id(id)
+                .recipient(Recipient.builder().phoneNumber("+5491155551234").build())
+                .body("Mensaje " + id)
+                .priority(priority)
+                .build();
+    }
+
+    private NotificationSender<SmsNotification> recordingSmsSender(List<String> delivered, CountDownLatch release) {
+        return new NotificationSender<>() {
+            private final TwilioSmsSender twilio = new TwilioSmsSender(ProviderCredentials.builder().build());
+
+            @Override
+            public NotificationResult send(SmsNotification notification) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                delivered.add(notification.getId());
+                return twilio.send(notification);
+            }
+
+            @Override
+            public Class<SmsNotification> getNotificationType() {
+                return SmsNotification.class;
+            }
+
+            @Override
+            public String getProviderName() {
+                return "Twilio";
+            }
+        };
+    }
+
+    private record WebhookNotification(String id) implements Notification {
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public Recipient getRecipient() {
+            return null;
+        }
+
+        @Override
+        public String getBody() {
+            return "{}";
+        }
+
+        @Override
+        public Map<String, Object> getMetadata() {
+            return Map.of();
+        }
+    }
 }
@@ -0,0 +1,130 @@
+package com.pinapp.messaging.application.admission;
+
+import com.pinapp.messaging.application.exception.OverloadedException;
+import com.pinapp.messaging.application.scheduling.HashedWheelTimer;
+import com.pinapp.messaging.domain.NotificationPriority;
+import com.pinapp.messaging.domain.NotificationResult;
+import com.pinapp.messaging.domain.NotificationStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionControllerTest {
+
+    private final HashedWheelTimer timer = new HashedWheelTimer("admission-test-timer", 5, TimeUnit.MILLISECONDS, 64);
+
+    @AfterEach
+    void stopTimer() {
+        timer.stop();
+    }
+
+    @Test
+    void shouldFailFastWhenInFlightAndQueueAreFull() {
+        AdmissionController controller = controller(
+                AdmissionPolicy.of(1, 1, RejectionPolicy.FAIL_FAST));
+
+        CompletableFuture<NotificationResult> running = new CompletableFuture<>();
+        controller.submit(NotificationPriority.NORMAL, () -> running, this::success);
+        CompletableFuture<NotificationResult> queued =
+                controller.submit(NotificationPriority.NORMAL, () -> CompletableFuture.completedFuture(success()), this::success);
+        CompletableFuture<NotificationResult> rejected =
+                controller.submit(NotificationPriority.NORMAL, () -> CompletableFuture.completedFuture(success()), this::success);
+
+        assertThat(controller.getInFlight()).isEqualTo(1);
+        assertThat(controller.getQueued()).isEqualTo(1);
+        assertThatThrownBy(rejected::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(OverloadedException.class);
+        assertThat(controller.getRejectedCount()).isEqualTo(1);
+
+        running.complete(success());
+
+        assertThat(queued.join().isSuccess()).isTrue();
+        assertThat(controller.getInFlight()).isZero();
+        assertThat(controller.getQueued()).isZero();
+    }
+
+    @Test
+    void shouldRunInCallerWhenOverloaded() {
+        AdmissionController controller = controller(
+                AdmissionPolicy.of(1, 0, RejectionPolicy.CALLER_RUNS));
+
+        controller.submit(NotificationPriority.NORMAL, CompletableFuture::new, this::success);
+        Thread caller = Thread.currentThread();
+        Thread[] ranOn = new Thread[1];
+
+        CompletableFuture<NotificationResult> result = controller.submit(
+                NotificationPriority.NORMAL,
+                CompletableFuture::new,
+                () -> {
+                    ranOn[0] = Thread.currentThread();
+                    return success();
+                });
+
+        assertThat(result).isCompleted();
+        assertThat(ranOn[0]).isSameAs(caller);
+    }
+
+    @Test
+    void shouldShedLowestPriorityInFavourOfHigherPriority() {
+        AdmissionController controller = controller(
+                AdmissionPolicy.of(1, 1, RejectionPolicy.SHED_LOWEST_PRIORITY));
+
+        CompletableFuture<NotificationResult> running = new CompletableFuture<>();
+        controller.submit(NotificationPriority.NORMAL, () -> running, this::success);
+        CompletableFuture<NotificationResult> marketing = controller.submit(
+                NotificationPriority.LOW, () -> CompletableFuture.completedFuture(success()), this::success);
+        CompletableFuture<NotificationResult> otp = controller.submit(
+                NotificationPriority.CRITICAL, () -> CompletableFuture.completedFuture(success()), this::success);
+        CompletableFuture<NotificationResult> anotherLow = controller.submit(
+                NotificationPriority.LOW, () -> CompletableFuture.completedFuture(success()), this::success);
+
+        assertThatThrownBy(marketing::join).hasCauseInstanceOf(OverloadedException.class);
+        assertThatThrownBy(anotherLow::join).hasCauseInstanceOf(OverloadedException.class);
+        assertThat(controller.getShedCount()).isEqualTo(1);
+
+        running.complete(success());
+
+        assertThat(otp.join().isSuccess()).isTrue();
+    }
+
+    @Test
+    void shouldExpireQueuedNotificationWithoutWaitingForAFreeSlot() {
+        AdmissionController controller = controller(AdmissionPolicy.builder()
+                .maxInFlight(1)
+                .maxQueued(1)
+                .maxQueueWait(Duration.ofMillis(50))
+                .build());
+
+        controller.submit(NotificationPriority.NORMAL, CompletableFuture::new, this::success);
+        CompletableFuture<NotificationResult> queued = controller.submit(
+                NotificationPriority.NORMAL, () -> CompletableFuture.completedFuture(success()), this::success);
+
+        assertThatThrownBy(() -> queued.get(2, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(OverloadedException.class)
+                .hasMessageContaining("maximum queue wait");
+        assertThat(controller.getQueued()).isZero();
+        assertThat(controller.getInFlight()).isEqualTo(1);
+        assertThat(controller.getRejectedCount()).isEqualTo(1);
+    }
+
+    private AdmissionController controller(AdmissionPolicy policy) {
+        return new AdmissionController(policy, timer, Runnable::run);
+    }
+
+    private NotificationResult success() {
+        return NotificationResult.builder()
+                .notificationId("id")
+                .status(NotificationStatus.SUCCESS)
+                .timestamp(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,206 @@
+package com.pinapp.messaging.application.batching;
+
+import com.pinapp.messaging.application.exception.ProviderException;
+import com.pinapp.messaging.application.port.BatchNotificationSender;
+import com.pinapp.messaging.application.port.NotificationSender;
+import com.pinapp.messaging.domain.NotificationResult;
+import com.pinapp.messaging.domain.NotificationStatus;
+import com.pinapp.messaging.domain.Recipient;
+import com.pinapp.messaging.domain.push.PushNotification;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchingSenderTest {
+
+    @Test
+    void shouldFlushAsSoonAsBatchIsFull() throws Exception {
+        RecordingBatchSender provider = new RecordingBatchSender(100, false);
+        BatchingSender<PushNotification> sender = new BatchingSender<>(provider, BatchPolicy.of(3, Duration.ofSeconds(30)));
+
+        List<NotificationResult> results = sendConcurrently(sender, "a", "b", "c");
+
+        assertThat(results).extracting(NotificationResult::getNotificationId).containsExactly("a", "b", "c");
+        assertThat(provider.batchSizes).containsExactly(3);
+        assertThat(sender.getBatchCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFlushPartialBatchAfterLinger() {
+        RecordingBatchSender provider = new RecordingBatchSender(100, false);
+        BatchingSender<PushNotification> sender = new BatchingSender<>(provider, BatchPolicy.of(10, Duration.ofMillis(20)));
+
+        long start = System.nanoTime();
+        NotificationResult result = sender.send(push("alone"));
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(15);
+        assertThat(provider.batchSizes).containsExactly(1);
+    }
+
+    @Test
+    void shouldFillLargeBatchFromOneThreadWithSendAsync() {
+        RecordingBatchSender provider = new RecordingBatchSender(1000, false);
+        BatchingSender<PushNotification> sender = new BatchingSender<>(provider, BatchPolicy.of(500, Duration.ofSeconds(30)));
+
+        List<CompletableFuture<NotificationResult>> futures = IntStream.range(0, 500)
+                .mapToObj(i -> sender.sendAsync(push("p-" + i)).toCompletableFuture())
+                .toList();
+
+        assertThat(futures.stream().map(CompletableFuture::join).map(NotificationResult::getNotificationId))
+                .containsExactlyElementsOf(IntStream.range(0, 500).mapToObj(i -> "p-" + i).toList());
+        assertThat(provider.batchSizes).containsExactly(500);
+    }
+
+    @Test
+    void shouldFlushPartialAsyncBatchAfterLingerWithoutBlockingCaller() {
+        RecordingBatchSender provider = new RecordingBatchSender(100, false);
+        BatchingSender<PushNotification> sender = new BatchingSender<>(provider, BatchPolicy.of(10, Duration.ofMillis(20)));
+
+        long start = System.nanoTime();
+        CompletableFuture<NotificationResult> future = sender.sendAsync(push("alone")).toCompletableFuture();
+
+        assertThat(future).isNotDone();
+        assertThat(future.join().isSuccess()).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(15);
+        assertThat(provider.batchSizes).containsExactly(1);
+    }
+
+    @Test
+    void shouldFailEveryAsyncNotificationOfFailedBatch() {
+        RecordingBatchSender provider = new RecordingBatchSender(100, true);
+        BatchingSender<PushNotification> sender = new BatchingSender<>(provider, BatchPolicy.of(2, Duration.ofSeconds(30)));
+
+        CompletableFuture<NotificationResult> first = sender.sendAsync(push("a")).toCompletableFuture();
+        CompletableFuture<NotificationResult> second = sender.sendAsync(push("b")).toCompletableFuture();
+
+        assertThatThrownBy(first::join).hasCauseInstanceOf(ProviderException.class);
+        assertThatThrownBy(second::join).hasCauseInstanceOf(ProviderException.class);
+    }
+
+    @Test
+    void shouldCapBatchSizeAtProviderLimit() {
+        BatchingSender<PushNotification> sender = new BatchingSender<>(
+                new RecordingBatchSender(2, false), BatchPolicy.linger(Duration.ofMillis(5)));
+
+        assertThat(sender.getMaxBatchSize()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldFailEveryNotificationOfFailedBatch() {
+        RecordingBatchSender provider = new RecordingBatchSender(100, true);
+        BatchingSender<PushNotification> sender = new BatchingSender<>(provider, BatchPolicy.of(2, Duration.ofSeconds(30)));
+
+        assertThatThrownBy(() -> sendConcurrently(sender, "a", "b"))
+                .hasCauseInstanceOf(ProviderException.class)
+                .hasMessageContaining("unavailable");
+    }
+
+    @Test
+    void shouldOnlyDecorateSendersThatSupportBatches() {
+        NotificationSender<PushNotification> single = new NotificationSender<>() {
+            @Override
+            public NotificationResult send(PushNotification notification) {
+                return null;
+            }
+
+            @Override
+            public Class<PushNotification> getNotificationType() {
+                return PushNotification.class;
+            }
+
+            @Override
+            public String getProviderName() {
+                return "Single";
+            }
+        };
+
+        assertThat(BatchingSender.decorate(single, BatchPolicy.linger(Duration.ofMillis(5)))).isSameAs(single);
+        assertThat(BatchingSender.decorate(new RecordingBatchSender(10, false), BatchPolicy.linger(Duration.ofMillis(5))))
+                .isInstanceOf(BatchingSender.class);
+        assertThat(BatchingSender.decorate(new RecordingBatchSender(10, false), null))
+                .isInstanceOf(RecordingBatchSender.class);
+    }
+
+    private List<NotificationResult> sendConcurrently(BatchingSender<PushNotification> sender, String... ids)
+            throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<NotificationResult>> futures = Arrays.stream(ids)
+                    .map(id -> CompletableFuture.supplyAsync(() -> sender.send(push(id)), executor))
+                    .toList();
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    private static PushNotification push(String id) {
+        return PushNotification.builder()
+                .id(id)
+                .recipient(Recipient.builder().deviceToken("token-" + id).build())
+                .title("Oferta")
+                .body("Solo por hoy")
+                .build();
+    }
+
+    private static class RecordingBatchSender implements BatchNotificationSender<PushNotification> {
+
+        private final int maxBatchSize;
+        private final boolean failing;
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+        RecordingBatchSender(int maxBatchSize, boolean failing) {
+            this.maxBatchSize = maxBatchSize;
+            this.failing = failing;
+        }
+
+        @Override
+        public List<NotificationResult> sendBatch(List<PushNotification> notifications) {
+            batchSizes.add(notifications.size());
+            if (failing) {
+                throw new ProviderException(getProviderName(), "Service unavailable");
+            }
+            return notifications.stream().map(this::send).toList();
+        }
+
+        @Override
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        @Override
+        public NotificationResult send(PushNotification notification) {
+            return NotificationResult.builder()
+                    .notificationId(notification.getId())
+                    .status(NotificationStatus.SUCCESS)
+                    .providerName(getProviderName())
+                    .timestamp(Instant.now())
+                    .build();
+        }
+
+        @Override
+        public Class<PushNotification> getNotificationType() {
+            return PushNotification.class;
+        }
+
+        @Override
+        public String getProviderName() {
+            return "Recording";
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.pinapp.messaging.application.channel;
+
+import com.pinapp.messaging.application.codec.BinaryNotificationCodec;
+import com.pinapp.messaging.application.exception.ConfigurationException;
+import com.pinapp.messaging.domain.Notification;
+import com.pinapp.messaging.domain.Recipient;
+import com.pinapp.messaging.domain.sms.SmsNotification;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChannelNotificationCodecTest {
+
+    private final ChannelRegistry registry = ChannelRegistry.builder()
+            .register(NotificationChannel.of(SmsNotification.class, null, null))
+            .register(NotificationChannel.of(InAppNotification.class, "IN_APP", null, null))
+            .register(NotificationChannel.of(OpaqueNotification.class, "OPAQUE", null, null))
+            .build();
+    private final ChannelNotificationCodec codec = new ChannelNotificationCodec(new BinaryNotificationCodec(), registry);
+
+    @Test
+    void shouldKeepBuiltInEncodingForBuiltInChannels() {
+        SmsNotification sms = SmsNotification.builder()
+                .id("sms-1")
+                .recipient(Recipient.builder().phoneNumber("+5491155551234").build())
+                .body("Hola")
+                .build();
+
+        byte[] bytes = codec.encode(sms);
+
+        assertThat(bytes).isEqualTo(new BinaryNotificationCodec().encode(sms));
+        assertThat(codec.decode(bytes).getId()).isEqualTo("sms-1");
+    }
+
+    @Test
+    void shouldFallBackToJavaSerializationForSerializableCustomNotifications() {
+        InAppNotification notification = new InAppNotification("in-app-1", "Tenés un mensaje nuevo");
+
+        Notification decoded = codec.decode(codec.encode(notification));
+
+        assertThat(decoded).isEqualTo(notification);
+    }
+
+    @Test
+    void shouldExplainHowToEncodeUnsupportedCustomNotifications() {
+        assertThatThrownBy(() -> codec.encode(new OpaqueNotification("opaque-1")))
+                .isInstanceOf(ConfigurationException.class)
+                .hasMessageContaining("withCodec()")
+                .hasMessageContaining("OPAQUE");
+    }
+
+    private record InAppNotification(String id, String body) implements Notification, Serializable {
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public Recipient getRecipient() {
+            return null;
+        }
+
+        @Override
+        public String getBody() {
+            return body;
+        }
+
+        @Override
+        public Map<String, Object> getMetadata() {
+            return Map.of();
+        }
+    }
+
+    private record OpaqueNotification(String id) implements Notification {
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public Recipient getRecipient() {
+            return null;
+        }
+
+        @Override
+        public String getBody() {
+            return "";
+        }
+
+        @Override
+        public Map<String, Object> getMetadata() {
+            return Map.of();
+        }
+    }
+}
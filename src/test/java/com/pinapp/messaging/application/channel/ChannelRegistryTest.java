@@ -0,0 +1,89 @@
+package com.pinapp.messaging.application.channel;
+
+import com.pinapp.messaging.application.exception.ConfigurationException;
+import com.pinapp.messaging.application.validation.EmailValidator;
+import com.pinapp.messaging.domain.Notification;
+import com.pinapp.messaging.domain.Recipient;
+import com.pinapp.messaging.domain.email.EmailNotification;
+import com.pinapp.messaging.domain.sms.SmsNotification;
+import com.pinapp.messaging.infrastructure.config.ProviderCredentials;
+import com.pinapp.messaging.infrastructure.provider.email.SendGridEmailSender;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChannelRegistryTest {
+
+    private final NotificationChannel<EmailNotification> emailChannel = NotificationChannel.of(
+            EmailNotification.class,
+            new SendGridEmailSender(ProviderCredentials.builder().apiKey("test").build()),
+            new EmailValidator()
+    );
+
+    @Test
+    void shouldResolveChannelByNotificationClass() {
+        ChannelRegistry registry = ChannelRegistry.builder()
+                .register(emailChannel)
+                .build();
+
+        EmailNotification email = EmailNotification.builder()
+                .id("1")
+                .recipient(Recipient.builder().email("test@example.com").build())
+                .build();
+
+        assertThat(registry.resolve(email)).isSameAs(emailChannel);
+        assertThat(emailChannel.getName()).isEqualTo("EMAIL");
+    }
+
+    @Test
+    void shouldResolveChannelRegisteredForAnInterface() {
+        NotificationChannel<InAppNotification> inApp = NotificationChannel.of(InAppNotification.class, null, null);
+        ChannelRegistry registry = ChannelRegistry.builder()
+                .register(inApp)
+                .build();
+
+        assertThat(registry.resolve(new BannerNotification())).isSameAs(inApp);
+    }
+
+    @Test
+    void shouldRejectUnregisteredNotificationType() {
+        ChannelRegistry registry = ChannelRegistry.builder()
+                .register(emailChannel)
+                .build();
+
+        SmsNotification sms = SmsNotification.builder().id("1").body("Hi").build();
+
+        assertThatThrownBy(() -> registry.resolve(sms))
+                .isInstanceOf(ConfigurationException.class)
+                .hasMessageContaining("Unsupported notification type: SmsNotification");
+    }
+
+    private interface InAppNotification extends Notification {
+    }
+
+    private static class BannerNotification implements InAppNotification {
+
+        @Override
+        public String getId() {
+            return "banner-1";
+        }
+
+        @Override
+        public Recipient getRecipient() {
+            return null;
+        }
+
+        @Override
+        public String getBody() {
+            return "Hello";
+        }
+
+        @Override
+        public Map<String, Object> getMetadata() {
+            return Map.of();
+        }
+    }
+}
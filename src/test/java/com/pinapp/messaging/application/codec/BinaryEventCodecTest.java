@@ -0,0 +1,143 @@
+package com.pinapp.messaging.application.codec;
+
+import com.pinapp.messaging.application.deadletter.DeliveryAttempt;
+import com.pinapp.messaging.application.event.EventType;
+import com.pinapp.messaging.application.event.NotificationEvent;
+import com.pinapp.messaging.application.exception.MessagingException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class BinaryEventCodecTest {
+
+    private final EventCodec codec = new BinaryEventCodec();
+
+    @Test
+    void shouldRoundTripEventAtMicrosecondPrecision() {
+        NotificationEvent event = NotificationEvent.builder()
+                .eventType(EventType.SUCCESS)
+                .notificationId("0b7e5c1e-4a8f-4d8e-9f61-2f6f1c3b9a77")
+                .notificationType("EMAIL")
+                .attemptNumber(2)
+                .providerName("SendGrid")
+                .providerMessageId("sg-123")
+                .timestamp(Instant.parse("2026-03-01T12:00:00.123456789Z"))
+                .build();
+
+        NotificationEvent decoded = codec.decode(codec.encode(event));
+
+        assertThat(decoded.getEventType()).isEqualTo(EventType.SUCCESS);
+        assertThat(decoded.getNotificationId()).isEqualTo(event.getNotificationId());
+        assertThat(decoded.getNotificationType()).isEqualTo("EMAIL");
+        assertThat(decoded.getAttemptNumber()).isEqualTo(2);
+        assertThat(decoded.getProviderName()).isEqualTo("SendGrid");
+        assertThat(decoded.getProviderMessageId()).isEqualTo("sg-123");
+        assertThat(decoded.getErrorMessage()).isNull();
+        assertThat(decoded.getAttempts()).isNull();
+        assertThat(decoded.getTimestamp()).isEqualTo(Instant.parse("2026-03-01T12:00:00.123456Z"));
+    }
+
+    @Test
+    void shouldRoundTripAttemptTimelineWithRepeatedNames() {
+        Instant start = Instant.parse("2026-03-01T12:00:00Z");
+        NotificationEvent event = NotificationEvent.builder()
+                .eventType(EventType.FAILED)
+                .notificationId("n-1")
+                .notificationType("SMS")
+                .attemptNumber(3)
+                .errorMessage("Servicio no disponible ñ")
+                .timestamp(start.plusMillis(900))
+                .attempts(List.of(
+                        attempt(1, "Twilio", start.plusMillis(100)),
+                        attempt(2, "Twilio", start.plusMillis(400)),
+                        attempt(3, "Twilio", start.plusMillis(900))))
+                .build();
+
+        byte[] encoded = codec.encode(event);
+        NotificationEvent decoded = codec.decode(encoded);
+
+        assertThat(decoded.getErrorMessage()).isEqualTo("Servicio no disponible ñ");
+        assertThat(decoded.getAttempts())
+                .extracting(DeliveryAttempt::getAttemptNumber, DeliveryAttempt::getProviderName,
+                        DeliveryAttempt::getErrorCode, DeliveryAttempt::getTimestamp)
+                .containsExactly(
+                        tuple(1, "Twilio", "HTTP_503", start.plusMillis(100)),
+                        tuple(2, "Twilio", "HTTP_503", start.plusMillis(400)),
+                        tuple(3, "Twilio", "HTTP_503", start.plusMillis(900)));
+        assertThat(countOccurrences(encoded, "Twilio")).isEqualTo(1);
+        assertThat(countOccurrences(encoded, "HTTP_503")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldStillDecodeVersionOnePayloadsWithNamedErrors() {
+        byte[] encoded = {1, (byte) EventType.FAILED.ordinal(), 0, 1, 0, 0, 0, 0, 10, 'b', 'o', 'o', 'm', 0};
+
+        NotificationEvent decoded = codec.decode(encoded);
+
+        assertThat(decoded.getEventType()).isEqualTo(EventType.FAILED);
+        assertThat(decoded.getAttemptNumber()).isEqualTo(1);
+        assertThat(decoded.getErrorMessage()).isEqualTo("boom");
+    }
+
+    @Test
+    void shouldProduceSmallPayload() {
+        NotificationEvent event = NotificationEvent.builder()
+                .eventType(EventType.SENDING)
+                .notificationId("0b7e5c1e-4a8f-4d8e-9f61-2f6f1c3b9a77")
+                .notificationType("PUSH")
+                .attemptNumber(1)
+                .build();
+
+        assertThat(codec.encode(event)).hasSizeLessThan(60);
+    }
+
+    @Test
+    void shouldRejectUnknownSchemaVersion() {
+        byte[] encoded = codec.encode(NotificationEvent.builder().eventType(EventType.SENDING).build());
+        encoded[0] = 9;
+
+        assertThatThrownBy(() -> codec.decode(encoded))
+                .isInstanceOf(MessagingException.class)
+                .hasMessageContaining("version 9");
+    }
+
+    @Test
+    void shouldRejectTruncatedPayload() {
+        byte[] encoded = codec.encode(NotificationEvent.builder()
+                .eventType(EventType.SENDING)
+                .notificationId("n-1")
+                .build());
+
+        assertThatThrownBy(() -> codec.decode(Arrays.copyOf(encoded, encoded.length - 2)))
+                .isInstanceOf(MessagingException.class)
+                .hasMessageContaining("truncated");
+    }
+
+    private static DeliveryAttempt attempt(int number, String provider, Instant at) {
+        return DeliveryAttempt.builder()
+                .attemptNumber(number)
+                .providerName(provider)
+                .errorCode("HTTP_503")
+                .errorMessage("Servicio no disponible ñ")
+                .timestamp(at)
+                .build();
+    }
+
+    private static int countOccurrences(byte[] haystack, String needle) {
+        byte[] target = needle.getBytes(StandardCharsets.UTF_8);
+        int count = 0;
+        for (int i = 0; i + target.length <= haystack.length; i++) {
+            if (Arrays.equals(haystack, i, i + target.length, target, 0, target.length)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,92 @@
+package com.pinapp.messaging.application.codec;
+
+import com.pinapp.messaging.application.exception.ConfigurationException;
+import com.pinapp.messaging.domain.Notification;
+import com.pinapp.messaging.domain.NotificationPriority;
+import com.pinapp.messaging.domain.Recipient;
+import com.pinapp.messaging.domain.email.EmailNotification;
+import com.pinapp.messaging.domain.push.PushNotification;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryNotificationCodecTest {
+
+    private final NotificationCodec codec = new BinaryNotificationCodec();
+
+    @Test
+    void shouldRoundTripEmail() {
+        Instant deadline = Instant.parse("2026-01-01T09:00:00.123Z");
+        EmailNotification email = EmailNotification.builder()
+                .id("e-1")
+                .recipient(Recipient.builder().email("user@example.com").name("Ana").build())
+                .subject("Hola")
+                .body("Texto")
+                .htmlBody("<p>Texto</p>")
+                .cc(List.of("cc@example.com"))
+                .fromEmail("no-reply@pinapp.com")
+                .deadline(deadline)
+                .priority(NotificationPriority.HIGH)
+                .metadata(Map.of("campaign", "black-friday", "attempt", 2, "sentAt", deadline))
+                .build();
+
+        EmailNotification decoded = (EmailNotification) codec.decode(codec.encode(email));
+
+        assertThat(decoded.getId()).isEqualTo("e-1");
+        assertThat(decoded.getRecipient().getName()).isEqualTo("Ana");
+        assertThat(decoded.getHtmlBody()).isEqualTo("<p>Texto</p>");
+        assertThat(decoded.getCc()).containsExactly("cc@example.com");
+        assertThat(decoded.getBcc()).isNull();
+        assertThat(decoded.getDeadline()).isEqualTo(deadline);
+        assertThat(decoded.getPriority()).isEqualTo(NotificationPriority.HIGH);
+        assertThat(decoded.getMetadata())
+                .containsEntry("campaign", "black-friday")
+                .containsEntry("attempt", 2)
+                .containsEntry("sentAt", deadline);
+    }
+
+    @Test
+    void shouldRoundTripPushData() {
+        PushNotification push = PushNotification.builder()
+                .id("p-1")
+                .recipient(Recipient.builder().deviceToken("token").build())
+                .title("Nuevo mensaje")
+                .body("Tenés un mensaje")
+                .data(Map.of("chatId", 42L, "silent", true))
+                .build();
+
+        PushNotification decoded = (PushNotification) codec.decode(codec.encode(push));
+
+        assertThat(decoded.getTitle()).isEqualTo("Nuevo mensaje");
+        assertThat(decoded.getData()).containsEntry("chatId", 42L).containsEntry("silent", true);
+        assertThat(decoded.getPriority()).isEqualTo(NotificationPriority.NORMAL);
+    }
+
+    @Test
+    void shouldRejectUnknownNotificationTypes() {
+        Notification custom = new Notification() {
+            public String getId() {
+                return "c-1";
+            }
+
+            public Recipient getRecipient() {
+                return null;
+            }
+
+            public String getBody() {
+                return "";
+            }
+
+            public Map<String, Object> getMetadata() {
+                return Map.of();
+            }
+        };
+
+        assertThatThrownBy(() -> codec.encode(custom)).isInstanceOf(ConfigurationException.class);
+    }
+}
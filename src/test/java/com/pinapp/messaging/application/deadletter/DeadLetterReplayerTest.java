@@ -0,0 +1,110 @@
+package com.pinapp.messaging.application.deadletter;
+
+import com.pinapp.messaging.application.ratelimit.RateLimit;
+import com.pinapp.messaging.domain.NotificationResult;
+import com.pinapp.messaging.domain.NotificationStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.pinapp.messaging.application.deadletter.DeadLetterStoreTest.letter;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeadLetterReplayerTest {
+
+    private static final Instant NOW = Instant.parse("2024-05-01T12:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldNeverExceedConcurrencyLimit() throws Exception {
+        ScheduledExecutorService provider = Executors.newScheduledThreadPool(4);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        try (DeadLetterStore store = new DeadLetterStore(DeadLetterPolicy.of(directory))) {
+            for (int i = 0; i < 20; i++) {
+                store.add(letter("n-" + i, "Twilio", "SMS", "503", NOW));
+            }
+            DeadLetterReplayer replayer = new DeadLetterReplayer(store, notification -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                CompletableFuture<NotificationResult> result = new CompletableFuture<>();
+                provider.schedule(() -> {
+                    inFlight.decrementAndGet();
+                    result.complete(result(notification.getId(), NotificationStatus.SUCCESS));
+                }, 5, TimeUnit.MILLISECONDS);
+                return result;
+            });
+
+            ReplayReport report = replayer.replay(DeadLetterReplay.of(DeadLetterFilter.all(), null, 3))
+                    .get(5, TimeUnit.SECONDS);
+
+            assertThat(report.getMatched()).isEqualTo(20);
+            assertThat(report.getSucceeded()).isEqualTo(20);
+            assertThat(maxInFlight.get()).isLessThanOrEqualTo(3);
+            assertThat(store.size()).isZero();
+        } finally {
+            provider.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldPaceReplayToRateLimit() throws Exception {
+        try (DeadLetterStore store = new DeadLetterStore(DeadLetterPolicy.of(directory))) {
+            for (int i = 0; i < 6; i++) {
+                store.add(letter("n-" + i, "Twilio", "SMS", "503", NOW));
+            }
+            DeadLetterReplayer replayer = new DeadLetterReplayer(store, notification ->
+                    CompletableFuture.completedFuture(result(notification.getId(), NotificationStatus.SUCCESS)));
+
+            long start = System.nanoTime();
+            replayer.replay(DeadLetterReplay.of(DeadLetterFilter.all(), RateLimit.of(50), 16))
+                    .get(5, TimeUnit.SECONDS);
+
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(90);
+        }
+    }
+
+    @Test
+    void shouldOnlyReplayMatchingLettersAndCountRepeatedFailures() throws Exception {
+        List<String> replayed = new CopyOnWriteArrayList<>();
+        try (DeadLetterStore store = new DeadLetterStore(DeadLetterPolicy.of(directory))) {
+            store.add(letter("twilio-ok", "Twilio", "SMS", "503", NOW));
+            store.add(letter("twilio-down", "Twilio", "SMS", "503", NOW));
+            store.add(letter("nexmo", "Nexmo", "SMS", "503", NOW));
+            DeadLetterReplayer replayer = new DeadLetterReplayer(store, notification -> {
+                replayed.add(notification.getId());
+                return CompletableFuture.completedFuture(result(notification.getId(),
+                        notification.getId().endsWith("down") ? NotificationStatus.FAILED : NotificationStatus.SUCCESS));
+            });
+
+            ReplayReport report = replayer.replay(DeadLetterReplay.builder()
+                            .filter(DeadLetterFilter.builder().providerName("Twilio").build())
+                            .build())
+                    .get(5, TimeUnit.SECONDS);
+
+            assertThat(replayed).containsExactly("twilio-ok", "twilio-down");
+            assertThat(report.getSucceeded()).isEqualTo(1);
+            assertThat(report.getFailed()).isEqualTo(1);
+            assertThat(store.size()).isEqualTo(1);
+        }
+    }
+
+    private NotificationResult result(String id, NotificationStatus status) {
+        return NotificationResult.builder()
+                .notificationId(id)
+                .status(status)
+                .timestamp(Instant.now())
+                .build();
+    }
+}
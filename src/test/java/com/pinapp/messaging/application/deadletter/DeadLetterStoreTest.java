@@ -0,0 +1,168 @@
+package com.pinapp.messaging.application.deadletter;
+
+import com.pinapp.messaging.domain.Recipient;
+import com.pinapp.messaging.domain.sms.SmsNotification;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeadLetterStoreTest {
+
+    private static final Instant NOW = Instant.parse("2024-05-01T12:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldKeepNotificationErrorAndAttemptHistoryAcrossRestart() {
+        try (DeadLetterStore store = new DeadLetterStore(DeadLetterPolicy.of(directory))) {
+            store.add(letter("n-1", "Twilio", "SMS", "503", NOW));
+        }
+
+        try (DeadLetterStore reopened = new DeadLetterStore(DeadLetterPolicy.of(directory))) {
+            List<DeadLetter> letters = scan(reopened, DeadLetterFilter.all());
+
+            assertThat(reopened.size()).isEqualTo(1);
+            assertThat(letters).hasSize(1);
+            DeadLetter letter = letters.get(0);
+            assertThat(letter.getNotification()).isInstanceOf(SmsNotification.class);
+            assertThat(letter.getNotification().getId()).isEqualTo("n-1");
+            assertThat(letter.getProviderName()).isEqualTo("Twilio");
+            assertThat(letter.getErrorCode()).isEqualTo("503");
+            assertThat(letter.getErrorMessage()).isEqualTo("Service unavailable");
+            assertThat(letter.getFailedAt()).isEqualTo(NOW);
+            assertThat(letter.getAttempts()).extracting(DeliveryAttempt::getAttemptNumber).containsExactly(1, 2);
+            assertThat(letter.getAttempts().get(0).getTimestamp()).isEqualTo(NOW.minusSeconds(2));
+        }
+    }
+
+    @Test
+    void shouldFilterByProviderChannelTimeRangeAndError() {
+        try (DeadLetterStore store = new DeadLetterStore(DeadLetterPolicy.of(directory))) {
+            store.add(letter("twilio-old", "Twilio", "SMS", "503", NOW.minusSeconds(3600)));
+            store.add(letter("twilio-new", "Twilio", "SMS", "429", NOW));
+            store.add(letter("nexmo", "Nexmo", "SMS", "503", NOW));
+            store.add(letter("sendgrid", "SendGrid", "EMAIL", "503", NOW));
+
+            assertThat(ids(store, DeadLetterFilter.builder().providerName("twilio").build()))
+                    .containsExactly("twilio-old", "twilio-new");
+            assertThat(ids(store, DeadLetterFilter.builder().channel("EMAIL").build()))
+                    .containsExactly("sendgrid");
+            assertThat(ids(store, DeadLetterFilter.builder().from(NOW.minusSeconds(60)).to(NOW.plusSeconds(1)).build()))
+                    .containsExactly("twilio-new", "nexmo", "sendgrid");
+            assertThat(ids(store, DeadLetterFilter.builder().providerName("Twilio").error("503").build()))
+                    .containsExactly("twilio-old");
+            assertThat(ids(store, DeadLetterFilter.builder().error("unavailable").build()))
+                    .hasSize(4);
+        }
+    }
+
+    @Test
+    void shouldNotReturnReplayedLettersAfterRestart() {
+        try (DeadLetterStore store = new DeadLetterStore(DeadLetterPolicy.of(directory))) {
+            long first = store.add(letter("first", "Twilio", "SMS", "503", NOW));
+            store.add(letter("second", "Twilio", "SMS", "503", NOW));
+            store.markReplayed(first);
+            store.markReplayed(first);
+
+            assertThat(store.size()).isEqualTo(1);
+        }
+
+        try (DeadLetterStore reopened = new DeadLetterStore(DeadLetterPolicy.of(directory))) {
+            assertThat(reopened.size()).isEqualTo(1);
+            assertThat(ids(reopened, DeadLetterFilter.all())).containsExactly("second");
+        }
+    }
+
+    @Test
+    void shouldDeleteSegmentsOnceAllTheirLettersAreReplayed() throws IOException {
+        DeadLetterPolicy policy = DeadLetterPolicy.builder().directory(directory).segmentSize(2048).build();
+        List<Long> sequences = new ArrayList<>();
+        try (DeadLetterStore store = new DeadLetterStore(policy)) {
+            for (int i = 0; i < 100; i++) {
+                sequences.add(store.add(letter("n-" + i, "Twilio", "SMS", "503", NOW)));
+            }
+            assertThat(segmentFiles()).isGreaterThan(3);
+
+            sequences.forEach(store::markReplayed);
+
+            assertThat(store.size()).isZero();
+            assertThat(segmentFiles()).isLessThanOrEqualTo(2);
+        }
+        try (DeadLetterStore reopened = new DeadLetterStore(policy)) {
+            assertThat(reopened.size()).isZero();
+        }
+    }
+
+    @Test
+    void shouldStopScanWhenVisitorDeclines() {
+        try (DeadLetterStore store = new DeadLetterStore(DeadLetterPolicy.of(directory))) {
+            for (int i = 0; i < 5; i++) {
+                store.add(letter("n-" + i, "Twilio", "SMS", "503", NOW));
+            }
+
+            List<String> seen = new ArrayList<>();
+            long visited = store.scan(DeadLetterFilter.all(), letter -> {
+                seen.add(letter.getNotification().getId());
+                return seen.size() < 2;
+            });
+
+            assertThat(visited).isEqualTo(2);
+            assertThat(seen).containsExactly("n-0", "n-1");
+        }
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private List<String> ids(DeadLetterStore store, DeadLetterFilter filter) {
+        return scan(store, filter).stream().map(letter -> letter.getNotification().getId()).toList();
+    }
+
+    private List<DeadLetter> scan(DeadLetterStore store, DeadLetterFilter filter) {
+        List<DeadLetter> letters = new ArrayList<>();
+        store.scan(filter, letters::add);
+        return letters;
+    }
+
+    static DeadLetter letter(String id, String provider, String channel, String errorCode, Instant failedAt) {
+        return DeadLetter.builder()
+                .notification(SmsNotification.builder()
+                        .id(id)
+                        .recipient(Recipient.builder().phoneNumber("+5491155551234").build())
+                        .body("Mensaje " + id)
+                        .build())
+                .channel(channel)
+                .providerName(provider)
+                .errorCode(errorCode)
+                .errorMessage("Service unavailable")
+                .failedAt(failedAt)
+                .attempt(DeliveryAttempt.builder()
+                        .attemptNumber(1)
+                        .providerName(provider)
+                        .errorCode(errorCode)
+                        .errorMessage("Service unavailable")
+                        .timestamp(failedAt.minusSeconds(2))
+                        .build())
+                .attempt(DeliveryAttempt.builder()
+                        .attemptNumber(2)
+                        .providerName(provider)
+                        .errorCode(errorCode)
+                        .errorMessage("Service unavailable")
+                        .timestamp(failedAt)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,208 @@
+package com.pinapp.messaging.application.event;
+
+import com.pinapp.messaging.application.exception.ConfigurationException;
+import com.pinapp.messaging.application.port.EventPublisher;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventBusTest {
+
+    @Test
+    void shouldFanOutEveryEventToEverySinkInOrder() {
+        RecordingSink first = new RecordingSink();
+        RecordingSink second = new RecordingSink();
+        EventBus bus = EventBus.builder().add("first", first, 16, OverflowPolicy.BLOCK).add(second).build();
+
+        IntStream.range(0, 200).forEach(i -> bus.publish(event("n-" + i, EventType.SENDING)));
+        bus.close();
+
+        assertThat(first.ids()).hasSize(200).startsWith("n-0", "n-1").endsWith("n-199");
+        assertThat(second.ids()).isEqualTo(first.ids());
+        assertThat(bus.getStats()).extracting(EventSinkStats::getDelivered).containsExactly(200L, 200L);
+    }
+
+    @Test
+    void shouldKeepFastSinkFlowingWhileSlowSinkIsStuck() throws Exception {
+        GatedSink slow = new GatedSink();
+        RecordingSink fast = new RecordingSink();
+        EventBus bus = EventBus.builder()
+                .add("slow", slow, 4, OverflowPolicy.DROP_OLDEST)
+                .add("fast", fast, 1024, OverflowPolicy.BLOCK)
+                .build();
+
+        long start = System.nanoTime();
+        bus.publish(event("n-0", EventType.SENDING));
+        slow.entered.await(1, TimeUnit.SECONDS);
+        IntStream.range(1, 500).forEach(i -> bus.publish(event("n-" + i, EventType.SENDING)));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        awaitSize(fast, 500);
+
+        assertThat(elapsedMillis).isLessThan(500);
+        assertThat(slow.received).hasSize(1);
+
+        slow.release();
+        bus.close();
+
+        assertThat(slow.ids()).hasSize(5).endsWith("n-496", "n-497", "n-498", "n-499");
+        assertThat(bus.getStats().get(0).getDropped()).isEqualTo(495);
+    }
+
+    @Test
+    void shouldDropOldestEventsWhenBacklogIsFull() throws Exception {
+        GatedSink sink = new GatedSink();
+        EventBus bus = EventBus.builder().add("gated", sink, 4, OverflowPolicy.DROP_OLDEST).build();
+
+        bus.publish(event("n-0", EventType.SENDING));
+        sink.entered.await(1, TimeUnit.SECONDS);
+        IntStream.rangeClosed(1, 10).forEach(i -> bus.publish(event("n-" + i, EventType.SENDING)));
+        sink.release();
+        bus.close();
+
+        assertThat(sink.ids()).containsExactly("n-0", "n-7", "n-8", "n-9", "n-10");
+        assertThat(bus.getStats().get(0).getDropped()).isEqualTo(6);
+    }
+
+    @Test
+    void shouldShedNonTerminalEventsButKeepTerminalOnes() throws Exception {
+        GatedSink sink = new GatedSink();
+        EventBus bus = EventBus.builder().add("gated", sink, 4, OverflowPolicy.DROP_NON_TERMINAL).build();
+
+        bus.publish(event("n-0", EventType.SENDING));
+        sink.entered.await(1, TimeUnit.SECONDS);
+        IntStream.rangeClosed(1, 4).forEach(i -> bus.publish(event("n-" + i, EventType.SENDING)));
+        bus.publish(event("retry", EventType.RETRYING));
+        CompletableFuture<Void> terminal = CompletableFuture.runAsync(() -> bus.publish(event("done", EventType.SUCCESS)));
+
+        assertThat(bus.getStats().get(0).getDropped()).isEqualTo(1);
+        assertThat(terminal).isNotDone();
+
+        sink.release();
+        terminal.get(1, TimeUnit.SECONDS);
+        bus.close();
+
+        assertThat(sink.ids()).containsExactly("n-0", "n-1", "n-2", "n-3", "n-4", "done");
+    }
+
+    @Test
+    void shouldBlockProducerUntilSinkCatchesUp() throws Exception {
+        GatedSink sink = new GatedSink();
+        EventBus bus = EventBus.builder().add("gated", sink, 2, OverflowPolicy.BLOCK).build();
+
+        CompletableFuture<Void> producer = CompletableFuture.runAsync(
+                () -> IntStream.range(0, 10).forEach(i -> bus.publish(event("n-" + i, EventType.SENDING))));
+
+        sink.entered.await(1, TimeUnit.SECONDS);
+        Thread.sleep(50);
+        assertThat(producer).isNotDone();
+
+        sink.release();
+        producer.get(1, TimeUnit.SECONDS);
+        bus.close();
+
+        assertThat(sink.ids()).hasSize(10);
+        assertThat(bus.getStats().get(0).getDropped()).isZero();
+    }
+
+    @Test
+    void shouldIsolateFailingSink() {
+        RecordingSink healthy = new RecordingSink();
+        EventBus bus = EventBus.builder()
+                .consumers(1)
+                .add("broken", event -> {
+                    throw new IllegalStateException("sink down");
+                }, 16, OverflowPolicy.BLOCK)
+                .add("healthy", healthy, 16, OverflowPolicy.BLOCK)
+                .build();
+
+        IntStream.range(0, 20).forEach(i -> bus.publish(event("n-" + i, EventType.FAILED)));
+        bus.close();
+
+        assertThat(healthy.ids()).hasSize(20);
+        assertThat(bus.getStats()).extracting(EventSinkStats::getFailed).containsExactly(20L, 0L);
+    }
+
+    @Test
+    void shouldDropEventsPublishedAfterClose() {
+        RecordingSink sink = new RecordingSink();
+        EventBus bus = EventBus.builder().add(sink).build();
+        bus.close(Duration.ofSeconds(1));
+
+        bus.publish(event("late", EventType.SUCCESS));
+
+        assertThat(sink.ids()).isEmpty();
+        assertThat(bus.getStats().get(0).getDropped()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRoundBacklogUpToPowerOfTwo() {
+        EventBus bus = EventBus.builder().add("sink", new RecordingSink(), 1000, OverflowPolicy.DROP_OLDEST).build();
+
+        assertThat(bus.getStats().get(0).getCapacity()).isEqualTo(1024);
+        bus.close();
+    }
+
+    @Test
+    void shouldRejectBusWithoutSinks() {
+        assertThatThrownBy(() -> EventBus.builder().build())
+                .isInstanceOf(ConfigurationException.class);
+        assertThatThrownBy(() -> EventBus.builder().add("sink", new RecordingSink(), 0, OverflowPolicy.BLOCK))
+                .isInstanceOf(ConfigurationException.class);
+    }
+
+    private static NotificationEvent event(String id, EventType type) {
+        return NotificationEvent.builder().eventType(type).notificationId(id).notificationType("EMAIL").build();
+    }
+
+    private static void awaitSize(RecordingSink sink, int size) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (sink.received.size() < size && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(sink.received).hasSize(size);
+    }
+
+    private static class RecordingSink implements EventPublisher {
+
+        final List<NotificationEvent> received = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void publish(NotificationEvent event) {
+            received.add(event);
+        }
+
+        List<String> ids() {
+            return received.stream().map(NotificationEvent::getNotificationId).toList();
+        }
+    }
+
+    private static class GatedSink extends RecordingSink {
+
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch gate = new CountDownLatch(1);
+
+        @Override
+        public void publish(NotificationEvent event) {
+            super.publish(event);
+            entered.countDown();
+            try {
+                gate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        void release() {
+            gate.countDown();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.pinapp.messaging.application.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventPolicyTest {
+
+    @Test
+    void shouldAcceptEveryEventByDefault() {
+        EventPolicy policy = EventPolicy.all();
+
+        for (EventType type : EventType.values()) {
+            assertThat(policy.accepts(type, "n-1")).isTrue();
+        }
+    }
+
+    @Test
+    void shouldKeepOnlyTerminalEvents() {
+        EventPolicy policy = EventPolicy.of(EventVerbosity.TERMINAL);
+
+        assertThat(policy.accepts(EventType.SENDING, "n-1")).isFalse();
+        assertThat(policy.accepts(EventType.RETRYING, "n-1")).isFalse();
+        assertThat(policy.accepts(EventType.SUCCESS, "n-1")).isTrue();
+        assertThat(policy.accepts(EventType.FAILED, "n-1")).isTrue();
+        assertThat(policy.accepts(EventType.EXPIRED, "n-1")).isTrue();
+    }
+
+    @Test
+    void shouldKeepOnlyFailures() {
+        EventPolicy policy = EventPolicy.of(EventVerbosity.FAILURES);
+
+        assertThat(policy.accepts(EventType.SUCCESS, "n-1")).isFalse();
+        assertThat(policy.accepts(EventType.RETRYING, "n-1")).isFalse();
+        assertThat(policy.accepts(EventType.RETRY_BUDGET_EXHAUSTED, "n-1")).isTrue();
+        assertThat(policy.accepts(EventType.FAILED, "n-1")).isTrue();
+        assertThat(policy.accepts(EventType.EXPIRED, "n-1")).isTrue();
+    }
+
+    @Test
+    void shouldNeverFilterCircuitEvents() {
+        for (EventPolicy policy : List.of(EventPolicy.of(EventVerbosity.FAILURES), EventPolicy.sampled(0.0))) {
+            assertThat(policy.accepts(EventType.CIRCUIT_OPENED, null)).isTrue();
+            assertThat(policy.accepts(EventType.CIRCUIT_HALF_OPENED, null)).isTrue();
+            assertThat(policy.accepts(EventType.CIRCUIT_CLOSED, null)).isTrue();
+        }
+    }
+
+    @Test
+    void shouldSampleNonTerminalEventsPerNotification() {
+        EventPolicy policy = EventPolicy.sampled(0.25);
+
+        long sampled = IntStream.range(0, 10_000)
+                .filter(i -> policy.accepts(EventType.SENDING, "notification-" + i))
+                .count();
+
+        assertThat(sampled).isBetween(2_200L, 2_800L);
+        IntStream.range(0, 100).forEach(i -> assertThat(policy.accepts(EventType.RETRYING, "notification-" + i))
+                .isEqualTo(policy.accepts(EventType.SENDING, "notification-" + i)));
+        assertThat(policy.accepts(EventType.SUCCESS, "notification-1")).isTrue();
+    }
+
+    @Test
+    void shouldDropAllNonTerminalEventsAtZeroSampleRate() {
+        EventPolicy policy = EventPolicy.sampled(0.0);
+
+        assertThat(policy.accepts(EventType.SENDING, "n-1")).isFalse();
+        assertThat(policy.accepts(EventType.FAILED, "n-1")).isTrue();
+    }
+
+    @Test
+    void shouldNeverFilterOutRetryBudgetExhaustion() {
+        for (EventVerbosity verbosity : EventVerbosity.values()) {
+            EventPolicy policy = EventPolicy.builder().verbosity(verbosity).nonTerminalSampleRate(0.0).build();
+
+            assertThat(policy.accepts(EventType.RETRY_BUDGET_EXHAUSTED, "n-1")).as(verbosity.name()).isTrue();
+        }
+    }
+}
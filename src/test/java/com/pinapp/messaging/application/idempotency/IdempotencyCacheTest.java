@@ -0,0 +1,104 @@
+package com.pinapp.messaging.application.idempotency;
+
+import com.pinapp.messaging.domain.NotificationResult;
+import com.pinapp.messaging.domain.NotificationStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldReturnCachedResultForKnownId() {
+        IdempotencyCache cache = new IdempotencyCache(IdempotencyPolicy.of(100, Duration.ofMinutes(1)));
+        NotificationResult result = result("otp-1");
+
+        cache.put("otp-1", result);
+
+        assertThat(cache.get("otp-1")).isSameAs(result);
+        assertThat(cache.get("otp-2")).isNull();
+        assertThat(cache.getDuplicateCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldExpireEntriesAfterTtl() throws InterruptedException {
+        IdempotencyCache cache = new IdempotencyCache(IdempotencyPolicy.of(100, Duration.ofMillis(20)));
+        cache.put("otp-1", result("otp-1"));
+
+        Thread.sleep(40);
+
+        assertThat(cache.get("otp-1")).isNull();
+    }
+
+    @Test
+    void shouldEvictOldestEntriesWhenFull() {
+        IdempotencyCache cache = new IdempotencyCache(IdempotencyPolicy.of(1_000, Duration.ofMinutes(1)));
+
+        for (int i = 0; i < 50_000; i++) {
+            cache.put("id-" + i, result("id-" + i));
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(1_000);
+        assertThat(cache.get("id-0")).isNull();
+        for (int i = 49_900; i < 50_000; i++) {
+            assertThat(cache.get("id-" + i)).as("id-" + i).isNotNull();
+        }
+    }
+
+    @Test
+    void shouldShareInProgressClaim() {
+        IdempotencyCache cache = new IdempotencyCache(IdempotencyPolicy.of(100, Duration.ofMinutes(1)));
+        CompletableFuture<NotificationResult> first = new CompletableFuture<>();
+
+        assertThat(cache.claim("otp-1", first)).isNull();
+        assertThat(cache.claim("otp-1", new CompletableFuture<>())).isSameAs(first);
+
+        cache.release("otp-1", first);
+        assertThat(cache.claim("otp-1", new CompletableFuture<>())).isNull();
+    }
+
+    @Test
+    void shouldRestoreEntriesFromJournalAfterRestart() {
+        Path journal = tempDir.resolve("dedup.journal");
+        IdempotencyPolicy policy = IdempotencyPolicy.builder()
+                .maxEntries(1_000)
+                .ttl(Duration.ofMinutes(1))
+                .persistencePath(journal)
+                .build();
+
+        IdempotencyCache cache = new IdempotencyCache(policy);
+        cache.put("otp-1", result("otp-1"));
+        cache.put("otp-2", result("otp-2"));
+        cache.close();
+
+        IdempotencyCache restarted = new IdempotencyCache(policy);
+
+        NotificationResult restored = restarted.get("otp-1");
+        assertThat(restored).isNotNull();
+        assertThat(restored.isSuccess()).isTrue();
+        assertThat(restored.getProviderName()).isEqualTo("Twilio");
+        assertThat(restored.getProviderMessageId()).isEqualTo("SM-otp-1");
+        assertThat(restarted.get("otp-2")).isNotNull();
+        assertThat(restarted.get("otp-3")).isNull();
+        restarted.close();
+    }
+
+    private NotificationResult result(String id) {
+        return NotificationResult.builder()
+                .notificationId(id)
+                .status(NotificationStatus.SUCCESS)
+                .providerName("Twilio")
+                .providerMessageId("SM-" + id)
+                .timestamp(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+package com.pinapp.messaging.application.outbox;
+
+import com.pinapp.messaging.domain.Notification;
+import com.pinapp.messaging.domain.Recipient;
+import com.pinapp.messaging.domain.sms.SmsNotification;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldNotReplayEntriesMarkedDone() {
+        try (Outbox outbox = new Outbox(OutboxPolicy.of(directory))) {
+            Outbox.Entry entry = outbox.append(sms("done"));
+            outbox.markDone(entry);
+            assertThat(outbox.getPendingCount()).isZero();
+        }
+
+        try (Outbox reopened = new Outbox(OutboxPolicy.of(directory))) {
+            assertThat(replay(reopened)).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldReplayPendingEntriesInOrderAfterRestart() {
+        try (Outbox outbox = new Outbox(OutboxPolicy.of(directory))) {
+            outbox.append(sms("first"));
+            outbox.markDone(outbox.append(sms("sent")));
+            outbox.append(sms("second"));
+        }
+
+        try (Outbox reopened = new Outbox(OutboxPolicy.of(directory))) {
+            assertThat(reopened.getPendingCount()).isEqualTo(2);
+            List<Outbox.Entry> entries = new ArrayList<>();
+            List<String> ids = new ArrayList<>();
+            reopened.replay((entry, notification) -> {
+                entries.add(entry);
+                ids.add(notification.getId());
+            });
+
+            assertThat(ids).containsExactly("first", "second");
+            entries.forEach(reopened::markDone);
+            assertThat(reopened.getPendingCount()).isZero();
+            assertThat(reopened.getSegmentCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldRollSegmentsAndDeleteThemOnceDone() throws IOException {
+        OutboxPolicy policy = OutboxPolicy.builder().directory(directory).segmentSize(4096).build();
+        try (Outbox outbox = new Outbox(policy)) {
+            List<Outbox.Entry> entries = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                entries.add(outbox.append(sms("n-" + i)));
+            }
+            assertThat(outbox.getSegmentCount()).isGreaterThan(3);
+
+            entries.forEach(outbox::markDone);
+
+            assertThat(outbox.getSegmentCount()).isLessThanOrEqualTo(2);
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.count()).isLessThanOrEqualTo(2);
+        }
+    }
+
+    @Test
+    void shouldStopReplayAtTornRecord() throws IOException {
+        try (Outbox outbox = new Outbox(OutboxPolicy.of(directory))) {
+            outbox.append(sms("intact"));
+            outbox.append(sms("torn"));
+        }
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.sorted().toList().get(0);
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer length = ByteBuffer.allocate(4);
+            channel.read(length, 0);
+            int secondRecord = 17 + length.flip().getInt() - 1;
+            channel.write(ByteBuffer.wrap(new byte[]{0x7f}), secondRecord + 20);
+        }
+
+        try (Outbox reopened = new Outbox(OutboxPolicy.of(directory))) {
+            assertThat(replay(reopened)).containsExactly("intact");
+        }
+    }
+
+    private List<String> replay(Outbox outbox) {
+        List<String> ids = new ArrayList<>();
+        outbox.replay((entry, notification) -> ids.add(notification.getId()));
+        return ids;
+    }
+
+    private Notification sms(String id) {
+        return SmsNotification.builder()
+                .id(id)
+                .recipient(Recipient.builder().phoneNumber("+5491155551234").build())
+                .body("Mensaje " + id)
+                .build();
+    }
+}
@@ -0,0 +1,192 @@
+package com.pinapp.messaging.application.ratelimit;
+
+import com.pinapp.messaging.application.exception.ConfigurationException;
+import com.pinapp.messaging.application.exception.ProviderException;
+import com.pinapp.messaging.application.exception.RateLimitExceededException;
+import com.pinapp.messaging.application.port.NotificationSender;
+import com.pinapp.messaging.domain.NotificationResult;
+import com.pinapp.messaging.domain.Recipient;
+import com.pinapp.messaging.domain.sms.SmsNotification;
+import com.pinapp.messaging.infrastructure.config.ProviderCredentials;
+import com.pinapp.messaging.infrastructure.provider.sms.TwilioSmsSender;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketTest {
+
+    @Test
+    void shouldAllowBurstThenSpacePermitsAtConfiguredRate() {
+        TokenBucket bucket = new TokenBucket(RateLimit.of(10, 3));
+
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+
+        long wait = bucket.reserve(TimeUnit.SECONDS.toNanos(1));
+        assertThat(wait).isBetween(TimeUnit.MILLISECONDS.toNanos(50), TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(bucket.reserve(TimeUnit.SECONDS.toNanos(1))).isGreaterThan(wait);
+    }
+
+    @Test
+    void shouldRefuseReservationBeyondMaxWait() {
+        TokenBucket bucket = new TokenBucket(RateLimit.of(1));
+
+        assertThat(bucket.reserve(0)).isZero();
+        assertThat(bucket.reserve(TimeUnit.MILLISECONDS.toNanos(100))).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldNotHandOutMorePermitsThanBurstUnderContention() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(RateLimit.of(0.001, 50));
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(8);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                executor.execute(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        if (bucket.tryAcquire()) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                    done.countDown();
+                });
+            }
+            done.await(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(granted.get()).isEqualTo(50);
+    }
+
+    @Test
+    void shouldRejectInvalidRate() {
+        assertThatThrownBy(() -> new TokenBucket(RateLimit.of(0)))
+                .isInstanceOf(ConfigurationException.class);
+    }
+
+    @Test
+    void shouldThrowFromSenderWhenPermitIsBeyondDeadline() {
+        RateLimit rateLimit = RateLimit.builder()
+                .permitsPerSecond(1)
+                .maxWait(Duration.ofMillis(50))
+                .build();
+        RateLimitedSender<SmsNotification> sender = new RateLimitedSender<>(
+                new TwilioSmsSender(ProviderCredentials.builder().accountSid("AC1").build()),
+                new TokenBucket(rateLimit),
+                rateLimit
+        );
+
+        assertThat(sender.send(createSms()).isSuccess()).isTrue();
+        assertThatThrownBy(() -> sender.send(createSms()))
+                .isInstanceOf(RateLimitExceededException.class)
+                .hasMessageContaining("Twilio");
+    }
+
+    @Test
+    void shouldWaitForPermitWithinDeadline() {
+        RateLimit rateLimit = RateLimit.of(20);
+        RateLimitedSender<SmsNotification> sender = new RateLimitedSender<>(
+                new TwilioSmsSender(ProviderCredentials.builder().accountSid("AC1").build()),
+                new TokenBucket(rateLimit),
+                rateLimit
+        );
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            sender.send(createSms());
+        }
+
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(190));
+    }
+
+    @Test
+    void shouldReturnCancelledReservationToTheBucket() {
+        RateLimit rateLimit = RateLimit.of(1);
+        RateLimitedSender<SmsNotification> sender = twilio(rateLimit);
+
+        RateLimitedSender.Reservation reservation = sender.reservePermit();
+        assertThat(sender.tryReservePermit()).isNull();
+        reservation.cancel();
+
+        assertThat(sender.tryReservePermit()).isNotNull();
+    }
+
+    @Test
+    void shouldNotBlockAsyncCallerWhileWaitingForPermit() {
+        RateLimitedSender<SmsNotification> sender = twilio(RateLimit.of(10));
+        sender.send(createSms());
+
+        long start = System.nanoTime();
+        CompletableFuture<NotificationResult> pending = sender.sendAsync(createSms()).toCompletableFuture();
+
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(pending).isNotDone();
+        assertThat(pending.join().isSuccess()).isTrue();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(90));
+    }
+
+    @Test
+    void shouldThrowInsteadOfSendingWhenInterruptedWhileWaiting() {
+        RateLimit rateLimit = RateLimit.of(1);
+        TokenBucket bucket = new TokenBucket(rateLimit);
+        AtomicInteger calls = new AtomicInteger();
+        TwilioSmsSender twilio = new TwilioSmsSender(ProviderCredentials.builder().accountSid("AC1").build());
+        RateLimitedSender<SmsNotification> sender = new RateLimitedSender<>(new NotificationSender<>() {
+            @Override
+            public NotificationResult send(SmsNotification notification) {
+                calls.incrementAndGet();
+                return twilio.send(notification);
+            }
+
+            @Override
+            public Class<SmsNotification> getNotificationType() {
+                return SmsNotification.class;
+            }
+
+            @Override
+            public String getProviderName() {
+                return "Twilio";
+            }
+        }, bucket, rateLimit);
+        sender.send(createSms());
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(() -> sender.send(createSms()))
+                    .isInstanceOf(ProviderException.class)
+                    .hasMessageContaining("Interrupted");
+        } finally {
+            Thread.interrupted();
+        }
+
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    private RateLimitedSender<SmsNotification> twilio(RateLimit rateLimit) {
+        return new RateLimitedSender<>(
+                new TwilioSmsSender(ProviderCredentials.builder().accountSid("AC1").build()),
+                new TokenBucket(rateLimit),
+                rateLimit
+        );
+    }
+
+    private SmsNotification createSms() {
+        return SmsNotification.builder()
+                .id(UUID.randomUUID().toString())
+                .recipient(Recipient.builder().phoneNumber("+5491155551234").build())
+                .body("Test")
+                .build();
+    }
+}
@@ -0,0 +1,203 @@
+package com.pinapp.messaging.application.resilience;
+
+import com.pinapp.messaging.application.exception.CircuitOpenException;
+import com.pinapp.messaging.application.port.NotificationSender;
+import com.pinapp.messaging.application.routing.LoadBalancingStrategy;
+import com.pinapp.messaging.application.routing.RoutedSender;
+import com.pinapp.messaging.domain.NotificationResult;
+import com.pinapp.messaging.domain.NotificationStatus;
+import com.pinapp.messaging.domain.Recipient;
+import com.pinapp.messaging.domain.sms.SmsNotification;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTest {
+
+    private final List<String> transitions = new ArrayList<>();
+
+    @Test
+    void shouldOpenWhenFailureRateExceedsThreshold() {
+        CircuitBreaker breaker = breaker(Duration.ofMinutes(1));
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(breaker.tryAcquirePermission()).isTrue();
+            breaker.onResult(i % 2 == 0, 0);
+        }
+
+        assertThat(breaker.getState()).isEqualTo(CircuitState.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        assertThat(transitions).containsExactly("CLOSED->OPEN");
+    }
+
+    @Test
+    void shouldOpenWhenSlowCallRateExceedsThreshold() {
+        CircuitBreaker breaker = breaker(Duration.ofMinutes(1));
+
+        for (int i = 0; i < 10; i++) {
+            breaker.onResult(true, TimeUnit.SECONDS.toNanos(2));
+        }
+
+        assertThat(breaker.getState()).isEqualTo(CircuitState.OPEN);
+    }
+
+    @Test
+    void shouldStayClosedBelowMinimumCalls() {
+        CircuitBreaker breaker = breaker(Duration.ofMinutes(1));
+
+        for (int i = 0; i < 9; i++) {
+            breaker.onResult(false, 0);
+        }
+
+        assertThat(breaker.getState()).isEqualTo(CircuitState.CLOSED);
+    }
+
+    @Test
+    void shouldNotifyListenerOutsideTheBreakerLock() {
+        AtomicReference<CircuitBreaker> holder = new AtomicReference<>();
+        List<Boolean> heldLock = new ArrayList<>();
+        CircuitBreaker breaker = new CircuitBreaker("Twilio", CircuitBreakerConfig.builder()
+                .slidingWindowSize(2)
+                .minimumCalls(2)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .build(), (name, from, to, reason) -> heldLock.add(Thread.holdsLock(holder.get())));
+        holder.set(breaker);
+
+        breaker.onResult(false, 0);
+        breaker.onResult(false, 0);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitState.OPEN);
+        assertThat(heldLock).containsExactly(false);
+    }
+
+    @Test
+    void shouldCloseAfterSuccessfulHalfOpenProbes() throws InterruptedException {
+        CircuitBreaker breaker = breaker(Duration.ofMillis(20));
+        for (int i = 0; i < 10; i++) {
+            breaker.onResult(false, 0);
+        }
+
+        Thread.sleep(30);
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        assertThat(breaker.getState()).isEqualTo(CircuitState.HALF_OPEN);
+
+        breaker.onResult(true, 0);
+        breaker.onResult(true, 0);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitState.CLOSED);
+        assertThat(transitions).containsExactly("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED");
+    }
+
+    @Test
+    void shouldReopenWhenHalfOpenProbesFail() throws InterruptedException {
+        CircuitBreaker breaker = breaker(Duration.ofMillis(20));
+        for (int i = 0; i < 10; i++) {
+            breaker.onResult(false, 0);
+        }
+
+        Thread.sleep(30);
+        breaker.tryAcquirePermission();
+        breaker.tryAcquirePermission();
+        breaker.onResult(false, 0);
+        breaker.onResult(false, 0);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitState.OPEN);
+        assertThat(transitions).endsWith("HALF_OPEN->OPEN");
+    }
+
+    @Test
+    void shouldFailFastWithoutCallingProviderWhenOpen() {
+        CountingSender provider = new CountingSender("Twilio", false);
+        CircuitBreakerSender<SmsNotification> sender = new CircuitBreakerSender<>(provider, breaker(Duration.ofMinutes(1)));
+
+        for (int i = 0; i < 10; i++) {
+            sender.send(createSms());
+        }
+
+        assertThatThrownBy(() -> sender.send(createSms())).isInstanceOf(CircuitOpenException.class);
+        assertThat(provider.calls).isEqualTo(10);
+    }
+
+    @Test
+    void shouldFailOverImmediatelyPastOpenProvider() {
+        CountingSender twilio = new CountingSender("Twilio", false);
+        CountingSender nexmo = new CountingSender("Nexmo", true);
+        RoutedSender<SmsNotification> routed = RoutedSender.of(LoadBalancingStrategy.WEIGHTED_ROUND_ROBIN,
+                        List.of(twilio, nexmo))
+                .mapSenders(delegate -> new CircuitBreakerSender<>(delegate, breaker(Duration.ofMinutes(1))));
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(routed.send(createSms()).getProviderName()).isEqualTo("Nexmo");
+        }
+
+        assertThat(twilio.calls).isEqualTo(10);
+        assertThat(nexmo.calls).isEqualTo(100);
+    }
+
+    private CircuitBreaker breaker(Duration waitInOpen) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.builder()
+                .slidingWindowSize(10)
+                .minimumCalls(10)
+                .failureRateThreshold(50)
+                .slowCallRateThreshold(80)
+                .slowCallDuration(Duration.ofSeconds(1))
+                .waitDurationInOpenState(waitInOpen)
+                .permittedCallsInHalfOpenState(2)
+                .build();
+        return new CircuitBreaker("Twilio", config, (name, from, to, reason) -> transitions.add(from + "->" + to));
+    }
+
+    private SmsNotification createSms() {
+        return SmsNotification.builder()
+                .id(UUID.randomUUID().toString())
+                .recipient(Recipient.builder().phoneNumber("+5491155551234").build())
+                .body("Test")
+                .build();
+    }
+
+    private static class CountingSender implements NotificationSender<SmsNotification> {
+
+        private final String name;
+        private final boolean succeed;
+        private int calls;
+
+        CountingSender(String name, boolean succeed) {
+            this.name = name;
+            this.succeed = succeed;
+        }
+
+        @Override
+        public NotificationResult send(SmsNotification notification) {
+            calls++;
+            return NotificationResult.builder()
+                    .notificationId(notification.getId())
+                    .status(succeed ? NotificationStatus.SUCCESS : NotificationStatus.FAILED)
+                    .errorMessage(succeed ? null : name + " unavailable")
+                    .providerName(name)
+                    .timestamp(Instant.now())
+                    .build();
+        }
+
+        @Override
+        public Class<SmsNotification> getNotificationType() {
+            return SmsNotification.class;
+        }
+
+        @Override
+        public String getProviderName() {
+            return name;
+        }
+    }
+}
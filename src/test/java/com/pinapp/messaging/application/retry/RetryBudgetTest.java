@@ -0,0 +1,67 @@
+package com.pinapp.messaging.application.retry;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryBudgetTest {
+
+    @Test
+    void shouldAllowRetriesUpToRatioOfRequests() {
+        RetryBudget budget = new RetryBudget(RetryBudgetPolicy.builder()
+                .retryRatio(0.1)
+                .minRetriesPerSecond(0)
+                .window(Duration.ofMinutes(1))
+                .build());
+
+        for (int i = 0; i < 100; i++) {
+            budget.recordRequest();
+        }
+
+        int granted = 0;
+        for (int i = 0; i < 50; i++) {
+            if (budget.tryAcquireRetry()) {
+                granted++;
+            }
+        }
+        assertThat(granted).isEqualTo(10);
+    }
+
+    @Test
+    void shouldAllowMinimumRetriesAtLowTraffic() {
+        RetryBudget budget = new RetryBudget(RetryBudgetPolicy.builder()
+                .retryRatio(0.1)
+                .minRetriesPerSecond(1)
+                .window(Duration.ofSeconds(3))
+                .build());
+
+        budget.recordRequest();
+
+        assertThat(budget.tryAcquireRetry()).isTrue();
+        assertThat(budget.tryAcquireRetry()).isTrue();
+        assertThat(budget.tryAcquireRetry()).isTrue();
+        assertThat(budget.tryAcquireRetry()).isFalse();
+    }
+
+    @Test
+    void shouldForgetRetriesOutsideTheWindow() throws InterruptedException {
+        RetryBudget budget = new RetryBudget(RetryBudgetPolicy.builder()
+                .retryRatio(0.5)
+                .minRetriesPerSecond(0)
+                .window(Duration.ofMillis(100))
+                .build());
+
+        budget.recordRequest();
+        budget.recordRequest();
+        assertThat(budget.tryAcquireRetry()).isTrue();
+        assertThat(budget.tryAcquireRetry()).isFalse();
+
+        Thread.sleep(150);
+        budget.recordRequest();
+        budget.recordRequest();
+
+        assertThat(budget.tryAcquireRetry()).isTrue();
+    }
+}
@@ -0,0 +1,125 @@
+package com.pinapp.messaging.application.retry;
+
+import com.pinapp.messaging.application.exception.ConfigurationException;
+import com.pinapp.messaging.application.exception.ProviderException;
+import com.pinapp.messaging.application.exception.ValidationException;
+import com.pinapp.messaging.domain.NotificationResult;
+import com.pinapp.messaging.domain.NotificationStatus;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetryPolicyTest {
+
+    @Test
+    void shouldCapExponentialBackoff() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .maxAttempts(10)
+                .delayMillis(100)
+                .backoffMultiplier(2.0)
+                .maxDelayMillis(1_000)
+                .build();
+
+        assertThat(policy.getDelayForAttempt(1)).isEqualTo(100);
+        assertThat(policy.getDelayForAttempt(4)).isEqualTo(800);
+        assertThat(policy.getDelayForAttempt(5)).isEqualTo(1_000);
+        assertThat(policy.getDelayForAttempt(9)).isEqualTo(1_000);
+    }
+
+    @Test
+    void shouldKeepJitteredDelayWithinBounds() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .delayMillis(1_000)
+                .jitter(0.2)
+                .build();
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(policy.getDelayForAttempt(1)).isBetween(800L, 1_200L);
+        }
+    }
+
+    @Test
+    void shouldRejectJitterOutsideUnitRange() {
+        assertThatThrownBy(() -> RetryPolicy.builder().jitter(1.5).build())
+                .isInstanceOf(ConfigurationException.class)
+                .hasMessageContaining("jitter");
+        assertThatThrownBy(() -> RetryPolicy.builder().jitter(-0.1).build())
+                .isInstanceOf(ConfigurationException.class);
+        assertThatThrownBy(() -> RetryPolicy.of(3, 100).toBuilder().jitter(Double.NaN).build())
+                .isInstanceOf(ConfigurationException.class);
+        assertThat(RetryPolicy.builder().jitter(1.0).build().getJitter()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldNotRetryValidationErrors() {
+        assertThat(RetryPolicy.of(3, 0).isRetryable(new ValidationException("Invalid email address"))).isFalse();
+        assertThat(RetryPolicy.of(3, 0).isRetryable(new IllegalStateException("timeout"))).isTrue();
+    }
+
+    @Test
+    void shouldClassifyByExceptionTypeIncludingCause() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .maxAttempts(3)
+                .abortOnException(SecurityException.class)
+                .build();
+
+        ProviderException wrapped = new ProviderException("Twilio", "auth failed", new SecurityException("401"));
+
+        assertThat(policy.isRetryable(wrapped)).isFalse();
+        assertThat(policy.isRetryable(new ProviderException("Twilio", "503"))).isTrue();
+    }
+
+    @Test
+    void shouldOnlyRetryWhitelistedExceptionsWhenConfigured() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .maxAttempts(3)
+                .retryOnException(TimeoutException.class)
+                .retryOnException(UncheckedIOException.class)
+                .build();
+
+        assertThat(policy.isRetryable(new UncheckedIOException(new IOException("reset")))).isTrue();
+        assertThat(policy.isRetryable(new IllegalArgumentException("bad payload"))).isFalse();
+    }
+
+    @Test
+    void shouldNotRetryPermanentProviderErrorCodes() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .maxAttempts(3)
+                .abortOnErrorCode("21211")
+                .build();
+
+        assertThat(policy.isRetryable(new ProviderException("Twilio", "21211", "Invalid 'To' number", null))).isFalse();
+        assertThat(policy.isRetryable(failed("21211"))).isFalse();
+        assertThat(policy.isRetryable(failed("20429"))).isTrue();
+    }
+
+    @Test
+    void shouldClassifyResultsWithPredicate() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .maxAttempts(3)
+                .retryOnResult(result -> result.getErrorMessage().contains("unavailable"))
+                .build();
+
+        assertThat(policy.isRetryable(NotificationResult.builder()
+                .status(NotificationStatus.FAILED)
+                .errorMessage("provider unavailable")
+                .build())).isTrue();
+        assertThat(policy.isRetryable(NotificationResult.builder()
+                .status(NotificationStatus.FAILED)
+                .errorMessage("recipient unsubscribed")
+                .build())).isFalse();
+    }
+
+    private NotificationResult failed(String errorCode) {
+        return NotificationResult.builder()
+                .status(NotificationStatus.FAILED)
+                .errorCode(errorCode)
+                .errorMessage("failed")
+                .build();
+    }
+}
@@ -0,0 +1,183 @@
+package com.pinapp.messaging.application.routing;
+
+import com.pinapp.messaging.application.exception.ProviderException;
+import com.pinapp.messaging.application.port.NotificationSender;
+import com.pinapp.messaging.domain.NotificationResult;
+import com.pinapp.messaging.domain.NotificationStatus;
+import com.pinapp.messaging.domain.Recipient;
+import com.pinapp.messaging.domain.sms.SmsNotification;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoutedSenderTest {
+
+    @Test
+    void shouldDistributeByWeight() {
+        RoutedSender<SmsNotification> sender = RoutedSender.builder(SmsNotification.class)
+                .strategy(LoadBalancingStrategy.WEIGHTED_ROUND_ROBIN)
+                .add(new StubSender("Twilio", true), 3)
+                .add(new StubSender("Nexmo", true), 1)
+                .build();
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 400; i++) {
+            counts.merge(sender.send(createSms()).getProviderName(), 1, Integer::sum);
+        }
+
+        assertThat(counts).containsEntry("Twilio", 300).containsEntry("Nexmo", 100);
+    }
+
+    @Test
+    void shouldFailOverToNextProvider() {
+        RoutedSender<SmsNotification> sender = RoutedSender.of(
+                LoadBalancingStrategy.LEAST_OUTSTANDING,
+                List.of(new StubSender("Twilio", false), new StubSender("Nexmo", true))
+        );
+
+        for (int i = 0; i < 10; i++) {
+            NotificationResult result = sender.send(createSms());
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(result.getProviderName()).isEqualTo("Nexmo");
+        }
+    }
+
+    @Test
+    void shouldPreferFasterProviderWithEwmaPowerOfTwo() {
+        RoutedSender<SmsNotification> sender = RoutedSender.of(
+                LoadBalancingStrategy.EWMA_POWER_OF_TWO,
+                List.of(new StubSender("Slow", true, 20), new StubSender("Fast", true, 0))
+        );
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 50; i++) {
+            counts.merge(sender.send(createSms()).getProviderName(), 1, Integer::sum);
+        }
+
+        assertThat(counts.getOrDefault("Fast", 0)).isGreaterThan(counts.getOrDefault("Slow", 0));
+    }
+
+    @Test
+    void shouldThrowWhenEveryProviderThrows() {
+        NotificationSender<SmsNotification> broken = new StubSender("Broken", true) {
+            @Override
+            public NotificationResult send(SmsNotification notification) {
+                throw new IllegalStateException("connection refused");
+            }
+        };
+        RoutedSender<SmsNotification> sender = RoutedSender.of(
+                LoadBalancingStrategy.WEIGHTED_ROUND_ROBIN, List.of(broken, broken));
+
+        assertThatThrownBy(() -> sender.send(createSms()))
+                .isInstanceOf(ProviderException.class)
+                .hasMessageContaining("connection refused");
+    }
+
+    @Test
+    void shouldFailOverAsynchronouslyWhenProviderStageFails() {
+        NotificationSender<SmsNotification> broken = new StubSender("Broken", true) {
+            @Override
+            public CompletionStage<NotificationResult> sendAsync(SmsNotification notification) {
+                return CompletableFuture.failedFuture(new IllegalStateException("connection reset"));
+            }
+        };
+        RoutedSender<SmsNotification> sender = RoutedSender.of(
+                LoadBalancingStrategy.WEIGHTED_ROUND_ROBIN, List.of(broken, new StubSender("Nexmo", true)));
+
+        for (int i = 0; i < 10; i++) {
+            NotificationResult result = sender.sendAsync(createSms()).toCompletableFuture().join();
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(result.getProviderName()).isEqualTo("Nexmo");
+        }
+    }
+
+    @Test
+    void shouldFailOverWhenProviderReturnsNoResult() {
+        NotificationSender<SmsNotification> empty = new StubSender("Empty", true) {
+            @Override
+            public NotificationResult send(SmsNotification notification) {
+                return null;
+            }
+
+            @Override
+            public CompletionStage<NotificationResult> sendAsync(SmsNotification notification) {
+                return CompletableFuture.completedFuture(null);
+            }
+        };
+        RoutedSender<SmsNotification> sender = RoutedSender.of(
+                LoadBalancingStrategy.WEIGHTED_ROUND_ROBIN, List.of(empty, new StubSender("Nexmo", true)));
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(sender.send(createSms()).getProviderName()).isEqualTo("Nexmo");
+            assertThat(sender.sendAsync(createSms()).toCompletableFuture().orTimeout(1, TimeUnit.SECONDS).join()
+                    .getProviderName()).isEqualTo("Nexmo");
+        }
+        assertThatThrownBy(() -> RoutedSender.of(LoadBalancingStrategy.WEIGHTED_ROUND_ROBIN, List.of(empty))
+                .sendAsync(createSms()).toCompletableFuture().orTimeout(1, TimeUnit.SECONDS).join())
+                .hasCauseInstanceOf(ProviderException.class)
+                .hasMessageContaining("no result");
+    }
+
+    private SmsNotification createSms() {
+        return SmsNotification.builder()
+                .id(UUID.randomUUID().toString())
+                .recipient(Recipient.builder().phoneNumber("+5491155551234").build())
+                .body("Test")
+                .build();
+    }
+
+    private static class StubSender implements NotificationSender<SmsNotification> {
+
+        private final String name;
+        private final boolean succeed;
+        private final long latencyMillis;
+
+        StubSender(String name, boolean succeed) {
+            this(name, succeed, 0);
+        }
+
+        StubSender(String name, boolean succeed, long latencyMillis) {
+            this.name = name;
+            this.succeed = succeed;
+            this.latencyMillis = latencyMillis;
+        }
+
+        @Override
+        public NotificationResult send(SmsNotification notification) {
+            if (latencyMillis > 0) {
+                try {
+                    Thread.sleep(latencyMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return NotificationResult.builder()
+                    .notificationId(notification.getId())
+                    .status(succeed ? NotificationStatus.SUCCESS : NotificationStatus.FAILED)
+                    .errorMessage(succeed ? null : name + " unavailable")
+                    .providerName(name)
+                    .timestamp(Instant.now())
+                    .build();
+        }
+
+        @Override
+        public Class<SmsNotification> getNotificationType() {
+            return SmsNotification.class;
+        }
+
+        @Override
+        public String getProviderName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.pinapp.messaging.application.scheduling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedWheelTimerTest {
+
+    private final HashedWheelTimer timer = new HashedWheelTimer("test-timer", 5, TimeUnit.MILLISECONDS, 8);
+
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+    }
+
+    @Test
+    void shouldRunTaskAfterDelay() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        timer.schedule(latch::countDown, 50, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(50);
+    }
+
+    @Test
+    void shouldRunTasksSpanningSeveralWheelRotations() throws Exception {
+        CountDownLatch latch = new CountDownLatch(2);
+
+        timer.schedule(latch::countDown, 120, TimeUnit.MILLISECONDS);
+        timer.schedule(latch::countDown, 10, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldNotRunCancelledTask() throws Exception {
+        AtomicBoolean ran = new AtomicBoolean();
+
+        HashedWheelTimer.Timeout timeout = timer.schedule(() -> ran.set(true), 30, TimeUnit.MILLISECONDS);
+        assertThat(timeout.cancel()).isTrue();
+
+        Thread.sleep(100);
+
+        assertThat(ran).isFalse();
+        assertThat(timeout.isCancelled()).isTrue();
+    }
+
+    @Test
+    void shouldCountTimeoutsUntilTheyExpireOrAreCancelled() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        timer.schedule(latch::countDown, 200, TimeUnit.MILLISECONDS);
+        HashedWheelTimer.Timeout later = timer.schedule(() -> { }, 10, TimeUnit.SECONDS);
+        timer.schedule(() -> { }, 10, TimeUnit.SECONDS);
+        Thread.sleep(15);
+
+        assertThat(timer.pendingCount()).isEqualTo(3);
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(timer.pendingCount()).isEqualTo(2);
+
+        later.cancel();
+        later.cancel();
+
+        assertThat(timer.pendingCount()).isEqualTo(1);
+    }
+}
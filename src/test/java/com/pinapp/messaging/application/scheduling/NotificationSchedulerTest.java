@@ -0,0 +1,106 @@
+package com.pinapp.messaging.application.scheduling;
+
+import com.pinapp.messaging.domain.Notification;
+import com.pinapp.messaging.domain.NotificationResult;
+import com.pinapp.messaging.domain.NotificationStatus;
+import com.pinapp.messaging.domain.Recipient;
+import com.pinapp.messaging.domain.sms.SmsNotification;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationSchedulerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final List<Notification> sent = new CopyOnWriteArrayList<>();
+
+    @Test
+    void shouldDispatchWhenDueAndCompleteResult() throws Exception {
+        NotificationScheduler scheduler = new NotificationScheduler(
+                SchedulerPolicy.builder().tick(Duration.ofMillis(5)).build(), this::send);
+
+        ScheduledNotification scheduled = scheduler.schedule(sms("n-1"), Instant.now().plusMillis(50));
+        NotificationResult result = scheduled.getResult().get(2, TimeUnit.SECONDS);
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(sent).extracting(Notification::getId).containsExactly("n-1");
+        scheduler.close();
+    }
+
+    @Test
+    void shouldDispatchOffTheWheelThread() throws Exception {
+        List<String> threads = new CopyOnWriteArrayList<>();
+        NotificationScheduler scheduler = new NotificationScheduler(
+                SchedulerPolicy.builder().tick(Duration.ofMillis(5)).build(), notification -> {
+                    threads.add(Thread.currentThread().getName());
+                    return send(notification);
+                });
+
+        scheduler.schedule(sms("n-1"), Instant.now().plusMillis(20)).getResult().get(2, TimeUnit.SECONDS);
+
+        assertThat(threads).singleElement().asString().startsWith("pinapp-scheduler-dispatch-");
+        scheduler.close();
+    }
+
+    @Test
+    void shouldRecoverPendingNotificationsAfterRestart() throws Exception {
+        Path journal = tempDir.resolve("schedule.journal");
+        SchedulerPolicy policy = SchedulerPolicy.builder()
+                .tick(Duration.ofMillis(5))
+                .persistencePath(journal)
+                .build();
+
+        NotificationScheduler first = new NotificationScheduler(policy, this::send);
+        first.schedule(sms("kept"), Instant.now().plusMillis(300));
+        first.schedule(sms("cancelled"), Instant.now().plusMillis(300)).cancel();
+        first.schedule(sms("sent-before-restart"), Instant.now()).getResult().get(2, TimeUnit.SECONDS);
+        assertThat(first.shutdown()).isEmpty();
+        first.close();
+
+        NotificationScheduler second = new NotificationScheduler(policy, this::send);
+        assertThat(second.getPendingCount()).isEqualTo(1);
+        Thread.sleep(600);
+        second.close();
+
+        assertThat(sent).extracting(Notification::getId).containsExactly("sent-before-restart", "kept");
+        SmsNotification recovered = (SmsNotification) sent.get(1);
+        assertThat(recovered.getRecipient().getPhoneNumber()).isEqualTo("+5491155551234");
+    }
+
+    @Test
+    void shouldReportAbandonedNotificationsWhenNotDurable() {
+        NotificationScheduler scheduler = new NotificationScheduler(SchedulerPolicy.inMemory(), this::send);
+        ScheduledNotification scheduled = scheduler.schedule(sms("later"), Instant.now().plusSeconds(60));
+
+        assertThat(scheduler.shutdown()).containsExactly("later");
+        assertThat(scheduled.getResult()).isCompletedExceptionally();
+    }
+
+    private CompletableFuture<NotificationResult> send(Notification notification) {
+        sent.add(notification);
+        return CompletableFuture.completedFuture(NotificationResult.builder()
+                .notificationId(notification.getId())
+                .status(NotificationStatus.SUCCESS)
+                .timestamp(Instant.now())
+                .build());
+    }
+
+    private SmsNotification sms(String id) {
+        return SmsNotification.builder()
+                .id(id)
+                .recipient(Recipient.builder().phoneNumber("+5491155551234").build())
+                .body("Recordatorio")
+                .build();
+    }
+}
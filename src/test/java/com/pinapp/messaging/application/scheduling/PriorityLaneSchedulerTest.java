@@ -0,0 +1,152 @@
+package com.pinapp.messaging.application.scheduling;
+
+import com.pinapp.messaging.domain.NotificationPriority;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriorityLaneSchedulerTest {
+
+    private final ManualExecutor executor = new ManualExecutor();
+    private final List<NotificationPriority> order = new ArrayList<>();
+
+    @Test
+    void shouldAlwaysDispatchTopLaneFirst() {
+        PriorityLaneScheduler scheduler = new PriorityLaneScheduler(LanePolicy.of(1));
+        submit(scheduler, NotificationPriority.NORMAL);
+        submit(scheduler, NotificationPriority.LOW);
+        submit(scheduler, NotificationPriority.HIGH);
+        submit(scheduler, NotificationPriority.CRITICAL);
+        submit(scheduler, NotificationPriority.CRITICAL);
+
+        executor.runAll();
+
+        assertThat(order).containsExactly(
+                NotificationPriority.NORMAL,
+                NotificationPriority.CRITICAL,
+                NotificationPriority.CRITICAL,
+                NotificationPriority.HIGH,
+                NotificationPriority.LOW);
+    }
+
+    @Test
+    void shouldShareRemainingCapacityByWeight() {
+        PriorityLaneScheduler scheduler = new PriorityLaneScheduler(LanePolicy.builder()
+                .maxConcurrency(1)
+                .weight(NotificationPriority.HIGH, 3)
+                .weight(NotificationPriority.NORMAL, 1)
+                .build());
+        submit(scheduler, NotificationPriority.CRITICAL);
+        for (int i = 0; i < 20; i++) {
+            submit(scheduler, NotificationPriority.HIGH);
+            submit(scheduler, NotificationPriority.NORMAL);
+        }
+
+        executor.runAll();
+
+        List<NotificationPriority> firstRound = order.subList(1, 9);
+        assertThat(firstRound).filteredOn(p -> p == NotificationPriority.HIGH).hasSize(6);
+        assertThat(firstRound).filteredOn(p -> p == NotificationPriority.NORMAL).hasSize(2);
+        assertThat(order).hasSize(41);
+    }
+
+    @Test
+    void shouldNotStarveLowLaneUnderHighLoad() {
+        PriorityLaneScheduler scheduler = new PriorityLaneScheduler(LanePolicy.of(1));
+        submit(scheduler, NotificationPriority.CRITICAL);
+        for (int i = 0; i < 100; i++) {
+            submit(scheduler, NotificationPriority.HIGH);
+        }
+        submit(scheduler, NotificationPriority.LOW);
+
+        executor.runAll();
+
+        assertThat(order.indexOf(NotificationPriority.LOW)).isLessThan(12);
+    }
+
+    @Test
+    void shouldReportQueueDepthAndWaitPerLane() {
+        PriorityLaneScheduler scheduler = new PriorityLaneScheduler(LanePolicy.of(1));
+        submit(scheduler, NotificationPriority.NORMAL);
+        submit(scheduler, NotificationPriority.NORMAL);
+        submit(scheduler, NotificationPriority.LOW);
+
+        assertThat(scheduler.getStats(NotificationPriority.NORMAL).getQueueDepth()).isEqualTo(1);
+        assertThat(scheduler.getStats(NotificationPriority.LOW).getQueueDepth()).isEqualTo(1);
+        assertThat(scheduler.getRunning()).isEqualTo(1);
+
+        executor.runAll();
+
+        LaneStats normal = scheduler.getStats(NotificationPriority.NORMAL);
+        assertThat(normal.getQueueDepth()).isZero();
+        assertThat(normal.getDispatched()).isEqualTo(2);
+        assertThat(normal.getP99Wait()).isLessThanOrEqualTo(normal.getMaxWait());
+        assertThat(normal.getMaxWait()).isPositive();
+        assertThat(scheduler.getStats()).hasSize(NotificationPriority.values().length);
+        assertThat(scheduler.getRunning()).isZero();
+    }
+
+    @Test
+    void shouldReleaseSlotWhenExecutorRejects() {
+        PriorityLaneScheduler scheduler = new PriorityLaneScheduler(LanePolicy.of(1));
+        AtomicReference<RejectedExecutionException> rejected = new AtomicReference<>();
+        Executor closed = task -> {
+            throw new RejectedExecutionException("closed");
+        };
+
+        scheduler.execute(NotificationPriority.HIGH, closed, () -> { }, rejected::set);
+        submit(scheduler, NotificationPriority.LOW);
+        executor.runAll();
+
+        assertThat(rejected.get()).hasMessage("closed");
+        assertThat(order).containsExactly(NotificationPriority.LOW);
+    }
+
+    @Test
+    void shouldHoldSlotUntilAsyncTaskCompletes() {
+        PriorityLaneScheduler scheduler = new PriorityLaneScheduler(LanePolicy.of(1));
+        CompletableFuture<Void> inFlight = new CompletableFuture<>();
+
+        scheduler.executeAsync(NotificationPriority.HIGH, executor, () -> inFlight, e -> { });
+        submit(scheduler, NotificationPriority.LOW);
+        executor.runAll();
+
+        assertThat(scheduler.getRunning()).isEqualTo(1);
+        assertThat(order).isEmpty();
+
+        inFlight.complete(null);
+        executor.runAll();
+
+        assertThat(order).containsExactly(NotificationPriority.LOW);
+        assertThat(scheduler.getRunning()).isZero();
+    }
+
+    private void submit(PriorityLaneScheduler scheduler, NotificationPriority priority) {
+        scheduler.execute(priority, executor, () -> order.add(priority), e -> { });
+    }
+
+    private static class ManualExecutor implements Executor {
+
+        private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.pinapp.messaging.application.scheduling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    private final Map<String, Instant> fired = new ConcurrentHashMap<>();
+    private CountDownLatch latch = new CountDownLatch(0);
+
+    private final TimingWheel<String> wheel = new TimingWheel<>("test-wheel", Duration.ofMillis(1), 4, item -> {
+        fired.put(item, Instant.now());
+        latch.countDown();
+    });
+
+    @AfterEach
+    void tearDown() {
+        wheel.stop();
+    }
+
+    @Test
+    void shouldFireItemsAcrossAllLevelsNoEarlierThanDue() throws Exception {
+        latch = new CountDownLatch(5);
+        Instant start = Instant.now();
+        Map<String, Instant> due = Map.of(
+                "past", start.minusSeconds(1),
+                "level0", start.plusMillis(3),
+                "level1", start.plusMillis(20),
+                "level2", start.plusMillis(100),
+                "overflow", start.plusMillis(400));
+
+        due.forEach((item, at) -> wheel.schedule(item, at));
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        due.forEach((item, at) -> assertThat(fired.get(item)).isAfterOrEqualTo(at.truncatedTo(ChronoUnit.MILLIS)));
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void shouldNotFireCancelledItem() throws Exception {
+        latch = new CountDownLatch(1);
+        TimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", Instant.now().plusMillis(30));
+        wheel.schedule("kept", Instant.now().plusMillis(60));
+
+        assertThat(cancelled.cancel()).isTrue();
+        assertThat(cancelled.cancel()).isFalse();
+        assertThat(wheel.size()).isEqualTo(1);
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(fired).containsOnlyKeys("kept");
+    }
+
+    @Test
+    void shouldReturnUnexpiredItemsOnStop() {
+        wheel.schedule("later", Instant.now().plusSeconds(60));
+        wheel.schedule("much-later", Instant.now().plus(Duration.ofDays(30)));
+
+        List<String> unexpired = wheel.stop();
+
+        assertThat(unexpired).containsExactlyInAnyOrder("later", "much-later");
+    }
+
+    @Test
+    void shouldHandleManyPendingItems() throws Exception {
+        int count = 200_000;
+        latch = new CountDownLatch(count);
+        Instant base = Instant.now();
+        for (int i = 0; i < count; i++) {
+            wheel.schedule("n-" + i, base.plusMillis(i % 200));
+        }
+
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(fired).hasSize(count);
+    }
+}
@@ -1,22 +1,47 @@
 package com.pinapp.messaging.application.service.send;
 
+import com.pinapp.messaging.application.channel.ChannelRegistry;
+import com.pinapp.messaging.application.channel.NotificationChannel;
+import com.pinapp.messaging.application.deadletter.DeliveryAttempt;
+import com.pinapp.messaging.application.event.EventPolicy;
+import com.pinapp.messaging.application.event.EventType;
+import com.pinapp.messaging.application.event.EventVerbosity;
+import com.pinapp.messaging.application.event.NotificationEvent;
 import com.pinapp.messaging.application.exception.ConfigurationException;
+import com.pinapp.messaging.application.exception.ProviderException;
 import com.pinapp.messaging.application.exception.ValidationException;
 import com.pinapp.messaging.application.port.NotificationSender;
+import com.pinapp.messaging.application.retry.RetryBudgetPolicy;
 import com.pinapp.messaging.application.retry.RetryPolicy;
 import com.pinapp.messaging.application.validation.EmailValidator;
 import com.pinapp.messaging.application.validation.NotificationValidator;
+import com.pinapp.messaging.domain.Notification;
 import com.pinapp.messaging.domain.NotificationResult;
+import com.pinapp.messaging.domain.NotificationStatus;
 import com.pinapp.messaging.domain.Recipient;
 import com.pinapp.messaging.domain.email.EmailNotification;
 import com.pinapp.messaging.infrastructure.config.ProviderCredentials;
 import com.pinapp.messaging.infrastructure.provider.email.SendGridEmailSender;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 class SendNotificationServiceTest {
 
@@ -120,6 +145,301 @@ class SendNotificationServiceTest {
         assertThat(result.isSuccess()).isTrue();
     }
 
+    @Test
+    void shouldRetryAsyncWithoutBlockingUntilSuccess() {
+        FlakySender sender = new FlakySender(2);
+        RetryPolicy retryPolicy = RetryPolicy.of(3, 50);
+        SendNotificationService service = createService(sender, null, false, retryPolicy, null);
+
+        NotificationResult result = service.sendAsync(createValidEmail()).join();
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(sender.calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldCompleteAsyncWithFailureWhenRetriesAreExhausted() {
+        FlakySender sender = new FlakySender(Integer.MAX_VALUE);
+        RetryPolicy retryPolicy = RetryPolicy.of(2, 20);
+        SendNotificationService service = createService(sender, null, false, retryPolicy, null);
+
+        NotificationResult result = service.sendAsync(createValidEmail()).join();
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getErrorMessage()).isEqualTo("provider unavailable");
+        assertThat(sender.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldStopRetryingOnNonRetryableErrorCode() {
+        AtomicInteger calls = new AtomicInteger();
+        NotificationSender<EmailNotification> sender = new FlakySender(Integer.MAX_VALUE) {
+            @Override
+            public NotificationResult send(EmailNotification notification) {
+                calls.incrementAndGet();
+                throw new ProviderException("SendGrid", "invalid_recipient", "Recipient does not exist", null);
+            }
+        };
+        RetryPolicy retryPolicy = RetryPolicy.builder()
+                .maxAttempts(5)
+                .delayMillis(10)
+                .abortOnErrorCode("invalid_recipient")
+                .build();
+        SendNotificationService service = createService(sender, null, false, retryPolicy, null);
+
+        NotificationResult result = service.send(createValidEmail());
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getErrorMessage()).isEqualTo("Recipient does not exist");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSkipRetriesOverBudgetAndPublishEvent() {
+        FlakySender sender = new FlakySender(Integer.MAX_VALUE);
+        List<NotificationEvent> events = new ArrayList<>();
+        SendNotificationService service = SendNotificationService.builder()
+                .channels(ChannelRegistry.builder()
+                        .register(NotificationChannel.of(EmailNotification.class, sender, null))
+                        .build())
+                .retryPolicy(RetryPolicy.of(5, 0))
+                .retryBudgetPolicy(RetryBudgetPolicy.builder()
+                        .retryRatio(0.0)
+                        .minRetriesPerSecond(1)
+                        .window(Duration.ofSeconds(2))
+                        .build())
+                .eventPublisher(events::add)
+                .build();
+
+        service.send(createValidEmail());
+        service.send(createValidEmail());
+
+        assertThat(sender.calls.get()).isEqualTo(4);
+        assertThat(events)
+                .filteredOn(event -> event.getEventType() == EventType.RETRY_BUDGET_EXHAUSTED)
+                .extracting(NotificationEvent::getAttemptNumber)
+                .containsExactly(4, 2);
+    }
+
+    @Test
+    void shouldPublishOnlyTerminalEventsWhenConfigured() {
+        List<NotificationEvent> events = new ArrayList<>();
+        SendNotificationService service = SendNotificationService.builder()
+                .channels(ChannelRegistry.builder()
+                        .register(NotificationChannel.of(EmailNotification.class, new FlakySender(1), null))
+                        .build())
+                .retryPolicy(RetryPolicy.of(3, 0))
+                .eventPublisher(events::add)
+                .eventPolicy(EventPolicy.of(EventVerbosity.TERMINAL))
+                .build();
+
+        service.send(createValidEmail());
+
+        assertThat(events).extracting(NotificationEvent::getEventType).containsExactly(EventType.SUCCESS);
+        assertThat(events.get(0).getAttempts()).isNull();
+    }
+
+    @Test
+    void shouldAggregateAttemptTimelineIntoTerminalEvent() {
+        List<NotificationEvent> events = new ArrayList<>();
+        SendNotificationService service = SendNotificationService.builder()
+                .channels(ChannelRegistry.builder()
+                        .register(NotificationChannel.of(EmailNotification.class, new FlakySender(2), null))
+                        .build())
+                .retryPolicy(RetryPolicy.of(3, 0))
+                .eventPublisher(events::add)
+                .eventPolicy(EventPolicy.of(EventVerbosity.AGGREGATED))
+                .build();
+
+        service.send(createValidEmail());
+
+        assertThat(events).extracting(NotificationEvent::getEventType).containsExactly(EventType.SUCCESS);
+        assertThat(events.get(0).getAttempts())
+                .extracting(DeliveryAttempt::getAttemptNumber, DeliveryAttempt::getErrorMessage)
+                .containsExactly(
+                        tuple(1, "provider unavailable"),
+                        tuple(2, "provider unavailable"),
+                        tuple(3, null));
+    }
+
+    @Test
+    void shouldPublishOnlyFailuresWhenConfigured() {
+        List<NotificationEvent> events = new ArrayList<>();
+        SendNotificationService service = SendNotificationService.builder()
+                .channels(ChannelRegistry.builder()
+                        .register(NotificationChannel.of(EmailNotification.class, new FlakySender(1), null))
+                        .build())
+                .retryPolicy(RetryPolicy.of(1, 0))
+                .eventPublisher(events::add)
+                .eventPolicy(EventPolicy.of(EventVerbosity.FAILURES))
+                .build();
+
+        service.send(createValidEmail());
+        service.send(createValidEmail());
+
+        assertThat(events).extracting(NotificationEvent::getEventType).containsExactly(EventType.FAILED);
+    }
+
+    @Test
+    void shouldDropExpiredNotificationWithoutCallingProvider() {
+        FlakySender sender = new FlakySender(0);
+        List<NotificationEvent> events = new ArrayList<>();
+        SendNotificationService service = createService(sender, null, false, RetryPolicy.of(3, 10), events::add);
+        EmailNotification email = validEmail()
+                .deadline(Instant.now().minusSeconds(1))
+                .build();
+
+        NotificationResult result = service.send(email);
+
+        assertThat(result.getStatus()).isEqualTo(NotificationStatus.EXPIRED);
+        assertThat(sender.calls.get()).isZero();
+        assertThat(events).extracting(NotificationEvent::getEventType).containsExactly(EventType.EXPIRED);
+    }
+
+    @Test
+    void shouldInterruptProviderCallAtDeadline() {
+        AtomicInteger calls = new AtomicInteger();
+        NotificationSender<EmailNotification> sender = new FlakySender(0) {
+            @Override
+            public NotificationResult send(EmailNotification notification) {
+                calls.incrementAndGet();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    throw new ProviderException("Flaky", "call interrupted", e);
+                }
+                return super.send(notification);
+            }
+        };
+        SendNotificationService service = createService(sender, null, false, RetryPolicy.of(3, 10), null);
+        EmailNotification email = validEmail()
+                .deadline(Instant.now().plusMillis(100))
+                .build();
+
+        long start = System.nanoTime();
+        NotificationResult result = service.send(email);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        assertThat(result.getStatus()).isEqualTo(NotificationStatus.EXPIRED);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    void shouldNotRetryPastDeadlineFromMetadata() {
+        FlakySender sender = new FlakySender(Integer.MAX_VALUE);
+        SendNotificationService service = createService(sender, null, false, RetryPolicy.of(5, 500), null);
+        EmailNotification email = validEmail()
+                .metadata(Map.of(Notification.DEADLINE_METADATA_KEY, Instant.now().plusMillis(200).toString()))
+                .build();
+
+        NotificationResult result = service.sendAsync(email).join();
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(sender.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepAsyncProviderCallsInFlightWithoutHoldingThreads() throws Exception {
+        List<CompletableFuture<NotificationResult>> pending = new CopyOnWriteArrayList<>();
+        List<NotificationEvent> events = new CopyOnWriteArrayList<>();
+        ExecutorService singleThread = Executors.newSingleThreadExecutor();
+        SendNotificationService service = SendNotificationService.builder()
+                .channels(ChannelRegistry.builder()
+                        .register(NotificationChannel.of(EmailNotification.class, new AsyncSender(notification -> {
+                            CompletableFuture<NotificationResult> response = new CompletableFuture<>();
+                            pending.add(response);
+                            return response;
+                        }), null))
+                        .build())
+                .executor(singleThread)
+                .ownsExecutor(true)
+                .eventPublisher(events::add)
+                .build();
+
+        List<CompletableFuture<NotificationResult>> results = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            results.add(service.sendAsync(createValidEmail()));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (pending.size() < 50 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertThat(pending).hasSize(50);
+        pending.forEach(response -> response.complete(success("async")));
+        assertThat(results).allSatisfy(result -> assertThat(result.get(2, TimeUnit.SECONDS).isSuccess()).isTrue());
+        assertThat(events).filteredOn(event -> event.getEventType() == EventType.SUCCESS).hasSize(50);
+        service.shutdown(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void shouldRetryFailedAsyncAttempts() {
+        AtomicInteger calls = new AtomicInteger();
+        List<NotificationEvent> events = new CopyOnWriteArrayList<>();
+        SendNotificationService service = SendNotificationService.builder()
+                .channels(ChannelRegistry.builder()
+                        .register(NotificationChannel.of(EmailNotification.class, new AsyncSender(notification ->
+                                calls.incrementAndGet() == 1
+                                        ? CompletableFuture.failedFuture(new ProviderException("Async", "connection reset"))
+                                        : CompletableFuture.completedFuture(success("async"))), null))
+                        .build())
+                .retryPolicy(RetryPolicy.of(3, 0))
+                .eventPublisher(events::add)
+                .build();
+
+        NotificationResult result = service.sendAsync(createValidEmail()).join();
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(events).extracting(NotificationEvent::getEventType)
+                .containsExactly(EventType.SENDING, EventType.RETRYING, EventType.SUCCESS);
+    }
+
+    @Test
+    void shouldRunRetriesOffTheTimerThread() {
+        List<String> threads = new CopyOnWriteArrayList<>();
+        SendNotificationService service = SendNotificationService.builder()
+                .channels(ChannelRegistry.builder()
+                        .register(NotificationChannel.of(EmailNotification.class, new AsyncSender(notification -> {
+                            threads.add(Thread.currentThread().getName());
+                            return threads.size() == 1
+                                    ? CompletableFuture.failedFuture(new ProviderException("Async", "connection reset"))
+                                    : CompletableFuture.completedFuture(success("async"));
+                        }), null))
+                        .build())
+                .executor(Runnable::run)
+                .retryPolicy(RetryPolicy.of(2, 20))
+                .build();
+
+        NotificationResult result = service.sendAsync(createValidEmail()).join();
+        service.shutdown(Duration.ofSeconds(1));
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(threads).hasSize(2);
+        assertThat(threads.get(1)).isNotEqualTo("pinapp-retry-timer");
+    }
+
+    @Test
+    void shouldExpirePendingAsyncCallAtDeadline() {
+        CompletableFuture<NotificationResult> response = new CompletableFuture<>();
+        SendNotificationService service = SendNotificationService.builder()
+                .channels(ChannelRegistry.builder()
+                        .register(NotificationChannel.of(EmailNotification.class,
+                                new AsyncSender(notification -> response), null))
+                        .build())
+                .retryPolicy(RetryPolicy.of(3, 10))
+                .build();
+        EmailNotification email = validEmail()
+                .deadline(Instant.now().plusMillis(100))
+                .build();
+
+        NotificationResult result = service.sendAsync(email).orTimeout(2, TimeUnit.SECONDS).join();
+
+        assertThat(result.getStatus()).isEqualTo(NotificationStatus.EXPIRED);
+        assertThat(response).isCancelled();
+    }
+
     private SendNotificationService createService(
             NotificationSender<EmailNotification> emailSender,
             NotificationValidator<EmailNotification> emailValidator,
@@ -137,11 +457,90 @@ class SendNotificationServiceTest {
     }
 
     private EmailNotification createValidEmail() {
+        return validEmail().build();
+    }
+
+    private EmailNotification.EmailNotificationBuilder validEmail() {
         return EmailNotification.builder()
                 .id(UUID.randomUUID().toString())
                 .recipient(Recipient.builder().email("test@example.com").build())
                 .subject("Test Subject")
-                .body("Test Body")
+                .body("Test Body");
+    }
+
+    private static class FlakySender implements NotificationSender<EmailNotification> {
+
+        private final int failures;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        FlakySender(int failures) {
+            this.failures = failures;
+        }
+
+        @Override
+        public NotificationResult send(EmailNotification notification) {
+            if (calls.incrementAndGet() <= failures) {
+                return NotificationResult.builder()
+                        .notificationId(notification.getId())
+                        .status(NotificationStatus.FAILED)
+                        .errorMessage("provider unavailable")
+                        .timestamp(Instant.now())
+                        .build();
+            }
+            return NotificationResult.builder()
+                    .notificationId(notification.getId())
+                    .status(NotificationStatus.SUCCESS)
+                    .providerName(getProviderName())
+                    .providerMessageId("flaky-" + calls.get())
+                    .timestamp(Instant.now())
+                    .build();
+        }
+
+        @Override
+        public Class<EmailNotification> getNotificationType() {
+            return EmailNotification.class;
+        }
+
+        @Override
+        public String getProviderName() {
+            return "Flaky";
+        }
+    }
+
+    private static NotificationResult success(String provider) {
+        return NotificationResult.builder()
+                .status(NotificationStatus.SUCCESS)
+                .providerName(provider)
+                .timestamp(Instant.now())
                 .build();
     }
+
+    private static class AsyncSender implements NotificationSender<EmailNotification> {
+
+        private final Function<EmailNotification, CompletableFuture<NotificationResult>> provider;
+
+        AsyncSender(Function<EmailNotification, CompletableFuture<NotificationResult>> provider) {
+            this.provider = provider;
+        }
+
+        @Override
+        public NotificationResult send(EmailNotification notification) {
+            throw new UnsupportedOperationException("Blocking send should not be used");
+        }
+
+        @Override
+        public CompletionStage<NotificationResult> sendAsync(EmailNotification notification) {
+            return provider.apply(notification);
+        }
+
+        @Override
+        public Class<EmailNotification> getNotificationType() {
+            return EmailNotification.class;
+        }
+
+        @Override
+        public String getProviderName() {
+            return "Async";
+        }
+    }
 }
@@ -0,0 +1,298 @@
+package com.pinapp.messaging.application.stream;
+
+import com.pinapp.messaging.application.exception.ClientClosedException;
+import com.pinapp.messaging.application.exception.ValidationException;
+import com.pinapp.messaging.domain.Notification;
+import com.pinapp.messaging.domain.NotificationResult;
+import com.pinapp.messaging.domain.NotificationStatus;
+import com.pinapp.messaging.domain.Recipient;
+import com.pinapp.messaging.domain.sms.SmsNotification;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationStreamTest {
+
+    @Test
+    void shouldRequestUpstreamOnlyAsFarAsInFlightCapacity() {
+        List<CompletableFuture<NotificationResult>> pending = new CopyOnWriteArrayList<>();
+        RangePublisher upstream = new RangePublisher(1_000);
+        NotificationStream stream = new NotificationStream(upstream, notification -> {
+            CompletableFuture<NotificationResult> sent = new CompletableFuture<>();
+            pending.add(sent);
+            return sent;
+        }, 4);
+        RecordingSubscriber downstream = new RecordingSubscriber();
+
+        stream.subscribe(downstream);
+        downstream.request(Long.MAX_VALUE);
+
+        assertThat(upstream.requested.get()).isEqualTo(4);
+        assertThat(pending).hasSize(4);
+
+        pending.get(0).complete(success("0"));
+        pending.get(1).complete(success("1"));
+
+        assertThat(downstream.results).hasSize(2);
+        assertThat(upstream.requested.get()).isEqualTo(6);
+        assertThat(pending).hasSize(6);
+    }
+
+    @Test
+    void shouldFollowDownstreamDemand() {
+        RangePublisher upstream = new RangePublisher(1_000);
+        NotificationStream stream = new NotificationStream(upstream,
+                notification -> CompletableFuture.completedFuture(success(notification.getId())), 64);
+        RecordingSubscriber downstream = new RecordingSubscriber();
+
+        stream.subscribe(downstream);
+        downstream.request(3);
+
+        assertThat(downstream.results).hasSize(3);
+        assertThat(upstream.requested.get()).isEqualTo(3);
+
+        downstream.request(2);
+
+        assertThat(downstream.results).extracting(NotificationResult::getNotificationId)
+                .containsExactly("0", "1", "2", "3", "4");
+        assertThat(upstream.requested.get()).isEqualTo(5);
+        assertThat(downstream.completed.getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldStreamLargeJobWithBoundedInFlight() throws Exception {
+        ExecutorService provider = Executors.newFixedThreadPool(8);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        NotificationStream stream = new NotificationStream(new RangePublisher(20_000), notification -> {
+            peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(() -> {
+                inFlight.decrementAndGet();
+                return success(notification.getId());
+            }, provider);
+        }, 32);
+        RecordingSubscriber downstream = new RecordingSubscriber(64);
+
+        stream.subscribe(downstream);
+
+        assertThat(downstream.completed.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(downstream.results).hasSize(20_000).allMatch(NotificationResult::isSuccess);
+        assertThat(peak.get()).isLessThanOrEqualTo(32);
+        provider.shutdown();
+    }
+
+    @Test
+    void shouldReportFailedSendsAsResultsWithoutEndingTheStream() {
+        NotificationStream stream = new NotificationStream(new RangePublisher(3), notification ->
+                notification.getId().equals("1")
+                        ? CompletableFuture.failedFuture(new ValidationException("Phone number is required"))
+                        : CompletableFuture.completedFuture(success(notification.getId())), 8);
+        RecordingSubscriber downstream = new RecordingSubscriber();
+
+        stream.subscribe(downstream);
+        downstream.request(10);
+
+        assertThat(downstream.results).extracting(NotificationResult::getStatus)
+                .containsExactly(NotificationStatus.SUCCESS, NotificationStatus.FAILED, NotificationStatus.SUCCESS);
+        assertThat(downstream.results.get(1).getNotificationId()).isEqualTo("1");
+        assertThat(downstream.completed.getCount()).isZero();
+        assertThat(downstream.error).isNull();
+    }
+
+    @Test
+    void shouldReportMissingResultAsFailureAndStillComplete() {
+        NotificationStream stream = new NotificationStream(new RangePublisher(2), notification ->
+                notification.getId().equals("0")
+                        ? CompletableFuture.completedFuture(null)
+                        : CompletableFuture.completedFuture(success(notification.getId())), 8);
+        RecordingSubscriber downstream = new RecordingSubscriber();
+
+        stream.subscribe(downstream);
+        downstream.request(10);
+
+        assertThat(downstream.results).extracting(NotificationResult::getStatus)
+                .containsExactly(NotificationStatus.FAILED, NotificationStatus.SUCCESS);
+        assertThat(downstream.results.get(0).getErrorMessage()).isEqualTo("No result returned for the notification");
+        assertThat(downstream.completed.getCount()).isZero();
+        assertThat(downstream.error).isNull();
+    }
+
+    @Test
+    void shouldFailStreamAndCancelUpstreamWhenClientIsClosed() {
+        RangePublisher upstream = new RangePublisher(1_000);
+        NotificationStream stream = new NotificationStream(upstream,
+                notification -> CompletableFuture.failedFuture(new ClientClosedException("MessagingClient is closed")), 8);
+        RecordingSubscriber downstream = new RecordingSubscriber();
+
+        stream.subscribe(downstream);
+        downstream.request(10);
+
+        assertThat(downstream.error).isInstanceOf(ClientClosedException.class);
+        assertThat(upstream.cancelled).isTrue();
+        assertThat(downstream.results).isEmpty();
+    }
+
+    @Test
+    void shouldDeliverInFlightResultsBeforeUpstreamError() {
+        CompletableFuture<NotificationResult> pending = new CompletableFuture<>();
+        RangePublisher upstream = new RangePublisher(1, new IllegalStateException("source broken"));
+        NotificationStream stream = new NotificationStream(upstream, notification -> pending, 8);
+        RecordingSubscriber downstream = new RecordingSubscriber();
+
+        stream.subscribe(downstream);
+        downstream.request(10);
+
+        assertThat(downstream.error).isNull();
+        pending.complete(success("0"));
+
+        assertThat(downstream.results).hasSize(1);
+        assertThat(downstream.error).hasMessage("source broken");
+    }
+
+    @Test
+    void shouldRejectNonPositiveDemand() {
+        RangePublisher upstream = new RangePublisher(10);
+        NotificationStream stream = new NotificationStream(upstream,
+                notification -> CompletableFuture.completedFuture(success(notification.getId())), 8);
+        RecordingSubscriber downstream = new RecordingSubscriber();
+
+        stream.subscribe(downstream);
+        downstream.request(0);
+
+        assertThat(downstream.error).isInstanceOf(IllegalArgumentException.class);
+        assertThat(upstream.cancelled).isTrue();
+    }
+
+    private static NotificationResult success(String id) {
+        return NotificationResult.builder()
+                .notificationId(id)
+                .status(NotificationStatus.SUCCESS)
+                .providerName("Stub")
+                .timestamp(Instant.now())
+                .build();
+    }
+
+    private static final class RangePublisher implements Flow.Publisher<Notification> {
+
+        private final int count;
+        private final Throwable failure;
+        private final AtomicLong requested = new AtomicLong();
+        private volatile boolean cancelled;
+
+        RangePublisher(int count) {
+            this(count, null);
+        }
+
+        RangePublisher(int count, Throwable failure) {
+            this.count = count;
+            this.failure = failure;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Notification> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+
+                private final AtomicLong demand = new AtomicLong();
+                private final AtomicInteger wip = new AtomicInteger();
+                private int next;
+                private boolean done;
+
+                @Override
+                public void request(long n) {
+                    requested.addAndGet(n);
+                    demand.addAndGet(n);
+                    if (wip.getAndIncrement() != 0) {
+                        return;
+                    }
+                    do {
+                        while (!done && !cancelled && demand.get() > 0 && next < count) {
+                            demand.decrementAndGet();
+                            subscriber.onNext(sms(String.valueOf(next++)));
+                        }
+                        if (!done && !cancelled && next == count) {
+                            done = true;
+                            if (failure != null) {
+                                subscriber.onError(failure);
+                            } else {
+                                subscriber.onComplete();
+                            }
+                        }
+                    } while (wip.decrementAndGet() != 0);
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+
+        private static SmsNotification sms(String id) {
+            return SmsNotification.builder()
+                    .id(id)
+                    .recipient(Recipient.builder().phoneNumber("+5491155551234").build())
+                    .body("Test")
+                    .build();
+        }
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<NotificationResult> {
+
+        private final List<NotificationResult> results = new CopyOnWriteArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final int batch;
+        private volatile Flow.Subscription subscription;
+        private volatile Throwable error;
+        private int received;
+
+        RecordingSubscriber() {
+            this(0);
+        }
+
+        RecordingSubscriber(int batch) {
+            this.batch = batch;
+        }
+
+        void request(long n) {
+            subscription.request(n);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (batch > 0) {
+                subscription.request(batch);
+            }
+        }
+
+        @Override
+        public void onNext(NotificationResult item) {
+            results.add(item);
+            if (batch > 0 && ++received % batch == 0) {
+                subscription.request(batch);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+    }
+}
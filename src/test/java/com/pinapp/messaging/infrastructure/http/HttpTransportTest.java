@@ -0,0 +1,150 @@
+package com.pinapp.messaging.infrastructure.http;
+
+import com.pinapp.messaging.application.exception.ConfigurationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HttpTransportTest {
+
+    private StubHttpServer server;
+    private HttpTransport transport;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = StubHttpServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (transport != null) {
+            transport.close();
+        }
+        server.close();
+    }
+
+    @Test
+    void shouldReuseOneConnectionForSequentialRequests() {
+        transport = new HttpTransport(HttpTransportConfig.defaults());
+
+        for (int i = 0; i < 20; i++) {
+            TransportResponse response = transport.postJson(server.uri().resolve("/send"), null, "{\"n\":" + i + "}").join();
+            assertThat(response.isSuccess()).isTrue();
+        }
+
+        assertThat(server.requests()).hasSize(20);
+        assertThat(server.requests().stream().map(StubHttpServer.Request::remotePort).distinct()).hasSize(1);
+        assertThat(transport.getRequestCount()).isEqualTo(20);
+    }
+
+    @Test
+    void shouldCapConcurrentStreamsPerHost() {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        server.respond(request -> {
+            peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(30);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            active.decrementAndGet();
+            return StubHttpServer.Reply.of(200, "{}");
+        });
+        transport = new HttpTransport(HttpTransportConfig.builder().maxStreamsPerHost(2).build());
+
+        List<CompletableFuture<TransportResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            responses.add(transport.postJson(server.uri().resolve("/send"), null, "{}"));
+        }
+
+        assertThat(responses).allSatisfy(response -> assertThat(response.join().isSuccess()).isTrue());
+        assertThat(peak.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldSkipCancelledWaitersWithoutLeakingStreams() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        server.respond(request -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return StubHttpServer.Reply.of(200, "{}");
+        });
+        transport = new HttpTransport(HttpTransportConfig.builder().maxStreamsPerHost(1).build());
+
+        CompletableFuture<TransportResponse> inFlight = transport.postJson(server.uri().resolve("/send"), null, "{}");
+        List<CompletableFuture<TransportResponse>> queued = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            queued.add(transport.postJson(server.uri().resolve("/send"), null, "{}"));
+        }
+        queued.forEach(response -> response.cancel(true));
+        release.countDown();
+
+        assertThat(inFlight.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        assertThat(transport.postJson(server.uri().resolve("/send"), null, "{}").get(5, TimeUnit.SECONDS).isSuccess())
+                .isTrue();
+        assertThat(transport.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldAskForGzipAndDecompressResponses() {
+        server.respond(request -> new StubHttpServer.Reply(200, Map.of("Content-Encoding", "gzip"),
+                gzip("{\"sid\":\"SM123\"}")));
+        transport = new HttpTransport(HttpTransportConfig.defaults());
+
+        TransportResponse response = transport.postForm(server.uri().resolve("/messages"),
+                HttpTransport.basic("user", "secret"), Map.of("To", "+5491155551234")).join();
+
+        assertThat(response.field("sid")).isEqualTo("SM123");
+        StubHttpServer.Request request = server.requests().get(0);
+        assertThat(request.header("Accept-Encoding")).isEqualTo("gzip");
+        assertThat(request.header("Authorization")).startsWith("Basic ");
+        assertThat(request.body()).isEqualTo("To=%2B5491155551234");
+    }
+
+    @Test
+    void shouldTurnErrorStatusIntoProviderFailure() {
+        server.respond(request -> StubHttpServer.Reply.of(503, "{\"message\":\"busy\"}"));
+        transport = new HttpTransport(HttpTransportConfig.defaults());
+
+        TransportResponse response = transport.postJson(server.uri().resolve("/send"), null, "{}").join();
+
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(response.failure("Stub").getErrorCode()).isEqualTo("HTTP_503");
+        assertThat(response.failure("Stub")).hasMessageContaining("busy");
+    }
+
+    @Test
+    void shouldRejectNonPositiveStreamLimit() {
+        assertThatThrownBy(() -> new HttpTransport(HttpTransportConfig.builder().maxStreamsPerHost(0).build()))
+                .isInstanceOf(ConfigurationException.class);
+    }
+
+    private static byte[] gzip(String text) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,101 @@
+package com.pinapp.messaging.infrastructure.http;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+public class StubHttpServer implements AutoCloseable {
+
+    static {
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+    private volatile Function<Request, Reply> responder = request -> Reply.of(200, "{}");
+    private volatile boolean recording = true;
+
+    private StubHttpServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public static StubHttpServer start() throws IOException {
+        return new StubHttpServer();
+    }
+
+    public StubHttpServer respond(Function<Request, Reply> responder) {
+        this.responder = responder;
+        return this;
+    }
+
+    public StubHttpServer withoutRecording() {
+        this.recording = false;
+        return this;
+    }
+
+    public URI uri() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    public List<Request> requests() {
+        return requests;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        Request request = new Request(
+                exchange.getRequestMethod(),
+                exchange.getRequestURI().getPath(),
+                exchange.getRequestHeaders(),
+                new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8),
+                exchange.getRemoteAddress().getPort());
+        if (recording) {
+            requests.add(request);
+        }
+        Reply reply = responder.apply(request);
+        reply.headers().forEach((name, value) -> exchange.getResponseHeaders().add(name, value));
+        exchange.sendResponseHeaders(reply.status(), reply.body().length == 0 ? -1 : reply.body().length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(reply.body());
+        }
+    }
+
+    public record Request(String method, String path, Headers headers, String body, int remotePort) {
+
+        public String header(String name) {
+            return headers.getFirst(name);
+        }
+    }
+
+    public record Reply(int status, Map<String, String> headers, byte[] body) {
+
+        public static Reply of(int status, String body) {
+            return new Reply(status, Map.of(), body.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static Reply of(int status, Map<String, String> headers, String body) {
+            return new Reply(status, headers, body.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
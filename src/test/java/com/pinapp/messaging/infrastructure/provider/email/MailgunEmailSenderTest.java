@@ -5,9 +5,15 @@ import com.pinapp.messaging.domain.NotificationStatus;
 import com.pinapp.messaging.domain.Recipient;
 import com.pinapp.messaging.domain.email.EmailNotification;
 import com.pinapp.messaging.infrastructure.config.ProviderCredentials;
+import com.pinapp.messaging.infrastructure.http.HttpTransport;
+import com.pinapp.messaging.infrastructure.http.HttpTransportConfig;
+import com.pinapp.messaging.infrastructure.http.StubHttpServer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -43,6 +49,101 @@ class MailgunEmailSenderTest {
         assertThat(result.getNotificationId()).isEqualTo(email.getId());
     }
 
+    @Test
+    void shouldSendBatchWithOneMessagePerContent() {
+        List<EmailNotification> emails = List.of(
+                email("a@example.com", "Promo"),
+                email("b@example.com", "Promo"),
+                email("c@example.com", "Otro asunto"));
+
+        List<NotificationResult> results = sender.sendBatch(emails);
+
+        assertThat(results).hasSize(3).allMatch(NotificationResult::isSuccess);
+        assertThat(results.get(0).getProviderMessageId()).isEqualTo(results.get(1).getProviderMessageId());
+        assertThat(results.get(2).getProviderMessageId()).isNotEqualTo(results.get(0).getProviderMessageId());
+        assertThat(sender.getMaxBatchSize()).isEqualTo(1000);
+    }
+
+    @Test
+    void shouldPostBatchWithRecipientVariablesThroughHttpTransport() throws Exception {
+        try (StubHttpServer server = StubHttpServer.start();
+             HttpTransport transport = new HttpTransport(HttpTransportConfig.defaults())) {
+            server.respond(request -> StubHttpServer.Reply.of(200, "{\"id\":\"<20240101.1@mg.pinapp.com>\",\"message\":\"Queued. Thank you.\"}"));
+            MailgunEmailSender httpSender = new MailgunEmailSender(ProviderCredentials.builder()
+                    .apiKey("key-test")
+                    .domain("mg.pinapp.com")
+                    .fromEmail("no-reply@pinapp.com")
+                    .baseUrl(server.uri().toString())
+                    .build(), transport);
+            List<EmailNotification> emails = List.of(email("a@example.com", "Promo"), email("b@example.com", "Promo"));
+
+            List<NotificationResult> results = httpSender.sendBatch(emails);
+
+            assertThat(results).allMatch(NotificationResult::isSuccess)
+                    .extracting(NotificationResult::getProviderMessageId)
+                    .containsOnly("<20240101.1@mg.pinapp.com>");
+            StubHttpServer.Request request = server.requests().get(0);
+            assertThat(request.path()).isEqualTo("/v3/mg.pinapp.com/messages");
+            assertThat(request.header("Authorization")).isEqualTo(HttpTransport.basic("api", "key-test"));
+            assertThat(URLDecoder.decode(request.body(), StandardCharsets.UTF_8))
+                    .contains("to=a@example.com,b@example.com")
+                    .contains("recipient-variables={\"a@example.com\":{\"notification_id\":\"" + emails.get(0).getId() + "\"}");
+        }
+    }
+
+    @Test
+    void shouldPostEmailsWithCopiesAndRepeatedRecipientsSeparately() throws Exception {
+        try (StubHttpServer server = StubHttpServer.start();
+             HttpTransport transport = new HttpTransport(HttpTransportConfig.defaults())) {
+            server.respond(request -> StubHttpServer.Reply.of(200, "{\"id\":\"<20240101.1@mg.pinapp.com>\"}"));
+            MailgunEmailSender httpSender = new MailgunEmailSender(ProviderCredentials.builder()
+                    .apiKey("key-test")
+                    .domain("mg.pinapp.com")
+                    .fromEmail("no-reply@pinapp.com")
+                    .baseUrl(server.uri().toString())
+                    .build(), transport);
+            EmailNotification withCopies = EmailNotification.builder()
+                    .id(UUID.randomUUID().toString())
+                    .recipient(Recipient.builder().email("c@example.com").build())
+                    .cc(List.of("jefe@example.com"))
+                    .bcc(List.of("auditoria@example.com"))
+                    .subject("Promo")
+                    .body("Test Body")
+                    .build();
+            List<EmailNotification> emails = List.of(email("a@example.com", "Promo"), withCopies,
+                    email("a@example.com", "Promo"), email("b@example.com", "Promo"));
+
+            List<NotificationResult> results = httpSender.sendBatch(emails);
+
+            assertThat(results).hasSize(4).allMatch(NotificationResult::isSuccess);
+            List<String> forms = server.requests().stream()
+                    .map(request -> URLDecoder.decode(request.body(), StandardCharsets.UTF_8))
+                    .toList();
+            assertThat(forms).hasSize(3);
+            assertThat(forms).filteredOn(form -> form.contains("to=c@example.com"))
+                    .singleElement()
+                    .satisfies(form -> assertThat(form)
+                            .contains("cc=jefe@example.com")
+                            .contains("bcc=auditoria@example.com")
+                            .doesNotContain("recipient-variables"));
+            assertThat(forms).filteredOn(form -> form.contains("recipient-variables"))
+                    .singleElement()
+                    .satisfies(form -> assertThat(form)
+                            .contains("to=a@example.com,b@example.com")
+                            .doesNotContain("cc="));
+            assertThat(forms).filteredOn(form -> form.contains("to=a@example.com&")).hasSize(1);
+        }
+    }
+
+    private EmailNotification email(String to, String subject) {
+        return EmailNotification.builder()
+                .id(UUID.randomUUID().toString())
+                .recipient(Recipient.builder().email(to).build())
+                .subject(subject)
+                .body("Test Body")
+                .build();
+    }
+
     @Test
     void shouldReturnCorrectProviderName() {
         assertThat(sender.getProviderName()).isEqualTo("Mailgun");
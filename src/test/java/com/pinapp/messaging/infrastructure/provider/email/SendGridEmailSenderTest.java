@@ -5,9 +5,14 @@ import com.pinapp.messaging.domain.NotificationStatus;
 import com.pinapp.messaging.domain.Recipient;
 import com.pinapp.messaging.domain.email.EmailNotification;
 import com.pinapp.messaging.infrastructure.config.ProviderCredentials;
+import com.pinapp.messaging.infrastructure.http.HttpTransport;
+import com.pinapp.messaging.infrastructure.http.HttpTransportConfig;
+import com.pinapp.messaging.infrastructure.http.StubHttpServer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -44,6 +49,62 @@ class SendGridEmailSenderTest {
         assertThat(result.getTimestamp()).isNotNull();
     }
 
+    @Test
+    void shouldSendBatchAsOnePersonalizationPerRecipient() {
+        List<EmailNotification> emails = List.of(
+                email("a@example.com", "Promo"),
+                email("b@example.com", "Promo"),
+                email("c@example.com", "Otro asunto"));
+
+        List<NotificationResult> results = sender.sendBatch(emails);
+
+        assertThat(results).hasSize(3).allMatch(NotificationResult::isSuccess);
+        assertThat(results).extracting(NotificationResult::getNotificationId)
+                .containsExactly(emails.get(0).getId(), emails.get(1).getId(), emails.get(2).getId());
+        assertThat(results.get(0).getProviderMessageId()).endsWith(".0");
+        assertThat(results.get(1).getProviderMessageId()).endsWith(".1")
+                .startsWith(results.get(0).getProviderMessageId().replace(".0", ""));
+        assertThat(results.get(2).getProviderMessageId()).endsWith(".0");
+        assertThat(sender.getMaxBatchSize()).isEqualTo(1000);
+    }
+
+    @Test
+    void shouldPostBatchAsPersonalizationsThroughHttpTransport() throws Exception {
+        try (StubHttpServer server = StubHttpServer.start();
+             HttpTransport transport = new HttpTransport(HttpTransportConfig.defaults())) {
+            server.respond(request -> StubHttpServer.Reply.of(202, Map.of("X-Message-Id", "xid-1"), ""));
+            SendGridEmailSender httpSender = new SendGridEmailSender(ProviderCredentials.builder()
+                    .apiKey("SG.test")
+                    .fromEmail("no-reply@pinapp.com")
+                    .baseUrl(server.uri().toString())
+                    .build(), transport);
+            List<EmailNotification> emails = List.of(email("a@example.com", "Promo"), email("b@example.com", "Promo"));
+
+            List<NotificationResult> results = httpSender.sendBatch(emails);
+
+            assertThat(results).extracting(NotificationResult::getProviderMessageId)
+                    .containsExactly("xid-1.0", "xid-1.1");
+            assertThat(server.requests()).hasSize(1);
+            StubHttpServer.Request request = server.requests().get(0);
+            assertThat(request.path()).isEqualTo("/v3/mail/send");
+            assertThat(request.header("Authorization")).isEqualTo("Bearer SG.test");
+            assertThat(request.body())
+                    .contains("{\"to\":[{\"email\":\"a@example.com\"}]")
+                    .contains("{\"to\":[{\"email\":\"b@example.com\"}]")
+                    .contains("\"from\":{\"email\":\"no-reply@pinapp.com\"}")
+                    .contains("\"subject\":\"Promo\"");
+        }
+    }
+
+    private EmailNotification email(String to, String subject) {
+        return EmailNotification.builder()
+                .id(UUID.randomUUID().toString())
+                .recipient(Recipient.builder().email(to).build())
+                .subject(subject)
+                .body("Test Body")
+                .build();
+    }
+
     @Test
     void shouldReturnCorrectProviderName() {
         assertThat(sender.getProviderName()).isEqualTo("SendGrid");
@@ -5,9 +5,13 @@ import com.pinapp.messaging.domain.NotificationStatus;
 import com.pinapp.messaging.domain.Recipient;
 import com.pinapp.messaging.domain.push.PushNotification;
 import com.pinapp.messaging.infrastructure.config.ProviderCredentials;
+import com.pinapp.messaging.infrastructure.http.HttpTransport;
+import com.pinapp.messaging.infrastructure.http.HttpTransportConfig;
+import com.pinapp.messaging.infrastructure.http.StubHttpServer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -47,6 +51,53 @@ class FirebasePushSenderTest {
         assertThat(result.getTimestamp()).isNotNull();
     }
 
+    @Test
+    void shouldSendBatchAsMulticastWithResultPerDevice() {
+        List<PushNotification> pushes = List.of(
+                PushNotification.builder().id("1").recipient(Recipient.builder().deviceToken("t1").build())
+                        .title("Oferta").body("Solo hoy").build(),
+                PushNotification.builder().id("2").recipient(Recipient.builder().deviceToken("t2").build())
+                        .title("Oferta").body("Solo hoy").build());
+
+        List<NotificationResult> results = sender.sendBatch(pushes);
+
+        assertThat(results).extracting(NotificationResult::getNotificationId).containsExactly("1", "2");
+        assertThat(results).allMatch(NotificationResult::isSuccess);
+        assertThat(results).extracting(NotificationResult::getProviderMessageId).doesNotHaveDuplicates();
+        assertThat(sender.getMaxBatchSize()).isEqualTo(500);
+    }
+
+    @Test
+    void shouldMultiplexBatchOverHttpTransportWithResultPerDevice() throws Exception {
+        try (StubHttpServer server = StubHttpServer.start();
+             HttpTransport transport = new HttpTransport(HttpTransportConfig.defaults())) {
+            server.respond(request -> request.body().contains("\"token\":\"expired\"")
+                    ? StubHttpServer.Reply.of(404, "{\"error\":{\"status\":\"UNREGISTERED\"}}")
+                    : StubHttpServer.Reply.of(200, "{\"name\":\"projects/test-project/messages/1\"}"));
+            FirebasePushSender httpSender = new FirebasePushSender(ProviderCredentials.builder()
+                    .projectId("test-project")
+                    .authToken("ya29.test")
+                    .baseUrl(server.uri().toString())
+                    .build(), transport);
+            List<PushNotification> pushes = List.of(
+                    PushNotification.builder().id("1").recipient(Recipient.builder().deviceToken("t1").build())
+                            .title("Oferta").body("Solo hoy").data(Map.of("sku", 42)).build(),
+                    PushNotification.builder().id("2").recipient(Recipient.builder().deviceToken("expired").build())
+                            .title("Oferta").body("Solo hoy").build());
+
+            List<NotificationResult> results = httpSender.sendBatch(pushes);
+
+            assertThat(results.get(0).isSuccess()).isTrue();
+            assertThat(results.get(0).getProviderMessageId()).isEqualTo("projects/test-project/messages/1");
+            assertThat(results.get(1).getStatus()).isEqualTo(NotificationStatus.FAILED);
+            assertThat(results.get(1).getErrorCode()).isEqualTo("HTTP_404");
+            assertThat(server.requests()).hasSize(2)
+                    .allSatisfy(request -> assertThat(request.path()).isEqualTo("/v1/projects/test-project/messages:send"));
+            assertThat(server.requests()).anySatisfy(request ->
+                    assertThat(request.body()).contains("\"data\":{\"sku\":\"42\"}"));
+        }
+    }
+
     @Test
     void shouldReturnCorrectProviderName() {
         assertThat(sender.getProviderName()).isEqualTo("Firebase");
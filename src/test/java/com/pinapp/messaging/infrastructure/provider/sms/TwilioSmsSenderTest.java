@@ -1,16 +1,21 @@
 package com.pinapp.messaging.infrastructure.provider.sms;
 
+import com.pinapp.messaging.application.exception.ProviderException;
 import com.pinapp.messaging.domain.NotificationResult;
 import com.pinapp.messaging.domain.NotificationStatus;
 import com.pinapp.messaging.domain.Recipient;
 import com.pinapp.messaging.domain.sms.SmsNotification;
 import com.pinapp.messaging.infrastructure.config.ProviderCredentials;
+import com.pinapp.messaging.infrastructure.http.HttpTransport;
+import com.pinapp.messaging.infrastructure.http.HttpTransportConfig;
+import com.pinapp.messaging.infrastructure.http.StubHttpServer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class TwilioSmsSenderTest {
 
@@ -45,6 +50,56 @@ class TwilioSmsSenderTest {
         assertThat(result.getTimestamp()).isNotNull();
     }
 
+    @Test
+    void shouldPostMessageThroughHttpTransport() throws Exception {
+        try (StubHttpServer server = StubHttpServer.start();
+             HttpTransport transport = new HttpTransport(HttpTransportConfig.defaults())) {
+            server.respond(request -> StubHttpServer.Reply.of(201, "{\"sid\":\"SM0123456789\",\"status\":\"queued\"}"));
+            TwilioSmsSender httpSender = new TwilioSmsSender(credentials(server), transport);
+
+            NotificationResult result = httpSender.sendAsync(sms()).toCompletableFuture().join();
+
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(result.getProviderMessageId()).isEqualTo("SM0123456789");
+            StubHttpServer.Request request = server.requests().get(0);
+            assertThat(request.path()).isEqualTo("/2010-04-01/Accounts/test-account-sid/Messages.json");
+            assertThat(request.header("Authorization")).isEqualTo(HttpTransport.basic("test-account-sid", "test-auth-token"));
+            assertThat(request.body()).isEqualTo("To=%2B5491155551234&From=%2B1234567890&Body=Hola");
+        }
+    }
+
+    @Test
+    void shouldThrowProviderExceptionWithHttpStatusOnServerError() throws Exception {
+        try (StubHttpServer server = StubHttpServer.start();
+             HttpTransport transport = new HttpTransport(HttpTransportConfig.defaults())) {
+            server.respond(request -> StubHttpServer.Reply.of(503, "{\"message\":\"Service Unavailable\"}"));
+            TwilioSmsSender httpSender = new TwilioSmsSender(credentials(server), transport);
+
+            assertThatThrownBy(() -> httpSender.send(sms()))
+                    .isInstanceOf(ProviderException.class)
+                    .hasMessageContaining("Service Unavailable")
+                    .extracting(error -> ((ProviderException) error).getErrorCode())
+                    .isEqualTo("HTTP_503");
+        }
+    }
+
+    private ProviderCredentials credentials(StubHttpServer server) {
+        return ProviderCredentials.builder()
+                .accountSid("test-account-sid")
+                .authToken("test-auth-token")
+                .fromNumber("+1234567890")
+                .baseUrl(server.uri().toString())
+                .build();
+    }
+
+    private SmsNotification sms() {
+        return SmsNotification.builder()
+                .id(UUID.randomUUID().toString())
+                .recipient(Recipient.builder().phoneNumber("+5491155551234").build())
+                .body("Hola")
+                .build();
+    }
+
     @Test
     void shouldReturnCorrectProviderName() {
         assertThat(sender.getProviderName()).isEqualTo("Twilio");
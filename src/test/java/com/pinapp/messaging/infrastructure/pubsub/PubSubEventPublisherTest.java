@@ -0,0 +1,156 @@
+package com.pinapp.messaging.infrastructure.pubsub;
+
+import com.google.api.core.SettableApiFuture;
+import com.google.api.gax.batching.FlowController;
+import com.google.cloud.pubsub.v1.PublisherInterface;
+import com.google.pubsub.v1.PubsubMessage;
+import com.pinapp.messaging.application.codec.BinaryEventCodec;
+import com.pinapp.messaging.application.deadletter.DeliveryAttempt;
+import com.pinapp.messaging.application.event.EventType;
+import com.pinapp.messaging.application.event.NotificationEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PubSubEventPublisherTest {
+
+    private final StubPublisher stub = new StubPublisher();
+
+    @Test
+    void shouldPublishWithoutWaitingForPubSub() {
+        PubSubEventPublisher publisher = new PubSubEventPublisher(config(10), stub, (event, error) -> { });
+
+        publisher.publish(event("n-1", EventType.SENDING));
+
+        assertThat(stub.messages).hasSize(1);
+        assertThat(stub.messages.get(0).getAttributesMap())
+                .containsEntry("eventType", "SENDING")
+                .containsEntry("notificationId", "n-1");
+        assertThat(stub.messages.get(0).getData().toStringUtf8()).contains("\"timestamp\":\"20");
+        assertThat(publisher.getOutstandingCount()).isEqualTo(1);
+        assertThat(publisher.getPublishedCount()).isZero();
+
+        stub.futures.get(0).set("message-1");
+
+        assertThat(publisher.getOutstandingCount()).isZero();
+        assertThat(publisher.getPublishedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDropEventsBeyondOutstandingLimit() {
+        PubSubEventPublisher publisher = new PubSubEventPublisher(config(2), stub, (event, error) -> { });
+
+        for (int i = 0; i < 5; i++) {
+            publisher.publish(event("n-" + i, EventType.SENDING));
+        }
+
+        assertThat(stub.messages).hasSize(2);
+        assertThat(publisher.getDroppedCount()).isEqualTo(3);
+
+        stub.futures.forEach(future -> future.set("ok"));
+        publisher.publish(event("n-5", EventType.SUCCESS));
+
+        assertThat(stub.messages).hasSize(3);
+        assertThat(publisher.getDroppedCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldInvokeFailureCallbackWhenPublishFails() {
+        List<NotificationEvent> failures = new CopyOnWriteArrayList<>();
+        PubSubEventPublisher publisher = new PubSubEventPublisher(config(10), stub, (event, error) -> failures.add(event));
+
+        publisher.publish(event("n-1", EventType.FAILED));
+        stub.futures.get(0).setException(new IllegalStateException("UNAVAILABLE"));
+
+        assertThat(failures).extracting(NotificationEvent::getNotificationId).containsExactly("n-1");
+        assertThat(publisher.getFailedCount()).isEqualTo(1);
+        assertThat(publisher.getOutstandingCount()).isZero();
+    }
+
+    @Test
+    void shouldCountFlowControlRejectionsAsDropped() {
+        List<NotificationEvent> failures = new CopyOnWriteArrayList<>();
+        PubSubEventPublisher publisher = new PubSubEventPublisher(config(10), stub, (event, error) -> failures.add(event));
+
+        publisher.publish(event("n-1", EventType.SENDING));
+        stub.futures.get(0).setException(new FlowController.MaxOutstandingElementCountReachedException(10));
+
+        assertThat(publisher.getDroppedCount()).isEqualTo(1);
+        assertThat(publisher.getFailedCount()).isZero();
+        assertThat(failures).isEmpty();
+    }
+
+    @Test
+    void shouldEncodeWithConfiguredCodecAndTagSchema() {
+        PubSubConfig config = PubSubConfig.builder()
+                .projectId("test-project")
+                .statusTopic("notification-status")
+                .eventCodec(new BinaryEventCodec())
+                .build();
+        PubSubEventPublisher publisher = new PubSubEventPublisher(config, stub, (event, error) -> { });
+
+        publisher.publish(event("n-1", EventType.FAILED));
+
+        PubsubMessage message = stub.messages.get(0);
+        assertThat(message.getAttributesMap())
+                .containsEntry("contentType", BinaryEventCodec.CONTENT_TYPE)
+                .containsEntry("schemaVersion", String.valueOf(BinaryEventCodec.SCHEMA_VERSION));
+        NotificationEvent decoded = new BinaryEventCodec().decode(message.getData().toByteArray());
+        assertThat(decoded.getNotificationId()).isEqualTo("n-1");
+        assertThat(decoded.getEventType()).isEqualTo(EventType.FAILED);
+    }
+
+    @Test
+    void shouldRoundTripJsonEncodedEvents() {
+        JsonEventCodec codec = new JsonEventCodec();
+        NotificationEvent event = NotificationEvent.builder()
+                .eventType(EventType.SUCCESS)
+                .notificationId("n-1")
+                .attempts(List.of(DeliveryAttempt.builder()
+                        .attemptNumber(1)
+                        .providerName("Twilio")
+                        .timestamp(Instant.parse("2026-03-01T12:00:00Z"))
+                        .build()))
+                .build();
+
+        NotificationEvent decoded = codec.decode(codec.encode(event));
+
+        assertThat(decoded.getTimestamp()).isEqualTo(event.getTimestamp());
+        assertThat(decoded.getAttempts()).extracting(DeliveryAttempt::getProviderName).containsExactly("Twilio");
+    }
+
+    private static PubSubConfig config(long maxOutstandingEvents) {
+        return PubSubConfig.builder()
+                .projectId("test-project")
+                .statusTopic("notification-status")
+                .maxOutstandingEvents(maxOutstandingEvents)
+                .build();
+    }
+
+    private static NotificationEvent event(String notificationId, EventType type) {
+        return NotificationEvent.builder()
+                .eventType(type)
+                .notificationId(notificationId)
+                .notificationType("SmsNotification")
+                .attemptNumber(1)
+                .build();
+    }
+
+    private static final class StubPublisher implements PublisherInterface {
+
+        private final List<PubsubMessage> messages = new CopyOnWriteArrayList<>();
+        private final List<SettableApiFuture<String>> futures = new CopyOnWriteArrayList<>();
+
+        @Override
+        public SettableApiFuture<String> publish(PubsubMessage message) {
+            SettableApiFuture<String> future = SettableApiFuture.create();
+            messages.add(message);
+            futures.add(future);
+            return future;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.pinapp.messaging.infrastructure.pubsub;
+
+import com.google.cloud.pubsub.v1.AckReplyConsumer;
+import com.google.protobuf.ByteString;
+import com.google.pubsub.v1.PubsubMessage;
+import com.pinapp.messaging.MessagingClient;
+import com.pinapp.messaging.application.exception.ConfigurationException;
+import com.pinapp.messaging.application.port.NotificationSender;
+import com.pinapp.messaging.domain.NotificationResult;
+import com.pinapp.messaging.domain.NotificationStatus;
+import com.pinapp.messaging.domain.email.EmailNotification;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PubSubMessageSubscriberTest {
+
+    private final PendingSender sender = new PendingSender();
+    private final MessagingClient client = MessagingClient.builder().withEmailSender(sender).build();
+    private final PubSubMessageSubscriber subscriber = new PubSubMessageSubscriber(config(), client);
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown(Duration.ofMillis(100));
+    }
+
+    @Test
+    void shouldReturnFromCallbackBeforeSendCompletes() {
+        RecordingReply reply = new RecordingReply();
+
+        subscriber.handleMessage(message("e-1"), reply);
+
+        awaitCondition(() -> sender.pending.size() == 1);
+        assertThat(reply.replies).isEmpty();
+        assertThat(subscriber.getInFlightCount()).isEqualTo(1);
+
+        sender.pending.get(0).complete(result("e-1", NotificationStatus.SUCCESS));
+
+        awaitCondition(() -> !reply.replies.isEmpty());
+        assertThat(reply.replies).containsExactly("ack");
+        assertThat(subscriber.getInFlightCount()).isZero();
+    }
+
+    @Test
+    void shouldNackFailedSends() {
+        RecordingReply reply = new RecordingReply();
+
+        subscriber.handleMessage(message("e-2"), reply);
+        awaitCondition(() -> sender.pending.size() == 1);
+        sender.pending.get(0).complete(result("e-2", NotificationStatus.FAILED));
+
+        awaitCondition(() -> !reply.replies.isEmpty());
+        assertThat(reply.replies).containsExactly("nack");
+    }
+
+    @Test
+    void shouldNackUnreadableMessages() {
+        RecordingReply reply = new RecordingReply();
+
+        subscriber.handleMessage(PubsubMessage.newBuilder()
+                .setData(ByteString.copyFromUtf8("{\"type\":\"FAX\"}"))
+                .build(), reply);
+
+        assertThat(reply.replies).containsExactly("nack");
+        assertThat(sender.pending).isEmpty();
+    }
+
+    @Test
+    void shouldRejectInvalidFlowControlSettings() {
+        PubSubConfig invalid = PubSubConfig.builder()
+                .projectId("test-project")
+                .requestSubscription("notification-requests")
+                .maxOutstandingMessages(0)
+                .build();
+
+        assertThatThrownBy(() -> new PubSubMessageSubscriber(invalid, client))
+                .isInstanceOf(ConfigurationException.class);
+    }
+
+    private static PubSubConfig config() {
+        return PubSubConfig.builder()
+                .projectId("test-project")
+                .requestSubscription("notification-requests")
+                .parallelPullCount(2)
+                .maxOutstandingMessages(500)
+                .maxAckExtensionPeriod(Duration.ofMinutes(10))
+                .build();
+    }
+
+    private static PubsubMessage message(String id) {
+        return PubsubMessage.newBuilder()
+                .setData(ByteString.copyFromUtf8("{\"id\":\"" + id + "\",\"type\":\"EMAIL\","
+                        + "\"email\":\"user@example.com\",\"subject\":\"Hola\",\"body\":\"Texto\"}"))
+                .build();
+    }
+
+    private static NotificationResult result(String id, NotificationStatus status) {
+        return NotificationResult.builder()
+                .notificationId(id)
+                .status(status)
+                .providerName("Pending")
+                .errorMessage(status == NotificationStatus.FAILED ? "mailbox full" : null)
+                .timestamp(Instant.now())
+                .build();
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private static final class RecordingReply implements AckReplyConsumer {
+
+        private final List<String> replies = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void ack() {
+            replies.add("ack");
+        }
+
+        @Override
+        public void nack() {
+            replies.add("nack");
+        }
+    }
+
+    private static final class PendingSender implements NotificationSender<EmailNotification> {
+
+        private final List<CompletableFuture<NotificationResult>> pending = new CopyOnWriteArrayList<>();
+
+        @Override
+        public NotificationResult send(EmailNotification notification) {
+            return sendAsync(notification).toCompletableFuture().join();
+        }
+
+        @Override
+        public CompletionStage<NotificationResult> sendAsync(EmailNotification notification) {
+            CompletableFuture<NotificationResult> future = new CompletableFuture<>();
+            pending.add(future);
+            return future;
+        }
+
+        @Override
+        public Class<EmailNotification> getNotificationType() {
+            return EmailNotification.class;
+        }
+
+        @Override
+        public String getProviderName() {
+            return "Pending";
+        }
+    }
+}